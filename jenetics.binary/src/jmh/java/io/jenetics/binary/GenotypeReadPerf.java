@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.lang.String.format;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.util.IO;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GenotypeReadPerf {
+
+	public static final Writer<Genotype<DoubleGene>> writer = Writers.Genotype
+		.writer(Writers.DoubleChromosome.writer());
+
+	public static final Reader<Genotype<DoubleGene>> reader = Readers.Genotype
+		.reader(Readers.DoubleChromosome.reader());
+
+	@State(Scope.Benchmark)
+	public static class IOState {
+
+		@Param({"1", "10", "100", "1000", "10000", "100000"})
+		public int chromosomeCount;
+
+		public Genotype<DoubleGene> genotype;
+
+		public byte[] objectData;
+		public byte[] binaryData;
+		public byte[] compressedData;
+
+		@Setup
+		public void setup() throws Exception {
+			genotype = Genotype.of(
+				DoubleChromosome.of(0.0, 1.0, 100),
+				chromosomeCount
+			);
+
+			objectData = object(genotype);
+			binaryData = binary(genotype);
+			compressedData = compressed(genotype);
+
+			System.out.println(format(
+				"Size[chromosomes=%s, object=%s, binary=%s, compressed=%s]",
+				chromosomeCount,
+				mib(objectData.length),
+				mib(binaryData.length),
+				mib(compressedData.length)
+			));
+		}
+
+		private static String mib(final int size) {
+			return format("%.4f MiB", (double)size/(1024*1024));
+		}
+
+		private static byte[] object(final Genotype<DoubleGene> gt)
+			throws Exception
+		{
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			IO.object.write(gt, out);
+			return out.toByteArray();
+		}
+
+		private static byte[] binary(final Genotype<DoubleGene> gt)
+			throws Exception
+		{
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			Writers.writeObject(out, gt, writer);
+			return out.toByteArray();
+		}
+
+		private static byte[] compressed(final Genotype<DoubleGene> gt)
+			throws Exception
+		{
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try (OutputStream bout = new BlockOutputStream(out)) {
+				Writers.writeObject(bout, gt, writer);
+			}
+			return out.toByteArray();
+		}
+
+	}
+
+	@Benchmark
+	public Object object(final IOState state) throws Exception {
+		return IO.object.read(new ByteArrayInputStream(state.objectData));
+	}
+
+	@Benchmark
+	public Object binary(final IOState state) throws Exception {
+		return Readers.readObject(
+			new ByteArrayInputStream(state.binaryData),
+			reader
+		);
+	}
+
+	@Benchmark
+	public Object compressed(final IOState state) throws Exception {
+		try (InputStream in = new BlockInputStream(
+			new ByteArrayInputStream(state.compressedData)))
+		{
+			return Readers.readObject(in, reader);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(GenotypeReadPerf.class.getSimpleName())
+			.warmupIterations(10)
+			.measurementIterations(25)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
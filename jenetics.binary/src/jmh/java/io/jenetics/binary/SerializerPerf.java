@@ -0,0 +1,140 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.lang.String.format;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+
+/**
+ * Compares the {@link Serializer} with the Java serialization, for writing and
+ * reading populations.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializerPerf {
+
+	@State(Scope.Benchmark)
+	public static class IOState {
+
+		@Param({"10", "100", "1000", "10000"})
+		public int populationSize;
+
+		public ISeq<Phenotype<DoubleGene, Double>> population;
+
+		public byte[] objectData;
+		public byte[] serializerData;
+
+		@Setup
+		public void setup() throws Exception {
+			final Genotype<DoubleGene> gtf = Genotype.of(
+				DoubleChromosome.of(0.0, 1.0, 10),
+				5
+			);
+			population = ISeq.of(
+				() -> Phenotype.of(gtf.newInstance(), 1, Math.random()),
+				populationSize
+			);
+
+			final ByteArrayOutputStream out = new ByteArrayOutputStream();
+			IO.object.write(population, out);
+			objectData = out.toByteArray();
+
+			out.reset();
+			Serializer.DEFAULT.write(population, out);
+			serializerData = out.toByteArray();
+
+			System.out.println(format(
+				"Size[population=%s, object=%s, serializer=%s]",
+				populationSize,
+				objectData.length,
+				serializerData.length
+			));
+		}
+
+	}
+
+	@Benchmark
+	public Object objectWrite(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(state.population, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Object serializerWrite(final IOState state) throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Serializer.DEFAULT.write(state.population, out);
+		return out.toByteArray();
+	}
+
+	@Benchmark
+	public Object objectRead(final IOState state) throws Exception {
+		return IO.object.read(new ByteArrayInputStream(state.objectData));
+	}
+
+	@Benchmark
+	public Object serializerRead(final IOState state) throws Exception {
+		return Serializer.DEFAULT.read(
+			ISeq.class,
+			new ByteArrayInputStream(state.serializerData)
+		);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(SerializerPerf.class.getSimpleName())
+			.warmupIterations(10)
+			.measurementIterations(25)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.binary.BlockOutputStream.BLOCK_SIZE;
+import static io.jenetics.binary.BlockOutputStream.DEFLATED;
+import static io.jenetics.binary.BlockOutputStream.END;
+import static io.jenetics.binary.BlockOutputStream.STORED;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import io.jenetics.internal.util.SerialIO;
+
+/**
+ * Input stream, which reads the data blocks written by the
+ * {@link BlockOutputStream}.
+ *
+ * <pre>{@code
+ * final List<Genotype<DoubleGene>> genotypes;
+ * try (InputStream in = new BlockInputStream(Files.newInputStream(path))) {
+ *     genotypes = Readers.read(in, Readers.DoubleChromosome.reader());
+ * }
+ * }</pre>
+ *
+ * @see BlockOutputStream
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class BlockInputStream extends FilterInputStream {
+
+	private final DataInputStream _in;
+	private final Inflater _inflater = new Inflater(true);
+	private final byte[] _block = new byte[BLOCK_SIZE];
+	private final byte[] _buffer = new byte[BLOCK_SIZE];
+
+	private int _size = 0;
+	private int _pos = 0;
+	private boolean _eof = false;
+	private boolean _closed = false;
+
+	/**
+	 * Create a new block input stream, which reads the compressed data from
+	 * the given input stream.
+	 *
+	 * @param in the underlying input stream
+	 * @throws NullPointerException if the given input stream is {@code null}
+	 */
+	public BlockInputStream(final InputStream in) {
+		super(requireNonNull(in));
+		_in = new DataInputStream(in);
+	}
+
+	@Override
+	public int read() throws IOException {
+		return fill() ? _block[_pos++] & 0xFF : -1;
+	}
+
+	@Override
+	public int read(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		if ((offset | length | (offset + length) | (bytes.length - (offset + length))) < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+		if (length == 0) {
+			return 0;
+		}
+		if (!fill()) {
+			return -1;
+		}
+
+		final int n = Math.min(length, _size - _pos);
+		System.arraycopy(_block, _pos, bytes, offset, n);
+		_pos += n;
+		return n;
+	}
+
+	@Override
+	public long skip(final long n) throws IOException {
+		if (n <= 0 || !fill()) {
+			return 0;
+		}
+
+		final int skipped = (int)Math.min(n, _size - _pos);
+		_pos += skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		ensureOpen();
+		return _size - _pos;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override
+	public synchronized void mark(final int limit) {
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		throw new IOException("Mark/reset not supported.");
+	}
+
+	// Reads the next block, if the current one has been consumed. Returns
+	// false if the end block has been reached.
+	private boolean fill() throws IOException {
+		ensureOpen();
+		while (_pos == _size && !_eof) {
+			readBlock();
+		}
+		return _pos < _size;
+	}
+
+	private void readBlock() throws IOException {
+		final int type = _in.read();
+		if (type == -1) {
+			throw new EOFException("Missing end block.");
+		}
+
+		_pos = 0;
+		_size = 0;
+		switch (type) {
+			case END:
+				_eof = true;
+				break;
+			case STORED:
+				_size = length();
+				_in.readFully(_block, 0, _size);
+				break;
+			case DEFLATED:
+				_size = length();
+				final int compressed = length();
+				_in.readFully(_buffer, 0, compressed);
+				inflate(compressed);
+				break;
+			default:
+				throw new StreamCorruptedException(
+					"Invalid block type: " + type
+				);
+		}
+	}
+
+	private int length() throws IOException {
+		final int length = SerialIO.readInt(_in);
+		if (length < 0 || length > BLOCK_SIZE) {
+			throw new StreamCorruptedException(
+				"Invalid block length: " + length
+			);
+		}
+		return length;
+	}
+
+	private void inflate(final int compressed) throws IOException {
+		_inflater.reset();
+		_inflater.setInput(_buffer, 0, compressed);
+
+		try {
+			int length = 0;
+			while (length < _size && !_inflater.finished()) {
+				final int n = _inflater.inflate(_block, length, _size - length);
+				if (n == 0 && (_inflater.needsInput() || _inflater.needsDictionary())) {
+					break;
+				}
+				length += n;
+			}
+			if (length != _size || !_inflater.finished()) {
+				throw new StreamCorruptedException("Invalid compressed block.");
+			}
+		} catch (DataFormatException e) {
+			final StreamCorruptedException error =
+				new StreamCorruptedException(e.getMessage());
+			error.initCause(e);
+			throw error;
+		}
+	}
+
+	private void ensureOpen() throws IOException {
+		if (_closed) {
+			throw new IOException("Stream closed.");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!_closed) {
+			_closed = true;
+			_inflater.end();
+			_in.close();
+		}
+	}
+
+}
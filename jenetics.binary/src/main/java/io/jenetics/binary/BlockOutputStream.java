@@ -0,0 +1,191 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+
+import io.jenetics.internal.util.SerialIO;
+
+/**
+ * Output stream, which compresses the written data block-wise. Every block of
+ * (at most) {@value #BLOCK_SIZE} bytes is compressed independently, with the
+ * fastest compression level of the {@link Deflater}. Blocks which doesn't
+ * shrink are stored uncompressed. This keeps the compression cost low and
+ * makes it a good fit for the compact binary format, written by the
+ * {@link Writers}. The compressed data is read by the {@link BlockInputStream}.
+ * <p>
+ * <b>Block format</b>
+ * <pre>{@code
+ * block: {
+ *     type: byte (0 = end, 1 = stored, 2 = compressed)
+ *     length: varint (uncompressed length)
+ *     compressed-length: varint (only for compressed blocks)
+ *     data: byte[]
+ * }
+ * }</pre>
+ * The stream is terminated by an <em>end</em> block, which is written when the
+ * stream is closed.
+ *
+ * @see BlockInputStream
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class BlockOutputStream extends FilterOutputStream {
+
+	/**
+	 * The maximal (uncompressed) size of a data block.
+	 */
+	public static final int BLOCK_SIZE = 64*1024;
+
+	static final int END = 0;
+	static final int STORED = 1;
+	static final int DEFLATED = 2;
+
+	private final DataOutputStream _out;
+	private final Deflater _deflater = new Deflater(Deflater.BEST_SPEED, true);
+	private final byte[] _block = new byte[BLOCK_SIZE];
+	private final byte[] _buffer = new byte[BLOCK_SIZE];
+
+	private int _size = 0;
+	private boolean _closed = false;
+
+	/**
+	 * Create a new block output stream, which writes the compressed data to
+	 * the given output stream.
+	 *
+	 * @param out the underlying output stream
+	 * @throws NullPointerException if the given output stream is {@code null}
+	 */
+	public BlockOutputStream(final OutputStream out) {
+		super(requireNonNull(out));
+		_out = new DataOutputStream(out);
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		ensureOpen();
+		if (_size == _block.length) {
+			writeBlock();
+		}
+		_block[_size++] = (byte)b;
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		ensureOpen();
+		if ((offset | length | (offset + length) | (bytes.length - (offset + length))) < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		int off = offset;
+		int remaining = length;
+		while (remaining > 0) {
+			if (_size == _block.length) {
+				writeBlock();
+			}
+			final int n = Math.min(remaining, _block.length - _size);
+			System.arraycopy(bytes, off, _block, _size, n);
+			_size += n;
+			off += n;
+			remaining -= n;
+		}
+	}
+
+	/**
+	 * Writes the currently buffered data as (possibly incomplete) block and
+	 * flushes the underlying output stream.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		writeBlock();
+		_out.flush();
+	}
+
+	private void writeBlock() throws IOException {
+		if (_size == 0) {
+			return;
+		}
+
+		_deflater.reset();
+		_deflater.setInput(_block, 0, _size);
+		_deflater.finish();
+
+		int compressed = 0;
+		while (!_deflater.finished() && compressed < _buffer.length) {
+			compressed += _deflater.deflate(
+				_buffer, compressed, _buffer.length - compressed
+			);
+		}
+
+		if (_deflater.finished() && compressed < _size) {
+			_out.writeByte(DEFLATED);
+			SerialIO.writeInt(_size, _out);
+			SerialIO.writeInt(compressed, _out);
+			_out.write(_buffer, 0, compressed);
+		} else {
+			_out.writeByte(STORED);
+			SerialIO.writeInt(_size, _out);
+			_out.write(_block, 0, _size);
+		}
+
+		_size = 0;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (_closed) {
+			throw new IOException("Stream closed.");
+		}
+	}
+
+	/**
+	 * Writes the remaining data, the <em>end</em> block and closes the
+	 * underlying output stream.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		if (!_closed) {
+			try {
+				writeBlock();
+				_out.writeByte(END);
+				_out.flush();
+			} finally {
+				_closed = true;
+				_deflater.end();
+				_out.close();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,225 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Buffered, non-synchronized {@link DataInput} implementation. The primitive
+ * values are decoded directly from the internal buffer, which avoids the
+ * per-value stream calls of the {@link DataInputStream}.
+ * <p>
+ * The underlying input stream is read in blocks and might be read beyond the
+ * last value read from this data input.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class BufferedDataInput implements DataInput {
+
+	private static final int BUFFER_SIZE = 8*1024;
+
+	private final InputStream _in;
+	private final byte[] _buffer = new byte[BUFFER_SIZE];
+
+	private int _pos = 0;
+	private int _limit = 0;
+
+	BufferedDataInput(final InputStream in) {
+		_in = requireNonNull(in);
+	}
+
+	// Makes sure that the buffer contains at least 'n' bytes.
+	private void require(final int n) throws IOException {
+		if (_limit - _pos >= n) {
+			return;
+		}
+
+		System.arraycopy(_buffer, _pos, _buffer, 0, _limit - _pos);
+		_limit -= _pos;
+		_pos = 0;
+		while (_limit < n) {
+			final int read = _in.read(_buffer, _limit, _buffer.length - _limit);
+			if (read == -1) {
+				throw new EOFException();
+			}
+			_limit += read;
+		}
+	}
+
+	@Override
+	public void readFully(final byte[] bytes) throws IOException {
+		readFully(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void readFully(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		if ((offset | length | (offset + length) | (bytes.length - (offset + length))) < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		final int buffered = Math.min(length, _limit - _pos);
+		System.arraycopy(_buffer, _pos, bytes, offset, buffered);
+		_pos += buffered;
+
+		int count = buffered;
+		while (count < length) {
+			final int read = _in.read(bytes, offset + count, length - count);
+			if (read == -1) {
+				throw new EOFException();
+			}
+			count += read;
+		}
+	}
+
+	@Override
+	public int skipBytes(final int n) throws IOException {
+		int skipped = Math.max(Math.min(n, _limit - _pos), 0);
+		_pos += skipped;
+
+		while (skipped < n) {
+			final int read = _in.read();
+			if (read == -1) {
+				break;
+			}
+			++skipped;
+		}
+		return skipped;
+	}
+
+	@Override
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	@Override
+	public byte readByte() throws IOException {
+		require(1);
+		return _buffer[_pos++];
+	}
+
+	@Override
+	public int readUnsignedByte() throws IOException {
+		return readByte() & 0xFF;
+	}
+
+	@Override
+	public short readShort() throws IOException {
+		return (short)readUnsignedShort();
+	}
+
+	@Override
+	public int readUnsignedShort() throws IOException {
+		require(2);
+		final int value =
+			(_buffer[_pos] & 0xFF) << 8 |
+			(_buffer[_pos + 1] & 0xFF);
+		_pos += 2;
+		return value;
+	}
+
+	@Override
+	public char readChar() throws IOException {
+		return (char)readUnsignedShort();
+	}
+
+	@Override
+	public int readInt() throws IOException {
+		require(4);
+		final int value =
+			(_buffer[_pos] & 0xFF) << 24 |
+			(_buffer[_pos + 1] & 0xFF) << 16 |
+			(_buffer[_pos + 2] & 0xFF) << 8 |
+			(_buffer[_pos + 3] & 0xFF);
+		_pos += 4;
+		return value;
+	}
+
+	@Override
+	public long readLong() throws IOException {
+		require(8);
+		final long value =
+			(_buffer[_pos] & 0xFFL) << 56 |
+			(_buffer[_pos + 1] & 0xFFL) << 48 |
+			(_buffer[_pos + 2] & 0xFFL) << 40 |
+			(_buffer[_pos + 3] & 0xFFL) << 32 |
+			(_buffer[_pos + 4] & 0xFFL) << 24 |
+			(_buffer[_pos + 5] & 0xFFL) << 16 |
+			(_buffer[_pos + 6] & 0xFFL) << 8 |
+			(_buffer[_pos + 7] & 0xFFL);
+		_pos += 8;
+		return value;
+	}
+
+	@Override
+	public float readFloat() throws IOException {
+		return Float.intBitsToFloat(readInt());
+	}
+
+	@Override
+	public double readDouble() throws IOException {
+		return Double.longBitsToDouble(readLong());
+	}
+
+	@Override
+	public String readLine() throws IOException {
+		final StringBuilder line = new StringBuilder();
+		while (true) {
+			if (_pos == _limit && !fill()) {
+				return line.length() == 0 ? null : line.toString();
+			}
+
+			final char c = (char)(_buffer[_pos++] & 0xFF);
+			if (c == '\n') {
+				return line.toString();
+			}
+			if (c == '\r') {
+				if ((_pos < _limit || fill()) && _buffer[_pos] == '\n') {
+					++_pos;
+				}
+				return line.toString();
+			}
+			line.append(c);
+		}
+	}
+
+	// Reads the next bytes into the empty buffer.
+	private boolean fill() throws IOException {
+		final int read = _in.read(_buffer, 0, _buffer.length);
+		_pos = 0;
+		_limit = Math.max(read, 0);
+		return read > 0;
+	}
+
+	@Override
+	public String readUTF() throws IOException {
+		return DataInputStream.readUTF(this);
+	}
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+
+/**
+ * Buffered, non-synchronized {@link DataOutput} implementation. The primitive
+ * values are encoded directly into the internal buffer, which avoids the
+ * per-value stream calls of the {@link DataOutputStream}.
+ *
+ * @see BufferedDataInput
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class BufferedDataOutput implements DataOutput {
+
+	private static final int BUFFER_SIZE = 8*1024;
+
+	private final OutputStream _out;
+	private final byte[] _buffer = new byte[BUFFER_SIZE];
+
+	private int _pos = 0;
+
+	BufferedDataOutput(final OutputStream out) {
+		_out = requireNonNull(out);
+	}
+
+	// Makes sure that the buffer has space for at least 'n' bytes.
+	private void require(final int n) throws IOException {
+		if (_buffer.length - _pos < n) {
+			flushBuffer();
+		}
+	}
+
+	private void flushBuffer() throws IOException {
+		if (_pos > 0) {
+			_out.write(_buffer, 0, _pos);
+			_pos = 0;
+		}
+	}
+
+	/**
+	 * Writes the buffered bytes and flushes the underlying output stream.
+	 *
+	 * @throws IOException if an I/O error occurs
+	 */
+	void flush() throws IOException {
+		flushBuffer();
+		_out.flush();
+	}
+
+	@Override
+	public void write(final int b) throws IOException {
+		require(1);
+		_buffer[_pos++] = (byte)b;
+	}
+
+	@Override
+	public void write(final byte[] bytes) throws IOException {
+		write(bytes, 0, bytes.length);
+	}
+
+	@Override
+	public void write(final byte[] bytes, final int offset, final int length)
+		throws IOException
+	{
+		if ((offset | length | (offset + length) | (bytes.length - (offset + length))) < 0) {
+			throw new IndexOutOfBoundsException();
+		}
+
+		if (length > _buffer.length - _pos) {
+			flushBuffer();
+		}
+		if (length >= _buffer.length) {
+			_out.write(bytes, offset, length);
+		} else {
+			System.arraycopy(bytes, offset, _buffer, _pos, length);
+			_pos += length;
+		}
+	}
+
+	@Override
+	public void writeBoolean(final boolean value) throws IOException {
+		write(value ? 1 : 0);
+	}
+
+	@Override
+	public void writeByte(final int value) throws IOException {
+		write(value);
+	}
+
+	@Override
+	public void writeShort(final int value) throws IOException {
+		require(2);
+		_buffer[_pos] = (byte)(value >>> 8);
+		_buffer[_pos + 1] = (byte)value;
+		_pos += 2;
+	}
+
+	@Override
+	public void writeChar(final int value) throws IOException {
+		writeShort(value);
+	}
+
+	@Override
+	public void writeInt(final int value) throws IOException {
+		require(4);
+		_buffer[_pos] = (byte)(value >>> 24);
+		_buffer[_pos + 1] = (byte)(value >>> 16);
+		_buffer[_pos + 2] = (byte)(value >>> 8);
+		_buffer[_pos + 3] = (byte)value;
+		_pos += 4;
+	}
+
+	@Override
+	public void writeLong(final long value) throws IOException {
+		require(8);
+		_buffer[_pos] = (byte)(value >>> 56);
+		_buffer[_pos + 1] = (byte)(value >>> 48);
+		_buffer[_pos + 2] = (byte)(value >>> 40);
+		_buffer[_pos + 3] = (byte)(value >>> 32);
+		_buffer[_pos + 4] = (byte)(value >>> 24);
+		_buffer[_pos + 5] = (byte)(value >>> 16);
+		_buffer[_pos + 6] = (byte)(value >>> 8);
+		_buffer[_pos + 7] = (byte)value;
+		_pos += 8;
+	}
+
+	@Override
+	public void writeFloat(final float value) throws IOException {
+		writeInt(Float.floatToIntBits(value));
+	}
+
+	@Override
+	public void writeDouble(final double value) throws IOException {
+		writeLong(Double.doubleToLongBits(value));
+	}
+
+	@Override
+	public void writeBytes(final String value) throws IOException {
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			write(value.charAt(i));
+		}
+	}
+
+	@Override
+	public void writeChars(final String value) throws IOException {
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			writeChar(value.charAt(i));
+		}
+	}
+
+	@Override
+	public void writeUTF(final String value) throws IOException {
+		long length = 0;
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			final char c = value.charAt(i);
+			length += c >= 0x0001 && c <= 0x007F ? 1 : c <= 0x07FF ? 2 : 3;
+		}
+		if (length > 0xFFFF) {
+			throw new UTFDataFormatException(
+				"Encoded string too long: " + length + " bytes."
+			);
+		}
+
+		writeShort((int)length);
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			final char c = value.charAt(i);
+			if (c >= 0x0001 && c <= 0x007F) {
+				write(c);
+			} else if (c <= 0x07FF) {
+				write(0xC0 | ((c >> 6) & 0x1F));
+				write(0x80 | (c & 0x3F));
+			} else {
+				write(0xE0 | ((c >> 12) & 0x0F));
+				write(0x80 | ((c >> 6) & 0x3F));
+				write(0x80 | (c & 0x3F));
+			}
+		}
+	}
+
+}
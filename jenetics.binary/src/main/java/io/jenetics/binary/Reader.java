@@ -0,0 +1,85 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.function.Function;
+
+/**
+ * Reader interface, used for reading objects, written by the corresponding
+ * {@link Writer}. Readers for the <em>Jenetics</em> base data structures are
+ * created by the {@link Readers} class.
+ *
+ * <pre>{@code
+ * final Reader<int[]> reader = in -> {
+ *     final int[] values = new int[SerialIO.readInt(in)];
+ *     for (int i = 0; i < values.length; ++i) {
+ *         values[i] = SerialIO.readInt(in);
+ *     }
+ *     return values;
+ * };
+ * }</pre>
+ *
+ * @see Writer
+ *
+ * @param <T> the type of the data to read
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface Reader<T> {
+
+	/**
+	 * Read the data from the given data input.
+	 *
+	 * @param in the data input
+	 * @return the data read from the input
+	 * @throws IOException if reading the data fails
+	 * @throws NullPointerException if the given data input is {@code null}
+	 */
+	T read(final DataInput in) throws IOException;
+
+	/**
+	 * Create a new reader for the new mapped type {@code B}. Runtime
+	 * exceptions, thrown by the {@code mapper}, e.g. for invalid data, are
+	 * re-thrown as {@link StreamCorruptedException}.
+	 *
+	 * @param mapper the mapper function
+	 * @param <B> the target type of the new reader
+	 * @return a new reader
+	 * @throws NullPointerException if the given {@code mapper} function is
+	 *         {@code null}
+	 */
+	default <B> Reader<B> map(final Function<? super T, ? extends B> mapper) {
+		requireNonNull(mapper);
+
+		return in -> {
+			final T value = read(in);
+			return Readers.create(() -> mapper.apply(value));
+		};
+	}
+
+}
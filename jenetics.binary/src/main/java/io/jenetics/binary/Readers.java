@@ -0,0 +1,756 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.readString;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.CharSeq;
+import io.jenetics.util.ISeq;
+
+/**
+ * This class contains static fields and methods, for creating chromosome- and
+ * genotype readers for different gene types. It reads the data written by
+ * the corresponding {@link Writers}.
+ *
+ * <pre>{@code
+ * final Reader<Genotype<BitGene> bgr =
+ *     Readers.Genotype.reader(Readers.BitChromosome.reader()));
+ *
+ * final Reader<Genotype<IntegerGene>> igr =
+ *     Readers.Genotype.reader(Readers.IntegerChromosome.reader()));
+ *
+ * final Reader<Genotype<DoubleGene>> dgr =
+ *     Readers.Genotype.reader(Readers.DoubleChromosome.reader()));
+ * }</pre>
+ *
+ * This class also contains some helper methods, which makes it easier to read
+ * Jenetics domain objects from a given input stream.
+ * <pre>{@code
+ * final List<Genotype<BitGene>> genotypes;
+ * try (InputStream in = new BlockInputStream(
+ *     Files.newInputStream(Paths.get("path"))))
+ * {
+ *     genotypes = Readers.read(in, Readers.BitChromosome.reader());
+ * }
+ * }</pre>
+ *
+ * Invalid data, e.g. negative lengths or allele values outside the written
+ * range, are reported as {@link StreamCorruptedException}.
+ *
+ * @see Writers
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Readers {
+	private Readers() {}
+
+	/**
+	 * Bit chromosome reader methods, which reads data written by
+	 * {@link Writers.BitChromosome}.
+	 */
+	public static final class BitChromosome {
+		private BitChromosome() {}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.BitChromosome}.
+		 *
+		 * @see Writers.BitChromosome#writer()
+		 *
+		 * @return a bit chromosome reader
+		 */
+		public static Reader<io.jenetics.BitChromosome> reader() {
+			return in -> {
+				final int length = length(in);
+				final double p = in.readDouble();
+				final byte[] bytes = bytes(in, (int)((length + 7L) >>> 3));
+
+				return create(() -> io.jenetics.BitChromosome
+					.of(BitSet.valueOf(bytes), length, p));
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.BitChromosome} from the given input
+		 * stream.
+		 *
+		 * @param in the data source of the bit chromosome
+		 * @return the bit chromosome read from the input stream
+		 * @throws IOException if the chromosome could not be read
+		 * @throws NullPointerException if the given input stream is
+		 *         {@code null}
+		 */
+		public static io.jenetics.BitChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readObject(in, reader());
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.CharacterChromosome} objects,
+	 * written by {@link Writers.CharacterChromosome}.
+	 */
+	public static final class CharacterChromosome {
+		private CharacterChromosome() {}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.CharacterChromosome}.
+		 *
+		 * @see Writers.CharacterChromosome#writer()
+		 *
+		 * @return a character chromosome reader
+		 */
+		public static Reader<io.jenetics.CharacterChromosome> reader() {
+			return in -> {
+				final String validChars = readString(in);
+				final String alleles = readString(in);
+
+				return create(() -> io.jenetics.CharacterChromosome
+					.of(alleles, new CharSeq(validChars)));
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.CharacterChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if the chromosome could not be read
+		 * @throws NullPointerException if the given input stream is
+		 *         {@code null}
+		 */
+		public static io.jenetics.CharacterChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readObject(in, reader());
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.IntegerChromosome} objects,
+	 * written by {@link Writers.IntegerChromosome}.
+	 */
+	public static final class IntegerChromosome {
+		private IntegerChromosome() {}
+
+		/**
+		 * Return the default integer allele reader.
+		 *
+		 * @see Writers.IntegerChromosome#alleleWriter()
+		 *
+		 * @return the default integer allele reader
+		 */
+		public static Reader<Integer> alleleReader() {
+			return in -> readInt(in);
+		}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.IntegerChromosome}.
+		 *
+		 * @see Writers.IntegerChromosome#writer()
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.IntegerChromosome> reader() {
+			return in -> {
+				final int length = length(in);
+				final int min = readInt(in);
+				final int max = readInt(in);
+
+				final List<IntegerGene> genes = new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					final IntegerGene gene = IntegerGene.of(readInt(in), min, max);
+					if (!gene.isValid()) {
+						throw corrupted("Invalid gene: %s.", gene);
+					}
+					genes.add(gene);
+				}
+
+				return create(() -> io.jenetics.IntegerChromosome.of(genes));
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.IntegerChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if the chromosome could not be read
+		 * @throws NullPointerException if the given input stream is
+		 *         {@code null}
+		 */
+		public static io.jenetics.IntegerChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readObject(in, reader());
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.LongChromosome} objects, written
+	 * by {@link Writers.LongChromosome}.
+	 */
+	public static final class LongChromosome {
+		private LongChromosome() {}
+
+		/**
+		 * Return the default long allele reader.
+		 *
+		 * @see Writers.LongChromosome#alleleWriter()
+		 *
+		 * @return the default long allele reader
+		 */
+		public static Reader<Long> alleleReader() {
+			return in -> readLong(in);
+		}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.LongChromosome}.
+		 *
+		 * @see Writers.LongChromosome#writer()
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.LongChromosome> reader() {
+			return in -> {
+				final int length = length(in);
+				final long min = readLong(in);
+				final long max = readLong(in);
+
+				final List<LongGene> genes = new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					final LongGene gene = LongGene.of(readLong(in), min, max);
+					if (!gene.isValid()) {
+						throw corrupted("Invalid gene: %s.", gene);
+					}
+					genes.add(gene);
+				}
+
+				return create(() -> io.jenetics.LongChromosome.of(genes));
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.LongChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if the chromosome could not be read
+		 * @throws NullPointerException if the given input stream is
+		 *         {@code null}
+		 */
+		public static io.jenetics.LongChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readObject(in, reader());
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.DoubleChromosome} objects, written
+	 * by {@link Writers.DoubleChromosome}.
+	 */
+	public static final class DoubleChromosome {
+		private DoubleChromosome() {}
+
+		/**
+		 * Return the default double allele reader.
+		 *
+		 * @see Writers.DoubleChromosome#alleleWriter()
+		 *
+		 * @return the default double allele reader
+		 */
+		public static Reader<Double> alleleReader() {
+			return DataInput::readDouble;
+		}
+
+		/**
+		 * Return a binary reader for {@link io.jenetics.DoubleChromosome}.
+		 *
+		 * @see Writers.DoubleChromosome#writer()
+		 *
+		 * @return a chromosome reader
+		 */
+		public static Reader<io.jenetics.DoubleChromosome> reader() {
+			return in -> {
+				final int length = length(in);
+				final double min = in.readDouble();
+				final double max = in.readDouble();
+
+				final List<DoubleGene> genes = new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					final DoubleGene gene = DoubleGene.of(in.readDouble(), min, max);
+					if (!gene.isValid()) {
+						throw corrupted("Invalid gene: %s.", gene);
+					}
+					genes.add(gene);
+				}
+
+				return create(() -> io.jenetics.DoubleChromosome.of(genes));
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.DoubleChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if the chromosome could not be read
+		 * @throws NullPointerException if the given input stream is
+		 *         {@code null}
+		 */
+		public static io.jenetics.DoubleChromosome read(final InputStream in)
+			throws IOException
+		{
+			return readObject(in, reader());
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.PermutationChromosome} objects,
+	 * written by {@link Writers.PermutationChromosome}.
+	 */
+	public static final class PermutationChromosome {
+		private PermutationChromosome() {}
+
+		/**
+		 * Return a reader for permutation chromosomes with the given allele
+		 * reader.
+		 *
+		 * @see Writers.PermutationChromosome#writer(Writer)
+		 *
+		 * @param alleleReader the allele reader
+		 * @param <A> the allele type
+		 * @return a permutation chromosome reader
+		 * @throws NullPointerException if the given allele reader is
+		 *         {@code null}
+		 */
+		public static <A> Reader<io.jenetics.PermutationChromosome<A>>
+		reader(final Reader<? extends A> alleleReader) {
+			requireNonNull(alleleReader);
+
+			return in -> {
+				final int alleleCount = length(in);
+				final List<A> alleles = new ArrayList<>(min(alleleCount));
+				for (int i = 0; i < alleleCount; ++i) {
+					alleles.add(alleleReader.read(in));
+				}
+				final ISeq<A> validAlleles = ISeq.of(alleles);
+
+				final int length = length(in);
+				final List<EnumGene<A>> genes = new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					final int index = readInt(in);
+					if (index < 0 || index >= alleleCount) {
+						throw corrupted(
+							"Allele index %d not in range [0, %d).",
+							index, alleleCount
+						);
+					}
+					genes.add(EnumGene.of(index, validAlleles));
+				}
+
+				return create(() ->
+					new io.jenetics.PermutationChromosome<>(ISeq.of(genes)));
+			};
+		}
+
+		/**
+		 * Read a new {@link io.jenetics.PermutationChromosome} from the given
+		 * input stream.
+		 *
+		 * @param in the data source of the chromosome
+		 * @param alleleReader the allele reader
+		 * @param <A> the allele type
+		 * @return the chromosome read from the input stream
+		 * @throws IOException if the chromosome could not be read
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <A> io.jenetics.PermutationChromosome<A> read(
+			final InputStream in,
+			final Reader<? extends A> alleleReader
+		)
+			throws IOException
+		{
+			return readObject(in, reader(alleleReader));
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.Genotype} objects, written by
+	 * {@link Writers.Genotype}.
+	 */
+	public static final class Genotype {
+		private Genotype() {}
+
+		/**
+		 * Create a genotype reader with he given chromosome reader.
+		 *
+		 * @see Writers.Genotype#writer(Writer)
+		 *
+		 * @param reader the underlying chromosome reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a genotype reader with the given chromosome reader
+		 * @throws NullPointerException if the given {@code reader} is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Reader<io.jenetics.Genotype<G>>
+		reader(final Reader<? extends C> reader) {
+			requireNonNull(reader);
+
+			return in -> {
+				final int length = length(in);
+				final List<C> chromosomes = new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					chromosomes.add(reader.read(in));
+				}
+
+				return create(() -> io.jenetics.Genotype.of(chromosomes));
+			};
+		}
+
+		/**
+		 * Read a genotype from the given input stream with the given
+		 * chromosome reader.
+		 *
+		 * @param in the input stream to read the genotype from
+		 * @param reader the used chromosome reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a genotype by using the given chromosome reader to read the
+		 *         genotype chromosomes
+		 * @throws IOException if the genotype could not be read
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		io.jenetics.Genotype<G>
+		read(final InputStream in, final Reader<? extends C> reader)
+			throws IOException
+		{
+			return readObject(in, reader(reader));
+		}
+	}
+
+	/**
+	 * Reader methods for {@link io.jenetics.Genotype} collections, written
+	 * by {@link Writers.Genotypes}.
+	 */
+	public static final class Genotypes {
+		private Genotypes() {}
+
+		/**
+		 * Return a genotypes reader using the given chromosome reader.
+		 *
+		 * @see Writers.Genotypes#writer(Writer)
+		 *
+		 * @param chromosomeReader the used chromosome reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a genotypes reader
+		 * @throws NullPointerException if the given {@code chromosomeReader}
+		 *         is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Reader<List<io.jenetics.Genotype<G>>>
+		reader(final Reader<? extends C> chromosomeReader) {
+			final Reader<io.jenetics.Genotype<G>> gtr =
+				Genotype.reader(chromosomeReader);
+
+			return in -> {
+				final int length = length(in);
+				final List<io.jenetics.Genotype<G>> genotypes =
+					new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					genotypes.add(gtr.read(in));
+				}
+				return genotypes;
+			};
+		}
+
+		/**
+		 * Read the genotypes from the given input stream with the given
+		 * chromosome reader.
+		 *
+		 * @param in the input stream to read the genotype from
+		 * @param chromosomeReader the used chromosome reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a genotype by using the given chromosome reader to read the
+		 *         genotype chromosomes
+		 * @throws IOException if the genotypes could not be read
+		 * @throws NullPointerException if one of the given arguments is
+		 *         {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		List<io.jenetics.Genotype<G>>
+		read(final InputStream in, final Reader<? extends C> chromosomeReader)
+			throws IOException
+		{
+			return readObject(in, reader(chromosomeReader));
+		}
+	}
+
+	/**
+	 * Reader methods for populations, written by {@link Writers.Population}.
+	 */
+	public static final class Population {
+		private Population() {}
+
+		/**
+		 * Return a population reader using the given chromosome- and
+		 * fitness reader.
+		 *
+		 * @see Writers.Population#writer(Writer, Writer)
+		 *
+		 * @param chromosomeReader the used chromosome reader
+		 * @param fitnessReader the used fitness reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param <F> the fitness type
+		 * @return a population reader
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>,
+			F extends Comparable<? super F>
+		>
+		Reader<ISeq<Phenotype<G, F>>> reader(
+			final Reader<? extends C> chromosomeReader,
+			final Reader<? extends F> fitnessReader
+		) {
+			requireNonNull(fitnessReader);
+			final Reader<io.jenetics.Genotype<G>> gtr =
+				Genotype.reader(chromosomeReader);
+
+			return in -> {
+				final int length = length(in);
+				final List<Phenotype<G, F>> population =
+					new ArrayList<>(min(length));
+				for (int i = 0; i < length; ++i) {
+					final long generation = readLong(in);
+					final F fitness = in.readBoolean()
+						? fitnessReader.read(in)
+						: null;
+					final io.jenetics.Genotype<G> gt = gtr.read(in);
+
+					population.add(create(() -> fitness != null
+						? Phenotype.of(gt, generation, fitness)
+						: Phenotype.of(gt, generation)));
+				}
+				return ISeq.of(population);
+			};
+		}
+
+		/**
+		 * Read a population from the given input stream.
+		 *
+		 * @param in the input stream to read the population from
+		 * @param chromosomeReader the used chromosome reader
+		 * @param fitnessReader the used fitness reader
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param <F> the fitness type
+		 * @return the population read from the input stream
+		 * @throws IOException if the population could not be read
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>,
+			F extends Comparable<? super F>
+		>
+		ISeq<Phenotype<G, F>> read(
+			final InputStream in,
+			final Reader<? extends C> chromosomeReader,
+			final Reader<? extends F> fitnessReader
+		)
+			throws IOException
+		{
+			return readObject(in, reader(chromosomeReader, fitnessReader));
+		}
+	}
+
+	/**
+	 * Read the genotypes from the given input stream with the given
+	 * chromosome reader.
+	 *
+	 * @see Genotypes#read(InputStream, Reader)
+	 *
+	 * @param in the input stream to read the genotype from
+	 * @param chromosomeReader the used chromosome reader
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @return a genotype by using the given chromosome reader to read the
+	 *         genotype chromosomes
+	 * @throws IOException if the genotypes could not be read
+	 * @throws NullPointerException if one of the given arguments is
+	 *         {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	List<io.jenetics.Genotype<G>>
+	read(final InputStream in, final Reader<? extends C> chromosomeReader)
+		throws IOException
+	{
+		return Genotypes.read(in, chromosomeReader);
+	}
+
+	/**
+	 * Read an object from the given input stream, with the given
+	 * {@code reader}. The input stream is not closed.
+	 *
+	 * @param in the input stream to read from
+	 * @param reader the reader of the object
+	 * @param <T> the object type
+	 * @return the object read from the input stream
+	 * @throws IOException if the object could not be read
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <T> T readObject(final InputStream in, final Reader<? extends T> reader)
+		throws IOException
+	{
+		requireNonNull(in);
+		requireNonNull(reader);
+
+		return reader.read(
+			in instanceof DataInput
+				? (DataInput)in
+				: new DataInputStream(in)
+		);
+	}
+
+	/* *************************************************************************
+	 * Helper methods.
+	 * ************************************************************************/
+
+	// Reads a (non-negative) length value.
+	static int length(final DataInput in) throws IOException {
+		final int length = readInt(in);
+		if (length < 0) {
+			throw corrupted("Invalid length: %d.", length);
+		}
+		return length;
+	}
+
+	// Limits the initial capacity of lists, created for a (not yet verified)
+	// length value. The lists grow with the data actually read.
+	static int min(final int length) {
+		return Math.min(length, 1024);
+	}
+
+	// Reads the given number of bytes. The buffer grows with the data
+	// actually read, instead of being allocated for the (not yet verified)
+	// length up front.
+	static byte[] bytes(final DataInput in, final int length)
+		throws IOException
+	{
+		byte[] bytes = new byte[min(length)];
+		in.readFully(bytes);
+		while (bytes.length < length) {
+			final int read = bytes.length;
+			bytes = Arrays.copyOf(bytes, (int)Math.min(2L*read, length));
+			in.readFully(bytes, read, bytes.length - read);
+		}
+		return bytes;
+	}
+
+	static StreamCorruptedException corrupted(
+		final String message,
+		final Object... args
+	) {
+		return new StreamCorruptedException(String.format(message, args));
+	}
+
+	// Creates an object from already read data, and reports invalid data as
+	// corrupted stream.
+	static <T> T create(final Supplier<? extends T> factory)
+		throws StreamCorruptedException
+	{
+		try {
+			return factory.get();
+		} catch (RuntimeException e) {
+			final StreamCorruptedException error =
+				new StreamCorruptedException(e.getMessage());
+			error.initCause(e);
+			throw error;
+		}
+	}
+
+}
@@ -0,0 +1,1330 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readBytes;
+import static io.jenetics.internal.util.SerialIO.readDoubleArray;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readIntArray;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.readLongArray;
+import static io.jenetics.internal.util.SerialIO.readString;
+import static io.jenetics.internal.util.SerialIO.writeBytes;
+import static io.jenetics.internal.util.SerialIO.writeDoubleArray;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeIntArray;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.internal.util.SerialIO.writeLongArray;
+import static io.jenetics.internal.util.SerialIO.writeString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.CharSeq;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.IntSeq;
+import io.jenetics.util.LongRange;
+import io.jenetics.util.LongSeq;
+
+/**
+ * Registry based serializer, which writes the registered types directly to a
+ * {@link DataOutput}, without the class descriptors and the reflection of the
+ * Java object serialization. This makes the serialized objects considerable
+ * smaller and the serialization faster than the {@link io.jenetics.util.IO#object}
+ * serialization.
+ * <p>
+ * Every object is written as <em>type id</em>, followed by the data written
+ * by the registered {@link Encoder}. The type ids of the <em>Jenetics</em>
+ * types are derived from the type tags of the {@code Serial} proxy classes,
+ * used by the Java serialization. The {@link #DEFAULT} serializer supports the
+ * following types:
+ * <ul>
+ *     <li>{@code Boolean}, {@code Integer}, {@code Long}, {@code Float},
+ *         {@code Double}, {@code String}, {@code BigInteger},
+ *         {@code int[]}, {@code long[]}, {@code double[]}, {@link Duration}
+ *         and {@link ISeq}</li>
+ *     <li>the numeric genes and the bit, character, integer, long, double and
+ *         permutation chromosomes</li>
+ *     <li>{@link io.jenetics.Genotype}, {@link Phenotype} and
+ *         {@link Optimize}</li>
+ *     <li>{@link IntRange}, {@link LongRange} and {@link DoubleRange}</li>
+ *     <li>{@link IntSeq}, {@link LongSeq} and {@link DoubleSeq}</li>
+ *     <li>{@link EvolutionDurations}, {@link EvolutionStart} and
+ *         {@link EvolutionResult}</li>
+ * </ul>
+ * Types of other modules, e.g. the multi-objective {@code Vec} classes or
+ * the {@code MathExpr} class, are not supported by the {@link #DEFAULT}
+ * serializer. Codecs for these types must be registered explicitly. As a
+ * fallback, the Java serialization can be enabled for {@link Serializable}
+ * objects without registered codec. Since reading Java serialized objects
+ * from untrusted sources is dangerous, the read classes are restricted by
+ * an {@link ObjectInputFilter}.
+ * <pre>{@code
+ * final Serializer serializer = Serializer.builder()
+ *     .javaSerialization(
+ *         ObjectInputFilter.Config.createFilter("io.jenetics.ext.moea.*;!*")
+ *     )
+ *     .build();
+ * }</pre>
+ *
+ * <pre>{@code
+ * final EvolutionResult<DoubleGene, Double> result = ...;
+ * try (OutputStream out = Files.newOutputStream(path)) {
+ *     Serializer.DEFAULT.write(result, out);
+ * }
+ * }</pre>
+ *
+ * <b>Registering new types</b>
+ * <p>
+ * Additional types are registered with a unique type id, which must be
+ * greater or equal than {@link #MIN_TYPE_ID}. Ids below this value are
+ * reserved for the <em>Jenetics</em> types.
+ * <pre>{@code
+ * final Serializer serializer = Serializer.builder()
+ *     .register(
+ *         Serializer.MIN_TYPE_ID,
+ *         Point.class,
+ *         (p, out, s) -> { out.writeDouble(p.x()); out.writeDouble(p.y()); },
+ *         (in, s) -> Point.of(in.readDouble(), in.readDouble())
+ *     )
+ *     .build();
+ * }</pre>
+ *
+ * <b>Schema evolution</b>
+ * <p>
+ * If the written data of a type has to be changed, the type is registered
+ * with a new id. The decoder of the old data layout stays registered with
+ * {@link Builder#decoder(int, Decoder)}. This way objects, written with the
+ * old layout, can still be read.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Serializer {
+
+	/**
+	 * Encodes the data of an object of type {@code T}.
+	 *
+	 * @param <T> the object type
+	 */
+	@FunctionalInterface
+	public interface Encoder<T> {
+
+		/**
+		 * Write the data of the given {@code value} to the data output.
+		 * Referenced objects can be written with the given
+		 * {@code serializer}.
+		 *
+		 * @param value the object to write
+		 * @param out the data output
+		 * @param serializer the calling serializer
+		 * @throws IOException if writing the object fails
+		 */
+		void encode(final T value, final DataOutput out, final Serializer serializer)
+			throws IOException;
+
+	}
+
+	/**
+	 * Decodes an object of type {@code T}, written by the corresponding
+	 * {@link Encoder}.
+	 *
+	 * @param <T> the object type
+	 */
+	@FunctionalInterface
+	public interface Decoder<T> {
+
+		/**
+		 * Read an object from the given data input. Referenced objects can be
+		 * read with the given {@code serializer}.
+		 *
+		 * @param in the data input
+		 * @param serializer the calling serializer
+		 * @return the read object
+		 * @throws IOException if reading the object fails
+		 */
+		T decode(final DataInput in, final Serializer serializer)
+			throws IOException;
+
+	}
+
+	/**
+	 * The smallest type id, allowed for user defined types.
+	 */
+	public static final int MIN_TYPE_ID = 1024;
+
+	/**
+	 * The greatest allowed type id.
+	 */
+	public static final int MAX_TYPE_ID = 0xFFFF;
+
+	// Header of the serialized streams.
+	private static final int MAGIC = 0x4A534552;
+	private static final int VERSION = 1;
+
+	// Type ids of the basic types.
+	private static final int NULL = 0;
+	private static final int JAVA_OBJECT = 1;
+	private static final int BOOLEAN = 2;
+	private static final int INTEGER = 3;
+	private static final int LONG = 4;
+	private static final int FLOAT = 5;
+	private static final int DOUBLE = 6;
+	private static final int STRING = 7;
+	private static final int BIG_INTEGER = 8;
+	private static final int INT_ARRAY = 9;
+	private static final int LONG_ARRAY = 10;
+	private static final int DOUBLE_ARRAY = 11;
+	private static final int DURATION = 12;
+	private static final int SEQ = 13;
+	private static final int OPTIMIZE = 14;
+
+	// Type id offsets of the Jenetics packages. The type ids within a package
+	// are the type tags of the corresponding 'Serial' class.
+	private static final int JENETICS = 256;
+	private static final int JENETICS_UTIL = 2*256;
+	private static final int JENETICS_ENGINE = 3*256;
+
+	/**
+	 * The default serializer, which supports the basic <em>Jenetics</em>
+	 * types.
+	 */
+	public static final Serializer DEFAULT = builder().build();
+
+	private final Entry<?>[] _entries;
+	private final ClassValue<Entry<?>> _types;
+	private final ObjectInputFilter _filter;
+
+	private Serializer(final Builder builder) {
+		final Map<Class<?>, Entry<?>> types = new HashMap<>(builder._types);
+		final List<Entry<?>> order = new ArrayList<>(builder._order);
+
+		final int size = builder._decoders.keySet().stream()
+			.mapToInt(Integer::intValue)
+			.max()
+			.orElse(0) + 1;
+		_entries = new Entry<?>[size];
+		builder._decoders.forEach((id, entry) -> _entries[id] = entry);
+		_filter = builder._filter;
+
+		// The type lookup is done once per class.
+		_types = new ClassValue<>() {
+			@Override
+			protected Entry<?> computeValue(final Class<?> type) {
+				final Entry<?> entry = types.get(type);
+				if (entry != null) {
+					return entry;
+				}
+				for (Entry<?> e : order) {
+					if (e.type.isAssignableFrom(type)) {
+						return e;
+					}
+				}
+				return null;
+			}
+		};
+	}
+
+	/**
+	 * Write the given object, including the stream header, to the given
+	 * output stream. The output stream is flushed, but not closed.
+	 *
+	 * @param value the object to write, may be {@code null}
+	 * @param out the output stream
+	 * @throws NotSerializableException if no encoder is registered for the
+	 *         object (or one of its referenced objects) and the object can't be
+	 *         written with the Java serialization
+	 * @throws IOException if writing the object fails
+	 * @throws NullPointerException if the given output stream is {@code null}
+	 */
+	public void write(final Object value, final OutputStream out)
+		throws IOException
+	{
+		requireNonNull(out);
+
+		final BufferedDataOutput dout = new BufferedDataOutput(out);
+		dout.writeInt(MAGIC);
+		writeInt(VERSION, dout);
+		writeObject(value, dout);
+		dout.flush();
+	}
+
+	/**
+	 * Reads an object, written by the {@link #write(Object, OutputStream)}
+	 * method, from the given input stream. The input stream is read in blocks
+	 * and might be read beyond the end of the serialized object.
+	 *
+	 * @param type the expected object type
+	 * @param in the input stream
+	 * @param <T> the object type
+	 * @return the read object
+	 * @throws StreamCorruptedException if the stream doesn't contain a valid
+	 *         serialized object
+	 * @throws IOException if reading the object fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public <T> T read(final Class<T> type, final InputStream in)
+		throws IOException
+	{
+		requireNonNull(type);
+		requireNonNull(in);
+
+		final DataInput din = in instanceof DataInput
+			? (DataInput)in
+			: new BufferedDataInput(in);
+
+		if (din.readInt() != MAGIC) {
+			throw new StreamCorruptedException("Invalid stream header.");
+		}
+		final int version = readInt(din);
+		if (version != VERSION) {
+			throw new StreamCorruptedException(format(
+				"Unsupported stream version: %d.", version
+			));
+		}
+
+		return readObject(type, din);
+	}
+
+	/**
+	 * Write the given object to the data output. This method is used by the
+	 * {@link Encoder}s for writing referenced objects.
+	 *
+	 * @param value the object to write, may be {@code null}
+	 * @param out the data output
+	 * @throws NotSerializableException if no encoder is registered for the
+	 *         object and the object can't be written with the Java
+	 *         serialization
+	 * @throws IOException if writing the object fails
+	 */
+	@SuppressWarnings("unchecked")
+	public void writeObject(final Object value, final DataOutput out)
+		throws IOException
+	{
+		if (value == null) {
+			writeInt(NULL, out);
+		} else {
+			final Entry<Object> entry = (Entry<Object>)_types.get(value.getClass());
+			if (entry != null) {
+				writeInt(entry.id, out);
+				entry.encoder.encode(value, out, this);
+			} else if (_filter != null && value instanceof Serializable) {
+				writeInt(JAVA_OBJECT, out);
+				writeJavaObject(value, out);
+			} else {
+				throw new NotSerializableException(value.getClass().getName());
+			}
+		}
+	}
+
+	/**
+	 * Read an object, written by {@link #writeObject(Object, DataOutput)},
+	 * from the given data input. This method is used by the {@link Decoder}s
+	 * for reading referenced objects.
+	 *
+	 * @param in the data input
+	 * @return the read object, may be {@code null}
+	 * @throws StreamCorruptedException if the data contains an unknown type
+	 *         id, or a Java serialized object and the Java serialization is
+	 *         not enabled
+	 * @throws InvalidClassException if a Java serialized object is rejected
+	 *         by the object input filter
+	 * @throws IOException if reading the object fails
+	 */
+	public Object readObject(final DataInput in) throws IOException {
+		final int id = readInt(in);
+		if (id == NULL) {
+			return null;
+		}
+		if (id == JAVA_OBJECT) {
+			if (_filter == null) {
+				throw new StreamCorruptedException(
+					"Java serialization is not enabled."
+				);
+			}
+			return readJavaObject(in);
+		}
+		if (id < 0 || id >= _entries.length || _entries[id] == null) {
+			throw new StreamCorruptedException(format("Unknown type id: %d.", id));
+		}
+
+		return _entries[id].decoder.decode(in, this);
+	}
+
+	/**
+	 * Read an object of the given {@code type} from the data input.
+	 *
+	 * @see #readObject(DataInput)
+	 *
+	 * @param type the expected object type
+	 * @param in the data input
+	 * @param <T> the object type
+	 * @return the read object, may be {@code null}
+	 * @throws InvalidClassException if the read object is not an instance of
+	 *         the given {@code type}
+	 * @throws StreamCorruptedException if the data contains an unknown type
+	 *         id
+	 * @throws IOException if reading the object fails
+	 */
+	public <T> T readObject(final Class<T> type, final DataInput in)
+		throws IOException
+	{
+		final Object value = readObject(in);
+		if (value != null && !type.isInstance(value)) {
+			throw new InvalidClassException(
+				value.getClass().getName(),
+				format("Expected type %s.", type.getName())
+			);
+		}
+		return type.cast(value);
+	}
+
+	private static void writeJavaObject(final Object value, final DataOutput out)
+		throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream oout = new ObjectOutputStream(bytes)) {
+			oout.writeObject(value);
+		}
+		writeBytes(bytes.toByteArray(), out);
+	}
+
+	private Object readJavaObject(final DataInput in) throws IOException {
+		final byte[] bytes = readBytes(in);
+		try (ObjectInputStream oin =
+				new ObjectInputStream(new ByteArrayInputStream(bytes)))
+		{
+			oin.setObjectInputFilter(_filter);
+			return oin.readObject();
+		} catch (ClassNotFoundException e) {
+			throw new InvalidClassException(e.getMessage());
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new serializer builder, which already contains the codecs of
+	 * the default <em>Jenetics</em> types.
+	 *
+	 * @return a new serializer builder
+	 */
+	public static Builder builder() {
+		final Builder builder = new Builder();
+		basicTypes(builder);
+		jeneticsTypes(builder);
+		engineTypes(builder);
+		return builder;
+	}
+
+	private static void basicTypes(final Builder builder) {
+		builder
+			.add(BOOLEAN, Boolean.class,
+				(v, out, s) -> out.writeBoolean(v),
+				(in, s) -> in.readBoolean())
+			.add(INTEGER, Integer.class,
+				(v, out, s) -> writeInt(v, out),
+				(in, s) -> readInt(in))
+			.add(LONG, Long.class,
+				(v, out, s) -> writeLong(v, out),
+				(in, s) -> readLong(in))
+			.add(FLOAT, Float.class,
+				(v, out, s) -> out.writeFloat(v),
+				(in, s) -> in.readFloat())
+			.add(DOUBLE, Double.class,
+				(v, out, s) -> out.writeDouble(v),
+				(in, s) -> in.readDouble())
+			.add(STRING, String.class,
+				(v, out, s) -> writeString(v, out),
+				(in, s) -> readString(in))
+			.add(BIG_INTEGER, BigInteger.class,
+				(v, out, s) -> writeBytes(v.toByteArray(), out),
+				(in, s) -> {
+					final byte[] bytes = readBytes(in);
+					return Readers.create(() -> new BigInteger(bytes));
+				})
+			.add(INT_ARRAY, int[].class,
+				(v, out, s) -> writeIntArray(v, out),
+				(in, s) -> readIntArray(in))
+			.add(LONG_ARRAY, long[].class,
+				(v, out, s) -> writeLongArray(v, out),
+				(in, s) -> readLongArray(in))
+			.add(DOUBLE_ARRAY, double[].class,
+				(v, out, s) -> writeDoubleArray(v, out),
+				(in, s) -> readDoubleArray(in))
+			.add(DURATION, Duration.class,
+				Serializer::writeDuration,
+				Serializer::readDuration)
+			.add(OPTIMIZE, Optimize.class,
+				(v, out, s) -> out.writeByte(v.ordinal()),
+				(in, s) -> optimize(in))
+			.add(SEQ, ISeq.class,
+				(v, out, s) -> {
+					writeInt(v.length(), out);
+					for (Object element : v) {
+						s.writeObject(element, out);
+					}
+				},
+				(in, s) -> {
+					final int length = Readers.length(in);
+					final List<Object> values = new ArrayList<>(Readers.min(length));
+					for (int i = 0; i < length; ++i) {
+						values.add(s.readObject(in));
+					}
+					return ISeq.of(values);
+				});
+	}
+
+	private static void jeneticsTypes(final Builder builder) {
+		builder
+			// Serial.DOUBLE_GENE
+			.add(JENETICS + 1, DoubleGene.class,
+				(v, out, s) -> {
+					out.writeDouble(v.doubleValue());
+					out.writeDouble(v.min());
+					out.writeDouble(v.max());
+				},
+				(in, s) -> DoubleGene.of(
+					in.readDouble(), in.readDouble(), in.readDouble()))
+			// Serial.INTEGER_GENE
+			.add(JENETICS + 2, IntegerGene.class,
+				(v, out, s) -> {
+					writeInt(v.intValue(), out);
+					writeInt(v.min(), out);
+					writeInt(v.max(), out);
+				},
+				(in, s) -> IntegerGene.of(readInt(in), readInt(in), readInt(in)))
+			// Serial.LONG_GENE
+			.add(JENETICS + 3, LongGene.class,
+				(v, out, s) -> {
+					writeLong(v.longValue(), out);
+					writeLong(v.min(), out);
+					writeLong(v.max(), out);
+				},
+				(in, s) -> LongGene.of(readLong(in), readLong(in), readLong(in)))
+			// Serial.BIT_CHROMOSOME
+			.add(JENETICS + 4, io.jenetics.BitChromosome.class,
+				Writers.BitChromosome.writer(),
+				Readers.BitChromosome.reader())
+			// Serial.DOUBLE_CHROMOSOME
+			.add(JENETICS + 5, io.jenetics.DoubleChromosome.class,
+				Serializer::writeDoubleChromosome,
+				Serializer::readDoubleChromosome)
+			// Serial.INTEGER_CHROMOSOME
+			.add(JENETICS + 6, io.jenetics.IntegerChromosome.class,
+				Serializer::writeIntegerChromosome,
+				Serializer::readIntegerChromosome)
+			// Serial.LONG_CHROMOSOME
+			.add(JENETICS + 7, io.jenetics.LongChromosome.class,
+				Serializer::writeLongChromosome,
+				Serializer::readLongChromosome)
+			// Serial.CHARACTER_CHROMOSOME
+			.add(JENETICS + 8, io.jenetics.CharacterChromosome.class,
+				Serializer::writeCharacterChromosome,
+				Serializer::readCharacterChromosome)
+			// Serial.PERMUTATION_CHROMOSOME
+			.add(JENETICS + 9, io.jenetics.PermutationChromosome.class,
+				Serializer::writePermutation,
+				Serializer::readPermutation)
+			// Serial.GENOTYPE
+			.add(JENETICS + 10, io.jenetics.Genotype.class,
+				Serializer::writeGenotype,
+				Serializer::readGenotype)
+			// Serial.PHENOTYPE
+			.add(JENETICS + 11, Phenotype.class,
+				Serializer::writePhenotype,
+				Serializer::readPhenotype)
+			// io.jenetics.util.Serial.DOUBLE_RANGE
+			.add(JENETICS_UTIL + 1, DoubleRange.class,
+				(v, out, s) -> {
+					out.writeDouble(v.min());
+					out.writeDouble(v.max());
+				},
+				(in, s) -> {
+					final double min = in.readDouble();
+					final double max = in.readDouble();
+					return Readers.create(() -> DoubleRange.of(min, max));
+				})
+			// io.jenetics.util.Serial.INT_RANGE
+			.add(JENETICS_UTIL + 2, IntRange.class,
+				(v, out, s) -> {
+					writeInt(v.min(), out);
+					writeInt(v.max(), out);
+				},
+				(in, s) -> {
+					final int min = readInt(in);
+					final int max = readInt(in);
+					return Readers.create(() -> IntRange.of(min, max));
+				})
+			// io.jenetics.util.Serial.LONG_RANGE
+			.add(JENETICS_UTIL + 3, LongRange.class,
+				(v, out, s) -> {
+					writeLong(v.min(), out);
+					writeLong(v.max(), out);
+				},
+				(in, s) -> {
+					final long min = readLong(in);
+					final long max = readLong(in);
+					return Readers.create(() -> LongRange.of(min, max));
+				})
+			// io.jenetics.util.Serial.DOUBLE_SEQ
+			.add(JENETICS_UTIL + 4, DoubleSeq.class,
+				(v, out, s) -> {
+					writeInt(v.length(), out);
+					writeDoubles(v, out);
+				},
+				(in, s) -> DoubleSeq.of(readDoubles(in, Readers.length(in))))
+			// io.jenetics.util.Serial.INT_SEQ
+			.add(JENETICS_UTIL + 5, IntSeq.class,
+				(v, out, s) -> {
+					writeInt(v.length(), out);
+					writeInts(v, out);
+				},
+				(in, s) -> IntSeq.of(readInts(in, Readers.length(in))))
+			// io.jenetics.util.Serial.LONG_SEQ
+			.add(JENETICS_UTIL + 6, LongSeq.class,
+				(v, out, s) -> {
+					writeInt(v.length(), out);
+					writeLongs(v, out);
+				},
+				(in, s) -> LongSeq.of(readLongs(in, Readers.length(in))));
+	}
+
+	private static void engineTypes(final Builder builder) {
+		builder
+			// io.jenetics.engine.Serial.EVOLUTION_DURATIONS
+			.add(JENETICS_ENGINE + 1, EvolutionDurations.class,
+				Serializer::writeDurations,
+				Serializer::readDurations)
+			// io.jenetics.engine.Serial.EVOLUTION_RESULT
+			.add(JENETICS_ENGINE + 4, EvolutionResult.class,
+				Serializer::writeResult,
+				Serializer::readResult)
+			// io.jenetics.engine.Serial.EVOLUTION_START
+			.add(JENETICS_ENGINE + 5, EvolutionStart.class,
+				Serializer::writeStart,
+				Serializer::readStart);
+	}
+
+
+	/* *************************************************************************
+	 * Codecs of the composite types.
+	 * ************************************************************************/
+
+	private static void writeDuration(
+		final Duration value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeLong(value.getSeconds(), out);
+		writeInt(value.getNano(), out);
+	}
+
+	private static Duration readDuration(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final long seconds = readLong(in);
+		final int nanos = readInt(in);
+		return Readers.create(() -> Duration.ofSeconds(seconds, nanos));
+	}
+
+	private static Optimize optimize(final DataInput in) throws IOException {
+		final int ordinal = in.readByte();
+		final Optimize[] values = Optimize.values();
+		if (ordinal < 0 || ordinal >= values.length) {
+			throw new StreamCorruptedException(format(
+				"Invalid optimization strategy: %d.", ordinal
+			));
+		}
+		return values[ordinal];
+	}
+
+	// The allele arrays are created with a limited initial capacity, since
+	// the chromosome length is not verified yet. They grow with the data
+	// actually read.
+	private static int capacity(final int size, final int length) {
+		return (int)Math.min(2L*size, length);
+	}
+
+	// Reads the given number of values into an array, which grows with the
+	// values actually read.
+	private static double[] readDoubles(final DataInput in, final int length)
+		throws IOException
+	{
+		double[] values = new double[Readers.min(length)];
+		for (int i = 0; i < length; ++i) {
+			if (i == values.length) {
+				values = Arrays.copyOf(values, capacity(i, length));
+			}
+			values[i] = in.readDouble();
+		}
+		return values;
+	}
+
+	private static int[] readInts(final DataInput in, final int length)
+		throws IOException
+	{
+		int[] values = new int[Readers.min(length)];
+		for (int i = 0; i < length; ++i) {
+			if (i == values.length) {
+				values = Arrays.copyOf(values, capacity(i, length));
+			}
+			values[i] = readInt(in);
+		}
+		return values;
+	}
+
+	private static long[] readLongs(final DataInput in, final int length)
+		throws IOException
+	{
+		long[] values = new long[Readers.min(length)];
+		for (int i = 0; i < length; ++i) {
+			if (i == values.length) {
+				values = Arrays.copyOf(values, capacity(i, length));
+			}
+			values[i] = readLong(in);
+		}
+		return values;
+	}
+
+	private static void writeDoubles(final DoubleSeq values, final DataOutput out)
+		throws IOException
+	{
+		for (int i = 0, n = values.length(); i < n; ++i) {
+			out.writeDouble(values.get(i));
+		}
+	}
+
+	private static void writeInts(final IntSeq values, final DataOutput out)
+		throws IOException
+	{
+		for (int i = 0, n = values.length(); i < n; ++i) {
+			writeInt(values.get(i), out);
+		}
+	}
+
+	private static void writeLongs(final LongSeq values, final DataOutput out)
+		throws IOException
+	{
+		for (int i = 0, n = values.length(); i < n; ++i) {
+			writeLong(values.get(i), out);
+		}
+	}
+
+	private static void writeLengthRange(
+		final IntRange lengthRange,
+		final DataOutput out
+	)
+		throws IOException
+	{
+		writeInt(lengthRange.min(), out);
+		writeInt(lengthRange.max(), out);
+	}
+
+	private static IntRange readLengthRange(final DataInput in)
+		throws IOException
+	{
+		final int min = readInt(in);
+		final int max = readInt(in);
+		return Readers.create(() -> IntRange.of(min, max));
+	}
+
+	private static void writeDoubleChromosome(
+		final io.jenetics.DoubleChromosome value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeInt(value.length(), out);
+		writeLengthRange(value.lengthRange(), out);
+		out.writeDouble(value.min());
+		out.writeDouble(value.max());
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			out.writeDouble(value.doubleValue(i));
+		}
+	}
+
+	private static io.jenetics.DoubleChromosome readDoubleChromosome(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final int length = Readers.length(in);
+		final IntRange lengthRange = readLengthRange(in);
+		final double min = in.readDouble();
+		final double max = in.readDouble();
+
+		final DoubleSeq values = DoubleSeq.of(readDoubles(in, length));
+		return Readers.create(() -> io.jenetics.DoubleChromosome
+			.of(values, DoubleRange.of(min, max), lengthRange));
+	}
+
+	private static void writeIntegerChromosome(
+		final io.jenetics.IntegerChromosome value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeInt(value.length(), out);
+		writeLengthRange(value.lengthRange(), out);
+		writeInt(value.min(), out);
+		writeInt(value.max(), out);
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			writeInt(value.intValue(i), out);
+		}
+	}
+
+	private static io.jenetics.IntegerChromosome readIntegerChromosome(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final int length = Readers.length(in);
+		final IntRange lengthRange = readLengthRange(in);
+		final int min = readInt(in);
+		final int max = readInt(in);
+
+		final IntSeq values = IntSeq.of(readInts(in, length));
+		return Readers.create(() -> io.jenetics.IntegerChromosome
+			.of(values, IntRange.of(min, max), lengthRange));
+	}
+
+	private static void writeLongChromosome(
+		final io.jenetics.LongChromosome value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeInt(value.length(), out);
+		writeLengthRange(value.lengthRange(), out);
+		writeLong(value.min(), out);
+		writeLong(value.max(), out);
+		for (int i = 0, n = value.length(); i < n; ++i) {
+			writeLong(value.longValue(i), out);
+		}
+	}
+
+	private static io.jenetics.LongChromosome readLongChromosome(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final int length = Readers.length(in);
+		final IntRange lengthRange = readLengthRange(in);
+		final long min = readLong(in);
+		final long max = readLong(in);
+
+		final LongSeq values = LongSeq.of(readLongs(in, length));
+		return Readers.create(() -> io.jenetics.LongChromosome
+			.of(values, LongRange.of(min, max), lengthRange));
+	}
+
+	private static void writeCharacterChromosome(
+		final io.jenetics.CharacterChromosome value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeString(value.toString(), out);
+		writeLengthRange(value.lengthRange(), out);
+		writeString(value.gene().validChars().toString(), out);
+	}
+
+	private static io.jenetics.CharacterChromosome readCharacterChromosome(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final String alleles = readString(in);
+		final IntRange lengthRange = readLengthRange(in);
+		final CharSeq validChars = new CharSeq(readString(in));
+
+		return Readers.create(() -> io.jenetics.CharacterChromosome
+			.of(alleles, validChars, lengthRange));
+	}
+
+	private static void writePermutation(
+		final io.jenetics.PermutationChromosome<?> value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final ISeq<?> alleles = value.validAlleles();
+		writeInt(alleles.length(), out);
+		for (Object allele : alleles) {
+			serializer.writeObject(allele, out);
+		}
+
+		writeInt(value.length(), out);
+		for (EnumGene<?> gene : value) {
+			writeInt(gene.alleleIndex(), out);
+		}
+	}
+
+	private static io.jenetics.PermutationChromosome<?> readPermutation(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		return Readers.PermutationChromosome
+			.reader(din -> serializer.readObject(din))
+			.read(in);
+	}
+
+	private static void writeGenotype(
+		final io.jenetics.Genotype<?> value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeInt(value.length(), out);
+		for (Object chromosome : value) {
+			serializer.writeObject(chromosome, out);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static io.jenetics.Genotype<?> readGenotype(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final int length = Readers.length(in);
+		final List chromosomes = new ArrayList<>(Readers.min(length));
+		for (int i = 0; i < length; ++i) {
+			chromosomes.add(serializer.readObject(io.jenetics.Chromosome.class, in));
+		}
+
+		return Readers.create(() -> io.jenetics.Genotype.of(chromosomes));
+	}
+
+	private static void writePhenotype(
+		final Phenotype<?, ?> value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeLong(value.generation(), out);
+		writeGenotype(value.genotype(), out, serializer);
+		serializer.writeObject(value.fitnessOptional().orElse(null), out);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Phenotype<?, ?> readPhenotype(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final long generation = readLong(in);
+		final io.jenetics.Genotype genotype = readGenotype(in, serializer);
+		final Comparable fitness = serializer.readObject(Comparable.class, in);
+
+		return Readers.create(() -> fitness != null
+			? Phenotype.of(genotype, generation, fitness)
+			: Phenotype.of(genotype, generation));
+	}
+
+	private static void writePopulation(
+		final ISeq<? extends Phenotype<?, ?>> population,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeInt(population.length(), out);
+		for (Phenotype<?, ?> pt : population) {
+			writePhenotype(pt, out, serializer);
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static ISeq readPopulation(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final int length = Readers.length(in);
+		final List population = new ArrayList<>(Readers.min(length));
+		for (int i = 0; i < length; ++i) {
+			population.add(readPhenotype(in, serializer));
+		}
+		return ISeq.of(population);
+	}
+
+	private static void writeDurations(
+		final EvolutionDurations value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writeDuration(value.offspringSelectionDuration(), out, serializer);
+		writeDuration(value.survivorsSelectionDuration(), out, serializer);
+		writeDuration(value.offspringAlterDuration(), out, serializer);
+		writeDuration(value.offspringFilterDuration(), out, serializer);
+		writeDuration(value.survivorFilterDuration(), out, serializer);
+		writeDuration(value.evaluationDuration(), out, serializer);
+		writeDuration(value.evolveDuration(), out, serializer);
+	}
+
+	private static EvolutionDurations readDurations(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		return EvolutionDurations.of(
+			readDuration(in, serializer),
+			readDuration(in, serializer),
+			readDuration(in, serializer),
+			readDuration(in, serializer),
+			readDuration(in, serializer),
+			readDuration(in, serializer),
+			readDuration(in, serializer)
+		);
+	}
+
+	private static void writeResult(
+		final EvolutionResult<?, ?> value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		out.writeByte(value.optimize().ordinal());
+		writePopulation(value.population(), out, serializer);
+		writeLong(value.generation(), out);
+		writeLong(value.totalGenerations(), out);
+		writeDurations(value.durations(), out, serializer);
+		writeInt(value.killCount(), out);
+		writeInt(value.invalidCount(), out);
+		writeInt(value.alterCount(), out);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static EvolutionResult<?, ?> readResult(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final Optimize optimize = optimize(in);
+		final ISeq population = readPopulation(in, serializer);
+		final long generation = readLong(in);
+		final long totalGenerations = readLong(in);
+		final EvolutionDurations durations = readDurations(in, serializer);
+		final int killCount = readInt(in);
+		final int invalidCount = readInt(in);
+		final int alterCount = readInt(in);
+
+		return Readers.create(() -> EvolutionResult.of(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount
+		));
+	}
+
+	private static void writeStart(
+		final EvolutionStart<?, ?> value,
+		final DataOutput out,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		writePopulation(value.population(), out, serializer);
+		writeLong(value.generation(), out);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static EvolutionStart<?, ?> readStart(
+		final DataInput in,
+		final Serializer serializer
+	)
+		throws IOException
+	{
+		final ISeq population = readPopulation(in, serializer);
+		final long generation = readLong(in);
+		return Readers.create(() -> EvolutionStart.of(population, generation));
+	}
+
+
+	/* *************************************************************************
+	 * Serializer builder.
+	 * ************************************************************************/
+
+	private static final class Entry<T> {
+		final int id;
+		final Class<T> type;
+		final Encoder<? super T> encoder;
+		final Decoder<? extends T> decoder;
+
+		Entry(
+			final int id,
+			final Class<T> type,
+			final Encoder<? super T> encoder,
+			final Decoder<? extends T> decoder
+		) {
+			this.id = id;
+			this.type = type;
+			this.encoder = encoder;
+			this.decoder = decoder;
+		}
+	}
+
+	/**
+	 * Builder class for {@link Serializer} objects.
+	 *
+	 * @see Serializer#builder()
+	 */
+	public static final class Builder {
+
+		private final Map<Class<?>, Entry<?>> _types = new HashMap<>();
+		private final List<Entry<?>> _order = new ArrayList<>();
+		private final Map<Integer, Entry<?>> _decoders = new HashMap<>();
+		private ObjectInputFilter _filter;
+
+		private Builder() {
+		}
+
+		/**
+		 * Enables the Java serialization for {@link Serializable} objects,
+		 * for which no codec is registered. The Java serialized objects are
+		 * only read, if they are accepted by the given {@code filter}.
+		 * Reading an object, which is rejected by the filter, throws an
+		 * {@link InvalidClassException}.
+		 *
+		 * <pre>{@code
+		 * final Serializer serializer = Serializer.builder()
+		 *     .javaSerialization(
+		 *         ObjectInputFilter.Config.createFilter("io.jenetics.ext.moea.*;!*")
+		 *     )
+		 *     .build();
+		 * }</pre>
+		 *
+		 * @param filter the filter for the Java serialized objects
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the {@code filter} is {@code null}
+		 */
+		public Builder javaSerialization(final ObjectInputFilter filter) {
+			_filter = requireNonNull(filter);
+			return this;
+		}
+
+		/**
+		 * Register the codec for the given {@code type}. The encoder is also
+		 * used for sub-types of the given {@code type}, for which no encoder
+		 * is registered. Sub-types are checked in registration order.
+		 *
+		 * @param id the unique type id
+		 * @param type the registered type
+		 * @param encoder the object encoder
+		 * @param decoder the object decoder
+		 * @param <T> the object type
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code id} is not within the
+		 *         range {@code [MIN_TYPE_ID, MAX_TYPE_ID]}, or the {@code id}
+		 *         or the {@code type} is already registered
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public <T> Builder register(
+			final int id,
+			final Class<T> type,
+			final Encoder<? super T> encoder,
+			final Decoder<? extends T> decoder
+		) {
+			return add(checkId(id), type, encoder, decoder);
+		}
+
+		/**
+		 * Register the codec for the given {@code type}, with the given
+		 * {@link Writer} and {@link Reader}.
+		 *
+		 * @see #register(int, Class, Encoder, Decoder)
+		 *
+		 * @param id the unique type id
+		 * @param type the registered type
+		 * @param writer the object writer
+		 * @param reader the object reader
+		 * @param <T> the object type
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code id} is not within the
+		 *         range {@code [MIN_TYPE_ID, MAX_TYPE_ID]}, or the {@code id}
+		 *         or the {@code type} is already registered
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public <T> Builder register(
+			final int id,
+			final Class<T> type,
+			final Writer<? super T> writer,
+			final Reader<? extends T> reader
+		) {
+			return add(checkId(id), type, writer, reader);
+		}
+
+		/**
+		 * Register a decoder for the given type {@code id}, without encoder.
+		 * This allows to read objects, which has been written with an older
+		 * data layout.
+		 *
+		 * @param id the unique type id
+		 * @param decoder the object decoder
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code id} is not within the
+		 *         range {@code [MIN_TYPE_ID, MAX_TYPE_ID]}, or the {@code id}
+		 *         is already registered
+		 * @throws NullPointerException if the {@code decoder} is {@code null}
+		 */
+		public Builder decoder(final int id, final Decoder<?> decoder) {
+			requireNonNull(decoder);
+			addDecoder(checkId(id), new Entry<>(id, Object.class, null, decoder));
+			return this;
+		}
+
+		<T> Builder add(
+			final int id,
+			final Class<T> type,
+			final Writer<? super T> writer,
+			final Reader<? extends T> reader
+		) {
+			requireNonNull(writer);
+			requireNonNull(reader);
+			return add(
+				id,
+				type,
+				(v, out, s) -> writer.write(out, v),
+				(in, s) -> reader.read(in)
+			);
+		}
+
+		<T> Builder add(
+			final int id,
+			final Class<T> type,
+			final Encoder<? super T> encoder,
+			final Decoder<? extends T> decoder
+		) {
+			requireNonNull(type);
+			requireNonNull(encoder);
+			requireNonNull(decoder);
+			if (_types.containsKey(type)) {
+				throw new IllegalArgumentException(format(
+					"Type %s is already registered.", type.getName()
+				));
+			}
+
+			final Entry<T> entry = new Entry<>(id, type, encoder, decoder);
+			addDecoder(id, entry);
+			_types.put(type, entry);
+			_order.add(entry);
+			return this;
+		}
+
+		private void addDecoder(final int id, final Entry<?> entry) {
+			if (_decoders.containsKey(id)) {
+				throw new IllegalArgumentException(format(
+					"Type id %d is already registered.", id
+				));
+			}
+			_decoders.put(id, entry);
+		}
+
+		private static int checkId(final int id) {
+			if (id < MIN_TYPE_ID || id > MAX_TYPE_ID) {
+				throw new IllegalArgumentException(format(
+					"Type id %d not in range [%d, %d].",
+					id, MIN_TYPE_ID, MAX_TYPE_ID
+				));
+			}
+			return id;
+		}
+
+		/**
+		 * Create a new serializer with the registered codecs.
+		 *
+		 * @return a new serializer
+		 */
+		public Serializer build() {
+			return new Serializer(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Writer interface, used for writing objects in a compact binary format.
+ * Writers for the <em>Jenetics</em> base data structures are created by the
+ * {@link Writers} class and can be composed for writing more complex objects.
+ *
+ * <pre>{@code
+ * final Writer<IntegerChromosome> writer = (out, data) -> {
+ *     SerialIO.writeInt(data.length(), out);
+ *     for (IntegerGene gene : data) {
+ *         SerialIO.writeInt(gene.intValue(), out);
+ *     }
+ * };
+ * }</pre>
+ *
+ * @see Reader
+ *
+ * @param <T> the type of the data to write
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface Writer<T> {
+
+	/**
+	 * Write the data to the given data output.
+	 *
+	 * @param out the data output
+	 * @param data the data to write
+	 * @throws IOException if writing the data fails
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	void write(final DataOutput out, final T data) throws IOException;
+
+	/**
+	 * Maps a different data type to the data type of {@code this} writer.
+	 *
+	 * @param mapper the data mapper
+	 * @param <B> the new data type of returned writer
+	 * @return a writer with changed type
+	 * @throws NullPointerException if the given {@code mapper} is {@code null}
+	 */
+	default <B> Writer<B> map(final Function<? super B, ? extends T> mapper) {
+		requireNonNull(mapper);
+		return (out, data) -> write(out, mapper.apply(data));
+	}
+
+}
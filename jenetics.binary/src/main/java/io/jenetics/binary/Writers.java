@@ -0,0 +1,713 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.internal.util.SerialIO.writeString;
+
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * This class contains static fields and methods, for creating chromosome- and
+ * genotype writers for different gene types. The binary format is the
+ * compact counterpart of the XML format of the {@code io.jenetics.xml}
+ * module. Integer and long values are written with a variable length
+ * encoding.
+ *
+ * <pre>{@code
+ * final Writer<Genotype<BitGene> bgw =
+ *     Writers.Genotype.writer(Writers.BitChromosome.writer()));
+ *
+ * final Writer<Genotype<IntegerGene>> igw =
+ *     Writers.Genotype.writer(Writers.IntegerChromosome.writer()));
+ *
+ * final Writer<Genotype<DoubleGene>> dgw =
+ *     Writers.Genotype.writer(Writers.DoubleChromosome.writer()));
+ * }</pre>
+ *
+ * This class also contains some helper methods, which makes it easier to write
+ * Jenetics domain objects to a given output stream. The written data can be
+ * compressed by writing it to a {@link BlockOutputStream}.
+ * <pre>{@code
+ * final List<Genotype<BitGene>> genotypes = ...;
+ * try (OutputStream out = new BlockOutputStream(
+ *     Files.newOutputStream(Paths.get("path"))))
+ * {
+ *     Writers.write(out, genotypes, Writers.BitChromosome.writer());
+ * }
+ * }</pre>
+ *
+ * @see Readers
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Writers {
+	private Writers() {}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.BitChromosome} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * ones-probability: double
+	 * bits: byte[(length + 7)/8]
+	 * }</pre>
+	 */
+	public static final class BitChromosome {
+		private BitChromosome() {}
+
+		/**
+		 * Return a {@link Writer} for {@link io.jenetics.BitChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.BitChromosome> writer() {
+			return (out, data) -> {
+				writeInt(data.length(), out);
+				out.writeDouble(data.oneProbability());
+				out.write(data.toByteArray());
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.BitChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the bit-chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.BitChromosome data
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.CharacterChromosome} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * valid-alleles: string
+	 * alleles: string
+	 * }</pre>
+	 */
+	public static final class CharacterChromosome {
+		private CharacterChromosome() {}
+
+		/**
+		 * Return a {@link Writer} for {@link io.jenetics.CharacterChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.CharacterChromosome> writer() {
+			return (out, data) -> {
+				writeString(data.gene().validChars().toString(), out);
+				writeString(data.toString(), out);
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.CharacterChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.CharacterChromosome data
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.IntegerChromosome} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * min: varint
+	 * max: varint
+	 * alleles: varint[length]
+	 * }</pre>
+	 */
+	public static final class IntegerChromosome {
+		private IntegerChromosome() {}
+
+		/**
+		 * Return the default integer allele writer, which writes the allele
+		 * with a variable length encoding.
+		 *
+		 * @return the default integer allele writer
+		 */
+		public static Writer<Integer> alleleWriter() {
+			return (out, data) -> writeInt(data, out);
+		}
+
+		/**
+		 * Return a {@link Writer} for {@link io.jenetics.IntegerChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.IntegerChromosome> writer() {
+			return (out, data) -> {
+				writeInt(data.length(), out);
+				writeInt(data.min(), out);
+				writeInt(data.max(), out);
+				for (int i = 0, n = data.length(); i < n; ++i) {
+					writeInt(data.get(i).intValue(), out);
+				}
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.IntegerChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.IntegerChromosome data
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.LongChromosome} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * min: varlong
+	 * max: varlong
+	 * alleles: varlong[length]
+	 * }</pre>
+	 */
+	public static final class LongChromosome {
+		private LongChromosome() {}
+
+		/**
+		 * Return the default long allele writer, which writes the allele
+		 * with a variable length encoding.
+		 *
+		 * @return the default long allele writer
+		 */
+		public static Writer<Long> alleleWriter() {
+			return (out, data) -> writeLong(data, out);
+		}
+
+		/**
+		 * Return a {@link Writer} for {@link io.jenetics.LongChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.LongChromosome> writer() {
+			return (out, data) -> {
+				writeInt(data.length(), out);
+				writeLong(data.min(), out);
+				writeLong(data.max(), out);
+				for (int i = 0, n = data.length(); i < n; ++i) {
+					writeLong(data.get(i).longValue(), out);
+				}
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.LongChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.LongChromosome data
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.DoubleChromosome} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * min: double
+	 * max: double
+	 * alleles: double[length]
+	 * }</pre>
+	 */
+	public static final class DoubleChromosome {
+		private DoubleChromosome() {}
+
+		/**
+		 * Return the default double allele writer.
+		 *
+		 * @return the default double allele writer
+		 */
+		public static Writer<Double> alleleWriter() {
+			return DataOutput::writeDouble;
+		}
+
+		/**
+		 * Return a {@link Writer} for {@link io.jenetics.DoubleChromosome}
+		 * objects.
+		 *
+		 * @return a chromosome writer
+		 */
+		public static Writer<io.jenetics.DoubleChromosome> writer() {
+			return (out, data) -> {
+				writeInt(data.length(), out);
+				out.writeDouble(data.min());
+				out.writeDouble(data.max());
+				for (int i = 0, n = data.length(); i < n; ++i) {
+					out.writeDouble(data.get(i).doubleValue());
+				}
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.DoubleChromosome} to the given
+		 * output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static void write(
+			final OutputStream out,
+			final io.jenetics.DoubleChromosome data
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer());
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.PermutationChromosome} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * valid-alleles-length: varint
+	 * valid-alleles: allele[valid-alleles-length]
+	 * length: varint
+	 * order: varint[length]
+	 * }</pre>
+	 */
+	public static final class PermutationChromosome {
+		private PermutationChromosome() {}
+
+		/**
+		 * Create a writer for permutation-chromosomes. How to write the valid
+		 * alleles is defined by the given {@link Writer}.
+		 *
+		 * @param alleleWriter the allele writer
+		 * @param <A> the allele type
+		 * @return a new permutation chromosome writer
+		 * @throws NullPointerException if the given allele {@code writer} is
+		 *         {@code null}
+		 */
+		public static <A> Writer<io.jenetics.PermutationChromosome<A>>
+		writer(final Writer<? super A> alleleWriter) {
+			requireNonNull(alleleWriter);
+
+			return (out, data) -> {
+				final ISeq<A> alleles = data.validAlleles();
+				writeInt(alleles.length(), out);
+				for (A allele : alleles) {
+					alleleWriter.write(out, allele);
+				}
+
+				writeInt(data.length(), out);
+				for (EnumGene<A> gene : data) {
+					writeInt(gene.alleleIndex(), out);
+				}
+			};
+		}
+
+		/**
+		 * Write the given {@link io.jenetics.PermutationChromosome} to the
+		 * given output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the chromosome to write
+		 * @param alleleWriter the allele writer
+		 * @param <A> the allele type
+		 * @throws IOException if the chromosome could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <A> void write(
+			final OutputStream out,
+			final io.jenetics.PermutationChromosome<A> data,
+			final Writer<? super A> alleleWriter
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer(alleleWriter));
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.Genotype} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * chromosomes: chromosome[length]
+	 * }</pre>
+	 */
+	public static final class Genotype {
+		private Genotype() {}
+
+		/**
+		 * Create a writer for genotypes of arbitrary chromosomes. How to write
+		 * the genotypes chromosomes is defined by the given {@link Writer}.
+		 *
+		 * @param writer the chromosome writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a new genotype writer
+		 * @throws NullPointerException if the given chromosome {@code writer}
+		 *         is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Writer<io.jenetics.Genotype<G>> writer(final Writer<? super C> writer) {
+			requireNonNull(writer);
+
+			return (out, data) -> {
+				writeInt(data.length(), out);
+				for (Chromosome<G> chromosome : data) {
+					@SuppressWarnings("unchecked")
+					final C ch = (C)chromosome;
+					writer.write(out, ch);
+				}
+			};
+		}
+
+		/**
+		 * Write the given genotype to the given output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the genotype to write
+		 * @param chromosomeWriter the chromosome writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @throws IOException if the genotype could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final io.jenetics.Genotype<G> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer(chromosomeWriter));
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for
+	 * {@link io.jenetics.Genotype} collections.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * genotypes: genotype[length]
+	 * }</pre>
+	 */
+	public static final class Genotypes {
+		private Genotypes() {}
+
+		/**
+		 * Create a writer for genotypes of arbitrary chromosomes. How to write
+		 * the genotypes chromosomes is defined by the given {@link Writer}.
+		 *
+		 * @param writer the chromosome writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @return a new genotypes writer
+		 * @throws NullPointerException if the given chromosome {@code writer}
+		 *         is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		Writer<Collection<io.jenetics.Genotype<G>>>
+		writer(final Writer<? super C> writer) {
+			final Writer<io.jenetics.Genotype<G>> gtw = Genotype.writer(writer);
+
+			return (out, data) -> {
+				writeInt(data.size(), out);
+				for (io.jenetics.Genotype<G> gt : data) {
+					gtw.write(out, gt);
+				}
+			};
+		}
+
+		/**
+		 * Write the given genotypes to the given output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the genotypes to write
+		 * @param chromosomeWriter the chromosome writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @throws IOException if the genotypes could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		void write(
+			final OutputStream out,
+			final Collection<io.jenetics.Genotype<G>> data,
+			final Writer<? super C> chromosomeWriter
+		)
+			throws IOException
+		{
+			writeObject(out, data, writer(chromosomeWriter));
+		}
+	}
+
+	/**
+	 * This class contains static writer methods for populations, sequences
+	 * of {@link Phenotype} objects.
+	 * <p>
+	 * <b>Binary format</b>
+	 * <pre>{@code
+	 * length: varint
+	 * phenotypes: {
+	 *     generation: varlong
+	 *     evaluated: boolean
+	 *     fitness: fitness (if evaluated)
+	 *     genotype: genotype
+	 * }[length]
+	 * }</pre>
+	 */
+	public static final class Population {
+		private Population() {}
+
+		/**
+		 * Create a writer for populations of arbitrary chromosomes.
+		 *
+		 * @param chromosomeWriter the chromosome writer
+		 * @param fitnessWriter the fitness writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param <F> the fitness type
+		 * @return a new population writer
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>,
+			F extends Comparable<? super F>
+		>
+		Writer<Seq<Phenotype<G, F>>> writer(
+			final Writer<? super C> chromosomeWriter,
+			final Writer<? super F> fitnessWriter
+		) {
+			requireNonNull(fitnessWriter);
+			final Writer<io.jenetics.Genotype<G>> gtw =
+				Genotype.writer(chromosomeWriter);
+
+			return (out, data) -> {
+				writeInt(data.length(), out);
+				for (Phenotype<G, F> pt : data) {
+					writeLong(pt.generation(), out);
+					out.writeBoolean(pt.isEvaluated());
+					if (pt.isEvaluated()) {
+						fitnessWriter.write(out, pt.fitness());
+					}
+					gtw.write(out, pt.genotype());
+				}
+			};
+		}
+
+		/**
+		 * Write the given population to the given output stream.
+		 *
+		 * @param out the target output stream
+		 * @param data the population to write
+		 * @param chromosomeWriter the chromosome writer
+		 * @param fitnessWriter the fitness writer
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param <F> the fitness type
+		 * @throws IOException if the population could not be written
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>,
+			F extends Comparable<? super F>
+		>
+		void write(
+			final OutputStream out,
+			final Seq<Phenotype<G, F>> data,
+			final Writer<? super C> chromosomeWriter,
+			final Writer<? super F> fitnessWriter
+		)
+			throws IOException
+		{
+			writeObject(
+				out,
+				data,
+				Population.<A, G, C, F>writer(chromosomeWriter, fitnessWriter)
+			);
+		}
+	}
+
+	/**
+	 * Write the given genotypes to the given output stream.
+	 *
+	 * @see Genotypes#write(OutputStream, Collection, Writer)
+	 *
+	 * @param out the target output stream
+	 * @param data the genotypes to write
+	 * @param chromosomeWriter the chromosome writer
+	 * @param <A> the allele type
+	 * @param <G> the gene type
+	 * @param <C> the chromosome type
+	 * @throws IOException if the genotypes could not be written
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <
+		A,
+		G extends Gene<A, G>,
+		C extends Chromosome<G>
+	>
+	void write(
+		final OutputStream out,
+		final Collection<io.jenetics.Genotype<G>> data,
+		final Writer<? super C> chromosomeWriter
+	)
+		throws IOException
+	{
+		Genotypes.write(out, data, chromosomeWriter);
+	}
+
+	/**
+	 * Write the given {@code data} object with the given {@code writer} to
+	 * the output stream. The output stream is flushed, but not closed.
+	 *
+	 * @param out the target output stream
+	 * @param data the data to write
+	 * @param writer the data writer
+	 * @param <T> the data type
+	 * @throws IOException if the data could not be written
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <T> void writeObject(
+		final OutputStream out,
+		final T data,
+		final Writer<? super T> writer
+	)
+		throws IOException
+	{
+		requireNonNull(out);
+		requireNonNull(data);
+		requireNonNull(writer);
+
+		final DataOutputStream dout = out instanceof DataOutputStream
+			? (DataOutputStream)out
+			: new DataOutputStream(out);
+		writer.write(dout, data);
+		dout.flush();
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BlockStreamTest {
+
+	@Test(dataProvider = "data")
+	public void writeRead(final byte[] data) throws IOException {
+		final byte[] compressed = compress(data);
+		Assert.assertEquals(decompress(compressed), data);
+	}
+
+	@Test(dataProvider = "data")
+	public void writeReadBytewise(final byte[] data) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (OutputStream bout = new BlockOutputStream(out)) {
+			for (byte b : data) {
+				bout.write(b);
+			}
+		}
+
+		final ByteArrayOutputStream result = new ByteArrayOutputStream();
+		try (InputStream in = new BlockInputStream(
+			new ByteArrayInputStream(out.toByteArray())))
+		{
+			for (int b = in.read(); b != -1; b = in.read()) {
+				result.write(b);
+			}
+		}
+		Assert.assertEquals(result.toByteArray(), data);
+	}
+
+	@DataProvider
+	public Object[][] data() {
+		final Random random = new Random(123);
+		final byte[] noise = new byte[3*BlockOutputStream.BLOCK_SIZE + 17];
+		random.nextBytes(noise);
+
+		final byte[] pattern = new byte[5*BlockOutputStream.BLOCK_SIZE];
+		for (int i = 0; i < pattern.length; ++i) {
+			pattern[i] = (byte)(i%13);
+		}
+
+		return new Object[][] {
+			{new byte[0]},
+			{new byte[]{1, 2, 3}},
+			{noise},
+			{pattern},
+			{new byte[BlockOutputStream.BLOCK_SIZE]}
+		};
+	}
+
+	@Test
+	public void compression() throws IOException {
+		final byte[] data = new byte[10*BlockOutputStream.BLOCK_SIZE];
+		Arrays.fill(data, (byte)7);
+
+		Assert.assertTrue(compress(data).length < data.length/100);
+	}
+
+	@Test
+	public void flush() throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final BlockOutputStream bout = new BlockOutputStream(out);
+		bout.write(new byte[]{1, 2, 3});
+		bout.flush();
+		bout.write(new byte[]{4, 5});
+		bout.close();
+
+		Assert.assertEquals(
+			decompress(out.toByteArray()),
+			new byte[]{1, 2, 3, 4, 5}
+		);
+	}
+
+	@Test(expectedExceptions = EOFException.class)
+	public void missingEndBlock() throws IOException {
+		final byte[] data = compress(new byte[]{1, 2, 3});
+		decompress(Arrays.copyOf(data, data.length - 1));
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void invalidBlockType() throws IOException {
+		decompress(new byte[]{42});
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void writeClosed() throws IOException {
+		final BlockOutputStream out =
+			new BlockOutputStream(new ByteArrayOutputStream());
+		out.close();
+		out.write(1);
+	}
+
+	private static byte[] compress(final byte[] data) throws IOException {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (OutputStream bout = new BlockOutputStream(out)) {
+			bout.write(data);
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] decompress(final byte[] data) throws IOException {
+		try (InputStream in = new BlockInputStream(new ByteArrayInputStream(data))) {
+			return in.readAllBytes();
+		}
+	}
+
+}
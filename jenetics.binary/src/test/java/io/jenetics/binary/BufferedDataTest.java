@@ -0,0 +1,133 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class BufferedDataTest {
+
+	private static final String TEXT = "Jenetics öäü € \u0000";
+
+	private static void write(final DataOutput out, final byte[] bytes)
+		throws IOException
+	{
+		final Random random = new Random(123);
+		for (int i = 0; i < 10_000; ++i) {
+			out.writeBoolean(random.nextBoolean());
+			out.writeByte(random.nextInt());
+			out.writeShort(random.nextInt());
+			out.writeChar(random.nextInt());
+			out.writeInt(random.nextInt());
+			out.writeLong(random.nextLong());
+			out.writeFloat(random.nextFloat());
+			out.writeDouble(random.nextDouble());
+		}
+		out.writeUTF(TEXT);
+		out.write(bytes);
+		out.writeChars("chars");
+		out.writeBytes("bytes\n");
+	}
+
+	private static void read(final DataInput in, final byte[] bytes)
+		throws IOException
+	{
+		final Random random = new Random(123);
+		for (int i = 0; i < 10_000; ++i) {
+			Assert.assertEquals(in.readBoolean(), random.nextBoolean());
+			Assert.assertEquals(in.readByte(), (byte)random.nextInt());
+			Assert.assertEquals(in.readShort(), (short)random.nextInt());
+			Assert.assertEquals(in.readChar(), (char)random.nextInt());
+			Assert.assertEquals(in.readInt(), random.nextInt());
+			Assert.assertEquals(in.readLong(), random.nextLong());
+			Assert.assertEquals(in.readFloat(), random.nextFloat());
+			Assert.assertEquals(in.readDouble(), random.nextDouble());
+		}
+		Assert.assertEquals(in.readUTF(), TEXT);
+
+		final byte[] data = new byte[bytes.length];
+		in.readFully(data);
+		Assert.assertEquals(data, bytes);
+
+		for (char c : "chars".toCharArray()) {
+			Assert.assertEquals(in.readChar(), c);
+		}
+		Assert.assertEquals(in.readLine(), "bytes");
+	}
+
+	private static byte[] bytes() {
+		final byte[] bytes = new byte[20_000];
+		new Random(456).nextBytes(bytes);
+		return bytes;
+	}
+
+	@Test
+	public void compatibleOutput() throws IOException {
+		final byte[] bytes = bytes();
+
+		final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		write(new DataOutputStream(expected), bytes);
+
+		final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		final BufferedDataOutput out = new BufferedDataOutput(actual);
+		write(out, bytes);
+		out.flush();
+
+		Assert.assertEquals(actual.toByteArray(), expected.toByteArray());
+	}
+
+	@Test
+	public void compatibleInput() throws IOException {
+		final byte[] bytes = bytes();
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(new DataOutputStream(out), bytes);
+
+		read(
+			new BufferedDataInput(new ByteArrayInputStream(out.toByteArray())),
+			bytes
+		);
+		read(
+			new DataInputStream(new ByteArrayInputStream(out.toByteArray())),
+			bytes
+		);
+	}
+
+	@Test(expectedExceptions = EOFException.class)
+	public void readBeyondEnd() throws IOException {
+		final DataInput in =
+			new BufferedDataInput(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+		in.readInt();
+	}
+
+}
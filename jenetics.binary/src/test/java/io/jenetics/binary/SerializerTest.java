@@ -0,0 +1,406 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.StreamCorruptedException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Optimize;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.IntSeq;
+import io.jenetics.util.LongRange;
+import io.jenetics.util.LongSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SerializerTest {
+
+	@Test(dataProvider = "objects")
+	public void writeRead(final Object object) throws IOException {
+		final byte[] data = write(Serializer.DEFAULT, object);
+		final Object result = read(Serializer.DEFAULT, data);
+
+		if (object instanceof double[]) {
+			Assert.assertEquals((double[])result, (double[])object);
+		} else if (object instanceof int[]) {
+			Assert.assertEquals((int[])result, (int[])object);
+		} else if (object instanceof long[]) {
+			Assert.assertEquals((long[])result, (long[])object);
+		} else {
+			Assert.assertEquals(result, object);
+		}
+	}
+
+	@DataProvider
+	public Object[][] objects() {
+		return new Object[][] {
+			{null},
+			{true},
+			{42},
+			{-42L},
+			{3.5F},
+			{Math.PI},
+			{"some string"},
+			{new BigInteger("-1234567890123456789012345678901234567890")},
+			{new int[]{1, 2, 3}},
+			{new long[]{-1, Long.MAX_VALUE}},
+			{new double[]{1.5, Double.NaN}},
+			{Duration.ofSeconds(123, 456)},
+			{Optimize.MINIMUM},
+			{ISeq.of(1, "2", 3.0)},
+			{DoubleGene.of(0.5, 0, 1)},
+			{IntegerGene.of(5, 0, 10)},
+			{LongGene.of(5, 0, 10)},
+			{BitChromosome.of(100, 0.3)},
+			{CharacterChromosome.of(20)},
+			{IntegerChromosome.of(-1000, 1000, 10)},
+			{LongChromosome.of(-1000, 1000, 10)},
+			{DoubleChromosome.of(0, 10, 10)},
+			{DoubleChromosome.of(0, 10, IntRange.of(5, 15))},
+			{IntegerChromosome.of(0, 10, IntRange.of(5, 15))},
+			{LongChromosome.of(0, 10, IntRange.of(5, 15))},
+			{CharacterChromosome.of(IntRange.of(5, 15))},
+			{PermutationChromosome.ofInteger(20)},
+			{PermutationChromosome.of(ISeq.of("a", "b", "c", "d"))},
+			{Genotype.of(
+				DoubleChromosome.of(0, 1, 5),
+				DoubleChromosome.of(1, 2, 3))},
+			{Phenotype.of(Genotype.of(IntegerChromosome.of(0, 10, 5)), 3)},
+			{Phenotype.of(Genotype.of(IntegerChromosome.of(0, 10, 5)), 3, 1.5)},
+			{DoubleRange.of(-1, 1)},
+			{IntRange.of(-1, 1)},
+			{LongRange.of(-1, 1)},
+			{DoubleSeq.of(1.5, -2, Double.MAX_VALUE)},
+			{DoubleSeq.empty()},
+			{IntSeq.of(-1, 0, Integer.MAX_VALUE)},
+			{LongSeq.of(Long.MIN_VALUE, 0, 1)},
+			{durations()},
+			{EvolutionStart.of(population(10), 5)},
+			{result()}
+		};
+	}
+
+	@Test
+	public void smallerThanJavaSerialization() throws IOException {
+		final EvolutionResult<DoubleGene, Double> result = result();
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IO.object.write(result, out);
+
+		final byte[] data = write(Serializer.DEFAULT, result);
+		Assert.assertTrue(
+			data.length < out.size(),
+			data.length + " >= " + out.size()
+		);
+	}
+
+	@Test
+	public void registerType() throws IOException {
+		final Serializer serializer = Serializer.builder()
+			.register(
+				Serializer.MIN_TYPE_ID,
+				Point.class,
+				(p, out, s) -> {
+					out.writeDouble(p.x);
+					out.writeDouble(p.y);
+				},
+				(in, s) -> new Point(in.readDouble(), in.readDouble())
+			)
+			.build();
+
+		final ISeq<Point> points = ISeq.of(new Point(1, 2), new Point(3, 4));
+		Assert.assertEquals(read(serializer, write(serializer, points)), points);
+	}
+
+	@Test
+	public void legacyDecoder() throws IOException {
+		// Version 1 of the point encoding.
+		final Serializer v1 = Serializer.builder()
+			.register(
+				Serializer.MIN_TYPE_ID,
+				Point.class,
+				(p, out, s) -> {
+					out.writeFloat((float)p.x);
+					out.writeFloat((float)p.y);
+				},
+				(in, s) -> new Point(in.readFloat(), in.readFloat())
+			)
+			.build();
+
+		// Version 2 of the point encoding, which can read version 1.
+		final Serializer v2 = Serializer.builder()
+			.decoder(
+				Serializer.MIN_TYPE_ID,
+				(in, s) -> new Point(in.readFloat(), in.readFloat())
+			)
+			.register(
+				Serializer.MIN_TYPE_ID + 1,
+				Point.class,
+				(p, out, s) -> {
+					out.writeDouble(p.x);
+					out.writeDouble(p.y);
+				},
+				(in, s) -> new Point(in.readDouble(), in.readDouble())
+			)
+			.build();
+
+		final Point point = new Point(1.5, 2.5);
+		Assert.assertEquals(read(v2, write(v1, point)), point);
+		Assert.assertEquals(read(v2, write(v2, point)), point);
+	}
+
+	@Test
+	public void readWithoutRandomConsumption() throws IOException {
+		final byte[] data = write(
+			Serializer.DEFAULT,
+			DoubleChromosome.of(-5, 5, IntRange.of(3, 30))
+		);
+
+		final Random random = new Random(123);
+		final int expected = new Random(123).nextInt();
+		RandomRegistry.using(random, r -> {
+			try {
+				read(Serializer.DEFAULT, data);
+			} catch (IOException e) {
+				throw new AssertionError(e);
+			}
+		});
+		Assert.assertEquals(random.nextInt(), expected);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void registerReservedId() {
+		Serializer.builder().register(
+			Serializer.MIN_TYPE_ID - 1,
+			Point.class,
+			(p, out, s) -> {},
+			(in, s) -> null
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void registerExistingType() {
+		Serializer.builder().register(
+			Serializer.MIN_TYPE_ID,
+			Double.class,
+			(p, out, s) -> {},
+			(in, s) -> null
+		);
+	}
+
+	@Test(expectedExceptions = NotSerializableException.class)
+	public void writeUnknownType() throws IOException {
+		write(Serializer.DEFAULT, new Point(1, 2));
+	}
+
+	@Test
+	public void javaSerialization() throws IOException {
+		final Serializer serializer = Serializer.builder()
+			.javaSerialization(
+				ObjectInputFilter.Config.createFilter("java.util.ArrayList;java.lang.*;!*")
+			)
+			.build();
+
+		final List<String> list = new ArrayList<>(List.of("a", "b"));
+		Assert.assertEquals(read(serializer, write(serializer, list)), list);
+	}
+
+	@Test(expectedExceptions = NotSerializableException.class)
+	public void writeJavaObjectNotEnabled() throws IOException {
+		write(Serializer.DEFAULT, new ArrayList<>(List.of("a", "b")));
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void readJavaObjectNotEnabled() throws IOException {
+		final Serializer serializer = Serializer.builder()
+			.javaSerialization(info -> ObjectInputFilter.Status.ALLOWED)
+			.build();
+
+		read(Serializer.DEFAULT, write(serializer, new ArrayList<>(List.of("a"))));
+	}
+
+	@Test(expectedExceptions = InvalidClassException.class)
+	public void readRejectedJavaObject() throws IOException {
+		final Serializer writer = Serializer.builder()
+			.javaSerialization(info -> ObjectInputFilter.Status.ALLOWED)
+			.build();
+		final Serializer reader = Serializer.builder()
+			.javaSerialization(
+				ObjectInputFilter.Config.createFilter("java.util.LinkedList;!*")
+			)
+			.build();
+
+		read(reader, write(writer, new ArrayList<>(List.of("a"))));
+	}
+
+	@Test(expectedExceptions = EOFException.class)
+	public void readTruncatedChromosome() throws IOException {
+		final byte[] data = write(Serializer.DEFAULT, DoubleChromosome.of(0, 1, 1));
+
+		// Header (5 bytes) and type id (2 bytes) are followed by the length
+		// of the chromosome (1 byte), which is replaced by a huge length.
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(data, 0, 7);
+		writeInt(Integer.MAX_VALUE - 1, new DataOutputStream(out));
+		out.write(data, 8, data.length - 8);
+
+		read(Serializer.DEFAULT, out.toByteArray());
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void readUnknownType() throws IOException {
+		final Serializer serializer = Serializer.builder()
+			.register(
+				Serializer.MIN_TYPE_ID,
+				Point.class,
+				(p, out, s) -> {},
+				(in, s) -> new Point(0, 0)
+			)
+			.build();
+
+		read(Serializer.DEFAULT, write(serializer, new Point(1, 2)));
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void readInvalidHeader() throws IOException {
+		read(Serializer.DEFAULT, new byte[]{1, 2, 3, 4, 5});
+	}
+
+	@Test(expectedExceptions = InvalidClassException.class)
+	public void readInvalidType() throws IOException {
+		Serializer.DEFAULT.read(
+			Genotype.class,
+			new ByteArrayInputStream(write(Serializer.DEFAULT, 42))
+		);
+	}
+
+	private static byte[] write(final Serializer serializer, final Object value)
+		throws IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		serializer.write(value, out);
+		return out.toByteArray();
+	}
+
+	private static Object read(final Serializer serializer, final byte[] data)
+		throws IOException
+	{
+		return serializer.read(Object.class, new ByteArrayInputStream(data));
+	}
+
+	private static EvolutionDurations durations() {
+		return EvolutionDurations.of(
+			Duration.ofMillis(1),
+			Duration.ofMillis(2),
+			Duration.ofMillis(3),
+			Duration.ofMillis(4),
+			Duration.ofMillis(5),
+			Duration.ofMillis(6),
+			Duration.ofMillis(7)
+		);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> population(final int size) {
+		final Random random = new Random(123);
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 1, 10));
+
+		return ISeq.of(
+			() -> Phenotype.of(
+				gtf.newInstance(),
+				random.nextInt(10) + 1,
+				random.nextDouble()
+			),
+			size
+		);
+	}
+
+	private static EvolutionResult<DoubleGene, Double> result() {
+		return EvolutionResult.of(
+			Optimize.MAXIMUM,
+			population(100),
+			12,
+			100,
+			durations(),
+			1,
+			2,
+			3
+		);
+	}
+
+	private static final class Point {
+		final double x;
+		final double y;
+
+		Point(final double x, final double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public int hashCode() {
+			return Double.hashCode(x) ^ Double.hashCode(y);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Point &&
+				((Point)obj).x == x &&
+				((Point)obj).y == y;
+		}
+	}
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.binary;
+
+import static java.util.Collections.emptyList;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class WriteReadTest {
+
+	@FunctionalInterface
+	interface Write<T> {
+		void write(final OutputStream out, final T data) throws Exception;
+	}
+
+	@FunctionalInterface
+	interface Read<T> {
+		T read(final InputStream in) throws Exception;
+	}
+
+	@Test(dataProvider = "marshallings")
+	public <T> void writeRead(
+		final T data,
+		final Write<T> writer,
+		final Read<T> reader
+	)
+		throws Exception
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writer.write(out, data);
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		Assert.assertEquals(reader.read(in), data);
+		Assert.assertEquals(in.available(), 0);
+	}
+
+	@Test(dataProvider = "marshallings")
+	public <T> void writeReadCompressed(
+		final T data,
+		final Write<T> writer,
+		final Read<T> reader
+	)
+		throws Exception
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (OutputStream bout = new BlockOutputStream(out)) {
+			writer.write(bout, data);
+		}
+
+		final ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+		try (InputStream bin = new BlockInputStream(in)) {
+			Assert.assertEquals(reader.read(bin), data);
+			Assert.assertEquals(bin.read(), -1);
+		}
+	}
+
+	@DataProvider
+	public Object[][] marshallings() {
+		return new Object[][] {
+			{
+				BitChromosome.of(10),
+				(Write<io.jenetics.BitChromosome>)Writers.BitChromosome::write,
+				(Read<io.jenetics.BitChromosome>)Readers.BitChromosome::read
+			},
+			{
+				BitChromosome.of(1001, 0.3),
+				(Write<io.jenetics.BitChromosome>)Writers.BitChromosome::write,
+				(Read<io.jenetics.BitChromosome>)Readers.BitChromosome::read
+			},
+			{
+				BitChromosome.of(100_001, 0.5),
+				(Write<io.jenetics.BitChromosome>)Writers.BitChromosome::write,
+				(Read<io.jenetics.BitChromosome>)Readers.BitChromosome::read
+			},
+			{
+				CharacterChromosome.of(5),
+				(Write<io.jenetics.CharacterChromosome>)Writers.CharacterChromosome::write,
+				(Read<io.jenetics.CharacterChromosome>)Readers.CharacterChromosome::read
+			},
+			{
+				IntegerChromosome.of(0, 1_000_000, 20),
+				(Write<io.jenetics.IntegerChromosome>)Writers.IntegerChromosome::write,
+				(Read<io.jenetics.IntegerChromosome>)Readers.IntegerChromosome::read
+			},
+			{
+				IntegerChromosome.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 20),
+				(Write<io.jenetics.IntegerChromosome>)Writers.IntegerChromosome::write,
+				(Read<io.jenetics.IntegerChromosome>)Readers.IntegerChromosome::read
+			},
+			{
+				LongChromosome.of(0, 1_000_000, 20),
+				(Write<io.jenetics.LongChromosome>)Writers.LongChromosome::write,
+				(Read<io.jenetics.LongChromosome>)Readers.LongChromosome::read
+			},
+			{
+				DoubleChromosome.of(0, 1_000_000, 20),
+				(Write<io.jenetics.DoubleChromosome>)Writers.DoubleChromosome::write,
+				(Read<io.jenetics.DoubleChromosome>)Readers.DoubleChromosome::read
+			},
+			{
+				PermutationChromosome.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+				(Write<io.jenetics.PermutationChromosome<Integer>>)
+					(out, data) -> Writers.PermutationChromosome.write(out, data, Writers.IntegerChromosome.alleleWriter()),
+				(Read<io.jenetics.PermutationChromosome<Integer>>)
+					in -> Readers.PermutationChromosome.read(in, Readers.IntegerChromosome.alleleReader())
+			},
+			{
+				Genotype.of(DoubleChromosome.of(0, 1, 2), 20),
+				(Write<io.jenetics.Genotype<DoubleGene>>)
+					(out, data) -> Writers.Genotype.write(out, data, Writers.DoubleChromosome.writer()),
+				(Read<io.jenetics.Genotype<DoubleGene>>)
+					in -> Readers.Genotype.read(in, Readers.DoubleChromosome.reader())
+			},
+			{
+				Genotype.of(DoubleChromosome.of(0, 1, 10), 10)
+					.instances()
+					.limit(20)
+					.collect(Collectors.toList()),
+				(Write<Collection<Genotype<DoubleGene>>>)
+					(out, data) -> Writers.Genotypes.write(out, data, Writers.DoubleChromosome.writer()),
+				(Read<Collection<Genotype<DoubleGene>>>)
+					in -> Readers.Genotypes.read(in, Readers.DoubleChromosome.reader())
+			},
+			{
+				Genotype.of(DoubleChromosome.of(0, 1, 100), 10)
+					.instances()
+					.limit(200)
+					.collect(Collectors.toList()),
+				(Write<Collection<Genotype<DoubleGene>>>)
+					(out, data) -> Writers.write(out, data, Writers.DoubleChromosome.writer()),
+				(Read<Collection<Genotype<DoubleGene>>>)
+					in -> Readers.read(in, Readers.DoubleChromosome.reader())
+			},
+			{
+				emptyList(),
+				(Write<Collection<Genotype<DoubleGene>>>)
+					(out, data) -> Writers.Genotypes.write(out, data, Writers.DoubleChromosome.writer()),
+				(Read<Collection<Genotype<DoubleGene>>>)
+					in -> Readers.Genotypes.read(in, Readers.DoubleChromosome.reader())
+			},
+			{
+				population(50),
+				(Write<Seq<Phenotype<IntegerGene, Double>>>)
+					(out, data) -> Writers.Population.write(
+						out, data,
+						Writers.IntegerChromosome.writer(),
+						Writers.DoubleChromosome.alleleWriter()),
+				(Read<Seq<Phenotype<IntegerGene, Double>>>)
+					in -> Readers.Population.read(
+						in,
+						Readers.IntegerChromosome.reader(),
+						Readers.DoubleChromosome.alleleReader())
+			}
+		};
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Double>> population(final int size) {
+		final Random random = new Random(123);
+		final Genotype<IntegerGene> gtf =
+			Genotype.of(IntegerChromosome.of(-100, 100, 10), 3);
+
+		return ISeq.of(
+			() -> {
+				final Genotype<IntegerGene> gt = gtf.newInstance();
+				final long generation = random.nextInt(1000);
+				return random.nextBoolean()
+					? Phenotype.of(gt, generation, random.nextDouble())
+					: Phenotype.of(gt, generation);
+			},
+			size
+		);
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void readInvalidAllele() throws Exception {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.IntegerChromosome.write(out, IntegerChromosome.of(0, 10, 5));
+
+		// Replace the last allele with a value outside the valid range.
+		final byte[] data = out.toByteArray();
+		data[data.length - 1] = 42;
+
+		Readers.IntegerChromosome.read(new ByteArrayInputStream(data));
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void readNegativeLength() throws Exception {
+		// Zig-zag encoding of -1.
+		final byte[] data = {1};
+		Readers.Genotypes.read(
+			new ByteArrayInputStream(data),
+			Readers.DoubleChromosome.reader()
+		);
+	}
+
+	@Test(dataProvider = "chromosomeReaders", expectedExceptions = EOFException.class)
+	public void readTruncatedChromosome(final Reader<?> reader, final byte[] gene)
+		throws Exception
+	{
+		// The stream announces the maximal chromosome length, but contains
+		// only the gene parameters and a single allele.
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeInt(Integer.MAX_VALUE, out);
+		out.write(gene);
+		out.flush();
+
+		Readers.readObject(new ByteArrayInputStream(bytes.toByteArray()), reader);
+	}
+
+	@DataProvider(name = "chromosomeReaders")
+	public Object[][] chromosomeReaders() {
+		// Zig-zag encoded range [0, 1] and allele 1.
+		final byte[] integer = {0, 2, 2};
+		final byte[] dbl = ByteBuffer.allocate(24)
+			.putDouble(0).putDouble(1).putDouble(0.5)
+			.array();
+		// Ones probability and a single byte of bits.
+		final byte[] bit = ByteBuffer.allocate(9)
+			.putDouble(0.5).put((byte)1)
+			.array();
+
+		return new Object[][] {
+			{Readers.IntegerChromosome.reader(), integer},
+			{Readers.LongChromosome.reader(), integer},
+			{Readers.DoubleChromosome.reader(), dbl},
+			{Readers.BitChromosome.reader(), bit}
+		};
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UFTournamentSelectorPerf {
+
+	@State(Scope.Benchmark)
+	public static class Population {
+
+		@Param({"1000", "5000"})
+		public int size;
+
+		// Number of different fitness values in the population.
+		@Param({"10", "1000000"})
+		public int values;
+
+		ISeq<Phenotype<DoubleGene, Vec<double[]>>> population;
+
+		@Setup
+		public void setup() {
+			final Random random = new Random(123);
+			final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+
+			population = ISeq.of(
+				() -> Phenotype.of(
+					gt,
+					1L,
+					Vec.of(
+						random.nextInt(values)/(double)values,
+						random.nextInt(values)/(double)values
+					)
+				),
+				size
+			);
+		}
+	}
+
+	private final Selector<DoubleGene, Vec<double[]>> _selector =
+		UFTournamentSelector.ofVec();
+
+	@Benchmark
+	public Object select(final Population population) {
+		return _selector.select(
+			population.population,
+			population.size,
+			Optimize.MAXIMUM
+		);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final Options opt = new OptionsBuilder()
+			.include(".*" + UFTournamentSelectorPerf.class.getSimpleName() + ".*")
+			.warmupIterations(3)
+			.measurementIterations(5)
+			.threads(1)
+			.forks(1)
+			.build();
+
+		new Runner(opt).run();
+	}
+
+}
@@ -0,0 +1,704 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readBytes;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeBytes;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Writes periodic snapshots of a running evolution to a file, which allows to
+ * resume long-running evolution streams after a crash or restart. The
+ * snapshot contains the population, the generation, the evolution statistics
+ * of the last generation and, if it is serializable, the state of the
+ * {@link RandomRegistry#random()} engine.
+ * <p>
+ * The snapshots are written by a background thread, the evolution stream is
+ * never blocked. If the writing of a snapshot takes longer than the creation
+ * of the next one, the pending snapshot is replaced by the newer one. The
+ * snapshot is first written into a temporary file, which then atomically
+ * replaces the current snapshot file. The previous snapshot files are kept,
+ * as {@code <file>.1}, {@code <file>.2}, ..., and are used by the
+ * {@link #read(Path, PhenotypeCodec)} method, if the newest one is not
+ * readable.
+ * <p>
+ * The written random engine is the {@link RandomRegistry#random()} of the
+ * thread, which creates the snapshot. If the registry uses thread-local
+ * random engines, e.g. set with {@link RandomRegistry#random(ThreadLocal)},
+ * the random engines of the other threads are not part of the snapshot. The
+ * restored random engine then doesn't reproduce the original run.
+ *
+ * <pre>{@code
+ * final Path file = Paths.get("evolution.ckp");
+ * final PhenotypeCodec<DoubleGene, Double> codec = ...;
+ *
+ * try (var checkpoint = Checkpoint.builder(file, codec).interval(50).build()) {
+ *     final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *         .interceptor(checkpoint)
+ *         .build();
+ *
+ *     // Resume from the last snapshot, if available.
+ *     final EvolutionStream<DoubleGene, Double> stream = Checkpoint
+ *         .read(file, codec)
+ *         .map(snapshot -> engine.stream(snapshot.start()))
+ *         .orElseGet(engine::stream);
+ *
+ *     final Phenotype<DoubleGene, Double> best = stream
+ *         .limit(bySteadyFitness(1000))
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }
+ * }</pre>
+ *
+ * The checkpoint can also be used as stream stage, e.g. for evolutions which
+ * are not created by an {@link io.jenetics.engine.Engine}:
+ * {@code stream.peek(checkpoint)}.
+ *
+ * @implNote
+ * The snapshot file starts with a magic number and a format version, followed
+ * by the result values and the population, encoded with the given
+ * {@link PhenotypeCodec}. Integer and long values are written with a variable
+ * length encoding. The file ends with a CRC-32 checksum of its content.
+ *
+ * @see PhenotypeCodec
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Checkpoint<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements
+		EvolutionInterceptor<G, C>,
+		Consumer<EvolutionResult<G, C>>,
+		Closeable
+{
+
+	private static final int MAGIC = 0x4A434B50;
+	private static final int VERSION = 1;
+	private static final int MAX_RANDOM_SIZE = 1 << 16;
+
+	private final Path _path;
+	private final PhenotypeCodec<G, C> _codec;
+	private final int _interval;
+	private final int _keep;
+	private final boolean _random;
+
+	private final ExecutorService _writer;
+	private final AtomicReference<Snapshot<G, C>> _pending =
+		new AtomicReference<>();
+	private volatile IOException _error;
+
+	private Checkpoint(
+		final Path path,
+		final PhenotypeCodec<G, C> codec,
+		final int interval,
+		final int keep,
+		final boolean random
+	) {
+		_path = requireNonNull(path);
+		_codec = requireNonNull(codec);
+		_interval = interval;
+		_keep = keep;
+		_random = random;
+
+		_writer = Executors.newSingleThreadExecutor(task -> {
+			final Thread thread = new Thread(task, "jenetics-checkpoint");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Return the path of the snapshot file.
+	 *
+	 * @return the path of the snapshot file
+	 */
+	public Path path() {
+		return _path;
+	}
+
+	/**
+	 * Creates a new snapshot of the given {@code result}, if the result
+	 * generation is a multiple of the checkpoint interval. The result is not
+	 * changed.
+	 *
+	 * @param result the evolution result
+	 * @return the unchanged evolution {@code result}
+	 * @throws UncheckedIOException if the writing of a previous snapshot failed
+	 */
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		accept(result);
+		return result;
+	}
+
+	/**
+	 * Creates a new snapshot of the given {@code result}, if the result
+	 * generation is a multiple of the checkpoint interval.
+	 *
+	 * @param result the evolution result
+	 * @throws UncheckedIOException if the writing of a previous snapshot failed
+	 */
+	@Override
+	public void accept(final EvolutionResult<G, C> result) {
+		final IOException error = _error;
+		if (error != null) {
+			throw new UncheckedIOException(error);
+		}
+
+		if (result.generation()%_interval == 0) {
+			final Snapshot<G, C> snapshot =
+				new Snapshot<>(result, _random ? random() : null);
+
+			if (_pending.getAndSet(snapshot) == null) {
+				_writer.execute(this::write);
+			}
+		}
+	}
+
+	private static byte[] random() {
+		final Random random = RandomRegistry.random();
+		if (random instanceof Serializable &&
+			!(random instanceof ThreadLocalRandom))
+		{
+			try {
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+					out.writeObject(random);
+				}
+				return bytes.toByteArray();
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
+		return null;
+	}
+
+	private void write() {
+		final Snapshot<G, C> snapshot = _pending.getAndSet(null);
+		if (snapshot != null) {
+			try {
+				write(snapshot);
+			} catch (IOException e) {
+				_error = e;
+			} catch (RuntimeException | Error e) {
+				// Unexpected failures must also stop the evolution stream.
+				_error = new IOException(format(
+					"Writing checkpoint file '%s' failed.", _path
+				), e);
+				if (e instanceof Error) {
+					throw (Error)e;
+				}
+			}
+		}
+	}
+
+	private void write(final Snapshot<G, C> snapshot) throws IOException {
+		final Path temp = _path.resolveSibling(_path.getFileName() + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temp, CREATE, WRITE, TRUNCATE_EXISTING)) {
+			final OutputStream os = new BufferedOutputStream(
+				Channels.newOutputStream(channel)
+			);
+			final CheckedOutputStream cos = new CheckedOutputStream(os, new CRC32());
+			final DataOutputStream out = new DataOutputStream(cos);
+			write(snapshot, _codec, out);
+			out.flush();
+
+			new DataOutputStream(os).writeLong(cos.getChecksum().getValue());
+			os.flush();
+			channel.force(true);
+		}
+
+		rotate();
+		Files.move(temp, _path, REPLACE_EXISTING, ATOMIC_MOVE);
+	}
+
+	private void rotate() throws IOException {
+		if (_keep > 0 && Files.exists(_path)) {
+			for (int i = _keep - 1; i > 0; --i) {
+				final Path file = backup(_path, i);
+				if (Files.exists(file)) {
+					Files.move(file, backup(_path, i + 1), REPLACE_EXISTING);
+				}
+			}
+			Files.move(_path, backup(_path, 1), REPLACE_EXISTING);
+		}
+	}
+
+	private static Path backup(final Path path, final int index) {
+		return path.resolveSibling(path.getFileName() + "." + index);
+	}
+
+	/**
+	 * Writes the pending snapshot and stops the background thread. This
+	 * method blocks until the pending snapshot has been written.
+	 *
+	 * @throws IOException if the writing of a snapshot failed
+	 */
+	@Override
+	public void close() throws IOException {
+		_writer.shutdown();
+		try {
+			_writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		final IOException error = _error;
+		if (error != null) {
+			throw error;
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Snapshot encoding.
+	 * ************************************************************************/
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	void write(
+		final Snapshot<G, C> snapshot,
+		final PhenotypeCodec<G, C> codec,
+		final DataOutputStream out
+	)
+		throws IOException
+	{
+		final EvolutionResult<G, C> result = snapshot.result();
+		final EvolutionDurations durations = result.durations();
+
+		out.writeInt(MAGIC);
+		writeInt(VERSION, out);
+
+		writeInt(result.optimize().ordinal(), out);
+		writeLong(result.generation(), out);
+		writeLong(result.totalGenerations(), out);
+		writeInt(result.killCount(), out);
+		writeInt(result.invalidCount(), out);
+		writeInt(result.alterCount(), out);
+		writeLong(durations.offspringSelectionDuration().toNanos(), out);
+		writeLong(durations.survivorsSelectionDuration().toNanos(), out);
+		writeLong(durations.offspringAlterDuration().toNanos(), out);
+		writeLong(durations.offspringFilterDuration().toNanos(), out);
+		writeLong(durations.survivorFilterDuration().toNanos(), out);
+		writeLong(durations.evaluationDuration().toNanos(), out);
+		writeLong(durations.evolveDuration().toNanos(), out);
+
+		out.writeBoolean(snapshot._random != null);
+		if (snapshot._random != null) {
+			writeBytes(snapshot._random, out);
+		}
+
+		final ISeq<Phenotype<G, C>> population = result.population();
+		writeInt(population.size(), out);
+		for (Phenotype<G, C> pt : population) {
+			codec.write(pt, out);
+		}
+	}
+
+	// Verifies the checksum of the whole file, before its content is parsed.
+	// This way corrupt length values are never used for allocating memory.
+	private static void verify(final Path path) throws IOException {
+		final long size = Files.size(path);
+		if (size < Long.BYTES) {
+			throw new StreamCorruptedException(format(
+				"Invalid size %d of checkpoint file '%s'.", size, path
+			));
+		}
+
+		try (InputStream is = new BufferedInputStream(Files.newInputStream(path))) {
+			final CRC32 crc = new CRC32();
+			final byte[] buffer = new byte[8192];
+
+			long remaining = size - Long.BYTES;
+			while (remaining > 0) {
+				final int read = is.read(
+					buffer, 0, (int)Math.min(buffer.length, remaining)
+				);
+				if (read < 0) {
+					throw new EOFException();
+				}
+				crc.update(buffer, 0, read);
+				remaining -= read;
+			}
+
+			if (new DataInputStream(is).readLong() != crc.getValue()) {
+				throw new StreamCorruptedException(format(
+					"Invalid checksum of checkpoint file '%s'.", path
+				));
+			}
+		}
+	}
+
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Snapshot<G, C> readSnapshot(final Path path, final PhenotypeCodec<G, C> codec)
+		throws IOException
+	{
+		verify(path);
+
+		try (InputStream is = new BufferedInputStream(Files.newInputStream(path))) {
+			final DataInputStream in = new DataInputStream(is);
+
+			if (in.readInt() != MAGIC) {
+				throw new StreamCorruptedException(format(
+					"'%s' is not a checkpoint file.", path
+				));
+			}
+			final int version = readInt(in);
+			if (version != VERSION) {
+				throw new StreamCorruptedException(format(
+					"Unsupported checkpoint version %d of file '%s'.",
+					version, path
+				));
+			}
+
+			final Optimize optimize = Optimize.values()[readInt(in)];
+			final long generation = readLong(in);
+			final long totalGenerations = readLong(in);
+			final int killCount = readInt(in);
+			final int invalidCount = readInt(in);
+			final int alterCount = readInt(in);
+			final EvolutionDurations durations = EvolutionDurations.of(
+				Duration.ofNanos(readLong(in)),
+				Duration.ofNanos(readLong(in)),
+				Duration.ofNanos(readLong(in)),
+				Duration.ofNanos(readLong(in)),
+				Duration.ofNanos(readLong(in)),
+				Duration.ofNanos(readLong(in)),
+				Duration.ofNanos(readLong(in))
+			);
+
+			byte[] random = null;
+			if (in.readBoolean()) {
+				random = readBytes(in);
+				if (random.length > MAX_RANDOM_SIZE) {
+					throw new StreamCorruptedException(format(
+						"Invalid random state size %d of file '%s'.",
+						random.length, path
+					));
+				}
+			}
+
+			final int size = readInt(in);
+			if (size < 0) {
+				throw new StreamCorruptedException(format(
+					"Invalid population size %d of file '%s'.", size, path
+				));
+			}
+			final List<Phenotype<G, C>> population = new ArrayList<>();
+			for (int i = 0; i < size; ++i) {
+				population.add(codec.read(in));
+			}
+
+			// Only the (already verified) checksum must be left.
+			in.readLong();
+			if (in.read() != -1) {
+				throw new StreamCorruptedException(format(
+					"Invalid content of checkpoint file '%s'.", path
+				));
+			}
+
+			return new Snapshot<>(
+				EvolutionResult.of(
+					optimize,
+					ISeq.of(population),
+					generation,
+					totalGenerations,
+					durations,
+					killCount,
+					invalidCount,
+					alterCount
+				),
+				random
+			);
+		} catch (RuntimeException e) {
+			throw new StreamCorruptedException(format(
+				"Invalid checkpoint file '%s': %s", path, e
+			));
+		}
+	}
+
+	/**
+	 * Reads the newest, valid snapshot of the given snapshot file. If the
+	 * given file is not readable, the previous snapshots, {@code <file>.1},
+	 * {@code <file>.2}, ..., are tried.
+	 *
+	 * @param path the path of the snapshot file
+	 * @param codec the codec used for reading the population
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the newest, valid snapshot, or {@link Optional#empty()} if no
+	 *         snapshot file exists
+	 * @throws IOException if snapshot files exist, but none of them is valid
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<Snapshot<G, C>>
+	read(final Path path, final PhenotypeCodec<G, C> codec) throws IOException {
+		requireNonNull(path);
+		requireNonNull(codec);
+
+		IOException error = null;
+		for (int i = 0; i == 0 || Files.exists(backup(path, i)); ++i) {
+			final Path file = i == 0 ? path : backup(path, i);
+			if (Files.exists(file)) {
+				try {
+					return Optional.of(readSnapshot(file, codec));
+				} catch (IOException e) {
+					if (error == null) {
+						error = e;
+					} else {
+						error.addSuppressed(e);
+					}
+				}
+			}
+		}
+
+		if (error != null) {
+			throw error;
+		}
+		return Optional.empty();
+	}
+
+
+	/* *************************************************************************
+	 * Inner classes.
+	 * ************************************************************************/
+
+	/**
+	 * A snapshot of an evolution, read from a snapshot file.
+	 *
+	 * @see Checkpoint#read(Path, PhenotypeCodec)
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 */
+	public static final class Snapshot<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final EvolutionResult<G, C> _result;
+		private final byte[] _random;
+
+		private Snapshot(final EvolutionResult<G, C> result, final byte[] random) {
+			_result = requireNonNull(result);
+			_random = random;
+		}
+
+		/**
+		 * Return the evolution result of the snapshot. The durations of the
+		 * result are the durations of the snapshot generation.
+		 *
+		 * @return the evolution result of the snapshot
+		 */
+		public EvolutionResult<G, C> result() {
+			return _result;
+		}
+
+		/**
+		 * Return the evolution start object, which can be used for resuming
+		 * the evolution with the {@link io.jenetics.engine.Engine#stream(EvolutionStart)}
+		 * method. The evolution is continued with the generation following
+		 * the snapshot generation.
+		 *
+		 * @return the evolution start object of the snapshot
+		 */
+		public EvolutionStart<G, C> start() {
+			return _result.next();
+		}
+
+		/**
+		 * Return the random engine, with the state at the time the snapshot
+		 * was created. The random engine is only available, if it was
+		 * serializable. It can be restored with
+		 * {@code snapshot.random().ifPresent(RandomRegistry::random)}.
+		 *
+		 * @return the random engine of the snapshot, if available
+		 */
+		public Optional<Random> random() {
+			if (_random == null) {
+				return Optional.empty();
+			}
+
+			try (ObjectInputStream in =
+					new ObjectInputStream(new ByteArrayInputStream(_random)))
+			{
+				return Optional.of((Random)in.readObject());
+			} catch (IOException | ClassNotFoundException | ClassCastException e) {
+				return Optional.empty();
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Builder
+	 * ************************************************************************/
+
+	/**
+	 * Return a new checkpoint builder for the given snapshot file.
+	 *
+	 * @param path the path of the snapshot file
+	 * @param codec the codec used for writing the population
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new checkpoint builder
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Path path, final PhenotypeCodec<G, C> codec) {
+		return new Builder<>(path, codec);
+	}
+
+	/**
+	 * Builder class for the {@link Checkpoint}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Path _path;
+		private final PhenotypeCodec<G, C> _codec;
+
+		private int _interval = 10;
+		private int _keep = 1;
+		private boolean _random = true;
+
+		private Builder(final Path path, final PhenotypeCodec<G, C> codec) {
+			_path = requireNonNull(path);
+			_codec = requireNonNull(codec);
+		}
+
+		/**
+		 * The number of generations between two snapshots. <i>Default value
+		 * is set to {@code 10}.</i>
+		 *
+		 * @param generations the snapshot interval
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code generations < 1}
+		 */
+		public Builder<G, C> interval(final int generations) {
+			_interval = Requires.positive(generations);
+			return this;
+		}
+
+		/**
+		 * The number of previous snapshot files, which are kept. <i>Default
+		 * value is set to {@code 1}.</i>
+		 *
+		 * @param count the number of kept previous snapshot files
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code count < 0}
+		 */
+		public Builder<G, C> keep(final int count) {
+			_keep = Requires.nonNegative(count);
+			return this;
+		}
+
+		/**
+		 * Set whether the state of the random engine is written to the
+		 * snapshot. Only the random engine of the thread, which creates the
+		 * snapshot, is written. <i>Default value is set to {@code true}.</i>
+		 *
+		 * @param random {@code true} if the random engine state is written
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> random(final boolean random) {
+			_random = random;
+			return this;
+		}
+
+		/**
+		 * Create a new checkpoint from the current builder values.
+		 *
+		 * @return a new checkpoint
+		 */
+		public Checkpoint<G, C> build() {
+			return new Checkpoint<>(_path, _codec, _interval, _keep, _random);
+		}
+
+	}
+
+}
@@ -0,0 +1,368 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evolution;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+
+/**
+ * One island of a <em>distributed</em> island model, where every island is
+ * evolved by its own process. The islands exchange their migrants via a
+ * {@link MigrationTransport}, using the given {@link PhenotypeCodec}.
+ * <p>
+ * Every {@link Builder#migrationInterval(int)} generations, the island sends
+ * its best individuals to the target islands of the
+ * {@link MigrationTopology}. The received migrants are integrated into the
+ * population after every evolution step, where they replace the worst
+ * individuals. Since the island never waits for incoming migrants, it keeps
+ * evolving, even if a peer is slow or not available. Messages which can't be
+ * decoded, e.g. truncated or corrupted ones, are dropped and counted by
+ * {@link #rejectedMessages()}.
+ * <p>
+ * The fitness values and generations of received migrants are not trusted.
+ * The migrants are re-evaluated by the engine of the island and are treated
+ * as newly created individuals. Migrants, which violate the
+ * {@link Engine#constraint()} of the island, are dropped. This way a peer
+ * can't inject individuals with forged fitness values.
+ *
+ * <pre>{@code
+ * // Started in every process, with its own island index.
+ * final MigrationTransport transport =
+ *     MigrationTransport.ofSocket(island, addresses);
+ *
+ * final DistributedIsland<DoubleGene, Double> engine = DistributedIsland
+ *     .builder(
+ *         Engine.builder(problem).build(),
+ *         transport,
+ *         PhenotypeCodec.ofDoubleGenes(
+ *             (fitness, out) -> out.writeDouble(fitness),
+ *             DataInput::readDouble
+ *         ))
+ *     .topology(MigrationTopology.ring())
+ *     .migrationInterval(20)
+ *     .build();
+ *
+ * try (transport) {
+ *     final Phenotype<DoubleGene, Double> best = engine.stream()
+ *         .limit(1000)
+ *         .collect(EvolutionResult.toBestPhenotype());
+ * }
+ * }</pre>
+ *
+ * @see IslandEngine
+ * @see MigrationTransport
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class DistributedIsland<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evolution<G, C>, EvolutionStreamable<G, C>
+{
+
+	private final Engine<G, C> _engine;
+	private final MigrationTransport _transport;
+	private final PhenotypeCodec<G, C> _codec;
+	private final MigrationTopology _topology;
+	private final int _interval;
+	private final int _migrants;
+	private final Selector<G, C> _emigrantSelector;
+
+	private final AtomicLong _rejectedMessages = new AtomicLong();
+
+	private DistributedIsland(
+		final Engine<G, C> engine,
+		final MigrationTransport transport,
+		final PhenotypeCodec<G, C> codec,
+		final MigrationTopology topology,
+		final int interval,
+		final int migrants,
+		final Selector<G, C> emigrantSelector
+	) {
+		_engine = requireNonNull(engine);
+		_transport = requireNonNull(transport);
+		_codec = requireNonNull(codec);
+		_topology = requireNonNull(topology);
+		_interval = interval;
+		_migrants = migrants;
+		_emigrantSelector = requireNonNull(emigrantSelector);
+	}
+
+	/**
+	 * Return the transport used by this island.
+	 *
+	 * @return the transport used by this island
+	 */
+	public MigrationTransport transport() {
+		return _transport;
+	}
+
+	/**
+	 * Return the number of received messages, which have been dropped,
+	 * because they couldn't be decoded.
+	 *
+	 * @return the number of dropped messages
+	 */
+	public long rejectedMessages() {
+		return _rejectedMessages.get();
+	}
+
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final EvolutionResult<G, C> result = _engine.evolve(start);
+
+		final ISeq<Phenotype<G, C>> immigrants = immigrants(result.generation());
+		final ISeq<Phenotype<G, C>> population = immigrants.nonEmpty()
+			? IslandEngine.replace(
+				result.population(),
+				immigrants.asList(),
+				result.optimize())
+			: result.population();
+
+		if (result.generation()%_interval == 0) {
+			emigrate(population, result);
+		}
+
+		return population == result.population()
+			? result
+			: EvolutionResult.of(
+				result.optimize(),
+				population,
+				result.generation(),
+				result.durations(),
+				result.killCount(),
+				result.invalidCount(),
+				result.alterCount()
+			);
+	}
+
+	// Decodes all migrants, received since the last evolution step. Invalid
+	// messages of a peer must not stop the evolution of this island. The
+	// fitness values of the peers are replaced by locally evaluated ones.
+	private ISeq<Phenotype<G, C>> immigrants(final long generation) {
+		final List<Phenotype<G, C>> immigrants = new ArrayList<>();
+		for (byte[] message : _transport.receive()) {
+			try {
+				final List<Phenotype<G, C>> migrants = new ArrayList<>();
+				for (Phenotype<G, C> pt : _codec.decode(message)) {
+					final Phenotype<G, C> migrant =
+						Phenotype.of(pt.genotype(), generation);
+					if (_engine.constraint().test(migrant)) {
+						migrants.add(migrant);
+					}
+				}
+				immigrants.addAll(migrants);
+			} catch (RuntimeException e) {
+				_rejectedMessages.incrementAndGet();
+			}
+		}
+
+		return immigrants.isEmpty()
+			? ISeq.empty()
+			: _engine.eval(ISeq.of(immigrants));
+	}
+
+	private void emigrate(
+		final ISeq<Phenotype<G, C>> population,
+		final EvolutionResult<G, C> result
+	) {
+		final int count = Math.min(_migrants, population.size());
+		final int[] targets =
+			_topology.targets(_transport.island(), _transport.islands());
+
+		if (count > 0 && targets.length > 0) {
+			final byte[] message = _codec.encode(
+				_emigrantSelector.select(population, count, result.optimize())
+			);
+			for (int target : targets) {
+				_transport.send(target, message);
+			}
+		}
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		return EvolutionStream.ofEvolution(start, this);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		final long generation = init.generation();
+		final ISeq<Phenotype<G, C>> population = init.population()
+			.map(gt -> Phenotype.of(gt, generation));
+
+		return stream(() -> EvolutionStart.of(population, generation));
+	}
+
+	/**
+	 * Return a new builder for a distributed island.
+	 *
+	 * @param engine the engine, which evolves the island population
+	 * @param transport the transport, which connects the island with its peers
+	 * @param codec the codec of the exchanged migrants
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new distributed island builder
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(
+		final Engine<G, C> engine,
+		final MigrationTransport transport,
+		final PhenotypeCodec<G, C> codec
+	) {
+		return new Builder<>(engine, transport, codec);
+	}
+
+
+	/* *************************************************************************
+	 * Distributed island builder
+	 * ************************************************************************/
+
+	/**
+	 * Builder class for building a new {@link DistributedIsland}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final Engine<G, C> _engine;
+		private final MigrationTransport _transport;
+		private final PhenotypeCodec<G, C> _codec;
+
+		private MigrationTopology _topology = MigrationTopology.ring();
+		private int _interval = 10;
+		private int _migrants = 1;
+		private Selector<G, C> _emigrantSelector = new TruncationSelector<>();
+
+		private Builder(
+			final Engine<G, C> engine,
+			final MigrationTransport transport,
+			final PhenotypeCodec<G, C> codec
+		) {
+			_engine = requireNonNull(engine);
+			_transport = requireNonNull(transport);
+			_codec = requireNonNull(codec);
+		}
+
+		/**
+		 * The migration topology. <i>Default value is set to
+		 * {@link MigrationTopology#ring()}.</i>
+		 *
+		 * @param topology the migration topology
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> topology(final MigrationTopology topology) {
+			_topology = requireNonNull(topology);
+			return this;
+		}
+
+		/**
+		 * The number of generations between two migrations. <i>Default value
+		 * is set to {@code 10}.</i>
+		 *
+		 * @param generations the migration interval
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code generations < 1}
+		 */
+		public Builder<G, C> migrationInterval(final int generations) {
+			_interval = Requires.positive(generations);
+			return this;
+		}
+
+		/**
+		 * The number of individuals the island sends to each of its target
+		 * islands. <i>Default value is set to {@code 1}.</i>
+		 *
+		 * @param count the number of migrants
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code count < 0}
+		 */
+		public Builder<G, C> migrants(final int count) {
+			_migrants = Requires.nonNegative(count);
+			return this;
+		}
+
+		/**
+		 * The selector used for selecting the emigrants of the island.
+		 * <i>Default value is set to {@link TruncationSelector}, which
+		 * selects the best individuals.</i>
+		 *
+		 * @param selector the emigrant selector
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> emigrantSelector(final Selector<G, C> selector) {
+			_emigrantSelector = requireNonNull(selector);
+			return this;
+		}
+
+		/**
+		 * Builds a new {@code DistributedIsland} instance from the set
+		 * properties.
+		 *
+		 * @return a new {@code DistributedIsland} instance
+		 */
+		public DistributedIsland<G, C> build() {
+			return new DistributedIsland<>(
+				_engine,
+				_transport,
+				_codec,
+				_topology,
+				_interval,
+				_migrants,
+				_emigrantSelector
+			);
+		}
+	}
+
+}
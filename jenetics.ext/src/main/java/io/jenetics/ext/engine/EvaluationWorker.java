@@ -0,0 +1,323 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.ext.engine.Sockets.daemon;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.internal.util.SerialIO.writeString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+
+/**
+ * Worker of the master-worker fitness evaluation, which evaluates the
+ * genotype batches, sent by a {@link RemoteEvaluator}. The worker listens on
+ * the given socket address and evaluates the received batches concurrently,
+ * with the given executor. A worker can be started in its own process, or
+ * within the JVM of the evaluator, e.g. for testing.
+ *
+ * <pre>{@code
+ * final EvaluationWorker<DoubleGene, Double> worker = EvaluationWorker.start(
+ *     new InetSocketAddress(4711),
+ *     problem.fitness().compose(problem.codec().decoder()),
+ *     codec
+ * );
+ * }</pre>
+ *
+ * <b>Protocol</b>
+ * <p>
+ * All messages are sent as length-prefixed frames. A request contains the
+ * batch id and the genotypes to evaluate. The response contains the batch id
+ * and a status flag, followed by the fitness values, in the order of the
+ * requested genotypes, or by an error message.
+ *
+ * @see RemoteEvaluator
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvaluationWorker<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Closeable
+{
+
+	private final ServerSocket _server;
+	private final Function<? super Genotype<G>, ? extends C> _fitness;
+	private final PhenotypeCodec<G, C> _codec;
+	private final Executor _executor;
+
+	private final Set<Socket> _connections = ConcurrentHashMap.newKeySet();
+	private volatile boolean _closed = false;
+
+	private EvaluationWorker(
+		final ServerSocket server,
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final PhenotypeCodec<G, C> codec,
+		final Executor executor
+	) {
+		_server = requireNonNull(server);
+		_fitness = requireNonNull(fitness);
+		_codec = requireNonNull(codec);
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Return the socket address the worker is listening on.
+	 *
+	 * @return the socket address of the worker
+	 */
+	public InetSocketAddress address() {
+		return (InetSocketAddress)_server.getLocalSocketAddress();
+	}
+
+	private void accept() {
+		int failures = 0;
+		while (!_closed) {
+			try {
+				final Socket socket = _server.accept();
+				failures = 0;
+
+				_connections.add(socket);
+				if (_closed) {
+					_connections.remove(socket);
+					socket.close();
+				} else {
+					socket.setTcpNoDelay(true);
+					daemon(() -> serve(socket), "evaluation-worker-reader").start();
+				}
+			} catch (IOException e) {
+				// Continue accepting new connections, after a short delay.
+				if (!_closed && !Sockets.backoff(++failures)) {
+					return;
+				}
+			}
+		}
+	}
+
+	private void serve(final Socket socket) {
+		try (socket) {
+			final DataInputStream in = new DataInputStream(
+				new BufferedInputStream(socket.getInputStream())
+			);
+			final DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(socket.getOutputStream())
+			);
+
+			while (!_closed) {
+				final byte[] request = Sockets.readFrame(in);
+				_executor.execute(() -> respond(request, out));
+			}
+		} catch (IOException ignore) {
+			// Connection closed by the evaluator.
+		} finally {
+			_connections.remove(socket);
+		}
+	}
+
+	private void respond(final byte[] request, final DataOutputStream out) {
+		try {
+			final byte[] response = evaluate(request);
+			synchronized (out) {
+				Sockets.writeFrame(response, out);
+			}
+		} catch (IOException ignore) {
+			// The evaluator will re-dispatch the batch.
+		}
+	}
+
+	byte[] evaluate(final byte[] request) throws IOException {
+		final DataInputStream in =
+			new DataInputStream(new ByteArrayInputStream(request));
+		final long id = readLong(in);
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeLong(id, out);
+
+		try {
+			final int count = readInt(in);
+			final List<C> fitness = new ArrayList<>();
+			for (int i = 0; i < count; ++i) {
+				fitness.add(_fitness.apply(_codec.readGenotype(in)));
+			}
+
+			final ByteArrayOutputStream values = new ByteArrayOutputStream();
+			final DataOutputStream vout = new DataOutputStream(values);
+			writeInt(count, vout);
+			for (C value : fitness) {
+				_codec.writeFitness(value, vout);
+			}
+			vout.flush();
+
+			out.writeBoolean(true);
+			out.write(values.toByteArray());
+		} catch (RuntimeException | IOException e) {
+			out.writeBoolean(false);
+			writeString(String.valueOf(e), out);
+		}
+
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public void close() throws IOException {
+		_closed = true;
+		try {
+			_server.close();
+		} finally {
+			for (Socket socket : _connections) {
+				socket.close();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("EvaluationWorker[address=%s]", address());
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Starts a new evaluation worker, which listens on the given
+	 * {@code address}.
+	 *
+	 * @param address the socket address the worker is listening on
+	 * @param fitness the fitness function
+	 * @param codec the codec for reading the genotypes and writing the
+	 *        fitness values
+	 * @param executor the executor used for evaluating the received batches
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new, running, evaluation worker
+	 * @throws IOException if the listening socket can't be opened
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluationWorker<G, C> start(
+		final InetSocketAddress address,
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final PhenotypeCodec<G, C> codec,
+		final Executor executor
+	)
+		throws IOException
+	{
+		requireNonNull(address);
+
+		final ServerSocket server = new ServerSocket();
+		server.setReuseAddress(true);
+		server.bind(address);
+
+		final EvaluationWorker<G, C> worker =
+			new EvaluationWorker<>(server, fitness, codec, executor);
+		daemon(worker::accept, "evaluation-worker-acceptor").start();
+
+		return worker;
+	}
+
+	/**
+	 * Starts a new evaluation worker, which listens on the given
+	 * {@code address} and uses the {@link ForkJoinPool#commonPool()} for
+	 * evaluating the received batches.
+	 *
+	 * @param address the socket address the worker is listening on
+	 * @param fitness the fitness function
+	 * @param codec the codec for reading the genotypes and writing the
+	 *        fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new, running, evaluation worker
+	 * @throws IOException if the listening socket can't be opened
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluationWorker<G, C> start(
+		final InetSocketAddress address,
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final PhenotypeCodec<G, C> codec
+	)
+		throws IOException
+	{
+		return start(address, fitness, codec, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Starts a new, JVM local, evaluation worker, which listens on a free
+	 * port of the loopback address. This worker is mainly useful for testing.
+	 *
+	 * @param fitness the fitness function
+	 * @param codec the codec for reading the genotypes and writing the
+	 *        fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new, running, evaluation worker
+	 * @throws IOException if the listening socket can't be opened
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvaluationWorker<G, C> local(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final PhenotypeCodec<G, C> codec
+	)
+		throws IOException
+	{
+		return start(
+			new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+			fitness,
+			codec
+		);
+	}
+
+}
@@ -0,0 +1,486 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.Evolution;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * The {@code IslandEngine} evolves several sub-populations (<em>islands</em>)
+ * concurrently, each with its own {@link Engine}. Every
+ * {@link Builder#migrationInterval(int)} generations, the best individuals of
+ * every island <em>migrate</em> to the islands defined by the
+ * {@link MigrationTopology}, where they replace the worst individuals.
+ *
+ * <pre> {@code
+ *    +----------+  migrants  +----------+
+ *    | Engine 1 |----------->| Engine 2 |
+ *    +----------+            +----------+
+ *         ^                       |
+ *         |       migrants        |
+ *         +-----------------------+
+ * }</pre>
+ *
+ * The populations of the islands are merged into the population of the
+ * emitted {@link EvolutionResult}, island by island. Since the islands are
+ * evolved in parallel, the number of islands, and not the population size of
+ * one engine, determines the achievable parallelism. Each island uses the
+ * executor of its engine for its own evolution step. This allows to give
+ * every island its own executor <em>slice</em>.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .populationSize(500)
+ *     .build();
+ *
+ * final IslandEngine<DoubleGene, Double> islands = IslandEngine
+ *     .builder(engine, 16)
+ *     .topology(MigrationTopology.torus(4))
+ *     .migrationInterval(20)
+ *     .migrants(5)
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> best = islands.stream()
+ *     .limit(Limits.bySteadyFitness(100))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }</pre>
+ *
+ * @see MigrationTopology
+ * @see ConcatEngine
+ * @see CyclicEngine
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evolution<G, C>, EvolutionStreamable<G, C>
+{
+
+	private final List<Engine<G, C>> _engines;
+	private final MigrationTopology _topology;
+	private final int _interval;
+	private final int _migrants;
+	private final Selector<G, C> _emigrantSelector;
+	private final Executor _executor;
+	private final Optimize _optimize;
+
+	private IslandEngine(
+		final List<Engine<G, C>> engines,
+		final MigrationTopology topology,
+		final int interval,
+		final int migrants,
+		final Selector<G, C> emigrantSelector,
+		final Executor executor
+	) {
+		_engines = List.copyOf(engines);
+		_topology = requireNonNull(topology);
+		_interval = interval;
+		_migrants = migrants;
+		_emigrantSelector = requireNonNull(emigrantSelector);
+		_executor = requireNonNull(executor);
+		_optimize = _engines.get(0).optimize();
+	}
+
+	/**
+	 * Return the number of islands.
+	 *
+	 * @return the number of islands
+	 */
+	public int islands() {
+		return _engines.size();
+	}
+
+	/**
+	 * Return the overall population size, which is the sum of the population
+	 * sizes of the island engines.
+	 *
+	 * @return the overall population size
+	 */
+	public int populationSize() {
+		return _engines.stream().mapToInt(Engine::populationSize).sum();
+	}
+
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final List<ISeq<Phenotype<G, C>>> populations =
+			split(start.population());
+
+		final List<CompletableFuture<EvolutionResult<G, C>>> futures =
+			new ArrayList<>(_engines.size());
+		for (int i = 0; i < _engines.size(); ++i) {
+			final Engine<G, C> engine = _engines.get(i);
+			final EvolutionStart<G, C> island =
+				EvolutionStart.of(populations.get(i), start.generation());
+
+			futures.add(supplyAsync(() -> engine.evolve(island), _executor));
+		}
+
+		final List<EvolutionResult<G, C>> results = futures.stream()
+			.map(CompletableFuture::join)
+			.collect(Collectors.toList());
+
+		final List<ISeq<Phenotype<G, C>>> evolved = results.stream()
+			.map(EvolutionResult::population)
+			.collect(Collectors.toList());
+
+		final List<ISeq<Phenotype<G, C>>> migrated =
+			start.generation()%_interval == 0
+				? migrate(evolved, _topology, _emigrantSelector, _migrants, _optimize)
+				: evolved;
+
+		return EvolutionResult.of(
+			_optimize,
+			migrated.stream()
+				.flatMap(ISeq::stream)
+				.collect(ISeq.toISeq()),
+			start.generation(),
+			results.stream()
+				.map(EvolutionResult::durations)
+				.reduce(EvolutionDurations.ZERO, EvolutionDurations::plus),
+			results.stream().mapToInt(EvolutionResult::killCount).sum(),
+			results.stream().mapToInt(EvolutionResult::invalidCount).sum(),
+			results.stream().mapToInt(EvolutionResult::alterCount).sum()
+		);
+	}
+
+	// Splits the given population into the island populations. Missing
+	// individuals are created by the island engines.
+	private List<ISeq<Phenotype<G, C>>>
+	split(final ISeq<Phenotype<G, C>> population) {
+		final List<ISeq<Phenotype<G, C>>> populations =
+			new ArrayList<>(_engines.size());
+
+		int offset = 0;
+		for (Engine<G, C> engine : _engines) {
+			final int start = Math.min(offset, population.size());
+			final int end =
+				Math.min(offset + engine.populationSize(), population.size());
+			populations.add(population.subSeq(start, end));
+			offset += engine.populationSize();
+		}
+
+		return populations;
+	}
+
+	/**
+	 * Performs the migration between the given island {@code populations}.
+	 * The emigrants of every island are selected with the given
+	 * {@code selector} and replace the worst individuals of the target
+	 * islands.
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	List<ISeq<Phenotype<G, C>>> migrate(
+		final List<ISeq<Phenotype<G, C>>> populations,
+		final MigrationTopology topology,
+		final Selector<G, C> selector,
+		final int migrants,
+		final Optimize optimize
+	) {
+		final int islands = populations.size();
+		final List<List<Phenotype<G, C>>> immigrants = new ArrayList<>(islands);
+		for (int i = 0; i < islands; ++i) {
+			immigrants.add(new ArrayList<>());
+		}
+
+		for (int i = 0; i < islands; ++i) {
+			final ISeq<Phenotype<G, C>> population = populations.get(i);
+			final int count = Math.min(migrants, population.size());
+			if (count > 0) {
+				final ISeq<Phenotype<G, C>> emigrants =
+					selector.select(population, count, optimize);
+
+				for (int target : topology.targets(i, islands)) {
+					immigrants.get(target).addAll(emigrants.asList());
+				}
+			}
+		}
+
+		final List<ISeq<Phenotype<G, C>>> result = new ArrayList<>(islands);
+		for (int i = 0; i < islands; ++i) {
+			result.add(replace(populations.get(i), immigrants.get(i), optimize));
+		}
+		return result;
+	}
+
+	// Replaces the worst individuals of the population with the immigrants.
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	ISeq<Phenotype<G, C>> replace(
+		final ISeq<Phenotype<G, C>> population,
+		final List<Phenotype<G, C>> immigrants,
+		final Optimize optimize
+	) {
+		if (immigrants.isEmpty()) {
+			return population;
+		}
+
+		// Worst individuals first.
+		final MSeq<Phenotype<G, C>> result = population.copy();
+		result.sort(optimize.ascending());
+
+		final int count = Math.min(immigrants.size(), result.size());
+		for (int i = 0; i < count; ++i) {
+			result.set(i, immigrants.get(i));
+		}
+		return result.toISeq();
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		return EvolutionStream.ofEvolution(start, this);
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		final long generation = init.generation();
+		final ISeq<Phenotype<G, C>> population = init.population()
+			.map(gt -> Phenotype.of(gt, generation));
+
+		return stream(() -> EvolutionStart.of(population, generation));
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new island engine builder for the given island
+	 * {@code engines}.
+	 *
+	 * @param engines the engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if the {@code engines} or one of its
+	 *         elements is {@code null}
+	 * @throws IllegalArgumentException if the {@code engines} list is empty
+	 *         or the engines don't have the same optimization strategy
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final List<? extends Engine<G, C>> engines) {
+		return new Builder<>(engines);
+	}
+
+	/**
+	 * Return a new island engine builder, where every of the given number of
+	 * {@code islands} uses the same {@code engine}. This is possible, since
+	 * an {@link Engine} is immutable and thread-safe.
+	 *
+	 * @param engine the engine used by every island
+	 * @param islands the number of islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine builder
+	 * @throws NullPointerException if the {@code engine} is {@code null}
+	 * @throws IllegalArgumentException if {@code islands < 1}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(final Engine<G, C> engine, final int islands) {
+		requireNonNull(engine);
+		return builder(Collections.nCopies(Requires.positive(islands), engine));
+	}
+
+	/**
+	 * Create a new island engine for the given {@code engines}, with the
+	 * default migration parameters.
+	 *
+	 * @param engines the engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if one of the {@code engines} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if no {@code engines} are given or the
+	 *         engines don't have the same optimization strategy
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(final Engine<G, C>... engines) {
+		return builder(List.of(engines)).build();
+	}
+
+
+	/* *************************************************************************
+	 * Island engine builder
+	 * ************************************************************************/
+
+	/**
+	 * Builder class for building a new {@link IslandEngine}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final List<Engine<G, C>> _engines;
+
+		private MigrationTopology _topology = MigrationTopology.ring();
+		private int _interval = 10;
+		private int _migrants = 1;
+		private Selector<G, C> _emigrantSelector = new TruncationSelector<>();
+		private Executor _executor = ForkJoinPool.commonPool();
+
+		private Builder(final List<? extends Engine<G, C>> engines) {
+			engines.forEach(Objects::requireNonNull);
+			if (engines.isEmpty()) {
+				throw new IllegalArgumentException(
+					"At least one island engine must be given."
+				);
+			}
+
+			final Optimize optimize = engines.get(0).optimize();
+			for (Engine<G, C> engine : engines) {
+				if (engine.optimize() != optimize) {
+					throw new IllegalArgumentException(format(
+						"All island engines must use the same optimization " +
+						"strategy, but got %s and %s.",
+						optimize, engine.optimize()
+					));
+				}
+			}
+
+			_engines = new ArrayList<>(engines);
+		}
+
+		/**
+		 * The migration topology. <i>Default value is set to
+		 * {@link MigrationTopology#ring()}.</i>
+		 *
+		 * @param topology the migration topology
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> topology(final MigrationTopology topology) {
+			_topology = requireNonNull(topology);
+			return this;
+		}
+
+		/**
+		 * The number of generations between two migrations. <i>Default value
+		 * is set to {@code 10}.</i>
+		 *
+		 * @param generations the migration interval
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code generations < 1}
+		 */
+		public Builder<G, C> migrationInterval(final int generations) {
+			_interval = Requires.positive(generations);
+			return this;
+		}
+
+		/**
+		 * The number of individuals an island sends to each of its target
+		 * islands. <i>Default value is set to {@code 1}.</i>
+		 *
+		 * @param count the number of migrants
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code count < 0}
+		 */
+		public Builder<G, C> migrants(final int count) {
+			_migrants = Requires.nonNegative(count);
+			return this;
+		}
+
+		/**
+		 * The selector used for selecting the emigrants of an island.
+		 * <i>Default value is set to {@link TruncationSelector}, which
+		 * selects the best individuals.</i>
+		 *
+		 * @param selector the emigrant selector
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> emigrantSelector(final Selector<G, C> selector) {
+			_emigrantSelector = requireNonNull(selector);
+			return this;
+		}
+
+		/**
+		 * The executor used for evolving the islands concurrently. The
+		 * island engines use their own executors for the evolution steps.
+		 * <i>Default value is set to {@link ForkJoinPool#commonPool()}.</i>
+		 *
+		 * @param executor the executor used for evolving the islands
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> executor(final Executor executor) {
+			_executor = requireNonNull(executor);
+			return this;
+		}
+
+		/**
+		 * Builds a new {@code IslandEngine} instance from the set properties.
+		 *
+		 * @return a new {@code IslandEngine} instance from the set properties
+		 */
+		public IslandEngine<G, C> build() {
+			return new IslandEngine<>(
+				_engines,
+				_topology,
+				_interval,
+				_migrants,
+				_emigrantSelector,
+				_executor
+			);
+		}
+	}
+
+}
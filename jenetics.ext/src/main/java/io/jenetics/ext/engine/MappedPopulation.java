@@ -0,0 +1,958 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.collection.Array;
+import io.jenetics.internal.collection.ArrayISeq;
+import io.jenetics.internal.collection.ObjectStore;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Columnar binary file format for (huge) populations of numeric genotypes.
+ * Every chromosome of the genotype is stored as a fixed-width column of
+ * primitive values, followed by the fitness and the generation columns. The
+ * population file is written column-wise, with buffered positional writes,
+ * and read via {@link FileChannel#map(MapMode, long, long)}. Columns which
+ * exceed the maximal mapping size of {@link Integer#MAX_VALUE} bytes are
+ * mapped in segments. The returned population is a lazy view of the mapped
+ * columns: a phenotype is created when it is accessed and its chromosomes
+ * are backed by the mapped gene column, without copying the allele values
+ * onto the heap.
+ *
+ * <pre>{@code
+ * final ISeq<Phenotype<DoubleGene, Double>> population = result.population();
+ * MappedPopulation.write(population, Paths.get("population.bin"));
+ *
+ * final ISeq<Phenotype<DoubleGene, Double>> mapped = MappedPopulation.read(
+ *     Paths.get("population.bin"),
+ *     DoubleGene.class,
+ *     Double.class
+ * );
+ * final EvolutionStream<DoubleGene, Double> stream = engine
+ *     .stream(mapped, result.generation() + 1);
+ * }</pre>
+ *
+ * The supported gene types are {@link DoubleGene}, {@link IntegerGene} and
+ * {@link LongGene}, the supported fitness types are {@link Double},
+ * {@link Integer} and {@link Long}. All individuals must have the same
+ * genotype shape and the genes of a chromosome column must have the same
+ * range. The genes are read into {@link DoubleChromosome},
+ * {@link IntegerChromosome} and {@link LongChromosome} objects.
+ *
+ * @implNote
+ * All values are written in little-endian byte order. The file starts with a
+ * header, containing the magic number, the format version, the population
+ * size, the number of chromosomes and the gene and fitness types. It is
+ * followed by the length and the gene range of every chromosome. The columns
+ * are aligned to 8 bytes: one gene column per chromosome, the fitness column,
+ * one byte per individual for the <em>evaluated</em> flag and the generation
+ * column.
+ *
+ * @see Checkpoint
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class MappedPopulation {
+
+	static final int MAGIC = 0x4A504F50;
+	static final int VERSION = 1;
+
+	private static final int HEADER_SIZE = 24;
+	private static final int CHROMOSOME_HEADER_SIZE = 24;
+	private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+	private static final int BUFFER_SIZE = 1 << 14;
+
+	private MappedPopulation() {
+	}
+
+	/**
+	 * Writes the given {@code population} to the given {@code path}. An
+	 * existing file is overwritten.
+	 *
+	 * @param population the population to write
+	 * @param path the population file
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the gene or fitness type is not
+	 *         supported, if the genotypes have not the same shape or the
+	 *         genes of a chromosome column have different ranges
+	 * @throws IOException if writing the population file fails
+	 */
+	public static <
+		G extends NumericGene<?, G>,
+		C extends Number & Comparable<? super C>
+	>
+	void write(
+		final Seq<? extends Phenotype<G, C>> population,
+		final Path path
+	)
+		throws IOException
+	{
+		requireNonNull(population);
+		requireNonNull(path);
+
+		final Layout layout = Layout.of(population);
+
+		try (FileChannel channel =
+				FileChannel.open(path, CREATE, TRUNCATE_EXISTING, WRITE))
+		{
+			layout.write(population, channel);
+		}
+	}
+
+	/**
+	 * Maps the population file, written by the
+	 * {@link #write(Seq, Path)} method, into memory. The returned population
+	 * is backed by the mapped file columns and creates the phenotypes on
+	 * access. The file mustn't be changed as long as the returned population
+	 * is in use.
+	 *
+	 * @param path the population file
+	 * @param geneType the expected gene type
+	 * @param fitnessType the expected fitness type
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the mapped population
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given types don't match the
+	 *         types of the population file
+	 * @throws IOException if the population file can't be read or is invalid
+	 */
+	public static <
+		G extends NumericGene<?, G>,
+		C extends Number & Comparable<? super C>
+	>
+	ISeq<Phenotype<G, C>> read(
+		final Path path,
+		final Class<G> geneType,
+		final Class<C> fitnessType
+	)
+		throws IOException
+	{
+		return read(path, geneType, fitnessType, Integer.MAX_VALUE);
+	}
+
+	// Reads the population file and maps the columns in segments of at most
+	// the given number of bytes.
+	static <
+		G extends NumericGene<?, G>,
+		C extends Number & Comparable<? super C>
+	>
+	ISeq<Phenotype<G, C>> read(
+		final Path path,
+		final Class<G> geneType,
+		final Class<C> fitnessType,
+		final int segmentSize
+	)
+		throws IOException
+	{
+		requireNonNull(path);
+		requireNonNull(geneType);
+		requireNonNull(fitnessType);
+
+		try (FileChannel channel = FileChannel.open(path, READ)) {
+			final Layout layout = Layout.read(channel);
+			layout.check(geneType, fitnessType);
+
+			if (layout.size == 0) {
+				return ISeq.empty();
+			}
+
+			final MappedColumn[] genes = new MappedColumn[layout.lengths.length];
+			long offset = layout.headerSize();
+			for (int i = 0; i < genes.length; ++i) {
+				genes[i] = MappedColumn.map(
+					channel,
+					offset,
+					layout.size,
+					(long)layout.lengths[i]*layout.geneType.width,
+					segmentSize
+				);
+				offset += pad(layout.geneColumnSize(i));
+			}
+			final MappedColumn fitness = layout.fitnessType != null
+				? MappedColumn.map(
+					channel,
+					offset,
+					layout.size,
+					layout.fitnessType.width,
+					segmentSize)
+				: null;
+			offset += pad(layout.fitnessColumnSize());
+			final MappedColumn evaluated = MappedColumn
+				.map(channel, offset, layout.size, 1, segmentSize);
+			offset += pad(layout.size);
+			final MappedColumn generations = MappedColumn
+				.map(channel, offset, layout.size, Long.BYTES, segmentSize);
+
+			return layout.population(genes, fitness, evaluated, generations);
+		}
+	}
+
+	private static long pad(final long size) {
+		return (size + 7) & ~7L;
+	}
+
+	/* *************************************************************************
+	 * Supported gene and fitness types.
+	 * ************************************************************************/
+
+	private enum GeneType {
+
+		DOUBLE(DoubleGene.class, Double.BYTES) {
+			@Override
+			void put(final ByteBuffer buffer, final NumericGene<?, ?> gene) {
+				buffer.putDouble(gene.doubleValue());
+			}
+			@Override
+			long bits(final Number value) {
+				return Double.doubleToRawLongBits(value.doubleValue());
+			}
+			@Override
+			Chromosome<?> chromosome(
+				final Chromosome<?> prototype,
+				final ByteBuffer column,
+				final int offset,
+				final int length,
+				final long min,
+				final long max
+			) {
+				final double mn = Double.longBitsToDouble(min);
+				final double mx = Double.longBitsToDouble(max);
+				final ISeq<DoubleGene> genes = view(length, i ->
+					DoubleGene.of(column.getDouble(offset + i*Double.BYTES), mn, mx)
+				);
+				return prototype != null
+					? ((DoubleChromosome)prototype).newInstance(genes)
+					: DoubleChromosome.of(genes);
+			}
+		},
+
+		INTEGER(IntegerGene.class, Integer.BYTES) {
+			@Override
+			void put(final ByteBuffer buffer, final NumericGene<?, ?> gene) {
+				buffer.putInt(gene.intValue());
+			}
+			@Override
+			long bits(final Number value) {
+				return value.longValue();
+			}
+			@Override
+			Chromosome<?> chromosome(
+				final Chromosome<?> prototype,
+				final ByteBuffer column,
+				final int offset,
+				final int length,
+				final long min,
+				final long max
+			) {
+				final ISeq<IntegerGene> genes = view(length, i ->
+					IntegerGene.of(
+						column.getInt(offset + i*Integer.BYTES),
+						(int)min,
+						(int)max
+					)
+				);
+				return prototype != null
+					? ((IntegerChromosome)prototype).newInstance(genes)
+					: IntegerChromosome.of(genes);
+			}
+		},
+
+		LONG(LongGene.class, Long.BYTES) {
+			@Override
+			void put(final ByteBuffer buffer, final NumericGene<?, ?> gene) {
+				buffer.putLong(gene.longValue());
+			}
+			@Override
+			long bits(final Number value) {
+				return value.longValue();
+			}
+			@Override
+			Chromosome<?> chromosome(
+				final Chromosome<?> prototype,
+				final ByteBuffer column,
+				final int offset,
+				final int length,
+				final long min,
+				final long max
+			) {
+				final ISeq<LongGene> genes = view(length, i ->
+					LongGene.of(column.getLong(offset + i*Long.BYTES), min, max)
+				);
+				return prototype != null
+					? ((LongChromosome)prototype).newInstance(genes)
+					: LongChromosome.of(genes);
+			}
+		};
+
+		final Class<?> type;
+		final int width;
+
+		GeneType(final Class<?> type, final int width) {
+			this.type = type;
+			this.width = width;
+		}
+
+		abstract void put(final ByteBuffer buffer, final NumericGene<?, ?> gene);
+
+		abstract long bits(final Number value);
+
+		// Creates a chromosome, which is backed by the given column. The
+		// prototype chromosome, if given, allows to skip the gene range check.
+		abstract Chromosome<?> chromosome(
+			final Chromosome<?> prototype,
+			final ByteBuffer column,
+			final int offset,
+			final int length,
+			final long min,
+			final long max
+		);
+
+		static GeneType of(final Class<?> type) {
+			for (GeneType value : values()) {
+				if (value.type == type) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException(format(
+				"Unsupported gene type: %s.", type.getName()
+			));
+		}
+	}
+
+	private enum FitnessType {
+
+		DOUBLE(Double.class, Double.BYTES) {
+			@Override
+			void put(final ByteBuffer buffer, final Number fitness) {
+				buffer.putDouble(fitness.doubleValue());
+			}
+			@Override
+			Number get(final ByteBuffer buffer, final int offset) {
+				return buffer.getDouble(offset);
+			}
+		},
+
+		INTEGER(Integer.class, Integer.BYTES) {
+			@Override
+			void put(final ByteBuffer buffer, final Number fitness) {
+				buffer.putInt(fitness.intValue());
+			}
+			@Override
+			Number get(final ByteBuffer buffer, final int offset) {
+				return buffer.getInt(offset);
+			}
+		},
+
+		LONG(Long.class, Long.BYTES) {
+			@Override
+			void put(final ByteBuffer buffer, final Number fitness) {
+				buffer.putLong(fitness.longValue());
+			}
+			@Override
+			Number get(final ByteBuffer buffer, final int offset) {
+				return buffer.getLong(offset);
+			}
+		};
+
+		final Class<?> type;
+		final int width;
+
+		FitnessType(final Class<?> type, final int width) {
+			this.type = type;
+			this.width = width;
+		}
+
+		abstract void put(final ByteBuffer buffer, final Number fitness);
+
+		abstract Number get(final ByteBuffer buffer, final int offset);
+
+		static FitnessType of(final Class<?> type) {
+			for (FitnessType value : values()) {
+				if (value.type == type) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException(format(
+				"Unsupported fitness type: %s.", type.getName()
+			));
+		}
+	}
+
+	/* *************************************************************************
+	 * File layout.
+	 * ************************************************************************/
+
+	private static final class Layout {
+		final int size;
+		final GeneType geneType;
+		final FitnessType fitnessType;
+		final int[] lengths;
+		final long[] mins;
+		final long[] maxs;
+
+		private Layout(
+			final int size,
+			final GeneType geneType,
+			final FitnessType fitnessType,
+			final int[] lengths,
+			final long[] mins,
+			final long[] maxs
+		) {
+			this.size = size;
+			this.geneType = geneType;
+			this.fitnessType = fitnessType;
+			this.lengths = lengths;
+			this.mins = mins;
+			this.maxs = maxs;
+		}
+
+		long headerSize() {
+			return HEADER_SIZE + (long)CHROMOSOME_HEADER_SIZE*lengths.length;
+		}
+
+		long geneColumnSize(final int chromosome) {
+			return (long)size*lengths[chromosome]*geneType.width;
+		}
+
+		long fitnessColumnSize() {
+			return fitnessType != null ? (long)size*fitnessType.width : 0;
+		}
+
+		long fileSize() {
+			long bytes = headerSize();
+			for (int i = 0; i < lengths.length; ++i) {
+				bytes += pad(geneColumnSize(i));
+			}
+			return bytes +
+				pad(fitnessColumnSize()) +
+				pad(size) +
+				(long)size*Long.BYTES;
+		}
+
+		void check(final Class<?> geneType, final Class<?> fitnessType) {
+			final GeneType gt = GeneType.of(geneType);
+			final FitnessType ft = FitnessType.of(fitnessType);
+
+			if (this.geneType != null && this.geneType != gt) {
+				throw new IllegalArgumentException(format(
+					"Expected gene type %s, but found %s.",
+					geneType.getName(), this.geneType.type.getName()
+				));
+			}
+			if (this.fitnessType != null && this.fitnessType != ft) {
+				throw new IllegalArgumentException(format(
+					"Expected fitness type %s, but found %s.",
+					fitnessType.getName(), this.fitnessType.type.getName()
+				));
+			}
+		}
+
+		void write(
+			final Seq<? extends Phenotype<?, ?>> population,
+			final FileChannel channel
+		)
+			throws IOException
+		{
+			final ColumnWriter header = new ColumnWriter(channel, 0);
+			header.buffer(HEADER_SIZE)
+				.putInt(MAGIC)
+				.putInt(VERSION)
+				.putInt(size)
+				.putInt(lengths.length)
+				.putInt(geneType != null ? geneType.ordinal() + 1 : 0)
+				.putInt(fitnessType != null ? fitnessType.ordinal() + 1 : 0);
+			for (int i = 0; i < lengths.length; ++i) {
+				header.buffer(CHROMOSOME_HEADER_SIZE)
+					.putInt(lengths[i])
+					.putInt(0)
+					.putLong(mins[i])
+					.putLong(maxs[i]);
+			}
+			header.close();
+
+			final ColumnWriter[] genes = new ColumnWriter[lengths.length];
+			long offset = headerSize();
+			for (int i = 0; i < genes.length; ++i) {
+				genes[i] = new ColumnWriter(channel, offset);
+				offset += pad(geneColumnSize(i));
+			}
+			final ColumnWriter fitness = new ColumnWriter(channel, offset);
+			offset += pad(fitnessColumnSize());
+			final ColumnWriter evaluated = new ColumnWriter(channel, offset);
+			offset += pad(size);
+			final ColumnWriter generations = new ColumnWriter(channel, offset);
+
+			for (Phenotype<?, ?> pt : population) {
+				final Genotype<?> gt = pt.genotype();
+				for (int i = 0; i < lengths.length; ++i) {
+					for (Object gene : gt.get(i)) {
+						geneType.put(
+							genes[i].buffer(geneType.width),
+							(NumericGene<?, ?>)gene
+						);
+					}
+				}
+
+				if (pt.isEvaluated()) {
+					fitnessType.put(
+						fitness.buffer(fitnessType.width),
+						(Number)pt.fitness()
+					);
+					evaluated.buffer(1).put((byte)1);
+				} else {
+					if (fitnessType != null) {
+						fitnessType.put(fitness.buffer(fitnessType.width), 0);
+					}
+					evaluated.buffer(1).put((byte)0);
+				}
+				generations.buffer(Long.BYTES).putLong(pt.generation());
+			}
+
+			for (ColumnWriter column : genes) {
+				column.close();
+			}
+			fitness.close();
+			evaluated.close();
+			generations.close();
+		}
+
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		<G extends NumericGene<?, G>, C extends Comparable<? super C>>
+		ISeq<Phenotype<G, C>> population(
+			final MappedColumn[] genes,
+			final MappedColumn fitness,
+			final MappedColumn evaluated,
+			final MappedColumn generations
+		) {
+			final Chromosome<?>[] prototypes = new Chromosome<?>[lengths.length];
+			for (int i = 0; i < prototypes.length; ++i) {
+				prototypes[i] = geneType.chromosome(
+					null,
+					genes[i].segment(0),
+					genes[i].offset(0),
+					lengths[i],
+					mins[i],
+					maxs[i]
+				);
+			}
+
+			return view(size, index -> {
+				final MSeq<Chromosome<G>> chromosomes =
+					MSeq.ofLength(lengths.length);
+				for (int i = 0; i < lengths.length; ++i) {
+					chromosomes.set(i, (Chromosome<G>)geneType.chromosome(
+						prototypes[i],
+						genes[i].segment(index),
+						genes[i].offset(index),
+						lengths[i],
+						mins[i],
+						maxs[i]
+					));
+				}
+
+				final Genotype<G> gt = Genotype.of(chromosomes);
+				final long generation = generations.segment(index)
+					.getLong(generations.offset(index));
+				return evaluated.segment(index).get(evaluated.offset(index)) != 0
+					? Phenotype.of(gt, generation, (C)fitnessType.get(
+						fitness.segment(index),
+						fitness.offset(index)))
+					: Phenotype.of(gt, generation);
+			});
+		}
+
+		static Layout of(final Seq<? extends Phenotype<?, ?>> population) {
+			if (population.isEmpty()) {
+				return new Layout(
+					0, null, null, new int[0], new long[0], new long[0]
+				);
+			}
+
+			final Genotype<?> first = population.get(0).genotype();
+			final GeneType geneType = GeneType.of(first.gene().getClass());
+
+			final int[] lengths = new int[first.length()];
+			final long[] mins = new long[lengths.length];
+			final long[] maxs = new long[lengths.length];
+			for (int i = 0; i < lengths.length; ++i) {
+				final NumericGene<?, ?> gene = (NumericGene<?, ?>)first.get(i).gene();
+				lengths[i] = first.get(i).length();
+				mins[i] = geneType.bits(gene.min());
+				maxs[i] = geneType.bits(gene.max());
+			}
+
+			FitnessType fitnessType = null;
+			for (Phenotype<?, ?> pt : population) {
+				final Genotype<?> gt = pt.genotype();
+				if (gt.length() != lengths.length) {
+					throw new IllegalArgumentException(format(
+						"Expected %d chromosomes, but got %d.",
+						lengths.length, gt.length()
+					));
+				}
+				for (int i = 0; i < lengths.length; ++i) {
+					if (gt.get(i).length() != lengths[i]) {
+						throw new IllegalArgumentException(format(
+							"Expected chromosome length %d, but got %d.",
+							lengths[i], gt.get(i).length()
+						));
+					}
+					for (Object value : gt.get(i)) {
+						final NumericGene<?, ?> gene = (NumericGene<?, ?>)value;
+						if (gene.getClass() != geneType.type ||
+							geneType.bits(gene.min()) != mins[i] ||
+							geneType.bits(gene.max()) != maxs[i])
+						{
+							throw new IllegalArgumentException(format(
+								"Gene %s doesn't match the chromosome column %d.",
+								gene, i
+							));
+						}
+					}
+				}
+
+				if (pt.isEvaluated()) {
+					final FitnessType type = FitnessType
+						.of(pt.fitness().getClass());
+					if (fitnessType != null && fitnessType != type) {
+						throw new IllegalArgumentException(format(
+							"Mixed fitness types: %s and %s.",
+							fitnessType.type.getName(), type.type.getName()
+						));
+					}
+					fitnessType = type;
+				}
+			}
+
+			return new Layout(
+				population.size(),
+				geneType,
+				fitnessType,
+				lengths,
+				mins,
+				maxs
+			);
+		}
+
+		static Layout read(final FileChannel channel) throws IOException {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+			readFully(channel, header, 0);
+
+			if (header.getInt() != MAGIC) {
+				throw new StreamCorruptedException("Invalid population file.");
+			}
+			final int version = header.getInt();
+			if (version != VERSION) {
+				throw new StreamCorruptedException(format(
+					"Unsupported population file version: %d.", version
+				));
+			}
+
+			final int size = header.getInt();
+			final int chromosomes = header.getInt();
+			final int geneType = header.getInt();
+			final int fitnessType = header.getInt();
+			if (size < 0 ||
+				chromosomes < 0 ||
+				geneType < 0 || geneType > GeneType.values().length ||
+				fitnessType < 0 || fitnessType > FitnessType.values().length)
+			{
+				throw new StreamCorruptedException("Invalid population header.");
+			}
+			if ((long)CHROMOSOME_HEADER_SIZE*chromosomes >
+				channel.size() - HEADER_SIZE)
+			{
+				throw new StreamCorruptedException(format(
+					"Invalid number of chromosomes: %d.", chromosomes
+				));
+			}
+
+			final ByteBuffer ranges = ByteBuffer
+				.allocate(CHROMOSOME_HEADER_SIZE*chromosomes)
+				.order(ORDER);
+			readFully(channel, ranges, HEADER_SIZE);
+
+			final int[] lengths = new int[chromosomes];
+			final long[] mins = new long[chromosomes];
+			final long[] maxs = new long[chromosomes];
+			for (int i = 0; i < chromosomes; ++i) {
+				lengths[i] = ranges.getInt();
+				ranges.getInt();
+				mins[i] = ranges.getLong();
+				maxs[i] = ranges.getLong();
+				if (lengths[i] < 1) {
+					throw new StreamCorruptedException(format(
+						"Invalid chromosome length: %d.", lengths[i]
+					));
+				}
+			}
+
+			final Layout layout = new Layout(
+				size,
+				geneType != 0 ? GeneType.values()[geneType - 1] : null,
+				fitnessType != 0 ? FitnessType.values()[fitnessType - 1] : null,
+				lengths,
+				mins,
+				maxs
+			);
+			if (size > 0 && (layout.geneType == null || chromosomes == 0)) {
+				throw new StreamCorruptedException("Invalid population header.");
+			}
+			if (layout.fileSize() != channel.size()) {
+				throw new StreamCorruptedException(format(
+					"Expected population file size of %d bytes, but got %d.",
+					layout.fileSize(), channel.size()
+				));
+			}
+
+			return layout;
+		}
+
+		private static void readFully(
+			final FileChannel channel,
+			final ByteBuffer buffer,
+			final long position
+		)
+			throws IOException
+		{
+			long pos = position;
+			while (buffer.hasRemaining()) {
+				final int read = channel.read(buffer, pos);
+				if (read < 0) {
+					throw new StreamCorruptedException(
+						"Unexpected end of population file."
+					);
+				}
+				pos += read;
+			}
+			buffer.flip();
+		}
+	}
+
+	/* *************************************************************************
+	 * Column access.
+	 * ************************************************************************/
+
+	/**
+	 * Buffered writer of a single column, which writes its data with
+	 * positional writes, starting at the given file offset.
+	 */
+	private static final class ColumnWriter {
+		private final FileChannel _channel;
+		private final ByteBuffer _buffer;
+		private long _position;
+
+		ColumnWriter(final FileChannel channel, final long position) {
+			_channel = requireNonNull(channel);
+			_buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ORDER);
+			_position = position;
+		}
+
+		// Returns the write buffer with at least the given number of
+		// remaining bytes.
+		ByteBuffer buffer(final int bytes) throws IOException {
+			if (_buffer.remaining() < bytes) {
+				flush();
+			}
+			return _buffer;
+		}
+
+		private void flush() throws IOException {
+			_buffer.flip();
+			while (_buffer.hasRemaining()) {
+				_position += _channel.write(_buffer, _position);
+			}
+			_buffer.clear();
+		}
+
+		// Pads the column to 8 bytes and writes the buffered data.
+		void close() throws IOException {
+			final long end = _position + _buffer.position();
+			final int padding = (int)(pad(end) - end);
+			buffer(padding).put(new byte[padding]);
+			flush();
+		}
+	}
+
+	/**
+	 * Column of fixed-width values, which is mapped in segments of whole
+	 * values.
+	 */
+	private static final class MappedColumn {
+		private final ByteBuffer[] _segments;
+		private final int _count;
+		private final int _width;
+
+		private MappedColumn(
+			final ByteBuffer[] segments,
+			final int count,
+			final int width
+		) {
+			_segments = segments;
+			_count = count;
+			_width = width;
+		}
+
+		// Returns the segment, which contains the value with the given index.
+		ByteBuffer segment(final int index) {
+			return _segments[index/_count];
+		}
+
+		// Returns the byte offset of the value within its segment.
+		int offset(final int index) {
+			return index%_count*_width;
+		}
+
+		static MappedColumn map(
+			final FileChannel channel,
+			final long offset,
+			final int size,
+			final long width,
+			final int segmentSize
+		)
+			throws IOException
+		{
+			if (width > segmentSize) {
+				throw new StreamCorruptedException(format(
+					"Value size exceeds the maximal segment size of %d bytes: %d.",
+					segmentSize, width
+				));
+			}
+
+			final int count = (int)(segmentSize/width);
+			final ByteBuffer[] segments = new ByteBuffer[(size - 1)/count + 1];
+			for (int i = 0; i < segments.length; ++i) {
+				final long values = Math.min(count, size - (long)i*count);
+				segments[i] = channel
+					.map(
+						MapMode.READ_ONLY,
+						offset + (long)i*count*width,
+						values*width)
+					.order(ORDER);
+			}
+
+			return new MappedColumn(segments, count, (int)width);
+		}
+	}
+
+	/* *************************************************************************
+	 * Read-only sequence view.
+	 * ************************************************************************/
+
+	private static <T> ISeq<T> view(final int length, final IntFunction<T> values) {
+		return new ArrayISeq<>(Array.of(new ViewStore<>(length, values)).seal());
+	}
+
+	/**
+	 * Read-only array store, which creates its elements on access. Copies of
+	 * the store are materialized into an object store.
+	 */
+	private static final class ViewStore<T>
+		implements Array.Store<T>, Serializable
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final transient int _length;
+		private final transient IntFunction<T> _values;
+
+		ViewStore(final int length, final IntFunction<T> values) {
+			_length = length;
+			_values = requireNonNull(values);
+		}
+
+		@Override
+		public T get(final int index) {
+			return _values.apply(index);
+		}
+
+		@Override
+		public void set(final int index, final T value) {
+			throw new UnsupportedOperationException("Read-only store.");
+		}
+
+		@Override
+		public void sort(
+			final int from,
+			final int until,
+			final Comparator<? super T> comparator
+		) {
+			throw new UnsupportedOperationException("Read-only store.");
+		}
+
+		@Override
+		public int length() {
+			return _length;
+		}
+
+		@Override
+		public ObjectStore<T> copy(final int from, final int until) {
+			final ObjectStore<T> store = ObjectStore.ofLength(until - from);
+			for (int i = from; i < until; ++i) {
+				store.set(i - from, get(i));
+			}
+			return store;
+		}
+
+		@Override
+		public ObjectStore<T> newInstance(final int length) {
+			return ObjectStore.ofLength(length);
+		}
+
+		private Object writeReplace() {
+			return copy(0, _length);
+		}
+	}
+
+}
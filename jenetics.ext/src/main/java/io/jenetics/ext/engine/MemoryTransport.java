@@ -0,0 +1,105 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import io.jenetics.internal.util.Requires;
+
+/**
+ * In-memory migration transport, where the islands share their message
+ * queues.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class MemoryTransport implements MigrationTransport {
+
+	private final int _island;
+	private final List<Queue<byte[]>> _queues;
+
+	private volatile boolean _closed = false;
+
+	private MemoryTransport(final int island, final List<Queue<byte[]>> queues) {
+		_island = island;
+		_queues = queues;
+	}
+
+	@Override
+	public int island() {
+		return _island;
+	}
+
+	@Override
+	public int islands() {
+		return _queues.size();
+	}
+
+	@Override
+	public void send(final int island, final byte[] message) {
+		requireNonNull(message);
+		final Queue<byte[]> queue = _queues.get(island);
+		if (!_closed) {
+			queue.add(message.clone());
+		}
+	}
+
+	@Override
+	public List<byte[]> receive() {
+		final Queue<byte[]> queue = _queues.get(_island);
+
+		final List<byte[]> messages = new ArrayList<>();
+		byte[] message;
+		while ((message = queue.poll()) != null) {
+			messages.add(message);
+		}
+		return messages;
+	}
+
+	@Override
+	public void close() {
+		_closed = true;
+	}
+
+	static List<MigrationTransport> of(final int islands) {
+		Requires.positive(islands);
+
+		final List<Queue<byte[]>> queues = new ArrayList<>(islands);
+		for (int i = 0; i < islands; ++i) {
+			queues.add(new ConcurrentLinkedQueue<>());
+		}
+
+		final List<MigrationTransport> transports = new ArrayList<>(islands);
+		for (int i = 0; i < islands; ++i) {
+			transports.add(
+				new MemoryTransport(i, Collections.unmodifiableList(queues))
+			);
+		}
+		return Collections.unmodifiableList(transports);
+	}
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+
+import java.util.stream.IntStream;
+
+/**
+ * Defines the migration routes between the islands of an {@link IslandEngine}.
+ * For a given island, the topology returns the islands which receive the
+ * emigrants of this island.
+ *
+ * <pre>{@code
+ * final MigrationTopology ring = MigrationTopology.ring();
+ * final int[] targets = ring.targets(3, 8);
+ * assert Arrays.equals(targets, new int[]{4});
+ * }</pre>
+ *
+ * @see IslandEngine
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@FunctionalInterface
+public interface MigrationTopology {
+
+	/**
+	 * Return the indexes of the islands, which receive the emigrants of the
+	 * given {@code island}. The returned indexes must be within the range
+	 * {@code [0, islands)} and must not contain the {@code island} itself.
+	 *
+	 * @param island the index of the sending island
+	 * @param islands the total number of islands
+	 * @return the indexes of the receiving islands
+	 */
+	int[] targets(final int island, final int islands);
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a <em>uni-directional ring</em> topology. Island {@code i} sends
+	 * its emigrants to island {@code (i + 1) mod n}.
+	 *
+	 * @return a ring topology
+	 */
+	static MigrationTopology ring() {
+		return (island, islands) -> islands > 1
+			? new int[]{(island + 1)%islands}
+			: new int[0];
+	}
+
+	/**
+	 * Return a <em>torus</em> topology. The islands are arranged in a
+	 * two-dimensional grid with the given number of {@code columns}, which
+	 * wraps around at the edges. Every island sends its emigrants to its four
+	 * (von Neumann) neighbours.
+	 *
+	 * @param columns the number of grid columns
+	 * @return a torus topology
+	 * @throws IllegalArgumentException if {@code columns < 1} or if the
+	 *         number of islands is not a multiple of {@code columns}, when the
+	 *         topology is applied
+	 */
+	static MigrationTopology torus(final int columns) {
+		if (columns < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of columns must be greater than zero: %d", columns
+			));
+		}
+
+		return (island, islands) -> {
+			if (islands%columns != 0) {
+				throw new IllegalArgumentException(format(
+					"Number of islands (%d) is not a multiple of %d columns.",
+					islands, columns
+				));
+			}
+
+			final int rows = islands/columns;
+			final int row = island/columns;
+			final int col = island%columns;
+
+			return IntStream.of(
+					row*columns + (col + 1)%columns,
+					row*columns + (col - 1 + columns)%columns,
+					((row + 1)%rows)*columns + col,
+					((row - 1 + rows)%rows)*columns + col
+				)
+				.filter(i -> i != island)
+				.distinct()
+				.toArray();
+		};
+	}
+
+	/**
+	 * Return a <em>fully connected</em> topology, where every island sends
+	 * its emigrants to all other islands.
+	 *
+	 * @return a fully connected topology
+	 */
+	static MigrationTopology fullyConnected() {
+		return (island, islands) -> IntStream.range(0, islands)
+			.filter(i -> i != island)
+			.toArray();
+	}
+
+}
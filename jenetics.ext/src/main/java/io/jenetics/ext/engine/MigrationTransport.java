@@ -0,0 +1,140 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * Transport layer for the migrants of a {@link DistributedIsland}. A transport
+ * connects one island to the other islands of the (distributed) island model
+ * and ships the encoded migrants as opaque byte messages.
+ * <p>
+ * Implementations must never block the evolution of the island. Sending a
+ * message to a slow or unavailable peer is allowed to drop the message, since
+ * the migration is a <em>best effort</em> operation.
+ *
+ * @see DistributedIsland
+ * @see PhenotypeCodec
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public interface MigrationTransport extends Closeable {
+
+	/**
+	 * Return the index of the island this transport belongs to.
+	 *
+	 * @return the index of the local island
+	 */
+	int island();
+
+	/**
+	 * Return the number of islands, connected by this transport.
+	 *
+	 * @return the number of islands
+	 */
+	int islands();
+
+	/**
+	 * Sends the given {@code message} to the given {@code island}. This
+	 * method must not block and may drop the message, if the target island is
+	 * not able to receive it.
+	 *
+	 * @param island the index of the target island
+	 * @param message the message to send
+	 * @throws NullPointerException if the {@code message} is {@code null}
+	 * @throws IndexOutOfBoundsException if the {@code island} index is out of
+	 *         range
+	 */
+	void send(final int island, final byte[] message);
+
+	/**
+	 * Return and remove all messages, which has been received since the last
+	 * call of this method. This method must not block.
+	 *
+	 * @return the received messages, which may be empty
+	 */
+	List<byte[]> receive();
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create the in-memory transports for the given number of
+	 * {@code islands}. The transport with index {@code i} belongs to island
+	 * {@code i}. This transport is useful for testing a distributed
+	 * island model within one JVM.
+	 *
+	 * @param islands the number of islands
+	 * @return the transports of all islands
+	 * @throws IllegalArgumentException if {@code islands < 1}
+	 */
+	static List<MigrationTransport> ofMemory(final int islands) {
+		return MemoryTransport.of(islands);
+	}
+
+	/**
+	 * Create a new TCP socket transport for the given {@code island}. The
+	 * transport listens on the address {@code addresses.get(island)} and sends
+	 * the migrants to the other addresses of the given list.
+	 *
+	 * <pre>{@code
+	 * final List<InetSocketAddress> addresses = List.of(
+	 *     new InetSocketAddress(InetAddress.getLoopbackAddress(), 4711),
+	 *     new InetSocketAddress(InetAddress.getLoopbackAddress(), 4712),
+	 *     new InetSocketAddress(InetAddress.getLoopbackAddress(), 4713)
+	 * );
+	 * // Transport of the second island.
+	 * final MigrationTransport transport =
+	 *     MigrationTransport.ofSocket(1, addresses);
+	 * }</pre>
+	 *
+	 * @param island the index of the local island
+	 * @param addresses the socket addresses of all islands
+	 * @return a new socket transport
+	 * @throws IOException if the listening socket can't be opened
+	 * @throws IndexOutOfBoundsException if the {@code island} index is out of
+	 *         range
+	 */
+	static MigrationTransport ofSocket(
+		final int island,
+		final List<InetSocketAddress> addresses
+	)
+		throws IOException
+	{
+		if (island < 0 || island >= addresses.size()) {
+			throw new IndexOutOfBoundsException(format(
+				"Island index %d not in range [0, %d).",
+				island, addresses.size()
+			));
+		}
+
+		return new SocketTransport(island, addresses);
+	}
+
+}
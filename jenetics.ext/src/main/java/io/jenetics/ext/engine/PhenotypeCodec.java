@@ -0,0 +1,419 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Binary codec of the genotypes and fitness values, which are exchanged
+ * between processes, e.g. the <em>migrants</em> of a {@link DistributedIsland}.
+ * The values are encoded in the compact binary form, also used by the Java
+ * serialization of the library classes; integer and long values are written
+ * with a variable length encoding. The codec must be able to read messages of
+ * untrusted peers: the length values read from a message are validated and
+ * arrays are not allocated in advance, with the size given by the message.
+ *
+ * <pre>{@code
+ * final PhenotypeCodec<DoubleGene, Double> codec =
+ *     PhenotypeCodec.ofDoubleGenes(
+ *         (fitness, out) -> out.writeDouble(fitness),
+ *         DataInput::readDouble
+ *     );
+ * }</pre>
+ *
+ * @see DistributedIsland
+ * @see RemoteEvaluator
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public interface PhenotypeCodec<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * Value writer interface.
+	 *
+	 * @param <T> the value type
+	 */
+	@FunctionalInterface
+	interface Writer<T> {
+
+		/**
+		 * Writes the given {@code value} to the data output.
+		 *
+		 * @param value the value to write
+		 * @param out the data output
+		 * @throws IOException if an I/O error occurs
+		 */
+		void write(final T value, final DataOutput out) throws IOException;
+	}
+
+	/**
+	 * Value reader interface.
+	 *
+	 * @param <T> the value type
+	 */
+	@FunctionalInterface
+	interface Reader<T> {
+
+		/**
+		 * Reads a value from the given data input.
+		 *
+		 * @param in the data input
+		 * @return the read value
+		 * @throws IOException if an I/O error occurs
+		 */
+		T read(final DataInput in) throws IOException;
+	}
+
+	/**
+	 * Writes the given {@code genotype} to the data output.
+	 *
+	 * @param genotype the genotype to write
+	 * @param out the data output
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeGenotype(final Genotype<G> genotype, final DataOutput out)
+		throws IOException;
+
+	/**
+	 * Reads a genotype from the given data input.
+	 *
+	 * @param in the data input
+	 * @return the read genotype
+	 * @throws IOException if an I/O error occurs
+	 */
+	Genotype<G> readGenotype(final DataInput in) throws IOException;
+
+	/**
+	 * Writes the given {@code fitness} value to the data output.
+	 *
+	 * @param fitness the fitness value to write
+	 * @param out the data output
+	 * @throws IOException if an I/O error occurs
+	 */
+	void writeFitness(final C fitness, final DataOutput out) throws IOException;
+
+	/**
+	 * Reads a fitness value from the given data input.
+	 *
+	 * @param in the data input
+	 * @return the read fitness value
+	 * @throws IOException if an I/O error occurs
+	 */
+	C readFitness(final DataInput in) throws IOException;
+
+	/**
+	 * Writes the given (evaluated) {@code phenotype} to the data output.
+	 *
+	 * @param phenotype the phenotype to write
+	 * @param out the data output
+	 * @throws IOException if an I/O error occurs
+	 */
+	default void write(final Phenotype<G, C> phenotype, final DataOutput out)
+		throws IOException
+	{
+		writeLong(phenotype.generation(), out);
+		writeGenotype(phenotype.genotype(), out);
+		writeFitness(phenotype.fitness(), out);
+	}
+
+	/**
+	 * Reads a phenotype from the given data input.
+	 *
+	 * @param in the data input
+	 * @return the read phenotype
+	 * @throws IOException if an I/O error occurs
+	 */
+	default Phenotype<G, C> read(final DataInput in) throws IOException {
+		final long generation = readLong(in);
+		final Genotype<G> genotype = readGenotype(in);
+		final C fitness = readFitness(in);
+		return Phenotype.of(genotype, generation, fitness);
+	}
+
+	/**
+	 * Encodes the given {@code migrants} into a byte array, which can be
+	 * sent with a {@link MigrationTransport}.
+	 *
+	 * @param migrants the migrants to encode
+	 * @return the encoded migrants
+	 * @throws UncheckedIOException if the encoding fails
+	 */
+	default byte[] encode(final ISeq<Phenotype<G, C>> migrants) {
+		try {
+			final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			final DataOutputStream out = new DataOutputStream(bytes);
+
+			writeInt(migrants.size(), out);
+			for (Phenotype<G, C> migrant : migrants) {
+				write(migrant, out);
+			}
+			out.flush();
+
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Decodes the migrants from the given {@code message}.
+	 *
+	 * @param message the encoded migrants
+	 * @return the decoded migrants
+	 * @throws UncheckedIOException if the message can't be decoded
+	 */
+	default ISeq<Phenotype<G, C>> decode(final byte[] message) {
+		try {
+			final DataInputStream in =
+				new DataInputStream(new ByteArrayInputStream(message));
+
+			// Every migrant occupies at least one byte of the message.
+			final int count = readLength(in);
+			if (count > in.available()) {
+				throw new StreamCorruptedException(format(
+					"Migrant count exceeds message size: %d > %d",
+					count, in.available()
+				));
+			}
+
+			final MSeq<Phenotype<G, C>> migrants = MSeq.ofLength(count);
+			for (int i = 0; i < count; ++i) {
+				migrants.set(i, read(in));
+			}
+
+			return migrants.toISeq();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Reads a length value from the given data input.
+	 *
+	 * @param in the data input
+	 * @return the read length value
+	 * @throws StreamCorruptedException if the read length is negative
+	 * @throws IOException if an I/O error occurs
+	 */
+	private static int readLength(final DataInput in) throws IOException {
+		final int length = readInt(in);
+		if (length < 0) {
+			throw new StreamCorruptedException(format(
+				"Invalid length value: %d", length
+			));
+		}
+		return length;
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new phenotype codec from the given genotype and fitness
+	 * writers and readers.
+	 *
+	 * @param genotypeWriter the genotype writer
+	 * @param genotypeReader the genotype reader
+	 * @param fitnessWriter the fitness writer
+	 * @param fitnessReader the fitness reader
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new phenotype codec
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PhenotypeCodec<G, C> of(
+		final Writer<? super Genotype<G>> genotypeWriter,
+		final Reader<? extends Genotype<G>> genotypeReader,
+		final Writer<? super C> fitnessWriter,
+		final Reader<? extends C> fitnessReader
+	) {
+		requireNonNull(genotypeWriter);
+		requireNonNull(genotypeReader);
+		requireNonNull(fitnessWriter);
+		requireNonNull(fitnessReader);
+
+		return new PhenotypeCodec<>() {
+			@Override
+			public void writeGenotype(
+				final Genotype<G> genotype,
+				final DataOutput out
+			)
+				throws IOException
+			{
+				genotypeWriter.write(genotype, out);
+			}
+
+			@Override
+			public Genotype<G> readGenotype(final DataInput in)
+				throws IOException
+			{
+				return genotypeReader.read(in);
+			}
+
+			@Override
+			public void writeFitness(final C fitness, final DataOutput out)
+				throws IOException
+			{
+				fitnessWriter.write(fitness, out);
+			}
+
+			@Override
+			public C readFitness(final DataInput in) throws IOException {
+				return fitnessReader.read(in);
+			}
+		};
+	}
+
+	/**
+	 * Create a new phenotype codec for {@link DoubleGene} genotypes. The genes
+	 * of one chromosome must have the same range.
+	 *
+	 * @param fitnessWriter the fitness writer
+	 * @param fitnessReader the fitness reader
+	 * @param <C> the fitness type
+	 * @return a new phenotype codec for double genotypes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <C extends Comparable<? super C>> PhenotypeCodec<DoubleGene, C>
+	ofDoubleGenes(
+		final Writer<? super C> fitnessWriter,
+		final Reader<? extends C> fitnessReader
+	) {
+		return of(
+			(gt, out) -> {
+				writeInt(gt.length(), out);
+				for (Chromosome<DoubleGene> ch : gt) {
+					writeInt(ch.length(), out);
+					out.writeDouble(ch.gene().min());
+					out.writeDouble(ch.gene().max());
+					for (DoubleGene gene : ch) {
+						out.writeDouble(gene.doubleValue());
+					}
+				}
+			},
+			in -> {
+				final int length = readLength(in);
+				final List<DoubleChromosome> chromosomes = new ArrayList<>();
+				for (int i = 0; i < length; ++i) {
+					final int genes = readLength(in);
+					final double min = in.readDouble();
+					final double max = in.readDouble();
+
+					final List<DoubleGene> chromosome = new ArrayList<>();
+					for (int j = 0; j < genes; ++j) {
+						chromosome.add(DoubleGene.of(in.readDouble(), min, max));
+					}
+					chromosomes.add(DoubleChromosome.of(chromosome));
+				}
+				return Genotype.of(chromosomes);
+			},
+			fitnessWriter,
+			fitnessReader
+		);
+	}
+
+	/**
+	 * Create a new phenotype codec for {@link IntegerGene} genotypes. The genes
+	 * of one chromosome must have the same range.
+	 *
+	 * @param fitnessWriter the fitness writer
+	 * @param fitnessReader the fitness reader
+	 * @param <C> the fitness type
+	 * @return a new phenotype codec for integer genotypes
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <C extends Comparable<? super C>> PhenotypeCodec<IntegerGene, C>
+	ofIntegerGenes(
+		final Writer<? super C> fitnessWriter,
+		final Reader<? extends C> fitnessReader
+	) {
+		return of(
+			(gt, out) -> {
+				writeInt(gt.length(), out);
+				for (Chromosome<IntegerGene> ch : gt) {
+					writeInt(ch.length(), out);
+					writeInt(ch.gene().min(), out);
+					writeInt(ch.gene().max(), out);
+					for (IntegerGene gene : ch) {
+						writeInt(gene.intValue(), out);
+					}
+				}
+			},
+			in -> {
+				final int length = readLength(in);
+				final List<IntegerChromosome> chromosomes = new ArrayList<>();
+				for (int i = 0; i < length; ++i) {
+					final int genes = readLength(in);
+					final int min = readInt(in);
+					final int max = readInt(in);
+
+					final List<IntegerGene> chromosome = new ArrayList<>();
+					for (int j = 0; j < genes; ++j) {
+						chromosome.add(IntegerGene.of(readInt(in), min, max));
+					}
+					chromosomes.add(IntegerChromosome.of(chromosome));
+				}
+				return Genotype.of(chromosomes);
+			},
+			fitnessWriter,
+			fitnessReader
+		);
+	}
+
+}
@@ -0,0 +1,712 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.ext.engine.Sockets.daemon;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.readString;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Evaluator;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * {@link Evaluator} implementation, which sends the unevaluated genotypes in
+ * batches to remote {@link EvaluationWorker}s. The evaluator keeps at most
+ * {@link Builder#inFlight(int)} batches per worker in flight; the remaining
+ * batches wait until a worker has finished one of its batches. A batch,
+ * which is not answered within the {@link Builder#timeout(Duration)}, or
+ * whose worker fails, is re-dispatched to another worker. It is only sent to
+ * the same worker again, if no other worker is left. Sending a batch must
+ * also complete within the timeout, otherwise the connection to the worker
+ * is closed.
+ *
+ * <pre>{@code
+ * final RemoteEvaluator<DoubleGene, Double> evaluator = RemoteEvaluator
+ *     .builder(workers, codec)
+ *     .batchSize(50)
+ *     .inFlight(4)
+ *     .timeout(Duration.ofSeconds(30))
+ *     .build();
+ *
+ * final Engine<DoubleGene, Double> engine =
+ *     new Engine.Builder<>(evaluator, problem.codec().encoding())
+ *         .build();
+ * }</pre>
+ *
+ * The evaluator follows the contract of the default evaluator of the
+ * {@link io.jenetics.engine.Engine}: already evaluated phenotypes are not
+ * sent to the workers and the returned population has the same size as the
+ * given one.
+ *
+ * @see EvaluationWorker
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class RemoteEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>, Closeable
+{
+
+	private final PhenotypeCodec<G, C> _codec;
+	private final int _batchSize;
+	private final int _inFlight;
+	private final Duration _timeout;
+	private final int _retries;
+
+	private final List<Worker> _workers;
+	private final BlockingQueue<Response<C>> _responses =
+		new LinkedBlockingQueue<>();
+
+	// Closes the connection of a worker, whose socket write is blocked.
+	private final ScheduledThreadPoolExecutor _watchdog;
+
+	private long _nextId = 0;
+	private int _nextWorker = 0;
+
+	private RemoteEvaluator(
+		final List<InetSocketAddress> workers,
+		final PhenotypeCodec<G, C> codec,
+		final int batchSize,
+		final int inFlight,
+		final Duration timeout,
+		final int retries
+	) {
+		_codec = requireNonNull(codec);
+		_batchSize = batchSize;
+		_inFlight = inFlight;
+		_timeout = requireNonNull(timeout);
+		_retries = retries;
+
+		_workers = new ArrayList<>(workers.size());
+		for (InetSocketAddress address : workers) {
+			_workers.add(new Worker(address));
+		}
+
+		_watchdog = new ScheduledThreadPoolExecutor(
+			1, r -> daemon(r, "remote-evaluator-watchdog")
+		);
+		_watchdog.setRemoveOnCancelPolicy(true);
+	}
+
+	@Override
+	public synchronized ISeq<Phenotype<G, C>>
+	eval(final Seq<Phenotype<G, C>> population) {
+		final ISeq<Phenotype<G, C>> evaluate = population.stream()
+			.filter(Phenotype::nonEvaluated)
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<G, C>> result;
+		if (evaluate.nonEmpty()) {
+			final ISeq<Phenotype<G, C>> evaluated = evaluate(evaluate);
+
+			result = evaluate.size() == population.size()
+				? evaluated
+				: population.stream()
+					.filter(Phenotype::isEvaluated)
+					.collect(ISeq.toISeq())
+					.append(evaluated);
+		} else {
+			result = population.asISeq();
+		}
+
+		return result;
+	}
+
+	private ISeq<Phenotype<G, C>>
+	evaluate(final ISeq<Phenotype<G, C>> population) {
+		final Deque<Batch> queue = new ArrayDeque<>();
+		for (int i = 0; i < population.size(); i += _batchSize) {
+			queue.add(new Batch(i, Math.min(i + _batchSize, population.size())));
+		}
+
+		_workers.forEach(Worker::reset);
+		final Map<Long, Batch> pending = new HashMap<>();
+		final Object[] fitness = new Object[population.size()];
+		int remaining = queue.size();
+
+		try {
+			while (remaining > 0) {
+				dispatch(queue, pending, population);
+				if (pending.isEmpty()) {
+					throw new IllegalStateException(format(
+						"No evaluation worker available: %s", _workers
+					));
+				}
+
+				// Wait for the next response or the first timeout.
+				final long now = System.nanoTime();
+				final long deadline = pending.values().stream()
+					.mapToLong(b -> b.deadline)
+					.min()
+					.orElse(now);
+
+				final Response<C> response = _responses.poll(
+					Math.max(deadline - now, 0),
+					TimeUnit.NANOSECONDS
+				);
+
+				if (response != null) {
+					final Batch batch = pending.remove(response.id);
+					if (batch != null) {
+						batch.worker.release(response.id);
+
+						if (response.error == null &&
+							response.fitness.size() == batch.size())
+						{
+							for (int i = 0; i < batch.size(); ++i) {
+								fitness[batch.start + i] = response.fitness.get(i);
+							}
+							--remaining;
+						} else {
+							retry(queue, batch, response.error != null
+								? response.error
+								: new IllegalStateException(format(
+									"Expected %d fitness values, but got %d.",
+									batch.size(), response.fitness.size()
+								)));
+						}
+					}
+				}
+
+				timeouts(queue, pending);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Evaluation interrupted.", e);
+		} finally {
+			for (Map.Entry<Long, Batch> entry : pending.entrySet()) {
+				entry.getValue().worker.release(entry.getKey());
+			}
+		}
+
+		return evaluated(population, fitness);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ISeq<Phenotype<G, C>> evaluated(
+		final ISeq<Phenotype<G, C>> population,
+		final Object[] fitness
+	) {
+		final MSeq<Phenotype<G, C>> result = MSeq.ofLength(population.size());
+		for (int i = 0; i < result.length(); ++i) {
+			result.set(i, population.get(i).withFitness((C)fitness[i]));
+		}
+		return result.toISeq();
+	}
+
+	// Sends the queued batches, as long as a worker has free capacity.
+	private void dispatch(
+		final Deque<Batch> queue,
+		final Map<Long, Batch> pending,
+		final ISeq<Phenotype<G, C>> population
+	) {
+		Worker worker;
+		while (!queue.isEmpty() &&
+			(worker = nextWorker(queue.peek().failed)) != null)
+		{
+			final Batch batch = queue.poll();
+			final long id = _nextId++;
+
+			try {
+				worker.send(id, request(id, population, batch));
+				batch.worker = worker;
+				batch.deadline = System.nanoTime() + _timeout.toNanos();
+				pending.put(id, batch);
+			} catch (IOException e) {
+				// The batch has not been evaluated, which doesn't count as
+				// attempt. Failed workers are not used again.
+				worker.fail();
+				batch.failed = worker;
+				queue.addFirst(batch);
+			}
+		}
+	}
+
+	// Return the next worker with free capacity, in round-robin order. The
+	// worker, which failed the last attempt of the batch, is only returned
+	// if all other workers have failed.
+	private Worker nextWorker(final RemoteEvaluator<?, ?>.Worker failed) {
+		for (int i = 0; i < _workers.size(); ++i) {
+			final Worker worker = _workers.get(_nextWorker);
+			_nextWorker = (_nextWorker + 1)%_workers.size();
+
+			if (worker != failed && worker.available()) {
+				return worker;
+			}
+		}
+
+		final boolean alternatives = _workers.stream()
+			.anyMatch(w -> w != failed && !w.failed());
+
+		return alternatives
+			? null
+			: _workers.stream()
+				.filter(w -> w == failed && w.available())
+				.findFirst()
+				.orElse(null);
+	}
+
+	// Re-queues the batch, which has failed on its current worker.
+	private void retry(
+		final Deque<Batch> queue,
+		final Batch batch,
+		final Throwable cause
+	) {
+		if (++batch.attempts > _retries) {
+			throw new IllegalStateException(format(
+				"Evaluation of batch [%d, %d) failed after %d attempts.",
+				batch.start, batch.end, batch.attempts
+			), cause);
+		}
+		batch.failed = batch.worker;
+		batch.worker = null;
+		queue.addFirst(batch);
+	}
+
+	private void timeouts(
+		final Deque<Batch> queue,
+		final Map<Long, Batch> pending
+	) {
+		final long now = System.nanoTime();
+		final Iterator<Map.Entry<Long, Batch>> it = pending.entrySet().iterator();
+		while (it.hasNext()) {
+			final Map.Entry<Long, Batch> entry = it.next();
+			final Batch batch = entry.getValue();
+
+			if (batch.deadline - now <= 0) {
+				it.remove();
+				batch.worker.release(entry.getKey());
+				retry(queue, batch, new TimeoutException(format(
+					"Worker %s didn't respond within %s.",
+					batch.worker, _timeout
+				)));
+			}
+		}
+	}
+
+	private byte[] request(
+		final long id,
+		final ISeq<Phenotype<G, C>> population,
+		final Batch batch
+	)
+		throws IOException
+	{
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+
+		writeLong(id, out);
+		writeInt(batch.size(), out);
+		for (int i = batch.start; i < batch.end; ++i) {
+			_codec.writeGenotype(population.get(i).genotype(), out);
+		}
+		out.flush();
+
+		return bytes.toByteArray();
+	}
+
+	private Response<C> response(final byte[] message) throws IOException {
+		final DataInputStream in =
+			new DataInputStream(new ByteArrayInputStream(message));
+
+		final long id = readLong(in);
+		if (in.readBoolean()) {
+			final int count = readInt(in);
+			final List<C> fitness = new ArrayList<>();
+			for (int i = 0; i < count; ++i) {
+				fitness.add(_codec.readFitness(in));
+			}
+			return new Response<>(id, fitness, null);
+		} else {
+			return new Response<>(
+				id,
+				List.of(),
+				new IllegalStateException(readString(in))
+			);
+		}
+	}
+
+	@Override
+	public void close() {
+		_watchdog.shutdownNow();
+		_workers.forEach(Worker::close);
+	}
+
+	@Override
+	public String toString() {
+		return format("RemoteEvaluator[workers=%s]", _workers);
+	}
+
+
+	/* *************************************************************************
+	 * Helper classes.
+	 * ************************************************************************/
+
+	private static final class Batch {
+		final int start;
+		final int end;
+
+		int attempts = 0;
+		long deadline;
+		RemoteEvaluator<?, ?>.Worker worker;
+
+		// The worker of the last, failed, attempt.
+		RemoteEvaluator<?, ?>.Worker failed;
+
+		Batch(final int start, final int end) {
+			this.start = start;
+			this.end = end;
+		}
+
+		int size() {
+			return end - start;
+		}
+	}
+
+	private static final class Response<C> {
+		final long id;
+		final List<C> fitness;
+		final Throwable error;
+
+		Response(final long id, final List<C> fitness, final Throwable error) {
+			this.id = id;
+			this.fitness = fitness;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * The connection to one worker. The responses are read by a background
+	 * thread and put into the response queue of the evaluator.
+	 */
+	private final class Worker {
+		private final InetSocketAddress _address;
+
+		// The ids of the batches, sent to this worker.
+		private final Set<Long> _pending = ConcurrentHashMap.newKeySet();
+
+		private Socket _socket;
+		private DataOutputStream _out;
+
+		// Indicates that the worker failed during the current evaluation.
+		private volatile boolean _failed = false;
+
+		Worker(final InetSocketAddress address) {
+			_address = requireNonNull(address);
+		}
+
+		void reset() {
+			_failed = false;
+		}
+
+		boolean available() {
+			return !_failed && _pending.size() < _inFlight;
+		}
+
+		boolean failed() {
+			return _failed;
+		}
+
+		void send(final long id, final byte[] request) throws IOException {
+			if (_socket == null || _socket.isClosed()) {
+				connect();
+			}
+
+			// A blocked write fails with an exception, after the socket has
+			// been closed by the watchdog.
+			final Socket socket = _socket;
+			final ScheduledFuture<?> watchdog = _watchdog.schedule(
+				() -> close(socket),
+				_timeout.toNanos(),
+				TimeUnit.NANOSECONDS
+			);
+
+			_pending.add(id);
+			try {
+				Sockets.writeFrame(request, _out);
+			} catch (IOException e) {
+				_pending.remove(id);
+				throw e;
+			} finally {
+				watchdog.cancel(false);
+			}
+		}
+
+		private void connect() throws IOException {
+			final Socket socket = new Socket();
+			try {
+				socket.connect(_address, (int)Math.min(
+					_timeout.toMillis(), Integer.MAX_VALUE
+				));
+				socket.setTcpNoDelay(true);
+			} catch (IOException e) {
+				socket.close();
+				throw e;
+			}
+
+			_socket = socket;
+			_out = new DataOutputStream(
+				new BufferedOutputStream(socket.getOutputStream())
+			);
+
+			final DataInputStream in = new DataInputStream(
+				new BufferedInputStream(socket.getInputStream())
+			);
+			daemon(() -> read(socket, in), "remote-evaluator-reader").start();
+		}
+
+		private void read(final Socket socket, final DataInputStream in) {
+			try {
+				while (!socket.isClosed()) {
+					final Response<C> response = response(Sockets.readFrame(in));
+					if (_pending.contains(response.id)) {
+						_responses.add(response);
+					}
+				}
+			} catch (IOException | RuntimeException e) {
+				// Fail all batches, which are still waiting for a response.
+				// Invalid responses are treated like a broken connection.
+				_failed = true;
+				for (Long id : _pending) {
+					_responses.add(new Response<>(id, List.of(), e));
+				}
+				close(socket);
+			}
+		}
+
+		void release(final long id) {
+			_pending.remove(id);
+		}
+
+		void fail() {
+			_failed = true;
+			if (_socket != null) {
+				close(_socket);
+			}
+		}
+
+		void close() {
+			if (_socket != null) {
+				close(_socket);
+			}
+		}
+
+		private void close(final Socket socket) {
+			try {
+				socket.close();
+			} catch (IOException ignore) {
+				// Nothing to do.
+			}
+		}
+
+		@Override
+		public String toString() {
+			return _address.toString();
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new remote evaluator builder for the given {@code workers}.
+	 *
+	 * @param workers the socket addresses of the evaluation workers
+	 * @param codec the codec for writing the genotypes and reading the
+	 *        fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new remote evaluator builder
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code workers} list is empty
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Builder<G, C> builder(
+		final List<InetSocketAddress> workers,
+		final PhenotypeCodec<G, C> codec
+	) {
+		return new Builder<>(workers, codec);
+	}
+
+
+	/* *************************************************************************
+	 * Remote evaluator builder
+	 * ************************************************************************/
+
+	/**
+	 * Builder class for building a new {@link RemoteEvaluator}.
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	public static final class Builder<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		private final List<InetSocketAddress> _workers;
+		private final PhenotypeCodec<G, C> _codec;
+
+		private int _batchSize = 32;
+		private int _inFlight = 2;
+		private Duration _timeout = Duration.ofSeconds(60);
+		private int _retries = 3;
+
+		private Builder(
+			final List<InetSocketAddress> workers,
+			final PhenotypeCodec<G, C> codec
+		) {
+			_workers = List.copyOf(workers);
+			_codec = requireNonNull(codec);
+
+			if (_workers.isEmpty()) {
+				throw new IllegalArgumentException(
+					"At least one evaluation worker must be given."
+				);
+			}
+		}
+
+		/**
+		 * The maximal number of genotypes, which are sent to a worker with
+		 * one request. <i>Default value is set to {@code 32}.</i>
+		 *
+		 * @param size the batch size
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code size < 1}
+		 */
+		public Builder<G, C> batchSize(final int size) {
+			_batchSize = Requires.positive(size);
+			return this;
+		}
+
+		/**
+		 * The maximal number of batches, which are evaluated by one worker
+		 * at the same time. <i>Default value is set to {@code 2}.</i>
+		 *
+		 * @param batches the maximal number of in-flight batches per worker
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code batches < 1}
+		 */
+		public Builder<G, C> inFlight(final int batches) {
+			_inFlight = Requires.positive(batches);
+			return this;
+		}
+
+		/**
+		 * The time a worker has for evaluating one batch, before the batch is
+		 * re-dispatched. <i>Default value is set to 60 seconds.</i>
+		 *
+		 * @param timeout the batch timeout
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code timeout} is not
+		 *         positive
+		 */
+		public Builder<G, C> timeout(final Duration timeout) {
+			if (timeout.isNegative() || timeout.isZero()) {
+				throw new IllegalArgumentException(format(
+					"Timeout must be positive: %s", timeout
+				));
+			}
+			_timeout = timeout;
+			return this;
+		}
+
+		/**
+		 * The number of times a failed batch is re-dispatched, before the
+		 * evaluation fails. Batches, which couldn't be sent to a worker, are
+		 * not counted as failed. <i>Default value is set to {@code 3}.</i>
+		 *
+		 * @param retries the number of retries
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if {@code retries < 0}
+		 */
+		public Builder<G, C> retries(final int retries) {
+			_retries = Requires.nonNegative(retries);
+			return this;
+		}
+
+		/**
+		 * Builds a new {@code RemoteEvaluator} instance from the set
+		 * properties.
+		 *
+		 * @return a new {@code RemoteEvaluator} instance
+		 */
+		public RemoteEvaluator<G, C> build() {
+			return new RemoteEvaluator<>(
+				_workers,
+				_codec,
+				_batchSize,
+				_inFlight,
+				_timeout,
+				_retries
+			);
+		}
+	}
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.ext.engine.Sockets.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Migration transport, which uses TCP sockets. Every transport listens on its
+ * own address for incoming messages and sends its messages with one
+ * background thread per peer. The messages are written as length-prefixed
+ * frames. If a peer is slow or not reachable, the pending messages for this
+ * peer are dropped, so the local island never waits for a peer. The number of
+ * incoming connections is limited to twice the number of peers; additional
+ * connections are closed immediately.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class SocketTransport implements MigrationTransport {
+
+	// Maximal number of pending messages, per peer and for the inbox.
+	private static final int MAX_PENDING = 64;
+
+	private static final int CONNECT_TIMEOUT = 1_000;
+
+	private final int _island;
+	private final List<InetSocketAddress> _addresses;
+
+	private final ServerSocket _server;
+	private final BlockingQueue<byte[]> _inbox =
+		new ArrayBlockingQueue<>(MAX_PENDING);
+	private final List<Sender> _senders;
+	private final Set<Socket> _connections = ConcurrentHashMap.newKeySet();
+	private final int _maxConnections;
+
+	private volatile boolean _closed = false;
+
+	SocketTransport(final int island, final List<InetSocketAddress> addresses)
+		throws IOException
+	{
+		_island = island;
+		_addresses = List.copyOf(addresses);
+		_maxConnections = 2*Math.max(_addresses.size() - 1, 1);
+
+		_server = new ServerSocket();
+		_server.setReuseAddress(true);
+		_server.bind(_addresses.get(island));
+		daemon(this::accept, format("island-%d-acceptor", island)).start();
+
+		_senders = new ArrayList<>(_addresses.size());
+		for (int i = 0; i < _addresses.size(); ++i) {
+			final Sender sender = i != island
+				? new Sender(_addresses.get(i))
+				: null;
+
+			if (sender != null) {
+				sender.start(format("island-%d-sender-%d", island, i));
+			}
+			_senders.add(sender);
+		}
+	}
+
+	@Override
+	public int island() {
+		return _island;
+	}
+
+	@Override
+	public int islands() {
+		return _addresses.size();
+	}
+
+	@Override
+	public void send(final int island, final byte[] message) {
+		requireNonNull(message);
+		Objects.checkIndex(island, _addresses.size());
+
+		if (!_closed) {
+			if (island == _island) {
+				_inbox.offer(message.clone());
+			} else {
+				_senders.get(island).offer(message.clone());
+			}
+		}
+	}
+
+	@Override
+	public List<byte[]> receive() {
+		final List<byte[]> messages = new ArrayList<>();
+		_inbox.drainTo(messages);
+		return messages;
+	}
+
+	private void accept() {
+		int failures = 0;
+		while (!_closed) {
+			try {
+				final Socket socket = _server.accept();
+				failures = 0;
+
+				_connections.add(socket);
+				if (_closed || _connections.size() > _maxConnections) {
+					_connections.remove(socket);
+					socket.close();
+				} else {
+					daemon(() -> read(socket), format("island-%d-reader", _island))
+						.start();
+				}
+			} catch (IOException e) {
+				// Continue accepting new connections, after a short delay.
+				if (!_closed && !Sockets.backoff(++failures)) {
+					return;
+				}
+			}
+		}
+	}
+
+	private void read(final Socket socket) {
+		try (socket) {
+			final DataInputStream in = new DataInputStream(
+				new BufferedInputStream(socket.getInputStream())
+			);
+
+			while (!_closed) {
+				final byte[] message = Sockets.readFrame(in);
+
+				// Drop the message, if the local island is too slow.
+				_inbox.offer(message);
+			}
+		} catch (EOFException ignore) {
+			// Peer closed the connection.
+		} catch (IOException ignore) {
+			// Broken connection; the peer will reconnect.
+		} finally {
+			_connections.remove(socket);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		_closed = true;
+		try {
+			_server.close();
+		} finally {
+			for (Sender sender : _senders) {
+				if (sender != null) {
+					sender.close();
+				}
+			}
+			for (Socket socket : _connections) {
+				socket.close();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"SocketTransport[island=%d, address=%s]",
+			_island, _addresses.get(_island)
+		);
+	}
+
+	/**
+	 * Sends the messages for one peer. The connection is established lazily
+	 * and re-established after a failure. Closing the sender also closes its
+	 * connection, which releases a thread blocked in a socket write.
+	 */
+	private final class Sender implements Runnable {
+		private final InetSocketAddress _address;
+		private final BlockingQueue<byte[]> _queue =
+			new ArrayBlockingQueue<>(MAX_PENDING);
+
+		private volatile Socket _socket;
+		private DataOutputStream _out;
+
+		private Thread _thread;
+
+		Sender(final InetSocketAddress address) {
+			_address = requireNonNull(address);
+		}
+
+		void start(final String name) {
+			_thread = daemon(this, name);
+			_thread.start();
+		}
+
+		void offer(final byte[] message) {
+			// Drop the message, if the peer is too slow.
+			_queue.offer(message);
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (!_closed) {
+					final byte[] message = _queue.take();
+					try {
+						write(message);
+					} catch (IOException e) {
+						// The message is dropped.
+						disconnect();
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				disconnect();
+			}
+		}
+
+		private void write(final byte[] message) throws IOException {
+			if (_socket == null) {
+				final Socket socket = new Socket();
+				try {
+					socket.connect(_address, CONNECT_TIMEOUT);
+					socket.setTcpNoDelay(true);
+				} catch (IOException e) {
+					socket.close();
+					throw e;
+				}
+
+				_socket = socket;
+				_out = new DataOutputStream(
+					new BufferedOutputStream(socket.getOutputStream())
+				);
+
+				// The transport has been closed while connecting.
+				if (_closed) {
+					disconnect();
+					throw new IOException("Transport closed.");
+				}
+			}
+
+			Sockets.writeFrame(message, _out);
+		}
+
+		private void disconnect() {
+			final Socket socket = _socket;
+			if (socket != null) {
+				try {
+					socket.close();
+				} catch (IOException ignore) {
+					// Nothing to do.
+				}
+				_socket = null;
+				_out = null;
+			}
+		}
+
+		void close() {
+			_thread.interrupt();
+
+			final Socket socket = _socket;
+			if (socket != null) {
+				try {
+					socket.close();
+				} catch (IOException ignore) {
+					// Nothing to do.
+				}
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.String.format;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Helper methods for the socket based protocols of this package. Messages are
+ * sent as length-prefixed frames.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class Sockets {
+	private Sockets() {
+	}
+
+	// Maximal allowed size of a received message.
+	static final int MAX_MESSAGE_SIZE = 1 << 26;
+
+	// Initial buffer size for reading a message.
+	private static final int CHUNK_SIZE = 1 << 16;
+
+	// Bounds of the delay after a failed accept, in milliseconds.
+	private static final long MIN_BACKOFF = 10;
+	private static final long MAX_BACKOFF = 1_000;
+
+	static void writeFrame(final byte[] message, final DataOutputStream out)
+		throws IOException
+	{
+		writeInt(message.length, out);
+		out.write(message);
+		out.flush();
+	}
+
+	static byte[] readFrame(final DataInputStream in) throws IOException {
+		final int length = readInt(in);
+		if (length < 0 || length > MAX_MESSAGE_SIZE) {
+			throw new IOException(format("Invalid message size: %d", length));
+		}
+
+		// The buffer grows with the data actually received, and not with
+		// the length announced by the peer.
+		byte[] message = new byte[Math.min(length, CHUNK_SIZE)];
+		int size = 0;
+		while (size < length) {
+			if (size == message.length) {
+				message = Arrays.copyOf(
+					message,
+					(int)Math.min(2L*size, length)
+				);
+			}
+
+			final int read = in.read(message, size, message.length - size);
+			if (read < 0) {
+				throw new EOFException();
+			}
+			size += read;
+		}
+		return message;
+	}
+
+	/**
+	 * Waits after the given number of consecutive failures, e.g. of a
+	 * {@code ServerSocket.accept()} call. The delay grows exponentially with
+	 * the number of failures, which prevents a busy loop on persistent
+	 * errors, like running out of file descriptors.
+	 *
+	 * @param failures the number of consecutive failures
+	 * @return {@code false} if the waiting thread has been interrupted
+	 */
+	static boolean backoff(final int failures) {
+		final long delay = Math.min(
+			MIN_BACKOFF << Math.min(Math.max(failures - 1, 0), 10),
+			MAX_BACKOFF
+		);
+
+		try {
+			Thread.sleep(delay);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	static Thread daemon(final Runnable runnable, final String name) {
+		final Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
+}
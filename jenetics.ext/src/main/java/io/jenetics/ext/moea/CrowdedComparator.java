@@ -30,7 +30,7 @@ import io.jenetics.util.BaseSeq;
  * Crowded distance comparator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 final class CrowdedComparator<T> implements IntComparator {
@@ -63,6 +63,16 @@ final class CrowdedComparator<T> implements IntComparator {
 		);
 	}
 
+	/**
+	 * Create a new crowded comparator from the given objective matrix.
+	 *
+	 * @param matrix the objective matrix of the population
+	 */
+	CrowdedComparator(final ObjectiveMatrix matrix) {
+		_rank = matrix.rank();
+		_dist = matrix.crowdingDistance();
+	}
+
 	@Override
 	public int compare(final int i, final int j) {
 		if (cco(i, j)) {
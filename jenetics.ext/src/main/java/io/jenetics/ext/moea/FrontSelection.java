@@ -0,0 +1,203 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Common selection scheme of the survivor selectors, which fill the selection
+ * front by front, according to the <em>non-domination</em> rank of the
+ * individuals. Only the choice of the members of the last, partially selected
+ * front differs and is delegated to a {@link LastFront} strategy.
+ *
+ * @see NSGA3Selector
+ * @see HypervolumeSelector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class FrontSelection<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * Chooses the members of the last, partially selected front.
+	 */
+	@FunctionalInterface
+	interface LastFront<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		/**
+		 * Return the population indexes of the {@code count} selected
+		 * individuals. The first {@code fixed} indexes of the returned array
+		 * must be the first {@code fixed} elements of the {@code members},
+		 * which are part of the completely selected fronts.
+		 *
+		 * @param population the population
+		 * @param members the population indexes of the selection candidates,
+		 *        sorted by its rank. The members, starting at index
+		 *        {@code fixed}, are part of the last front.
+		 * @param fixed the number of members of the completely selected fronts
+		 * @param count the number of individuals to select
+		 * @param opt the optimization strategy
+		 * @return the population indexes of the selected individuals
+		 */
+		int[] select(
+			final Seq<Phenotype<G, C>> population,
+			final int[] members,
+			final int fixed,
+			final int count,
+			final Optimize opt
+		);
+	}
+
+	private final Comparator<Phenotype<G, C>> _dominance;
+	private final boolean _vec;
+	private final LastFront<G, C> _lastFront;
+
+	/**
+	 * Create a new front selection.
+	 *
+	 * @param dominance the pareto dominance comparator of the phenotypes
+	 * @param vec indicates that the fitness values are compared by the
+	 *        {@link Vec} methods
+	 * @param lastFront the selection strategy of the last front
+	 */
+	FrontSelection(
+		final Comparator<Phenotype<G, C>> dominance,
+		final boolean vec,
+		final LastFront<G, C> lastFront
+	) {
+		_dominance = requireNonNull(dominance);
+		_vec = vec;
+		_lastFront = requireNonNull(lastFront);
+	}
+
+	ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population, "Population");
+		requireNonNull(opt, "Optimization");
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s",
+				count
+			));
+		}
+		if (count == 0 || population.isEmpty()) {
+			return ISeq.empty();
+		}
+
+		final int[] selected = indexes(population, min(count, population.size()), opt);
+
+		final MSeq<Phenotype<G, C>> result = MSeq.ofLength(count);
+		for (int i = 0; i < count; ++i) {
+			result.set(i, population.get(selected[i%selected.length]));
+		}
+		return result.toISeq();
+	}
+
+	private int[] indexes(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		final int[] rank = rank(population, opt);
+		final int[] order = sortByRank(rank);
+
+		// Determine the last front, which is only partially selected.
+		final int lastRank = rank[order[count - 1]];
+		int size = count;
+		while (size < order.length && rank[order[size]] == lastRank) {
+			++size;
+		}
+		if (size == count) {
+			return Arrays.copyOf(order, count);
+		}
+
+		int fixed = 0;
+		while (rank[order[fixed]] != lastRank) {
+			++fixed;
+		}
+
+		return _lastFront.select(
+			population,
+			Arrays.copyOf(order, size),
+			fixed,
+			count,
+			opt
+		);
+	}
+
+	private int[] rank(final Seq<Phenotype<G, C>> population, final Optimize opt) {
+		final ObjectiveMatrix matrix = _vec
+			? ObjectiveMatrix.of(population, pt -> (Vec<?>)pt.fitness(), opt)
+			: null;
+
+		return matrix != null
+			? matrix.rank()
+			: Pareto.rank(
+				population,
+				opt == Optimize.MAXIMUM ? _dominance : _dominance.reversed()
+			);
+	}
+
+	// Stable counting sort of the population indexes by its rank.
+	static int[] sortByRank(final int[] rank) {
+		int ranks = 0;
+		for (int r : rank) {
+			ranks = max(ranks, r + 1);
+		}
+
+		final int[] offsets = new int[ranks + 1];
+		for (int r : rank) {
+			++offsets[r + 1];
+		}
+		for (int i = 1; i < offsets.length; ++i) {
+			offsets[i] += offsets[i - 1];
+		}
+
+		final int[] order = new int[rank.length];
+		for (int i = 0; i < rank.length; ++i) {
+			order[offsets[rank[i]]++] = i;
+		}
+		return order;
+	}
+
+}
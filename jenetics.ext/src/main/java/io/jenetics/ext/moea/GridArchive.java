@@ -0,0 +1,610 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * Bounded archive of non-dominated elements, which uses an <em>adaptive
+ * grid</em> for keeping the elements well distributed. The objective space is
+ * divided into hyper-boxes and the number of elements of every box is
+ * maintained incrementally. If the archive is full, an element of the most
+ * crowded box is replaced by the new element, unless the new element falls
+ * into the most crowded box itself.
+ * <p>
+ * Unlike the {@link ParetoFront}, which must be trimmed explicitly by
+ * re-calculating the crowding distance of all elements, the density
+ * information of the grid archive is always up to date. This makes it
+ * suitable for long-running, streaming evolutions, where the archive is
+ * updated with every generation and its size must stay bounded.
+ *
+ * <pre>{@code
+ * final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(100, 8);
+ * engine.stream()
+ *     .limit(100_000)
+ *     .flatMap(result -> result.population().stream())
+ *     .forEach(pt -> archive.add(pt.fitness()));
+ * }</pre>
+ *
+ * @implNote
+ * A new element is first checked against the elements of its own grid box,
+ * which rejects equal and most of the dominated elements early. Accepting an
+ * element still requires a dominance check against all archive elements,
+ * which takes {@code O(n)} comparisons, where {@code n} is the archive size,
+ * since the dominance measure is opaque to the archive. The grid update and
+ * the update of the archive extent, which is kept sorted for each of the
+ * {@code k} objectives, take {@code O(k log(n))} time. Only if a new element
+ * lies outside the current grid bounds, the grid is enlarged and all archive
+ * elements are re-assigned to the new boxes. Such an element is always
+ * accepted, since it extends the archive. The grid bounds are enlarged with
+ * a margin, which makes this rare, once the front has reached its extent.
+ * The grid bounds are shrunk only if the extent of the archive falls below
+ * half of the grid range. The memory usage is bounded by the archive
+ * {@code capacity}.
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      J. D. Knowles and D. W. Corne. 2000. Approximating the Nondominated
+ *      Front Using the Pareto Archived Evolution Strategy. Evolutionary
+ *      Computation 8, 2 (Jun. 2000), 149-172.
+ *      DOI=<a href="http://dx.doi.org/10.1162/106365600568167">
+ *          10.1162/106365600568167</a></em>
+ *
+ * @see ParetoFront
+ * @see MOEA#toParetoArchive(int)
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class GridArchive<T> extends AbstractSet<T> {
+
+	// Relative margin, the grid bounds are enlarged with.
+	private static final double MARGIN = 0.25;
+
+	private final int _capacity;
+	private final int _divisions;
+	private final Comparator<? super T> _dominance;
+	private final ElementDistance<? super T> _distance;
+	private final ToIntFunction<? super T> _dimension;
+	private final BiPredicate<? super T, ? super T> _equals;
+
+	private final List<Entry<T>> _entries = new ArrayList<>();
+	private final Map<Cell, Cell> _cells = new HashMap<>();
+
+	// The grid cells ordered by its crowding, the most crowded cell first.
+	private final TreeSet<Cell> _crowding = new TreeSet<>(
+		Comparator.<Cell>comparingInt(c -> -c.size).thenComparingLong(c -> c.id)
+	);
+	private long _nextCellId = 0;
+	private long _nextEntryId = 0;
+
+	// The objective values are measured relative to the anchor element.
+	private T _anchor;
+	private double[] _lower;
+	private double[] _upper;
+
+	// The archive entries ordered by their position, for every objective.
+	// The first and the last entries define the extent of the archive.
+	private final List<TreeSet<Entry<T>>> _extent = new ArrayList<>();
+
+	/**
+	 * Create a new grid archive with the given parameters.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param divisions the number of grid divisions of every objective
+	 * @param dominance the <em>Pareto</em> dominance measure
+	 * @param distance the element distance measure
+	 * @param dimension the number of vector elements of {@code T}
+	 * @param equals the equals predicate used for keeping the set distinct
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} or the number
+	 *         of {@code divisions} is smaller than one
+	 */
+	public GridArchive(
+		final int capacity,
+		final int divisions,
+		final Comparator<? super T> dominance,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final BiPredicate<? super T, ? super T> equals
+	) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException(format(
+				"Capacity must be greater than zero: %d", capacity
+			));
+		}
+		if (divisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Divisions must be greater than zero: %d", divisions
+			));
+		}
+
+		_capacity = capacity;
+		_divisions = divisions;
+		_dominance = requireNonNull(dominance);
+		_distance = requireNonNull(distance);
+		_dimension = requireNonNull(dimension);
+		_equals = requireNonNull(equals);
+	}
+
+	/**
+	 * Create a new grid archive with the given parameters.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param divisions the number of grid divisions of every objective
+	 * @param dominance the <em>Pareto</em> dominance measure
+	 * @param distance the element distance measure
+	 * @param dimension the number of vector elements of {@code T}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} or the number
+	 *         of {@code divisions} is smaller than one
+	 */
+	public GridArchive(
+		final int capacity,
+		final int divisions,
+		final Comparator<? super T> dominance,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension
+	) {
+		this(capacity, divisions, dominance, distance, dimension, Objects::equals);
+	}
+
+	/**
+	 * Return the maximal number of archive elements.
+	 *
+	 * @return the maximal number of archive elements
+	 */
+	public int capacity() {
+		return _capacity;
+	}
+
+	/**
+	 * Inserts an {@code element} to this archive. The element is rejected if
+	 * it is dominated by, or equal to, an archive element. All archive
+	 * elements dominated by the new element are removed. If the archive is
+	 * full, the new element replaces an element of the most crowded grid box,
+	 * or is rejected if it lies in the most crowded box itself.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the element has been added to the archive
+	 */
+	@Override
+	public boolean add(final T element) {
+		requireNonNull(element);
+
+		if (_anchor == null) {
+			_anchor = element;
+		}
+		final double[] position = position(element);
+		final boolean inside = inside(position);
+		if (inside && rejected(element, position)) {
+			return false;
+		}
+
+		for (int i = 0; i < _entries.size();) {
+			final Entry<T> entry = _entries.get(i);
+			final int cmp = _dominance.compare(element, entry.value);
+			if (cmp < 0 || (cmp == 0 && _equals.test(element, entry.value))) {
+				return false;
+			} else if (cmp > 0) {
+				delete(entry);
+			} else {
+				++i;
+			}
+		}
+
+		if (!inside || _lower == null || loose()) {
+			regrid(position);
+		}
+
+		final Cell cell = cell(position);
+		if (_entries.size() >= _capacity) {
+			// Elements outside the previous grid bounds extend the archive
+			// and are always accepted.
+			final Cell crowded = _crowding.first();
+			if (inside && crowded.size <= cell.size) {
+				if (cell.size == 0) {
+					_cells.remove(cell);
+				}
+				return false;
+			}
+			delete(crowded.members.get(crowded.members.size() - 1));
+		}
+
+		insert(new Entry<>(element, position, _nextEntryId++), cell);
+		return true;
+	}
+
+	/**
+	 * Adds all elements of the given collection to {@code this} archive.
+	 *
+	 * @param elements the elements to add to {@code this} archive
+	 * @return {@code true} if {@code this} archive has been changed,
+	 *         {@code false} otherwise
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		boolean changed = false;
+		for (T element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Add the all {@code elements} to {@code this} archive.
+	 *
+	 * @param elements the elements to add
+	 * @return {@code this} archive
+	 * @throws NullPointerException if the given parameter is {@code null}
+	 */
+	public GridArchive<T> merge(final Collection<? extends T> elements) {
+		addAll(elements);
+		return this;
+	}
+
+	/**
+	 * Return an iterator over the archive elements. Removing an element with
+	 * the returned iterator updates the grid accordingly.
+	 *
+	 * @return an iterator over the archive elements
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		return new Iterator<>() {
+			private int _cursor = 0;
+			private Entry<T> _current;
+
+			@Override
+			public boolean hasNext() {
+				return _cursor < _entries.size();
+			}
+
+			@Override
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				_current = _entries.get(_cursor++);
+				return _current.value;
+			}
+
+			@Override
+			public void remove() {
+				if (_current == null) {
+					throw new IllegalStateException();
+				}
+
+				// The last entry is moved to the position of the removed one.
+				delete(_current);
+				_current = null;
+				--_cursor;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _entries.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _entries.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		_entries.clear();
+		_cells.clear();
+		_crowding.clear();
+		_extent.clear();
+		_anchor = null;
+		_lower = null;
+		_upper = null;
+	}
+
+	/**
+	 * Return the elements of {@code this} archive as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} archive as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return _entries.stream()
+			.map(e -> e.value)
+			.collect(ISeq.toISeq());
+	}
+
+	/* *************************************************************************
+	 * Grid handling.
+	 * ************************************************************************/
+
+	private double[] position(final T element) {
+		final int dim = _dimension.applyAsInt(element);
+		final double[] position = new double[dim];
+		for (int m = 0; m < dim; ++m) {
+			position[m] = _distance.distance(element, _anchor, m);
+		}
+		return position;
+	}
+
+	private boolean inside(final double[] position) {
+		if (_lower == null) {
+			return false;
+		}
+		for (int m = 0; m < position.length; ++m) {
+			if (position[m] < _lower[m] || position[m] > _upper[m]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Return true if the given element is dominated by, or equal to, an
+	// element of its grid box.
+	private boolean rejected(final T element, final double[] position) {
+		final Cell cell = _cells.get(new Cell(index(position), -1));
+		if (cell != null) {
+			for (Entry<T> member : cell.members) {
+				final int cmp = _dominance.compare(element, member.value);
+				if (cmp < 0 || (cmp == 0 && _equals.test(element, member.value))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// Return true if the extent of the archive, in one of the objectives,
+	// has shrunk to less than the half of the range a new grid would have.
+	private boolean loose() {
+		for (int m = 0; m < _extent.size(); ++m) {
+			final TreeSet<Entry<T>> extent = _extent.get(m);
+			if (!extent.isEmpty()) {
+				final double range =
+					extent.last().position[m] - extent.first().position[m];
+				final double width = range > 0 ? range : 1.0;
+				if (2*(1 + 2*MARGIN)*width < _upper[m] - _lower[m]) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// Re-calculates the grid bounds from the extent of the archive elements
+	// and the new position, and re-assigns the archive elements.
+	private void regrid(final double[] position) {
+		_lower = new double[position.length];
+		_upper = new double[position.length];
+		for (int m = 0; m < position.length; ++m) {
+			double mn = position[m];
+			double mx = position[m];
+			if (m < _extent.size() && !_extent.get(m).isEmpty()) {
+				mn = min(mn, _extent.get(m).first().position[m]);
+				mx = max(mx, _extent.get(m).last().position[m]);
+			}
+
+			final double range = mx - mn;
+			final double width = range > 0 ? range : 1.0;
+			_lower[m] = mn - MARGIN*width;
+			_upper[m] = mx + MARGIN*width;
+		}
+
+		_cells.clear();
+		_crowding.clear();
+		for (Entry<T> entry : _entries) {
+			assign(entry, cell(entry.position));
+		}
+	}
+
+	private int[] index(final double[] position) {
+		final int[] index = new int[position.length];
+		for (int m = 0; m < index.length; ++m) {
+			final double fraction =
+				(position[m] - _lower[m])/(_upper[m] - _lower[m]);
+			index[m] = max(min((int)(fraction*_divisions), _divisions - 1), 0);
+		}
+		return index;
+	}
+
+	// Return the cell of the given position, which is created if necessary.
+	private Cell cell(final double[] position) {
+		final Cell key = new Cell(index(position), _nextCellId);
+		final Cell cell = _cells.putIfAbsent(key, key);
+		if (cell == null) {
+			++_nextCellId;
+			return key;
+		}
+		return cell;
+	}
+
+	private void insert(final Entry<T> entry, final Cell cell) {
+		entry.index = _entries.size();
+		_entries.add(entry);
+
+		if (_extent.isEmpty()) {
+			for (int m = 0; m < entry.position.length; ++m) {
+				final int objective = m;
+				_extent.add(new TreeSet<>(
+					Comparator.<Entry<T>>comparingDouble(e -> e.position[objective])
+						.thenComparingLong(e -> e.id)
+				));
+			}
+		}
+		for (TreeSet<Entry<T>> extent : _extent) {
+			extent.add(entry);
+		}
+
+		assign(entry, cell);
+	}
+
+	private void assign(final Entry<T> entry, final Cell cell) {
+		_crowding.remove(cell);
+		entry.cell = cell;
+		entry.member = cell.members.size();
+		cell.members.add(entry);
+		++cell.size;
+		_crowding.add(cell);
+	}
+
+	private void delete(final Entry<T> entry) {
+		// Swap-remove of the archive entry.
+		final Entry<T> last = _entries.remove(_entries.size() - 1);
+		if (last != entry) {
+			last.index = entry.index;
+			_entries.set(entry.index, last);
+		}
+		for (TreeSet<Entry<T>> extent : _extent) {
+			extent.remove(entry);
+		}
+
+		// Swap-remove of the cell member.
+		final Cell cell = entry.cell;
+		_crowding.remove(cell);
+		final Entry<T> lastMember = cell.members.remove(cell.members.size() - 1);
+		if (lastMember != entry) {
+			lastMember.member = entry.member;
+			cell.members.set(entry.member, lastMember);
+		}
+		--cell.size;
+
+		if (cell.size == 0) {
+			_cells.remove(cell);
+		} else {
+			_crowding.add(cell);
+		}
+
+		// The grid of an empty archive is re-created with the next element.
+		if (_entries.isEmpty()) {
+			_lower = null;
+			_upper = null;
+		}
+	}
+
+	private static final class Entry<T> {
+		final T value;
+		final double[] position;
+		final long id;
+		GridArchive<T>.Cell cell;
+		int index;
+		int member;
+
+		Entry(final T value, final double[] position, final long id) {
+			this.value = value;
+			this.position = position;
+			this.id = id;
+		}
+	}
+
+	private final class Cell {
+		final int[] index;
+		final long id;
+		final List<Entry<T>> members = new ArrayList<>();
+		int size;
+
+		Cell(final int[] index, final long id) {
+			this.index = index;
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(index);
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof GridArchive<?>.Cell &&
+				Arrays.equals(((GridArchive<?>.Cell)obj).index, index);
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new grid archive for {@link Vec} elements.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param divisions the number of grid divisions of every objective
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @return a new grid archive for {@link Vec} elements
+	 * @throws IllegalArgumentException if the {@code capacity} or the number
+	 *         of {@code divisions} is smaller than one
+	 */
+	public static <T> GridArchive<Vec<T>> ofVec(
+		final int capacity,
+		final int divisions
+	) {
+		return new GridArchive<>(
+			capacity,
+			divisions,
+			Vec::dominance,
+			Vec::distance,
+			Vec::length
+		);
+	}
+
+	/**
+	 * Return a grid archive collector for {@link Vec} elements.
+	 *
+	 * @param capacity the maximal number of archive elements
+	 * @param divisions the number of grid divisions of every objective
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @return a new grid archive collector
+	 * @throws IllegalArgumentException if the {@code capacity} or the number
+	 *         of {@code divisions} is smaller than one
+	 */
+	public static <T> Collector<Vec<T>, ?, GridArchive<Vec<T>>>
+	toGridArchive(final int capacity, final int divisions) {
+		return Collector.of(
+			() -> GridArchive.<T>ofVec(capacity, divisions),
+			GridArchive::add,
+			GridArchive::merge
+		);
+	}
+
+}
@@ -0,0 +1,990 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import io.jenetics.Optimize;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Calculation of the <em>hypervolume</em> indicator, which is the volume of
+ * the objective space dominated by a point set and bounded by a
+ * <em>reference</em> point. The hypervolume is the only known unary quality
+ * indicator which is strictly monotonic with regard to Pareto dominance, which
+ * makes it well suited for comparing the results of multi-objective
+ * optimizations.
+ * <p>
+ * For up to {@value #EXACT_DIMENSION} objectives, the hypervolume is calculated
+ * exactly, with the <em>WFG</em> algorithm. The volume is decomposed into the
+ * exclusive volumes of the points, sorted by the last objective, which reduces
+ * the dimension of the remaining sub-problems by one. For more objectives, the
+ * exact calculation becomes too expensive and the hypervolume is estimated by
+ * <em>Monte Carlo</em> sampling, using the {@link RandomRegistry#random()}
+ * engine.
+ *
+ * <pre>{@code
+ * final ISeq<Vec<double[]>> front = engine.stream()
+ *     .limit(100)
+ *     .collect(MOEA.toParetoSet())
+ *     .map(Phenotype::fitness);
+ *
+ * final double volume = Hypervolume.compute(front, Vec.of(0.0, 0.0));
+ * }</pre>
+ *
+ * The methods working on {@code double[]} arrays expect the points of a
+ * <em>minimization</em> problem, where all points should be smaller than the
+ * reference point. Points which are not strictly smaller than the reference
+ * point, in every objective, doesn't contribute to the hypervolume. The
+ * methods working on {@link Vec} objects transform the vectors accordingly,
+ * using the {@link Vec#distance(Vec, int)} of the vector and the reference
+ * point. This means that the reference point must be <em>worse</em> than the
+ * vectors, according to the given optimization strategy.
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      L. While, L. Bradstreet and L. Barone. 2012. A Fast Way of Calculating
+ *      Exact Hypervolumes. IEEE Transactions on Evolutionary Computation 16,
+ *      1 (Feb. 2012), 86-95.
+ *      DOI=<a href="http://dx.doi.org/10.1109/TEVC.2010.2077298">
+ *          10.1109/TEVC.2010.2077298</a></em>
+ *
+ * @see HypervolumeSelector
+ * @see MOEA#byHypervolume(Vec, int, double)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class Hypervolume {
+
+	/**
+	 * The maximal number of objectives, where the hypervolume is calculated
+	 * exactly.
+	 */
+	public static final int EXACT_DIMENSION = 5;
+
+	/**
+	 * The number of samples used for estimating the hypervolume of problems
+	 * with more than {@link #EXACT_DIMENSION} objectives.
+	 */
+	public static final int DEFAULT_SAMPLES = 100_000;
+
+	private Hypervolume() {
+	}
+
+
+	/* *************************************************************************
+	 * Hypervolume of a point set.
+	 * ************************************************************************/
+
+	/**
+	 * Calculates the hypervolume of the given minimization {@code points}.
+	 * The result is exact for up to {@link #EXACT_DIMENSION} objectives and
+	 * estimated with {@link #DEFAULT_SAMPLES} samples otherwise.
+	 *
+	 * @param points the points of the minimization problem
+	 * @param reference the reference point
+	 * @return the hypervolume of the given points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the points have not the same
+	 *         dimension as the reference point
+	 */
+	public static double compute(
+		final double[][] points,
+		final double[] reference
+	) {
+		return reference.length <= EXACT_DIMENSION
+			? exact(points, reference)
+			: estimate(points, reference, DEFAULT_SAMPLES, RandomRegistry.random());
+	}
+
+	/**
+	 * Calculates the hypervolume of the given vectors.
+	 *
+	 * @see #compute(double[][], double[])
+	 *
+	 * @param front the point set
+	 * @param reference the reference point, which must be worse than the
+	 *        vectors of the point set
+	 * @param opt the optimization strategy of the vectors
+	 * @param <T> the vector type
+	 * @return the hypervolume of the given vectors
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the vectors have not the same
+	 *         dimension as the reference point
+	 */
+	public static <T> double compute(
+		final Iterable<? extends Vec<T>> front,
+		final Vec<T> reference,
+		final Optimize opt
+	) {
+		return compute(points(front, reference, opt), origin(reference));
+	}
+
+	/**
+	 * Calculates the hypervolume of the given vectors, for a
+	 * {@link Optimize#MAXIMUM} problem.
+	 *
+	 * @see #compute(double[][], double[])
+	 *
+	 * @param front the point set
+	 * @param reference the reference point, which must be smaller than the
+	 *        vectors of the point set
+	 * @param <T> the vector type
+	 * @return the hypervolume of the given vectors
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the vectors have not the same
+	 *         dimension as the reference point
+	 */
+	public static <T> double compute(
+		final Iterable<? extends Vec<T>> front,
+		final Vec<T> reference
+	) {
+		return compute(front, reference, Optimize.MAXIMUM);
+	}
+
+	/**
+	 * Calculates the exact hypervolume of the given minimization
+	 * {@code points}, with the WFG algorithm. The running time grows
+	 * exponentially with the number of objectives.
+	 *
+	 * @param points the points of the minimization problem
+	 * @param reference the reference point
+	 * @return the hypervolume of the given points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the points have not the same
+	 *         dimension as the reference point
+	 */
+	public static double exact(
+		final double[][] points,
+		final double[] reference
+	) {
+		return volume(inside(points, reference), reference, reference.length);
+	}
+
+	/**
+	 * Estimates the hypervolume of the given minimization {@code points}, by
+	 * sampling the box between the minimal point values and the reference
+	 * point.
+	 *
+	 * @param points the points of the minimization problem
+	 * @param reference the reference point
+	 * @param samples the number of samples
+	 * @param random the random engine used for creating the samples
+	 * @return the estimated hypervolume of the given points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the points have not the same
+	 *         dimension as the reference point or the number of
+	 *         {@code samples} is smaller than one
+	 */
+	public static double estimate(
+		final double[][] points,
+		final double[] reference,
+		final int samples,
+		final Random random
+	) {
+		requireNonNull(random);
+		checkSamples(samples);
+
+		final double[][] front = inside(points, reference);
+		if (front.length == 0) {
+			return 0;
+		}
+
+		final double[] lower = lower(front, reference);
+		final double[] sample = new double[reference.length];
+		int hits = 0;
+		for (int s = 0; s < samples; ++s) {
+			sample(lower, reference, sample, random);
+			if (covered(front, sample) >= 0) {
+				++hits;
+			}
+		}
+
+		return box(lower, reference)*hits/samples;
+	}
+
+
+	/* *************************************************************************
+	 * Hypervolume contributions.
+	 * ************************************************************************/
+
+	/**
+	 * Calculates the <em>exclusive</em> hypervolume contribution of every
+	 * given minimization point. This is the volume which is lost, if the
+	 * point is removed from the point set. Dominated and duplicate points
+	 * have a contribution of zero. The contributions are exact for up to
+	 * {@link #EXACT_DIMENSION} objectives and estimated with
+	 * {@link #DEFAULT_SAMPLES} samples otherwise.
+	 *
+	 * @param points the points of the minimization problem
+	 * @param reference the reference point
+	 * @return the hypervolume contributions of the given points
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the points have not the same
+	 *         dimension as the reference point
+	 */
+	public static double[] contributions(
+		final double[][] points,
+		final double[] reference
+	) {
+		return reference.length <= EXACT_DIMENSION
+			? exactContributions(points, reference)
+			: estimateContributions(
+				points, reference,
+				DEFAULT_SAMPLES, RandomRegistry.random()
+			);
+	}
+
+	/**
+	 * Calculates the <em>exclusive</em> hypervolume contribution of the given
+	 * vectors.
+	 *
+	 * @see #contributions(double[][], double[])
+	 *
+	 * @param front the point set
+	 * @param reference the reference point, which must be worse than the
+	 *        vectors of the point set
+	 * @param opt the optimization strategy of the vectors
+	 * @param <T> the vector type
+	 * @return the hypervolume contributions of the given vectors, in
+	 *         iteration order
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the vectors have not the same
+	 *         dimension as the reference point
+	 */
+	public static <T> double[] contributions(
+		final Iterable<? extends Vec<T>> front,
+		final Vec<T> reference,
+		final Optimize opt
+	) {
+		return contributions(points(front, reference, opt), origin(reference));
+	}
+
+	/**
+	 * Calculates the hypervolume which is added to the given minimization
+	 * {@code points} by inserting the given {@code point}. This allows to
+	 * evaluate a new candidate, without calculating the hypervolume of the
+	 * whole point set again. The contribution is exact for up to
+	 * {@link #EXACT_DIMENSION} objectives and estimated with
+	 * {@link #DEFAULT_SAMPLES} samples otherwise.
+	 *
+	 * @param points the points of the minimization problem
+	 * @param point the new point
+	 * @param reference the reference point
+	 * @return the hypervolume added by the new {@code point}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the points have not the same
+	 *         dimension as the reference point
+	 */
+	public static double contribution(
+		final double[][] points,
+		final double[] point,
+		final double[] reference
+	) {
+		check(point, reference);
+		final double[][] front = inside(points, reference);
+		if (!inside(point, reference)) {
+			return 0;
+		}
+
+		return reference.length <= EXACT_DIMENSION
+			? exclusive(point, front, reference, reference.length)
+			: estimateContribution(
+				front, point, reference,
+				DEFAULT_SAMPLES, RandomRegistry.random()
+			);
+	}
+
+	/**
+	 * Calculates the hypervolume which is added to the given {@code front} by
+	 * inserting the given vector. The given {@code front} is usually a
+	 * {@link ParetoFront}, which allows to decide whether a new vector is
+	 * worth to be inserted, based on its hypervolume contribution.
+	 *
+	 * <pre>{@code
+	 * final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+	 * final double gain = Hypervolume.contribution(front, vec, reference, Optimize.MAXIMUM);
+	 * if (gain > 0) {
+	 *     front.add(vec);
+	 * }
+	 * }</pre>
+	 *
+	 * @see #contribution(double[][], double[], double[])
+	 *
+	 * @param front the point set
+	 * @param vec the new vector
+	 * @param reference the reference point, which must be worse than the
+	 *        vectors of the point set
+	 * @param opt the optimization strategy of the vectors
+	 * @param <T> the vector type
+	 * @return the hypervolume added by the new vector
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the vectors have not the same
+	 *         dimension as the reference point
+	 */
+	public static <T> double contribution(
+		final Iterable<? extends Vec<T>> front,
+		final Vec<T> vec,
+		final Vec<T> reference,
+		final Optimize opt
+	) {
+		return contribution(
+			points(front, reference, opt),
+			point(vec, reference, opt),
+			origin(reference)
+		);
+	}
+
+	static double[] exactContributions(
+		final double[][] points,
+		final double[] reference
+	) {
+		final double[] result = new double[points.length];
+		final double[][] others = new double[max(points.length - 1, 0)][];
+
+		for (int i = 0; i < points.length; ++i) {
+			check(points[i], reference);
+			if (inside(points[i], reference)) {
+				int n = 0;
+				for (int j = 0; j < points.length; ++j) {
+					if (j != i && inside(points[j], reference)) {
+						others[n++] = points[j];
+					}
+				}
+
+				result[i] = exclusive(
+					points[i],
+					Arrays.copyOf(others, n),
+					reference,
+					reference.length
+				);
+			}
+		}
+
+		return result;
+	}
+
+	static double[] estimateContributions(
+		final double[][] points,
+		final double[] reference,
+		final int samples,
+		final Random random
+	) {
+		checkSamples(samples);
+
+		final double[] result = new double[points.length];
+		final int[] index = new int[points.length];
+		int n = 0;
+		for (int i = 0; i < points.length; ++i) {
+			check(points[i], reference);
+			if (inside(points[i], reference)) {
+				index[n++] = i;
+			}
+		}
+		if (n == 0) {
+			return result;
+		}
+
+		final double[][] front = new double[n][];
+		for (int i = 0; i < n; ++i) {
+			front[i] = points[index[i]];
+		}
+
+		// Samples which are covered by exactly one point are part of its
+		// exclusive volume.
+		final double[] lower = lower(front, reference);
+		final double[] sample = new double[reference.length];
+		final int[] hits = new int[n];
+		for (int s = 0; s < samples; ++s) {
+			sample(lower, reference, sample, random);
+			final int i = covered(front, sample);
+			if (i >= 0 && covered(front, sample, i + 1) < 0) {
+				++hits[i];
+			}
+		}
+
+		final double volume = box(lower, reference);
+		for (int i = 0; i < n; ++i) {
+			result[index[i]] = volume*hits[i]/samples;
+		}
+		return result;
+	}
+
+	private static double estimateContribution(
+		final double[][] front,
+		final double[] point,
+		final double[] reference,
+		final int samples,
+		final Random random
+	) {
+		final double[] sample = new double[reference.length];
+		int hits = 0;
+		for (int s = 0; s < samples; ++s) {
+			sample(point, reference, sample, random);
+			if (covered(front, sample) < 0) {
+				++hits;
+			}
+		}
+
+		return box(point, reference)*hits/samples;
+	}
+
+
+	/* *************************************************************************
+	 * Point set reduction.
+	 * ************************************************************************/
+
+	/**
+	 * Removes the points with the smallest exclusive contribution, one at a
+	 * time, until {@code count} points are left, and return the (ascending)
+	 * indexes of the remaining points. Instead of re-calculating all
+	 * contributions after every removal, only the contributions which are
+	 * affected by the removed point are updated. This is done exactly for
+	 * up to {@link #EXACT_DIMENSION} objectives. For more objectives, the
+	 * estimated contributions are re-calculated after every removal.
+	 */
+	static int[] reduce(
+		final double[][] points,
+		final double[] reference,
+		final int count
+	) {
+		boolean inside = true;
+		for (double[] point : points) {
+			check(point, reference);
+			inside &= inside(point, reference);
+		}
+
+		if (points.length <= count) {
+			return range(points.length);
+		} else if (reference.length > EXACT_DIMENSION || !inside) {
+			return reduceFully(points, reference, count);
+		} else if (reference.length == 2) {
+			final int[] order = staircase(points);
+			if (order != null) {
+				return reduce2D(points, reference, count, order);
+			}
+		}
+		return reduceExact(points, reference, count);
+	}
+
+	// Re-calculates the contributions of all remaining points after every
+	// removal.
+	private static int[] reduceFully(
+		final double[][] points,
+		final double[] reference,
+		final int count
+	) {
+		int[] remaining = range(points.length);
+		while (remaining.length > count) {
+			final double[][] front = new double[remaining.length][];
+			for (int i = 0; i < remaining.length; ++i) {
+				front[i] = points[remaining[i]];
+			}
+
+			final double[] contributions = contributions(front, reference);
+			int worst = 0;
+			for (int i = 1; i < contributions.length; ++i) {
+				if (contributions[i] < contributions[worst]) {
+					worst = i;
+				}
+			}
+
+			final int[] next = new int[remaining.length - 1];
+			System.arraycopy(remaining, 0, next, 0, worst);
+			System.arraycopy(
+				remaining, worst + 1,
+				next, worst,
+				remaining.length - worst - 1
+			);
+			remaining = next;
+		}
+
+		return remaining;
+	}
+
+	// Return the point indexes sorted by the first objective, if the points
+	// form a staircase, where every point is either a duplicate of its
+	// predecessor or better in the second objective, and null otherwise.
+	private static int[] staircase(final double[][] points) {
+		final int[] order = Arrays.stream(range(points.length))
+			.boxed()
+			.sorted(Comparator
+				.comparingDouble((Integer i) -> points[i][0])
+				.thenComparingDouble(i -> points[i][1])
+				.thenComparingInt(i -> i))
+			.mapToInt(Integer::intValue)
+			.toArray();
+
+		for (int k = 1; k < order.length; ++k) {
+			final double[] a = points[order[k - 1]];
+			final double[] b = points[order[k]];
+			final boolean step = a[0] < b[0] && a[1] > b[1];
+			final boolean duplicate = a[0] == b[0] && a[1] == b[1];
+			if (!step && !duplicate) {
+				return null;
+			}
+		}
+		return order;
+	}
+
+	// In two dimensions, the contribution of a point is the rectangle
+	// bounded by its neighbours on the staircase. A removal changes only the
+	// contributions of the two neighbours of the removed point.
+	private static int[] reduce2D(
+		final double[][] points,
+		final double[] reference,
+		final int count,
+		final int[] order
+	) {
+		final int n = order.length;
+		final int[] prev = new int[n];
+		final int[] next = new int[n];
+		for (int k = 0; k < n; ++k) {
+			prev[k] = k - 1;
+			next[k] = k + 1;
+		}
+
+		// The contributions are indexed by the staircase position and ties
+		// are broken by the original point index.
+		final double[] contributions = new double[n];
+		final TreeSet<Integer> queue = new TreeSet<>(Comparator
+			.comparingDouble((Integer k) -> contributions[k])
+			.thenComparingInt(k -> order[k]));
+		for (int k = 0; k < n; ++k) {
+			contributions[k] = contribution2D(points, reference, order, prev, next, k);
+			queue.add(k);
+		}
+
+		for (int size = n; size > count; --size) {
+			final int k = queue.pollFirst();
+			if (prev[k] >= 0) {
+				next[prev[k]] = next[k];
+			}
+			if (next[k] < n) {
+				prev[next[k]] = prev[k];
+			}
+
+			for (int neighbour : new int[]{prev[k], next[k]}) {
+				if (neighbour >= 0 && neighbour < n) {
+					queue.remove(neighbour);
+					contributions[neighbour] = contribution2D(
+						points, reference, order, prev, next, neighbour
+					);
+					queue.add(neighbour);
+				}
+			}
+		}
+
+		return queue.stream()
+			.mapToInt(k -> order[k])
+			.sorted()
+			.toArray();
+	}
+
+	private static double contribution2D(
+		final double[][] points,
+		final double[] reference,
+		final int[] order,
+		final int[] prev,
+		final int[] next,
+		final int k
+	) {
+		final double[] point = points[order[k]];
+		final double right = next[k] < order.length
+			? points[order[next[k]]][0]
+			: reference[0];
+		final double upper = prev[k] >= 0
+			? points[order[prev[k]]][1]
+			: reference[1];
+
+		return (right - point[0])*(upper - point[1]);
+	}
+
+	// Removing point 'p' increases the contribution of a remaining point 'q'
+	// by the volume, which is exclusively dominated by 'p' and 'q'. This is
+	// the exclusive volume of their joint point, which is zero if the joint
+	// point is covered by a third point.
+	private static int[] reduceExact(
+		final double[][] points,
+		final double[] reference,
+		final int count
+	) {
+		final int dim = reference.length;
+		final double[] contributions = exactContributions(points, reference);
+		final TreeSet<Integer> queue = new TreeSet<>(Comparator
+			.comparingDouble((Integer i) -> contributions[i])
+			.thenComparingInt(i -> i));
+		for (int i = 0; i < points.length; ++i) {
+			queue.add(i);
+		}
+
+		final double[][] others = new double[points.length][];
+		for (int size = points.length; size > count; --size) {
+			final int p = queue.pollFirst();
+
+			final Integer[] remaining = queue.toArray(new Integer[0]);
+			for (int q : remaining) {
+				final double[] joint = limit(points[p], points[q], dim);
+
+				int n = 0;
+				boolean covered = false;
+				for (int r : remaining) {
+					if (r != q) {
+						covered |= covers(points[r], joint, dim);
+						others[n++] = points[r];
+					}
+				}
+
+				if (!covered) {
+					final double gain = exclusive(
+						joint,
+						Arrays.copyOf(others, n),
+						reference,
+						dim
+					);
+					if (gain > 0) {
+						queue.remove(q);
+						contributions[q] += gain;
+						queue.add(q);
+					}
+				}
+			}
+		}
+
+		return queue.stream()
+			.mapToInt(Integer::intValue)
+			.sorted()
+			.toArray();
+	}
+
+	private static int[] range(final int length) {
+		final int[] range = new int[length];
+		for (int i = 0; i < length; ++i) {
+			range[i] = i;
+		}
+		return range;
+	}
+
+
+	/* *************************************************************************
+	 * WFG algorithm.
+	 * ************************************************************************/
+
+	// Calculates the hypervolume of the first 'dim' objectives of the given
+	// points. All points must be strictly smaller than the reference point.
+	private static double volume(
+		final double[][] points,
+		final double[] reference,
+		final int dim
+	) {
+		if (points.length == 0) {
+			return 0;
+		} else if (dim == 1) {
+			double minimum = points[0][0];
+			for (double[] point : points) {
+				minimum = min(minimum, point[0]);
+			}
+			return reference[0] - minimum;
+		} else if (dim == 2) {
+			return volume2D(points, reference);
+		}
+
+		final double[][] front = nondominated(points, dim);
+
+		// Sorting the points by its last objective, in descending order,
+		// guarantees that all points of the limited sets have the same last
+		// objective value as the point they are limited by. The exclusive
+		// volume is then a slice of a (dim - 1) dimensional volume.
+		final int last = dim - 1;
+		Arrays.sort(front, Comparator.comparingDouble((double[] p) -> p[last])
+			.reversed());
+
+		double volume = 0;
+		for (int k = 0; k < front.length; ++k) {
+			final double[] point = front[k];
+			final double[][] limited = new double[front.length - k - 1][];
+			for (int j = k + 1; j < front.length; ++j) {
+				limited[j - k - 1] = limit(point, front[j], last);
+			}
+
+			volume += (reference[last] - point[last])*(
+				inclusive(point, reference, last) -
+				volume(limited, reference, last)
+			);
+		}
+
+		return volume;
+	}
+
+	// Calculates the exact hypervolume of two dimensional points with a
+	// single sweep over the points, sorted by the first objective.
+	private static double volume2D(
+		final double[][] points,
+		final double[] reference
+	) {
+		final double[][] front = points.clone();
+		Arrays.sort(front, Comparator
+			.comparingDouble((double[] p) -> p[0])
+			.thenComparingDouble(p -> p[1]));
+
+		double volume = 0;
+		double bound = reference[1];
+		for (double[] point : front) {
+			if (point[1] < bound) {
+				volume += (reference[0] - point[0])*(bound - point[1]);
+				bound = point[1];
+			}
+		}
+
+		return volume;
+	}
+
+	// The hypervolume which is exclusively dominated by the given point.
+	private static double exclusive(
+		final double[] point,
+		final double[][] others,
+		final double[] reference,
+		final int dim
+	) {
+		final double[][] limited = new double[others.length][];
+		for (int j = 0; j < others.length; ++j) {
+			limited[j] = limit(point, others[j], dim);
+		}
+
+		return max(
+			inclusive(point, reference, dim) - volume(limited, reference, dim),
+			0.0
+		);
+	}
+
+	// The volume of the box between the point and the reference point.
+	private static double inclusive(
+		final double[] point,
+		final double[] reference,
+		final int dim
+	) {
+		double volume = 1;
+		for (int m = 0; m < dim; ++m) {
+			volume *= reference[m] - point[m];
+		}
+		return volume;
+	}
+
+	// The point which is dominated by both given points.
+	private static double[] limit(
+		final double[] point,
+		final double[] other,
+		final int dim
+	) {
+		final double[] result = new double[dim];
+		for (int m = 0; m < dim; ++m) {
+			result[m] = max(point[m], other[m]);
+		}
+		return result;
+	}
+
+	// Removes the (weakly) dominated points and the duplicates.
+	private static double[][] nondominated(
+		final double[][] points,
+		final int dim
+	) {
+		final List<double[]> result = new ArrayList<>(points.length);
+		for (int i = 0; i < points.length; ++i) {
+			boolean dominated = false;
+			for (int j = 0; j < points.length && !dominated; ++j) {
+				dominated = j != i &&
+					covers(points[j], points[i], dim) &&
+					(j < i || !covers(points[i], points[j], dim));
+			}
+			if (!dominated) {
+				result.add(points[i]);
+			}
+		}
+
+		return result.toArray(new double[0][]);
+	}
+
+	// Return true if 'a' is smaller or equal than 'b' in every objective.
+	private static boolean covers(
+		final double[] a,
+		final double[] b,
+		final int dim
+	) {
+		for (int m = 0; m < dim; ++m) {
+			if (a[m] > b[m]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	/* *************************************************************************
+	 * Monte Carlo helpers.
+	 * ************************************************************************/
+
+	// Return the index of the first point which covers the given sample, or
+	// -1 if the sample isn't covered.
+	private static int covered(final double[][] points, final double[] sample) {
+		return covered(points, sample, 0);
+	}
+
+	private static int covered(
+		final double[][] points,
+		final double[] sample,
+		final int from
+	) {
+		for (int i = from; i < points.length; ++i) {
+			if (covers(points[i], sample, sample.length)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void sample(
+		final double[] lower,
+		final double[] upper,
+		final double[] sample,
+		final Random random
+	) {
+		for (int m = 0; m < sample.length; ++m) {
+			sample[m] = lower[m] + random.nextDouble()*(upper[m] - lower[m]);
+		}
+	}
+
+	private static double[] lower(
+		final double[][] points,
+		final double[] reference
+	) {
+		final double[] lower = reference.clone();
+		for (double[] point : points) {
+			for (int m = 0; m < lower.length; ++m) {
+				lower[m] = min(lower[m], point[m]);
+			}
+		}
+		return lower;
+	}
+
+	private static double box(final double[] lower, final double[] upper) {
+		return inclusive(lower, upper, upper.length);
+	}
+
+
+	/* *************************************************************************
+	 * Conversion and validation.
+	 * ************************************************************************/
+
+	// Return the points which are strictly smaller than the reference point.
+	private static double[][] inside(
+		final double[][] points,
+		final double[] reference
+	) {
+		final List<double[]> result = new ArrayList<>(points.length);
+		for (double[] point : points) {
+			check(point, reference);
+			if (inside(point, reference)) {
+				result.add(point);
+			}
+		}
+		return result.toArray(new double[0][]);
+	}
+
+	private static boolean inside(final double[] point, final double[] reference) {
+		for (int m = 0; m < reference.length; ++m) {
+			if (!(point[m] < reference[m])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void check(final double[] point, final double[] reference) {
+		if (point.length != reference.length) {
+			throw new IllegalArgumentException(format(
+				"Point dimension doesn't match reference dimension: %d != %d.",
+				point.length, reference.length
+			));
+		}
+	}
+
+	private static void checkSamples(final int samples) {
+		if (samples < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of samples must be greater than zero: %d", samples
+			));
+		}
+	}
+
+	// Transforms the vectors into points of a minimization problem, with the
+	// origin as reference point.
+	private static <T> double[][] points(
+		final Iterable<? extends Vec<T>> front,
+		final Vec<T> reference,
+		final Optimize opt
+	) {
+		requireNonNull(reference);
+		requireNonNull(opt);
+
+		final List<double[]> points = new ArrayList<>();
+		for (Vec<T> vec : front) {
+			points.add(point(vec, reference, opt));
+		}
+		return points.toArray(new double[0][]);
+	}
+
+	private static <T> double[] point(
+		final Vec<T> vec,
+		final Vec<T> reference,
+		final Optimize opt
+	) {
+		if (vec.length() != reference.length()) {
+			throw new IllegalArgumentException(format(
+				"Vector dimension doesn't match reference dimension: %d != %d.",
+				vec.length(), reference.length()
+			));
+		}
+
+		final double[] point = new double[vec.length()];
+		for (int m = 0; m < point.length; ++m) {
+			point[m] = opt == Optimize.MAXIMUM
+				? -vec.distance(reference, m)
+				: -reference.distance(vec, m);
+		}
+		return point;
+	}
+
+	private static double[] origin(final Vec<?> reference) {
+		return new double[reference.length()];
+	}
+
+}
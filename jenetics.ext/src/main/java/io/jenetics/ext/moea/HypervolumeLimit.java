@@ -0,0 +1,122 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Truncates the evolution stream, if the hypervolume of the population hasn't
+ * improved by a given (relative) amount within the given number of
+ * generations. If the hypervolume was zero, every positive hypervolume counts
+ * as improvement. The hypervolume is only re-calculated if the pareto front of
+ * the population has changed.
+ *
+ * @see MOEA#byHypervolume(Vec, int, double)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class HypervolumeLimit<T, V extends Vec<T>>
+	implements Predicate<EvolutionResult<?, V>>
+{
+	private final V _reference;
+	private final double _epsilon;
+
+	// Ring buffer of the last 'generations + 1' hypervolume values.
+	private final double[] _volumes;
+	private int _count = 0;
+
+	// The pareto front of the last population and its hypervolume.
+	private Set<V> _front = Set.of();
+	private double _volume = 0;
+
+	private boolean _proceed = true;
+
+	HypervolumeLimit(
+		final V reference,
+		final int generations,
+		final double epsilon
+	) {
+		_reference = requireNonNull(reference);
+		if (generations < 1) {
+			throw new IllegalArgumentException(
+				"Generations < 1: " + generations
+			);
+		}
+		if (!(epsilon >= 0)) {
+			throw new IllegalArgumentException(format(
+				"Epsilon must not be negative: %f", epsilon
+			));
+		}
+
+		_epsilon = epsilon;
+		_volumes = new double[generations + 1];
+	}
+
+	@Override
+	public boolean test(final EvolutionResult<?, V> result) {
+		if (!_proceed) return false;
+
+		final double volume = volume(result);
+
+		final int length = _volumes.length;
+		if (_count >= length - 1) {
+			final double previous = _volumes[(_count + 1)%length];
+			_proceed = previous > 0
+				? volume - previous > _epsilon*previous
+				: volume > 0;
+		}
+		_volumes[_count%length] = volume;
+		++_count;
+
+		return _proceed;
+	}
+
+	// Return the hypervolume of the given result. The volume of the previous
+	// result is reused, if the pareto front hasn't changed.
+	private double volume(final EvolutionResult<?, V> result) {
+		final Comparator<V> dominance = result.optimize() == Optimize.MAXIMUM
+			? Vec::dominance
+			: (a, b) -> b.dominance(a);
+
+		final Set<V> front = new HashSet<>(
+			Pareto.front(result.population().map(Phenotype::fitness), dominance)
+				.asList()
+		);
+		if (!front.equals(_front)) {
+			_volume = Hypervolume.compute(front, _reference, result.optimize());
+			_front = front;
+		}
+
+		return _volume;
+	}
+
+}
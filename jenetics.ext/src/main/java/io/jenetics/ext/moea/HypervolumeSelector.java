@@ -0,0 +1,273 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.abs;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Survivor selector, which prefers the individuals with the largest
+ * <em>hypervolume</em> contribution, as used by the <em>S-metric selection
+ * evolutionary multi-objective algorithm</em> (SMS-EMOA).
+ * <p>
+ * The selector fills the selection front by front, according to the
+ * <em>non-domination</em> rank of the individuals. From the last, partially
+ * selected front, the individual with the smallest exclusive hypervolume
+ * contribution is removed, one at a time, until the front fits into the
+ * selection. The objectives of the last front are normalized to its ideal and
+ * nadir point and the reference point is placed one unit beyond the nadir
+ * point. This lets the boundary individuals contribute a large volume, which
+ * keeps the extent of the front.
+ * <p>
+ * After a removal, only the contributions which are affected by the removed
+ * individual are updated: in two dimensions the contributions of its two
+ * neighbours, for up to {@value Hypervolume#EXACT_DIMENSION} objectives the
+ * contributions which share a non-covered region with it. Since the exact
+ * contributions grow exponentially with the number of objectives, the
+ * selector is best suited for problems with a few objectives. For more than
+ * {@value Hypervolume#EXACT_DIMENSION} objectives the contributions are
+ * estimated and re-calculated after every removal, see {@link Hypervolume}.
+ *
+ * <pre>{@code
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(HypervolumeSelector.ofVec())
+ *     .build();
+ * }</pre>
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      N. Beume, B. Naujoks and M. Emmerich. 2007. SMS-EMOA: Multiobjective
+ *      selection based on dominated hypervolume. European Journal of
+ *      Operational Research 181, 3 (Sep. 2007), 1653-1669.
+ *      DOI=<a href="http://dx.doi.org/10.1016/j.ejor.2006.08.008">
+ *          10.1016/j.ejor.2006.08.008</a></em>
+ *
+ * @see Hypervolume
+ * @see NSGA2Selector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public class HypervolumeSelector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	// Offset of the reference point to the normalized nadir point.
+	private static final double REFERENCE_OFFSET = 1.0;
+
+	private final FrontSelection<G, C> _selection;
+	private final ElementComparator<Phenotype<G, C>> _comparator;
+	private final ElementDistance<Phenotype<G, C>> _distance;
+	private final ToIntFunction<Phenotype<G, C>> _dimension;
+
+	private HypervolumeSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vec
+	) {
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		_selection = new FrontSelection<>(
+			(a, b) -> dominance.compare(a.fitness(), b.fitness()),
+			vec,
+			this::lastFront
+		);
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+	}
+
+	/**
+	 * Creates a new {@code HypervolumeSelector} with the functions needed for
+	 * handling the multi-objective result type {@code C}. For the {@link Vec}
+	 * classes, a selector is created like in the following example:
+	 * <pre>{@code
+	 * new HypervolumeSelector<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length
+	 * );
+	 * }</pre>
+	 *
+	 * @see #ofVec()
+	 *
+	 * @param dominance the pareto dominance comparator
+	 * @param comparator the vector element comparator
+	 * @param distance the vector element distance
+	 * @param dimension the dimensionality of vector type {@code C}
+	 * @throws NullPointerException if one of the functions is {@code null}
+	 */
+	public HypervolumeSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, false);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		return _selection.select(population, count, opt);
+	}
+
+	// Removes the members of the last front with the smallest hypervolume
+	// contribution.
+	private int[] lastFront(
+		final Seq<Phenotype<G, C>> population,
+		final int[] members,
+		final int fixed,
+		final int count,
+		final Optimize opt
+	) {
+		final int[] front = Arrays.copyOfRange(members, fixed, members.length);
+		final int[] survivors = reduce(
+			normalize(population, front, opt),
+			count - fixed
+		);
+
+		final int[] result = Arrays.copyOf(members, count);
+		for (int i = 0; i < survivors.length; ++i) {
+			result[fixed + i] = front[survivors[i]];
+		}
+		return result;
+	}
+
+	/**
+	 * Return the objective values of the given front members, transformed to
+	 * a minimization problem. The ideal point is mapped to {@code -1} and the
+	 * nadir point to {@code 0}, for every objective.
+	 */
+	private double[][] normalize(
+		final Seq<Phenotype<G, C>> population,
+		final int[] members,
+		final Optimize opt
+	) {
+		final int dim = _dimension.applyAsInt(population.get(members[0]));
+		final ElementComparator<Phenotype<G, C>> comparator =
+			opt == Optimize.MAXIMUM ? _comparator : _comparator.reversed();
+
+		final double[][] points = new double[members.length][dim];
+		for (int m = 0; m < dim; ++m) {
+			Phenotype<G, C> ideal = population.get(members[0]);
+			Phenotype<G, C> nadir = ideal;
+			for (int i = 1; i < members.length; ++i) {
+				final Phenotype<G, C> pt = population.get(members[i]);
+				if (comparator.compare(pt, ideal, m) > 0) {
+					ideal = pt;
+				}
+				if (comparator.compare(pt, nadir, m) < 0) {
+					nadir = pt;
+				}
+			}
+
+			final double range = abs(distance(ideal, nadir, m, opt));
+			final double scale = range > 0 && Double.isFinite(range)
+				? range
+				: 1.0;
+
+			for (int i = 0; i < members.length; ++i) {
+				final Phenotype<G, C> pt = population.get(members[i]);
+				points[i][m] = -abs(distance(pt, nadir, m, opt))/scale;
+			}
+		}
+
+		return points;
+	}
+
+	// Distance of the given objective, which is positive if 'a' is better
+	// than 'b'.
+	private double distance(
+		final Phenotype<G, C> a,
+		final Phenotype<G, C> b,
+		final int objective,
+		final Optimize opt
+	) {
+		return opt == Optimize.MAXIMUM
+			? _distance.distance(a, b, objective)
+			: _distance.distance(b, a, objective);
+	}
+
+	/**
+	 * Removes the points with the smallest hypervolume contribution, until
+	 * {@code count} points are left. Return the (ascending) indexes of the
+	 * remaining points.
+	 */
+	static int[] reduce(final double[][] points, final int count) {
+		final double[] reference = new double[points[0].length];
+		Arrays.fill(reference, REFERENCE_OFFSET);
+
+		return Hypervolume.reduce(points, reference, count);
+	}
+
+	/**
+	 * Return a new selector for the given result type {@code V}. This method is
+	 * a shortcut for
+	 * <pre>{@code
+	 * new HypervolumeSelector<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length
+	 * );
+	 * }</pre>
+	 *
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	HypervolumeSelector<G, V> ofVec() {
+		return new HypervolumeSelector<>(
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length,
+			true
+		);
+	}
+
+}
@@ -19,12 +19,17 @@
  */
 package io.jenetics.ext.moea;
 
+import static java.lang.Math.max;
 import static java.lang.String.format;
+import static java.security.AccessController.doPrivileged;
 import static java.util.Objects.requireNonNull;
 import static io.jenetics.ext.moea.Pareto.front;
 
+import java.security.PrivilegedAction;
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 
@@ -63,13 +68,29 @@ import io.jenetics.util.IntRange;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 6.1
  * @since 4.1
  */
 public final class MOEA {
 
 	private static final IntRange DEFAULT_SET_RANGE = IntRange.of(75, 100);
 
+	private static final int DEFAULT_ARCHIVE_DIVISIONS = 8;
+
+	/**
+	 * The population size, where the pareto front of an evolution result is
+	 * calculated concurrently. The default value can be changed with the
+	 * {@code io.jenetics.ext.moea.MOEA.parallelThreshold} system property.
+	 */
+	static final int PARALLEL_THRESHOLD = max(
+		doPrivileged(
+			(PrivilegedAction<Integer>)() -> Integer.getInteger(
+				"io.jenetics.ext.moea.MOEA.parallelThreshold",
+				1 << 11
+			)),
+		64
+	);
+
 	private MOEA() {
 	}
 
@@ -125,6 +146,11 @@ public final class MOEA {
 	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
 	 *     pareto front</a>.
 	 *
+	 * @implNote
+	 * The pareto front of large populations is calculated concurrently, in
+	 * the common {@link ForkJoinPool}, see
+	 * {@link Pareto#front(io.jenetics.util.BaseSeq, Comparator, java.util.concurrent.Executor)}.
+	 *
 	 * @see #toParetoSet(IntRange)
 	 *
 	 * @param size the allowed size range of the returned pareto set. If the
@@ -176,6 +202,148 @@ public final class MOEA {
 		);
 	}
 
+	/**
+	 * Collector of {@link Phenotype} objects, who's (multi-objective) fitness
+	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     pareto front</a>. Unlike the {@link #toParetoSet(IntRange)} collector,
+	 * the collected elements are stored in a bounded {@link GridArchive}, which
+	 * maintains its density information incrementally. The collector never
+	 * holds more than {@code capacity} elements and doesn't need to re-calculate
+	 * the crowding distance of the whole front. This makes it suitable for
+	 * long-running evolution streams.
+	 *
+	 * <pre>{@code
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result = engine.stream()
+	 *     .limit(Limits.byExecutionTime(Duration.ofHours(24)))
+	 *     .collect(MOEA.toParetoArchive(100));
+	 * }</pre>
+	 *
+	 * @see GridArchive
+	 *
+	 * @since 6.1
+	 *
+	 * @param capacity the maximal size of the returned pareto set
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return the pareto set collector
+	 * @throws IllegalArgumentException if the {@code capacity} is smaller than
+	 *         one
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	Collector<EvolutionResult<G, V>, ?, ISeq<Phenotype<G, V>>>
+	toParetoArchive(final int capacity) {
+		return toParetoArchive(
+			capacity,
+			DEFAULT_ARCHIVE_DIVISIONS,
+			Vec::dominance,
+			Vec::distance,
+			Vec::length
+		);
+	}
+
+	/**
+	 * Collector of {@link Phenotype} objects, who's (multi-objective) fitness
+	 * value is part of the <a href="https://en.wikipedia.org/wiki/Pareto_efficiency">
+	 *     pareto front</a>. The collected elements are stored in a bounded
+	 * {@link GridArchive}.
+	 *
+	 * @see #toParetoArchive(int)
+	 *
+	 * @since 6.1
+	 *
+	 * @param capacity the maximal size of the returned pareto set
+	 * @param divisions the number of grid divisions of every objective
+	 * @param dominance the pareto dominance measure of the fitness result type
+	 *        {@code C}
+	 * @param distance the distance function of two elements of the vector
+	 *        type {@code C}
+	 * @param dimension the dimensionality of the result vector {@code C}.
+	 *        Usually {@code Vec::length}.
+	 * @param <G> the gene type
+	 * @param <C> the multi object result vector. E.g. {@code Vec<double[]>}
+	 * @return the pareto set collector
+	 * @throws NullPointerException if one the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code capacity} or the number
+	 *         of {@code divisions} is smaller than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Collector<EvolutionResult<G, C>, ?, ISeq<Phenotype<G, C>>>
+	toParetoArchive(
+		final int capacity,
+		final int divisions,
+		final Comparator<? super C> dominance,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension
+	) {
+		requireNonNull(dominance);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		if (capacity < 1) {
+			throw new IllegalArgumentException(format(
+				"Archive capacity must be greater than zero: %d", capacity
+			));
+		}
+		if (divisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Grid divisions must be greater than zero: %d", divisions
+			));
+		}
+
+		return Collector.of(
+			() -> new Archive<G, C>(
+				capacity, divisions, dominance, distance, dimension
+			),
+			Archive::add,
+			Archive::merge,
+			Archive::toISeq
+		);
+	}
+
+	/**
+	 * Return a predicate, which will truncate the evolution stream if the
+	 * <em>hypervolume</em> of the population hasn't improved by more than the
+	 * relative amount {@code epsilon} within the last {@code generations}.
+	 * The hypervolume is calculated against the given fixed {@code reference}
+	 * point, which must be worse than all (relevant) fitness vectors.
+	 *
+	 * <pre>{@code
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result = engine.stream()
+	 *      // Stop, if the hypervolume improves less than 0.1% in 10 generations.
+	 *     .limit(MOEA.byHypervolume(Vec.of(0.0, 0.0), 10, 0.001))
+	 *      // The evolution will stop after maximal 500 generations.
+	 *     .limit(500)
+	 *     .collect(MOEA.toParetoSet());
+	 * }</pre>
+	 *
+	 * @see Hypervolume
+	 *
+	 * @since 6.1
+	 *
+	 * @param reference the reference point of the hypervolume calculation
+	 * @param generations the number of generations, the hypervolume
+	 *        improvement is measured
+	 * @param epsilon the minimal relative hypervolume improvement, which
+	 *        doesn't truncate the evolution stream
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a predicate which truncates the evolution stream if the
+	 *         hypervolume converges
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1} or
+	 *         {@code epsilon < 0}
+	 */
+	public static <T, V extends Vec<T>> Predicate<EvolutionResult<?, V>>
+	byHypervolume(
+		final V reference,
+		final int generations,
+		final double epsilon
+	) {
+		return new HypervolumeLimit<>(reference, generations, epsilon);
+	}
+
 	private static final class Front<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
@@ -210,10 +378,11 @@ public final class MOEA {
 				_front = new ParetoFront<>(this::dominance, this::equals);
 			}
 
-			final ISeq<Phenotype<G, C>> front = front(
-				result.population(),
-				this::dominance
-			);
+			final ISeq<Phenotype<G, C>> population = result.population();
+			final ISeq<Phenotype<G, C>> front =
+				population.size() < PARALLEL_THRESHOLD
+					? front(population, this::dominance)
+					: front(population, this::dominance, ForkJoinPool.commonPool());
 			_front.addAll(front.asList());
 			trim();
 		}
@@ -264,4 +433,75 @@ public final class MOEA {
 
 	}
 
+	private static final class Archive<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		final int _capacity;
+		final int _divisions;
+		final Comparator<? super C> _dominance;
+		final ElementDistance<? super C> _distance;
+		final ToIntFunction<? super C> _dimension;
+
+		private Optimize _optimize;
+		private GridArchive<Phenotype<G, C>> _archive;
+
+		Archive(
+			final int capacity,
+			final int divisions,
+			final Comparator<? super C> dominance,
+			final ElementDistance<? super C> distance,
+			final ToIntFunction<? super C> dimension
+		) {
+			_capacity = capacity;
+			_divisions = divisions;
+			_dominance = dominance;
+			_distance = distance;
+			_dimension = dimension;
+		}
+
+		void add(final EvolutionResult<G, C> result) {
+			if (_archive == null) {
+				_optimize = result.optimize();
+				_archive = new GridArchive<>(
+					_capacity,
+					_divisions,
+					this::dominance,
+					_distance.map(Phenotype::fitness),
+					pt -> _dimension.applyAsInt(pt.fitness()),
+					(a, b) -> Objects.equals(a.genotype(), b.genotype())
+				);
+			}
+
+			final ISeq<Phenotype<G, C>> population = result.population();
+			final ISeq<Phenotype<G, C>> front =
+				population.size() < PARALLEL_THRESHOLD
+					? front(population, this::dominance)
+					: front(population, this::dominance, ForkJoinPool.commonPool());
+			_archive.addAll(front.asList());
+		}
+
+		private int dominance(final Phenotype<G, C> a, final Phenotype<G, C> b) {
+			return _optimize == Optimize.MAXIMUM
+				? _dominance.compare(a.fitness(), b.fitness())
+				: _dominance.compare(b.fitness(), a.fitness());
+		}
+
+		Archive<G, C> merge(final Archive<G, C> archive) {
+			if (_archive == null) {
+				return archive;
+			}
+			if (archive._archive != null) {
+				_archive.merge(archive._archive);
+			}
+			return this;
+		}
+
+		ISeq<Phenotype<G, C>> toISeq() {
+			return _archive != null ? _archive.toISeq() : ISeq.empty();
+		}
+
+	}
+
 }
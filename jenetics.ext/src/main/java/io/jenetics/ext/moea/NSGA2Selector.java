@@ -48,7 +48,7 @@ import io.jenetics.util.Seq;
  *          10.1109/4235.996017</a></em>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 public class NSGA2Selector<
@@ -63,6 +63,28 @@ public class NSGA2Selector<
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
 
+	// Indicates that the fitness values are compared by the Vec methods.
+	private final boolean _vec;
+
+	private NSGA2Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vec
+	) {
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		_dominance = (a, b) -> dominance.compare(a.fitness(), b.fitness());
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vec = vec;
+	}
+
 	/**
 	 * Creates a new {@code NSGA2Selector} with the functions needed for
 	 * handling the multi-objective result type {@code C}. For the {@link Vec}
@@ -89,15 +111,7 @@ public class NSGA2Selector<
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
 	) {
-		requireNonNull(dominance);
-		requireNonNull(comparator);
-		requireNonNull(distance);
-		requireNonNull(dimension);
-
-		_dominance = (a, b) -> dominance.compare(a.fitness(), b.fitness());
-		_comparator = comparator.map(Phenotype::fitness);
-		_distance = distance.map(Phenotype::fitness);
-		_dimension = v -> dimension.applyAsInt(v.fitness());
+		this(dominance, comparator, distance, dimension, false);
 	}
 
 	@Override
@@ -106,16 +120,22 @@ public class NSGA2Selector<
 		final int count,
 		final Optimize opt
 	) {
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
-			population,
-			opt,
-			_dominance,
-			_comparator,
-			_distance,
-			_dimension
-		);
+		final ObjectiveMatrix matrix = _vec
+			? ObjectiveMatrix.of(population, pt -> (Vec<?>)pt.fitness(), opt)
+			: null;
+
+		final CrowdedComparator<Phenotype<G, C>> cc = matrix != null
+			? new CrowdedComparator<>(matrix)
+			: new CrowdedComparator<>(
+				population,
+				opt,
+				_dominance,
+				_comparator,
+				_distance,
+				_dimension
+			);
 
-		final int[] idx = ProxySorter.sort(
+		final int[] idx = ProxySorter.parallelSort(
 			init(new int[population.size()]),
 			population.size(),
 			(a, i, j) -> cc.compare(a[j], a[i])
@@ -160,7 +180,8 @@ public class NSGA2Selector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
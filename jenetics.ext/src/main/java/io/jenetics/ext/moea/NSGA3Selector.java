@@ -0,0 +1,632 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.sqrt;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Reference-point based selector for <em>many-objective</em> problems, as
+ * described in <em>An Evolutionary Many-Objective Optimization Algorithm Using
+ * Reference-Point-Based Nondominated Sorting Approach</em> (NSGA-III).
+ * <p>
+ * The selector fills the selection front by front, according to the
+ * <em>non-domination</em> rank of the individuals. The individuals of the last,
+ * partially selected front are chosen by <em>niching</em>: all individuals are
+ * normalized and associated with the nearest reference line, and the
+ * individuals associated with the least crowded reference points are preferred.
+ * Unlike the crowding distance used by the {@link NSGA2Selector}, this
+ * preserves the diversity also for problems with more than three objectives.
+ * <p>
+ * The reference points are distributed on the unit simplex, using the
+ * systematic approach of <em>Das and Dennis</em>. For a problem with {@code M}
+ * objectives and {@code p} divisions, {@code binomial(M + p - 1, p)} points are
+ * created. For many objectives, a second, inner layer of reference points with
+ * fewer divisions can be used, which keeps the number of reference points small.
+ *
+ * <pre>{@code
+ * // Selector for a 8-objective problem, with 156 reference points.
+ * final Selector<DoubleGene, Vec<double[]>> selector = NSGA3Selector.ofVec(3, 2);
+ * }</pre>
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      K. Deb and H. Jain. 2014. An Evolutionary Many-Objective Optimization
+ *      Algorithm Using Reference-Point-Based Nondominated Sorting Approach,
+ *      Part I: Solving Problems With Box Constraints. IEEE Transactions on
+ *      Evolutionary Computation 18, 4 (Aug. 2014), 577-601.
+ *      DOI=<a href="http://dx.doi.org/10.1109/TEVC.2013.2281535">
+ *          10.1109/TEVC.2013.2281535</a></em>
+ *
+ * @see NSGA2Selector
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public class NSGA3Selector<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Selector<G, C>
+{
+
+	// Weight of the non-axis objectives, for finding the extreme points.
+	private static final double ASF_EPSILON = 1e-6;
+
+	// Minimal value of the hyperplane intercepts.
+	private static final double INTERCEPT_EPSILON = 1e-10;
+
+	private final FrontSelection<G, C> _selection;
+	private final ElementComparator<Phenotype<G, C>> _comparator;
+	private final ElementDistance<Phenotype<G, C>> _distance;
+	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final int _outerDivisions;
+	private final int _innerDivisions;
+
+	// The reference points only depend on the number of objectives.
+	private final Map<Integer, double[][]> _references =
+		new ConcurrentHashMap<>();
+
+	private NSGA3Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final int outerDivisions,
+		final int innerDivisions,
+		final boolean vec
+	) {
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+		if (outerDivisions < 1) {
+			throw new IllegalArgumentException(format(
+				"Outer divisions must be greater than zero: %d", outerDivisions
+			));
+		}
+		if (innerDivisions < 0) {
+			throw new IllegalArgumentException(format(
+				"Inner divisions must not be negative: %d", innerDivisions
+			));
+		}
+
+		_selection = new FrontSelection<>(
+			(a, b) -> dominance.compare(a.fitness(), b.fitness()),
+			vec,
+			this::lastFront
+		);
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_outerDivisions = outerDivisions;
+		_innerDivisions = innerDivisions;
+	}
+
+	/**
+	 * Creates a new {@code NSGA3Selector} with the functions needed for
+	 * handling the multi-objective result type {@code C}. For the {@link Vec}
+	 * classes, a selector is created like in the following example:
+	 * <pre>{@code
+	 * new NSGA3Selector<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length,
+	 *     12, 0
+	 * );
+	 * }</pre>
+	 *
+	 * @see #ofVec(int, int)
+	 *
+	 * @param dominance the pareto dominance comparator
+	 * @param comparator the vector element comparator
+	 * @param distance the vector element distance
+	 * @param dimension the dimensionality of vector type {@code C}
+	 * @param outerDivisions the number of divisions of the outer layer of
+	 *        reference points
+	 * @param innerDivisions the number of divisions of the inner layer of
+	 *        reference points. If zero, no inner layer is created.
+	 * @throws NullPointerException if one of the functions is {@code null}
+	 * @throws IllegalArgumentException if {@code outerDivisions < 1} or
+	 *         {@code innerDivisions < 0}
+	 */
+	public NSGA3Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final int outerDivisions,
+		final int innerDivisions
+	) {
+		this(
+			dominance,
+			comparator,
+			distance,
+			dimension,
+			outerDivisions,
+			innerDivisions,
+			false
+		);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt
+	) {
+		return _selection.select(population, count, opt);
+	}
+
+	// Chooses the members of the last front by niching.
+	private int[] lastFront(
+		final Seq<Phenotype<G, C>> population,
+		final int[] members,
+		final int fixed,
+		final int count,
+		final Optimize opt
+	) {
+		final double[][] objectives = normalize(population, members, opt);
+		final double[][] references = references(objectives[0].length);
+
+		return niching(objectives, references, members, fixed, count);
+	}
+
+
+	/* *************************************************************************
+	 * Normalization.
+	 * ************************************************************************/
+
+	/**
+	 * Return the normalized objective values of the given members. The
+	 * objectives are translated by the ideal point, so that all values are
+	 * positive and smaller values are better. Then they are divided by the
+	 * intercepts of the hyperplane, spanned by the extreme points.
+	 */
+	private double[][] normalize(
+		final Seq<Phenotype<G, C>> population,
+		final int[] members,
+		final Optimize opt
+	) {
+		final int dim = _dimension.applyAsInt(population.get(members[0]));
+		final ElementComparator<Phenotype<G, C>> comparator =
+			opt == Optimize.MAXIMUM ? _comparator : _comparator.reversed();
+
+		// Ideal point: the best individual of every objective.
+		final int[] ideal = new int[dim];
+		for (int m = 0; m < dim; ++m) {
+			int best = members[0];
+			for (int i = 1; i < members.length; ++i) {
+				final Phenotype<G, C> pt = population.get(members[i]);
+				if (comparator.compare(pt, population.get(best), m) > 0) {
+					best = members[i];
+				}
+			}
+			ideal[m] = best;
+		}
+
+		final double[][] f = new double[members.length][dim];
+		for (int i = 0; i < members.length; ++i) {
+			final Phenotype<G, C> pt = population.get(members[i]);
+			for (int m = 0; m < dim; ++m) {
+				final Phenotype<G, C> best = population.get(ideal[m]);
+				final double value = opt == Optimize.MAXIMUM
+					? _distance.distance(best, pt, m)
+					: _distance.distance(pt, best, m);
+
+				f[i][m] = abs(value);
+			}
+		}
+
+		final double[] intercepts = intercepts(f);
+		for (double[] values : f) {
+			for (int m = 0; m < dim; ++m) {
+				values[m] /= intercepts[m];
+			}
+		}
+
+		return f;
+	}
+
+	// Calculates the intercepts of the hyperplane, spanned by the extreme
+	// points of the translated objectives. If the hyperplane can't be
+	// determined, the maximal objective values are used instead.
+	static double[] intercepts(final double[][] f) {
+		final int dim = f[0].length;
+
+		final double[][] extremes = new double[dim][];
+		for (int m = 0; m < dim; ++m) {
+			double minAsf = Double.POSITIVE_INFINITY;
+			for (double[] values : f) {
+				double asf = 0;
+				for (int j = 0; j < dim; ++j) {
+					asf = max(asf, values[j]/(j == m ? 1.0 : ASF_EPSILON));
+				}
+				if (asf < minAsf) {
+					minAsf = asf;
+					extremes[m] = values;
+				}
+			}
+			if (extremes[m] == null) {
+				extremes[m] = f[0];
+			}
+		}
+
+		final double[] intercepts = new double[dim];
+		final double[] plane = solve(extremes);
+		boolean valid = plane != null;
+		for (int m = 0; valid && m < dim; ++m) {
+			intercepts[m] = 1.0/plane[m];
+			valid = Double.isFinite(intercepts[m]) &&
+				intercepts[m] > INTERCEPT_EPSILON;
+		}
+
+		if (!valid) {
+			for (int m = 0; m < dim; ++m) {
+				double maximum = 0;
+				for (double[] values : f) {
+					maximum = max(maximum, values[m]);
+				}
+				intercepts[m] = maximum > INTERCEPT_EPSILON ? maximum : 1.0;
+			}
+		}
+
+		return intercepts;
+	}
+
+	// Solves the linear system 'a*x = 1' with Gaussian elimination and
+	// partial pivoting. Returns null if the matrix is (nearly) singular.
+	private static double[] solve(final double[][] a) {
+		final int n = a.length;
+		final double[][] m = new double[n][n + 1];
+		for (int i = 0; i < n; ++i) {
+			System.arraycopy(a[i], 0, m[i], 0, n);
+			m[i][n] = 1.0;
+		}
+
+		for (int col = 0; col < n; ++col) {
+			int pivot = col;
+			for (int row = col + 1; row < n; ++row) {
+				if (abs(m[row][col]) > abs(m[pivot][col])) {
+					pivot = row;
+				}
+			}
+			if (abs(m[pivot][col]) < INTERCEPT_EPSILON) {
+				return null;
+			}
+
+			final double[] temp = m[col];
+			m[col] = m[pivot];
+			m[pivot] = temp;
+
+			for (int row = col + 1; row < n; ++row) {
+				final double factor = m[row][col]/m[col][col];
+				for (int k = col; k <= n; ++k) {
+					m[row][k] -= factor*m[col][k];
+				}
+			}
+		}
+
+		final double[] x = new double[n];
+		for (int row = n - 1; row >= 0; --row) {
+			double sum = m[row][n];
+			for (int k = row + 1; k < n; ++k) {
+				sum -= m[row][k]*x[k];
+			}
+			x[row] = sum/m[row][row];
+		}
+		return x;
+	}
+
+
+	/* *************************************************************************
+	 * Association and niching.
+	 * ************************************************************************/
+
+	// Selects the first 'fixed' members and chooses the rest from the
+	// members of the last front, by niching.
+	private static int[] niching(
+		final double[][] objectives,
+		final double[][] references,
+		final int[] members,
+		final int fixed,
+		final int count
+	) {
+		final int refs = references.length;
+		final int[] association = new int[members.length];
+		final double[] distance = new double[members.length];
+		associate(objectives, references, association, distance);
+
+		final int[] niches = new int[refs];
+		for (int i = 0; i < fixed; ++i) {
+			++niches[association[i]];
+		}
+
+		// The candidates of the last front, grouped by its reference point.
+		final int[] offsets = new int[refs + 1];
+		for (int i = fixed; i < members.length; ++i) {
+			++offsets[association[i] + 1];
+		}
+		for (int ref = 1; ref <= refs; ++ref) {
+			offsets[ref] += offsets[ref - 1];
+		}
+		final int[] sizes = new int[refs];
+		final int[] candidates = new int[members.length - fixed];
+		for (int i = fixed; i < members.length; ++i) {
+			final int ref = association[i];
+			candidates[offsets[ref] + sizes[ref]++] = i;
+		}
+
+		final int[] selected = Arrays.copyOf(members, count);
+		final int[] minimal = new int[refs];
+		final Random random = RandomRegistry.random();
+
+		for (int k = fixed; k < count; ++k) {
+			// Reference points with the smallest niche count, which still
+			// have associated candidates.
+			int minNiche = Integer.MAX_VALUE;
+			int length = 0;
+			for (int ref = 0; ref < refs; ++ref) {
+				if (sizes[ref] > 0) {
+					if (niches[ref] < minNiche) {
+						minNiche = niches[ref];
+						length = 0;
+					}
+					if (niches[ref] == minNiche) {
+						minimal[length++] = ref;
+					}
+				}
+			}
+
+			final int ref = minimal[random.nextInt(length)];
+			final int from = offsets[ref];
+			final int until = from + sizes[ref];
+
+			int index;
+			if (niches[ref] == 0) {
+				index = from;
+				for (int i = from + 1; i < until; ++i) {
+					if (distance[candidates[i]] < distance[candidates[index]]) {
+						index = i;
+					}
+				}
+			} else {
+				index = from + random.nextInt(until - from);
+			}
+
+			selected[k] = members[candidates[index]];
+			candidates[index] = candidates[until - 1];
+			--sizes[ref];
+			++niches[ref];
+		}
+
+		return selected;
+	}
+
+	// Associates every point with the reference line with the smallest
+	// perpendicular distance.
+	static void associate(
+		final double[][] objectives,
+		final double[][] references,
+		final int[] association,
+		final double[] distance
+	) {
+		final double[] norms = new double[references.length];
+		for (int r = 0; r < references.length; ++r) {
+			norms[r] = dot(references[r], references[r]);
+		}
+
+		for (int i = 0; i < objectives.length; ++i) {
+			final double[] f = objectives[i];
+			final double length = dot(f, f);
+
+			int best = 0;
+			double minimum = Double.POSITIVE_INFINITY;
+			for (int r = 0; r < references.length; ++r) {
+				final double projection = dot(f, references[r]);
+				final double d = length - projection*projection/norms[r];
+				if (d < minimum) {
+					minimum = d;
+					best = r;
+				}
+			}
+
+			association[i] = best;
+			distance[i] = sqrt(max(minimum, 0));
+		}
+	}
+
+	private static double dot(final double[] a, final double[] b) {
+		double result = 0;
+		for (int i = 0; i < a.length; ++i) {
+			result += a[i]*b[i];
+		}
+		return result;
+	}
+
+
+	/* *************************************************************************
+	 * Reference points.
+	 * ************************************************************************/
+
+	/**
+	 * Return the (cached) reference points of this selector for the given
+	 * number of objectives. The returned points must not be changed.
+	 *
+	 * @param dimension the number of objectives
+	 * @return the reference points
+	 */
+	double[][] references(final int dimension) {
+		return _references.computeIfAbsent(
+			dimension,
+			d -> referencePoints(d, _outerDivisions, _innerDivisions)
+		);
+	}
+
+	/**
+	 * Create the structured reference points on the unit simplex, with the
+	 * given number of divisions (Das and Dennis' systematic approach).
+	 *
+	 * @param dimension the number of objectives
+	 * @param outerDivisions the number of divisions of the outer layer
+	 * @param innerDivisions the number of divisions of the inner layer, which
+	 *        is shrunk by the factor 0.5 towards the center of the simplex.
+	 *        If zero, no inner layer is created.
+	 * @return the reference points
+	 */
+	static double[][] referencePoints(
+		final int dimension,
+		final int outerDivisions,
+		final int innerDivisions
+	) {
+		final List<double[]> points = new ArrayList<>();
+		layer(dimension, outerDivisions, 1.0, points);
+		if (innerDivisions > 0) {
+			layer(dimension, innerDivisions, 0.5, points);
+		}
+		return points.toArray(new double[0][]);
+	}
+
+	private static void layer(
+		final int dimension,
+		final int divisions,
+		final double scale,
+		final List<double[]> points
+	) {
+		final double shift = (1.0 - scale)/dimension;
+		final int[] parts = new int[dimension];
+
+		compose(parts, 0, divisions, () -> {
+			final double[] point = new double[dimension];
+			for (int m = 0; m < dimension; ++m) {
+				point[m] = scale*parts[m]/divisions + shift;
+			}
+			points.add(point);
+		});
+	}
+
+	// Enumerates all compositions of 'remaining' into the parts, starting
+	// with the given index.
+	private static void compose(
+		final int[] parts,
+		final int index,
+		final int remaining,
+		final Runnable action
+	) {
+		if (index == parts.length - 1) {
+			parts[index] = remaining;
+			action.run();
+		} else {
+			for (int i = 0; i <= remaining; ++i) {
+				parts[index] = i;
+				compose(parts, index + 1, remaining - i, action);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"%s[p=%d, q=%d]",
+			getClass().getSimpleName(),
+			_outerDivisions,
+			_innerDivisions
+		);
+	}
+
+	/**
+	 * Return a new selector for the given result type {@code V}. This method is
+	 * a shortcut for
+	 * <pre>{@code
+	 * new NSGA3Selector<>(
+	 *     Vec<T>::dominance,
+	 *     Vec<T>::compare,
+	 *     Vec<T>::distance,
+	 *     Vec<T>::length,
+	 *     outerDivisions,
+	 *     innerDivisions
+	 * );
+	 * }</pre>
+	 *
+	 * @param outerDivisions the number of divisions of the outer layer of
+	 *        reference points
+	 * @param innerDivisions the number of divisions of the inner layer of
+	 *        reference points. If zero, no inner layer is created.
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 * @throws IllegalArgumentException if {@code outerDivisions < 1} or
+	 *         {@code innerDivisions < 0}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	NSGA3Selector<G, V> ofVec(final int outerDivisions, final int innerDivisions) {
+		return new NSGA3Selector<>(
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length,
+			outerDivisions,
+			innerDivisions,
+			true
+		);
+	}
+
+	/**
+	 * Return a new selector for the given result type {@code V}, with one layer
+	 * of reference points.
+	 *
+	 * @see #ofVec(int, int)
+	 *
+	 * @param divisions the number of divisions of the reference points
+	 * @param <G> the gene type
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the multi object result type vector
+	 * @return a new selector for the given result type {@code V}
+	 * @throws IllegalArgumentException if {@code divisions < 1}
+	 */
+	public static <G extends Gene<?, G>, T, V extends Vec<T>>
+	NSGA3Selector<G, V> ofVec(final int divisions) {
+		return ofVec(divisions, 0);
+	}
+
+}
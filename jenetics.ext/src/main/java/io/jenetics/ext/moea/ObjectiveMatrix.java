@@ -0,0 +1,343 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Double.POSITIVE_INFINITY;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import io.jenetics.Optimize;
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ProxySorter;
+
+import io.jenetics.ext.internal.IntList;
+
+/**
+ * Column oriented (structure of arrays) view of the objective values of a
+ * point set. Every objective is stored in its own contiguous array, which
+ * makes the inner loops of the dominance and crowding distance calculations
+ * cache-friendly and free of virtual calls.
+ * <p>
+ * The matrix stores two representations of the objective values. The
+ * <em>values</em> are used for the distance calculations and the
+ * <em>keys</em> for comparing the objectives. The keys are {@code long}
+ * values, whose natural order is the order of the objective values, already
+ * reversed for {@link Optimize#MINIMUM} problems. For {@code double} values,
+ * the order of the keys is the order defined by
+ * {@link Double#compare(double, double)}.
+ * <p>
+ * Only the {@link Vec} implementations created by the {@code Vec.of(...)}
+ * factory methods for {@code int[]}, {@code long[]} and {@code double[]}
+ * arrays are supported. All other vector types must be handled by the
+ * general {@link Pareto} methods.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ObjectiveMatrix {
+
+	private final double[][] _values;
+	private final long[][] _keys;
+	private final int _size;
+
+	private ObjectiveMatrix(
+		final double[][] values,
+		final long[][] keys,
+		final int size
+	) {
+		_values = values;
+		_keys = keys;
+		_size = size;
+	}
+
+	/**
+	 * Return the number of points (rows) of the matrix.
+	 *
+	 * @return the number of points of the matrix
+	 */
+	int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the number of objectives (columns) of the matrix.
+	 *
+	 * @return the number of objectives of the matrix
+	 */
+	int dimension() {
+		return _values.length;
+	}
+
+	/**
+	 * Return the objective values of the given objective, for all points. The
+	 * returned array must not be changed.
+	 *
+	 * @param objective the objective index
+	 * @return the values of the given objective
+	 */
+	double[] values(final int objective) {
+		return _values[objective];
+	}
+
+	/**
+	 * Return the value of the given objective of the point with the given
+	 * index.
+	 *
+	 * @param index the point index
+	 * @param objective the objective index
+	 * @return the objective value
+	 */
+	double get(final int index, final int objective) {
+		return _values[objective][index];
+	}
+
+	/**
+	 * Calculates the Pareto dominance of the points with index {@code i} and
+	 * {@code j}.
+	 *
+	 * @see Pareto#dominance(double[], double[])
+	 *
+	 * @param i the index of the first point
+	 * @param j the index of the second point
+	 * @return {@code 1} if point {@code i} dominates point {@code j},
+	 *         {@code -1} if point {@code j} dominates point {@code i} and
+	 *         {@code 0} otherwise
+	 */
+	int dominance(final int i, final int j) {
+		boolean idominated = false;
+		boolean jdominated = false;
+
+		for (long[] keys : _keys) {
+			if (keys[i] > keys[j]) {
+				jdominated = true;
+				if (idominated) {
+					return 0;
+				}
+			} else if (keys[i] < keys[j]) {
+				idominated = true;
+				if (jdominated) {
+					return 0;
+				}
+			}
+		}
+
+		if (idominated == jdominated) {
+			return 0;
+		} else if (jdominated) {
+			return 1;
+		} else {
+			return -1;
+		}
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the points. The result
+	 * is the same as the result of {@link Pareto#rank(BaseSeq)}.
+	 *
+	 * @return the <em>non-domination</em> rank of the points
+	 */
+	int[] rank() {
+		final RankEvent event = new RankEvent();
+		event.begin();
+		return event.commit(ranks());
+	}
+
+	private int[] ranks() {
+		final int n = _size;
+		final IntList[] dominated = new IntList[n];
+		final int[] counts = new int[n];
+		for (int p = 0; p < n; ++p) {
+			dominated[p] = new IntList();
+		}
+
+		// The better and worse flags of the point p compared to the points
+		// p + 1 until n, calculated one objective at a time.
+		final boolean[] better = new boolean[n];
+		final boolean[] worse = new boolean[n];
+
+		for (int p = 0; p < n - 1; ++p) {
+			Arrays.fill(better, p + 1, n, false);
+			Arrays.fill(worse, p + 1, n, false);
+
+			for (long[] keys : _keys) {
+				final long key = keys[p];
+				for (int q = p + 1; q < n; ++q) {
+					better[q] |= key > keys[q];
+					worse[q] |= key < keys[q];
+				}
+			}
+
+			for (int q = p + 1; q < n; ++q) {
+				if (better[q] && !worse[q]) {
+					dominated[p].add(q);
+					++counts[q];
+				} else if (worse[q] && !better[q]) {
+					dominated[q].add(p);
+					++counts[p];
+				}
+			}
+		}
+
+		// Peeling of the non-dominated fronts.
+		final int[] ranks = new int[n];
+		IntList front = new IntList();
+		for (int p = 0; p < n; ++p) {
+			if (counts[p] == 0) {
+				front.add(p);
+			}
+		}
+
+		int rank = 0;
+		while (!front.isEmpty()) {
+			final IntList next = new IntList();
+			for (int i = 0; i < front.size(); ++i) {
+				final int p = front.get(i);
+				ranks[p] = rank;
+
+				final IntList Sp = dominated[p];
+				for (int k = 0; k < Sp.size(); ++k) {
+					final int q = Sp.get(k);
+					if (--counts[q] == 0) {
+						next.add(q);
+					}
+				}
+			}
+
+			++rank;
+			front = next;
+		}
+
+		return ranks;
+	}
+
+	/**
+	 * Calculates the crowding distance of the points. The result is the same
+	 * as the result of {@link Pareto#crowdingDistance(BaseSeq)}, with the
+	 * element comparator reversed for {@link Optimize#MINIMUM} problems.
+	 *
+	 * @return the crowding distances of the points
+	 */
+	double[] crowdingDistance() {
+		final int n = _size;
+		final double[] result = new double[n];
+		if (n < 3) {
+			Arrays.fill(result, POSITIVE_INFINITY);
+		} else {
+			for (int m = 0; m < _keys.length; ++m) {
+				final double[] values = _values[m];
+				final int[] idx = ProxySorter.parallelSort(
+					_keys[m], n,
+					(a, i, j) -> Long.compare(a[j], a[i])
+				);
+
+				result[idx[0]] = POSITIVE_INFINITY;
+				result[idx[n - 1]] = POSITIVE_INFINITY;
+
+				final double dm = values[idx[0]] - values[idx[n - 1]];
+				if (Double.compare(dm, 0) > 0) {
+					for (int i = 1; i < n - 1; ++i) {
+						result[idx[i]] +=
+							(values[idx[i - 1]] - values[idx[i + 1]])/dm;
+					}
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Creates the objective matrix of the given point {@code set}, if the
+	 * vectors are supported by the matrix representation.
+	 *
+	 * @param set the point set
+	 * @param vec the function, which returns the vector of a set element
+	 * @param opt the optimization strategy
+	 * @param <T> the element type
+	 * @return the objective matrix of the given point set, or {@code null} if
+	 *         the vector type is not supported, the vectors have different
+	 *         lengths or the set is empty
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static <T> ObjectiveMatrix of(
+		final BaseSeq<? extends T> set,
+		final Function<? super T, ? extends Vec<?>> vec,
+		final Optimize opt
+	) {
+		requireNonNull(vec);
+		requireNonNull(opt);
+		if (set.isEmpty()) {
+			return null;
+		}
+
+		final int n = set.length();
+		final Vec<?> first = vec.apply(set.get(0));
+		final Class<?> type = first.getClass();
+		if (type != SimpleDoubleVec.class &&
+			type != SimpleIntVec.class &&
+			type != SimpleLongVec.class)
+		{
+			return null;
+		}
+
+		final int dimension = first.length();
+		final double[][] values = new double[dimension][n];
+		final long[][] keys = new long[dimension][n];
+		final long mask = opt == Optimize.MAXIMUM ? 0L : -1L;
+
+		for (int i = 0; i < n; ++i) {
+			final Vec<?> v = vec.apply(set.get(i));
+			if (v.getClass() != type || v.length() != dimension) {
+				return null;
+			}
+
+			final Object data = v.data();
+			for (int m = 0; m < dimension; ++m) {
+				final long key;
+				if (type == SimpleDoubleVec.class) {
+					values[m][i] = ((double[])data)[m];
+					key = key(values[m][i]);
+				} else if (type == SimpleIntVec.class) {
+					key = ((int[])data)[m];
+					values[m][i] = key;
+				} else {
+					key = ((long[])data)[m];
+					values[m][i] = key;
+				}
+
+				// The bitwise complement reverses the order of the keys.
+				keys[m][i] = key^mask;
+			}
+		}
+
+		return new ObjectiveMatrix(values, keys, n);
+	}
+
+	// Maps the double value to a long, which preserves the order defined by
+	// the 'Double.compare' method.
+	private static long key(final double value) {
+		final long bits = Double.doubleToLongBits(value);
+		return bits^((bits >> 63) & Long.MAX_VALUE);
+	}
+
+}
@@ -20,6 +20,8 @@
 package io.jenetics.ext.moea;
 
 import static java.lang.Double.POSITIVE_INFINITY;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
@@ -27,12 +29,17 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.ToIntFunction;
 
+import io.jenetics.Optimize;
+import io.jenetics.internal.util.Concurrency;
 import io.jenetics.util.BaseSeq;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.ProxySorter;
+import io.jenetics.util.Seq;
 
 import io.jenetics.ext.internal.IntList;
 
@@ -41,11 +48,15 @@ import io.jenetics.ext.internal.IntList;
  * are mostly for users who wants to extend the existing <em>MOEA</em> classes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 public final class Pareto {
 
+	// Minimal number of elements per task, of the concurrent front and rank
+	// calculation.
+	private static final int BLOCK_SIZE = 256;
+
 	private Pareto() {
 	}
 
@@ -64,6 +75,11 @@ public final class Pareto {
 	 * {@code O(d*n*log(n))}, where {@code d} is the number of dimensions and
 	 * {@code n} the {@code set} size.
 	 *
+	 * @implNote
+	 * For the vectors created with the {@code Vec.of(...)} methods for
+	 * primitive arrays, the calculation is done on a column oriented copy of
+	 * the objective values.
+	 *
 	 * @see #crowdingDistance(BaseSeq, ElementComparator, ElementDistance, ToIntFunction)
 	 *
 	 * @param set the point set used for calculating the <em>crowding distance</em>
@@ -74,6 +90,12 @@ public final class Pareto {
 	 */
 	public static <T> double[]
 	crowdingDistance(final BaseSeq<? extends Vec<T>> set) {
+		final ObjectiveMatrix matrix =
+			ObjectiveMatrix.of(set, Function.identity(), Optimize.MAXIMUM);
+		if (matrix != null) {
+			return matrix.crowdingDistance();
+		}
+
 		return crowdingDistance(
 			set,
 			Vec::compare,
@@ -119,7 +141,7 @@ public final class Pareto {
 			Arrays.fill(result, POSITIVE_INFINITY);
 		} else {
 			for (int m = 0, d = dimension.applyAsInt(set.get(0)); m < d; ++m) {
-				final int[] idx = ProxySorter.sort(
+				final int[] idx = ProxySorter.parallelSort(
 					set,
 					comparator.ofIndex(m).reversed()
 				);
@@ -169,11 +191,22 @@ public final class Pareto {
 	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 6, NO. 2,
 	 *      APRIL 2002.</em>
 	 *
+	 * @implNote
+	 * For the vectors created with the {@code Vec.of(...)} methods for
+	 * primitive arrays, the calculation is done on a column oriented copy of
+	 * the objective values.
+	 *
 	 * @param set the input set
 	 * @param <T> the element type
 	 * @return the <em>non-domination</em> rank of the given input {@code set}
 	 */
 	public static <T> int[] rank(final BaseSeq<? extends Vec<T>> set) {
+		final ObjectiveMatrix matrix =
+			ObjectiveMatrix.of(set, Function.identity(), Optimize.MAXIMUM);
+		if (matrix != null) {
+			return matrix.rank();
+		}
+
 		return rank(set, Vec::dominance);
 	}
 
@@ -202,15 +235,78 @@ public final class Pareto {
 		final BaseSeq<? extends T> set,
 		final Comparator<? super T> dominance
 	) {
+		final RankEvent event = new RankEvent();
+		event.begin();
+
 		// Pre-compute the dominance relations.
 		final int[][] d = new int[set.length()][set.length()];
-		for (int i = 0; i < set.length(); ++i) {
+		dominance(set, dominance, d, 0, 1);
+
+		return event.commit(rank(set, d));
+	}
+
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given input
+	 * {@code set}, using the given {@code dominance} comparator. The dominance
+	 * relations of the set elements are calculated concurrently, by the given
+	 * {@code executor}.
+	 *
+	 * @see #rank(BaseSeq, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param set the input set
+	 * @param dominance the dominance comparator used
+	 * @param executor the executor used for calculating the dominance
+	 *        relations
+	 * @param <T> the element type
+	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> int[] rank(
+		final BaseSeq<? extends T> set,
+		final Comparator<? super T> dominance,
+		final Executor executor
+	) {
+		requireNonNull(dominance);
+		requireNonNull(executor);
+
+		final RankEvent event = new RankEvent();
+		event.begin();
+
+		final int[][] d = new int[set.length()][set.length()];
+
+		// The rows are distributed round-robin to the tasks, which balances
+		// the work of the triangular dominance matrix. Every task writes
+		// disjoint matrix cells, no further synchronization is needed.
+		final int tasks = min(Concurrency.CORES*4, max(set.length()/BLOCK_SIZE, 1));
+		try (Concurrency c = Concurrency.with(executor)) {
+			for (int t = 0; t < tasks; ++t) {
+				final int task = t;
+				c.execute(() -> dominance(set, dominance, d, task, tasks));
+			}
+		}
+
+		return event.commit(rank(set, d));
+	}
+
+	// Calculates the dominance relations of the rows 'from + k*step'.
+	private static <T> void dominance(
+		final BaseSeq<? extends T> set,
+		final Comparator<? super T> dominance,
+		final int[][] d,
+		final int from,
+		final int step
+	) {
+		for (int i = from; i < set.length(); i += step) {
 			for (int j = i + 1; j < set.length(); ++j) {
 				d[i][j] = dominance.compare(set.get(i), set.get(j));
 				d[j][i] = -d[i][j];
 			}
 		}
+	}
 
+	private static int[] rank(final BaseSeq<?> set, final int[][] d) {
 		// Compute for each element p the element q that it dominates and the
 		// number of times it is dominated. Using the names as defined in the
 		// referenced paper.
@@ -322,7 +418,99 @@ public final class Pareto {
 		final Comparator<? super T> dominance
 	) {
 		final MSeq<T> front = MSeq.of(set);
+		final int n = eliminate(front, dominance);
+
+		return front.subSeq(0, n).copy().toISeq();
+	}
+
+	/**
+	 * Return the elements, from the given input {@code set}, which are part of
+	 * the pareto front. The calculation is done concurrently, by the given
+	 * {@code executor}. The input set is split into blocks, whose pareto fronts
+	 * are calculated independently. In a second step, the elements of every
+	 * block front, which are dominated by an element of another block front,
+	 * are removed. The blocks are processed in parallel and every task writes
+	 * only its own result slot, so the merge needs no locking.
+	 * <p>
+	 * The returned front contains the same elements as the front returned by
+	 * {@link #front(BaseSeq, Comparator)}, but possibly in a different order.
+	 *
+	 * @see #front(BaseSeq, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param set the input set
+	 * @param dominance the dominance comparator used
+	 * @param executor the executor used for calculating the pareto front
+	 * @param <T> the element type
+	 * @return the elements which are part of the pareto set
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> ISeq<T> front(
+		final BaseSeq<? extends T> set,
+		final Comparator<? super T> dominance,
+		final Executor executor
+	) {
+		requireNonNull(dominance);
+		requireNonNull(executor);
+
+		final int blocks = min(Concurrency.CORES*4, max(set.length()/BLOCK_SIZE, 1));
+		if (blocks == 1) {
+			return front(set, dominance);
+		}
+
+		// Pareto fronts of the single blocks.
+		final List<MSeq<T>> fronts = new ArrayList<>(blocks);
+		for (int b = 0; b < blocks; ++b) {
+			fronts.add(null);
+		}
+		try (Concurrency c = Concurrency.with(executor)) {
+			for (int b = 0; b < blocks; ++b) {
+				final int block = b;
+				c.execute(() -> {
+					final int from = (int)((long)set.length()*block/blocks);
+					final int until = (int)((long)set.length()*(block + 1)/blocks);
+
+					final MSeq<T> front = MSeq.ofLength(until - from);
+					for (int i = from; i < until; ++i) {
+						front.set(i - from, set.get(i));
+					}
+					fronts.set(block, front.subSeq(0, eliminate(front, dominance)));
+				});
+			}
+		}
+
+		// Removing the elements, which are dominated by other block fronts.
+		final List<MSeq<T>> merged = new ArrayList<>(fronts);
+		try (Concurrency c = Concurrency.with(executor)) {
+			for (int b = 0; b < blocks; ++b) {
+				final int block = b;
+				c.execute(() -> {
+					final MSeq<T> front = fronts.get(block).copy();
+					int n = front.size();
+					for (int o = 0; o < blocks && n > 0; ++o) {
+						if (o != block) {
+							n = eliminate(front, n, fronts.get(o), dominance);
+						}
+					}
+					merged.set(block, front.subSeq(0, n));
+				});
+			}
+		}
 
+		final List<T> result = new ArrayList<>();
+		for (MSeq<T> front : merged) {
+			result.addAll(front.asList());
+		}
+		return ISeq.of(result);
+	}
+
+	// Moves the non-dominated elements to the front of the given sequence and
+	// returns its number.
+	private static <T> int eliminate(
+		final MSeq<T> front,
+		final Comparator<? super T> dominance
+	) {
 		int n = front.size();
 		int i = 0;
 		while (i < n) {
@@ -343,7 +531,32 @@ public final class Pareto {
 			++i;
 		}
 
-		return front.subSeq(0, n).copy().toISeq();
+		return n;
+	}
+
+	// Moves the first 'n' elements, which are not dominated by any of the
+	// 'others', to the front of the given sequence and returns its number.
+	private static <T> int eliminate(
+		final MSeq<T> front,
+		final int n,
+		final Seq<T> others,
+		final Comparator<? super T> dominance
+	) {
+		int size = n;
+		int i = 0;
+		while (i < size) {
+			boolean dominated = false;
+			for (int j = 0; j < others.size() && !dominated; ++j) {
+				dominated = dominance.compare(others.get(j), front.get(i)) > 0;
+			}
+			if (dominated) {
+				front.swap(i, --size);
+			} else {
+				++i;
+			}
+		}
+
+		return size;
 	}
 
 
@@ -459,6 +672,104 @@ public final class Pareto {
 		);
 	}
 
+	/**
+	 * Calculates the <em>ε-box dominance</em> of the two vectors <b>u</b> and
+	 * <b>v</b>, where all objectives are maximized. The objective space is
+	 * divided into boxes, with the side length {@code epsilon[i]} for
+	 * objective {@code i}. Vector <b>u</b> ε-dominates <b>v</b> if the box of
+	 * <b>u</b> dominates the box of <b>v</b>. If both vectors are in the same
+	 * box, the vector which is closer to the best corner of the box dominates
+	 * the other one. This guarantees, that a non-dominated set contains at
+	 * most one vector per box, which bounds the size of the pareto front by
+	 * the given {@code epsilon} resolution.
+	 * <p>
+	 *  <b>Reference:</b><em>
+	 *      M. Laumanns, L. Thiele, K. Deb and E. Zitzler. 2002. Combining
+	 *      Convergence and Diversity in Evolutionary Multiobjective
+	 *      Optimization. Evolutionary Computation 10, 3 (Sep. 2002), 263-282.
+	 *      DOI=<a href="http://dx.doi.org/10.1162/106365602760234108">
+	 *          10.1162/106365602760234108</a></em>
+	 *
+	 * @see Vec#epsilonDominance(double[], double[], double[])
+	 *
+	 * @since 6.1
+	 *
+	 * @param u the first vector
+	 * @param v the second vector
+	 * @param epsilon the box size of every objective
+	 * @return {@code 1} if <b>u</b> ≻<sub>ε</sub> <b>v</b>, {@code -1} if
+	 *         <b>v</b> ≻<sub>ε</sub> <b>u</b> and {@code 0} otherwise
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the array lengths are not equal or
+	 *         one of the {@code epsilon} values is not positive
+	 */
+	public static int epsilonDominance(
+		final double[] u,
+		final double[] v,
+		final double[] epsilon
+	) {
+		checkLength(u.length, v.length);
+		checkLength(u.length, epsilon.length);
+		checkEpsilon(epsilon);
+
+		return epsilonDominance(u, v, epsilon, null);
+	}
+
+	// The maximisations flags are null, if all objectives are maximized.
+	static int epsilonDominance(
+		final double[] u,
+		final double[] v,
+		final double[] epsilon,
+		final boolean[] maximisations
+	) {
+		boolean udominated = false;
+		boolean vdominated = false;
+		double udistance = 0;
+		double vdistance = 0;
+
+		for (int i = 0; i < epsilon.length; ++i) {
+			final boolean max = maximisations == null || maximisations[i];
+			final double a = (max ? u[i] : -u[i])/epsilon[i];
+			final double b = (max ? v[i] : -v[i])/epsilon[i];
+			final double abox = Math.floor(a);
+			final double bbox = Math.floor(b);
+
+			if (abox > bbox) {
+				vdominated = true;
+				if (udominated) {
+					return 0;
+				}
+			} else if (abox < bbox) {
+				udominated = true;
+				if (vdominated) {
+					return 0;
+				}
+			}
+
+			udistance += (abox + 1 - a)*(abox + 1 - a);
+			vdistance += (bbox + 1 - b)*(bbox + 1 - b);
+		}
+
+		if (vdominated) {
+			return 1;
+		} else if (udominated) {
+			return -1;
+		} else {
+			return Double.compare(vdistance, udistance);
+		}
+	}
+
+	static void checkEpsilon(final double[] epsilon) {
+		for (double e : epsilon) {
+			if (!(e > 0) || !Double.isFinite(e)) {
+				throw new IllegalArgumentException(format(
+					"Epsilon values must be positive and finite: %s",
+					Arrays.toString(epsilon)
+				));
+			}
+		}
+	}
+
 	private static void checkLength(final int i, final int j) {
 		if (i != j) {
 			throw new IllegalArgumentException(format(
@@ -0,0 +1,66 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event, which is emitted for every <em>non-domination</em> rank
+ * calculation.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@Name(RankEvent.NAME)
+@Label("Pareto Rank")
+@Category({"Jenetics", "MOEA"})
+@Description("Calculation of the non-domination rank of a set")
+@StackTrace(false)
+final class RankEvent extends jdk.jfr.Event {
+
+	static final String NAME = "io.jenetics.ext.ParetoRank";
+
+	@Label("Set Size")
+	int size;
+
+	@Label("Fronts")
+	@Description("Number of non-dominated fronts")
+	int fronts;
+
+	int[] commit(final int[] rank) {
+		end();
+		if (shouldCommit()) {
+			size = rank.length;
+			int max = -1;
+			for (int r : rank) {
+				max = Math.max(max, r);
+			}
+			fronts = max + 1;
+			commit();
+		}
+		return rank;
+	}
+
+}
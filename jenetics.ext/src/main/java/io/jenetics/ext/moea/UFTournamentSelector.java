@@ -25,10 +25,11 @@ import static io.jenetics.internal.math.Combinatorics.subset;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.function.ToIntFunction;
-import java.util.stream.Collectors;
 
 import io.jenetics.Gene;
 import io.jenetics.Optimize;
@@ -58,7 +59,7 @@ import io.jenetics.util.Seq;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 public class UFTournamentSelector<
@@ -72,6 +73,28 @@ public class UFTournamentSelector<
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
 
+	// Indicates that the fitness values are compared by the Vec methods.
+	private final boolean _vec;
+
+	private UFTournamentSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean vec
+	) {
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		_dominance = (a, b) -> dominance.compare(a.fitness(), b.fitness());
+		_comparator = comparator.map(Phenotype::fitness);
+		_distance = distance.map(Phenotype::fitness);
+		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_vec = vec;
+	}
+
 	/**
 	 * Creates a new {@code UFTournamentSelector} with the functions needed for
 	 * handling the multi-objective result type {@code C}. For the {@link Vec}
@@ -98,15 +121,7 @@ public class UFTournamentSelector<
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
 	) {
-		requireNonNull(dominance);
-		requireNonNull(comparator);
-		requireNonNull(distance);
-		requireNonNull(dimension);
-
-		_dominance = (a, b) -> dominance.compare(a.fitness(), b.fitness());
-		_comparator = comparator.map(Phenotype::fitness);
-		_distance = distance.map(Phenotype::fitness);
-		_dimension = v -> dimension.applyAsInt(v.fitness());
+		this(dominance, comparator, distance, dimension, false);
 	}
 
 	@Override
@@ -117,14 +132,21 @@ public class UFTournamentSelector<
 	) {
 		final Random random = RandomRegistry.random();
 
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
-			population,
-			opt,
-			_dominance,
-			_comparator,
-			_distance,
-			_dimension
-		);
+		final ObjectiveMatrix matrix = _vec
+			? ObjectiveMatrix.of(population, pt -> (Vec<?>)pt.fitness(), opt)
+			: null;
+
+		final CrowdedComparator<Phenotype<G, C>> cc = matrix != null
+			? new CrowdedComparator<>(matrix)
+			: new CrowdedComparator<>(
+				population,
+				opt,
+				_dominance,
+				_comparator,
+				_distance,
+				_dimension
+			);
+		final Equivalence equivalence = new Equivalence(population);
 
 		final List<Phenotype<G, C>> S = new ArrayList<>();
 		while (S.size() < count) {
@@ -142,18 +164,60 @@ public class UFTournamentSelector<
 					p = random.nextBoolean() ? G[j] : G[j + 1];
 				}
 
-				final C fitness = population.get(p).fitness();
-				final List<Phenotype<G, C>> list = population.stream()
-					.filter(pt -> pt.fitness().equals(fitness))
-					.collect(Collectors.toList());
-
-				S.add(list.get(random.nextInt(list.size())));
+				S.add(population.get(equivalence.pick(p, random)));
 			}
 		}
 
 		return ISeq.of(S);
 	}
 
+	/**
+	 * Groups the population indexes by equal fitness values. The members of a
+	 * group are stored consecutively, in population order, which allows to pick
+	 * a random individual with the same fitness in constant time.
+	 */
+	private static final class Equivalence {
+		private final int[] _groups;
+		private final int[] _offsets;
+		private final int[] _members;
+
+		Equivalence(final Seq<? extends Phenotype<?, ?>> population) {
+			final int size = population.size();
+			final Map<Object, Integer> ids = new HashMap<>();
+
+			_groups = new int[size];
+			for (int i = 0; i < size; ++i) {
+				final Integer id = ids.putIfAbsent(
+					population.get(i).fitness(),
+					ids.size()
+				);
+				_groups[i] = id != null ? id : ids.size() - 1;
+			}
+
+			// Counting sort of the indexes by its group id.
+			_offsets = new int[ids.size() + 1];
+			for (int group : _groups) {
+				++_offsets[group + 1];
+			}
+			for (int i = 1; i < _offsets.length; ++i) {
+				_offsets[i] += _offsets[i - 1];
+			}
+
+			final int[] next = _offsets.clone();
+			_members = new int[size];
+			for (int i = 0; i < size; ++i) {
+				_members[next[_groups[i]]++] = i;
+			}
+		}
+
+		// Return a random index with the same fitness as the given one.
+		int pick(final int index, final Random random) {
+			final int group = _groups[index];
+			final int from = _offsets[group];
+			return _members[from + random.nextInt(_offsets[group + 1] - from)];
+		}
+	}
+
 	/**
 	 * Return a new selector for the given result type {@code V}. This method is
 	 * a shortcut for
@@ -177,7 +241,8 @@ public class UFTournamentSelector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
@@ -53,7 +53,7 @@ import java.util.Comparator;
  *     Pareto efficiency</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 6.1
  * @since 4.1
  */
 public interface Vec<T> extends Comparable<Vec<T>> {
@@ -255,6 +255,32 @@ public interface Vec<T> extends Comparable<Vec<T>> {
 		return Pareto.dominance(u, v);
 	}
 
+	/**
+	 * Calculates the <em>ε-box dominance</em> of the two vectors <b>u</b> and
+	 * <b>v</b>, where all objectives are maximized.
+	 *
+	 * @see Pareto#epsilonDominance(double[], double[], double[])
+	 * @see VecFactory#ofDoubleVec(double[], java.util.List)
+	 *
+	 * @since 6.1
+	 *
+	 * @param u the first vector
+	 * @param v the second vector
+	 * @param epsilon the box size of every objective
+	 * @return {@code 1} if <b>u</b> ≻<sub>ε</sub> <b>v</b>, {@code -1} if
+	 *         <b>v</b> ≻<sub>ε</sub> <b>u</b> and {@code 0} otherwise
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the array lengths are not equal or
+	 *         one of the {@code epsilon} values is not positive
+	 */
+	static int epsilonDominance(
+		final double[] u,
+		final double[] v,
+		final double[] epsilon
+	) {
+		return Pareto.epsilonDominance(u, v, epsilon);
+	}
+
 	/* *************************************************************************
 	 * Static factory functions for wrapping ordinary arrays.
 	 * ************************************************************************/
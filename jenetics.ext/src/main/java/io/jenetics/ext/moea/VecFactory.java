@@ -19,6 +19,7 @@
  */
 package io.jenetics.ext.moea;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -53,7 +54,7 @@ import io.jenetics.Optimize;
  * @see Vec
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 5.2
  */
 @FunctionalInterface
@@ -247,6 +248,77 @@ public interface VecFactory<T> {
 		return Vec::of;
 	}
 
+	/**
+	 * Create a new factory for {@code double[]} vectors, which uses the
+	 * <em>ε-box dominance</em> as dominance measure. The objective space is
+	 * divided into boxes of the given {@code epsilon} size and only one vector
+	 * per box can be part of a pareto front. This bounds the size of the
+	 * fronts of continuous problems, calculated by the {@link ParetoFront},
+	 * the {@link NSGA2Selector} or the {@link MOEA#toParetoSet()} collector,
+	 * which makes them proportionally cheaper. Additionally you can specify
+	 * the optimization direction (maximization or minimization) for each
+	 * dimension.
+	 *
+	 * <pre>{@code
+	 * final VecFactory<double[]> factory = VecFactory.ofDoubleVec(
+	 *     new double[]{0.01, 0.05},
+	 *     List.of(Optimize.MAXIMUM, Optimize.MINIMUM)
+	 * );
+	 * }</pre>
+	 *
+	 * @see Pareto#epsilonDominance(double[], double[], double[])
+	 * @see #ofDoubleVec(double[], Optimize...)
+	 *
+	 * @apiNote
+	 * Only one factory instance should be used for a given multi-objective
+	 * <em>problem</em>.
+	 *
+	 * @since 6.1
+	 *
+	 * @param epsilon the box size of every dimension
+	 * @param optimizes the optimization <em>direction</em> for each dimension
+	 * @return a new factory for {@code double[]} vectors
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code optimizes} length is zero,
+	 *         the {@code epsilon} length doesn't match the {@code optimizes}
+	 *         length or one of the {@code epsilon} values is not positive
+	 */
+	static VecFactory<double[]> ofDoubleVec(
+		final double[] epsilon,
+		final List<Optimize> optimizes
+	) {
+		return new EpsilonDoubleVecFactory(epsilon, optimizes);
+	}
+
+	/**
+	 * Create a new factory for {@code double[]} vectors, which uses the
+	 * <em>ε-box dominance</em> as dominance measure. If no {@code optimizes}
+	 * are given, all dimensions are maximized.
+	 *
+	 * @see #ofDoubleVec(double[], List)
+	 *
+	 * @since 6.1
+	 *
+	 * @param epsilon the box size of every dimension
+	 * @param optimizes the optimization <em>direction</em> for each dimension
+	 * @return a new factory for {@code double[]} vectors
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code epsilon} length is zero,
+	 *         the {@code optimizes} length doesn't match the {@code epsilon}
+	 *         length or one of the {@code epsilon} values is not positive
+	 */
+	static VecFactory<double[]> ofDoubleVec(
+		final double[] epsilon,
+		final Optimize... optimizes
+	) {
+		return ofDoubleVec(
+			epsilon,
+			optimizes.length == 0
+				? Collections.nCopies(epsilon.length, Optimize.MAXIMUM)
+				: List.of(optimizes)
+		);
+	}
+
 	/**
 	 * Create a new factory for {@code T[]} vectors. Additionally you can
 	 * specify the optimization direction (maximization or minimization) for
@@ -0,0 +1,61 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.rewriting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event, which is emitted for every rewrite pass over a tree. A pass
+ * applies all rewriters once to the tree.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@Name(RewriteEvent.NAME)
+@Label("Rewrite Pass")
+@Category({"Jenetics", "Rewriting"})
+@Description("One rewrite pass over a tree")
+@StackTrace(false)
+final class RewriteEvent extends jdk.jfr.Event {
+
+	static final String NAME = "io.jenetics.ext.RewritePass";
+
+	@Label("Pass")
+	int pass;
+
+	@Label("Rewrites")
+	@Description("Number of rewrites performed in this pass")
+	int rewrites;
+
+	void commit(final int pass, final int rewrites) {
+		end();
+		if (shouldCommit()) {
+			this.pass = pass;
+			this.rewrites = rewrites;
+			commit();
+		}
+	}
+
+}
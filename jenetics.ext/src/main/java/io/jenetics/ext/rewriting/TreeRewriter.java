@@ -51,7 +51,7 @@ import io.jenetics.ext.util.TreeNode;
  * The rewriting is done in place, to a mutable {@link TreeNode} object.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 @FunctionalInterface
@@ -124,13 +124,18 @@ public interface TreeRewriter<V> {
 
 		int rewritten = 0;
 		int count = 0;
+		int pass = 0;
 		do {
+			final RewriteEvent event = new RewriteEvent();
+			event.begin();
+
 			count = 0;
 			for (TreeRewriter<V> rw : rewriters) {
 				count += rw.rewrite(tree, limit - rewritten);
 			}
 
 			rewritten += count;
+			event.commit(pass++, count);
 		} while(count > 0 && rewritten < limit);
 
 		return rewritten;
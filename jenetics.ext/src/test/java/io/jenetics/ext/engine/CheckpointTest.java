@@ -0,0 +1,274 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static io.jenetics.internal.util.SerialIO.writeInt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CheckpointTest {
+
+	private static final PhenotypeCodec<IntegerGene, Integer> CODEC =
+		PhenotypeCodec.ofIntegerGenes(
+			(fitness, out) -> out.writeInt(fitness),
+			DataInput::readInt
+		);
+
+	private Path _dir;
+
+	@BeforeClass
+	public void setup() throws IOException {
+		_dir = Files.createTempDirectory("jenetics_checkpoint_");
+	}
+
+	@AfterClass
+	public void cleanup() throws IOException {
+		try (Stream<Path> files = Files.walk(_dir)) {
+			for (Path file : files.sorted(Comparator.reverseOrder())
+					.collect(Collectors.toList()))
+			{
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	private static Engine.Builder<IntegerGene, Integer> builder() {
+		return Engine
+			.builder(
+				gt -> gt.chromosome().stream().mapToInt(IntegerGene::intValue).sum(),
+				IntegerChromosome.of(0, 1000, 10))
+			.populationSize(30);
+	}
+
+	@Test
+	public void writeAndRead() throws IOException {
+		final Path file = _dir.resolve("writeAndRead.ckp");
+
+		final List<EvolutionResult<IntegerGene, Integer>> results;
+		try (var checkpoint = Checkpoint.builder(file, CODEC).interval(5).build()) {
+			final Engine<IntegerGene, Integer> engine = builder()
+				.interceptor(checkpoint)
+				.build();
+
+			results = engine.stream()
+				.limit(20)
+				.collect(Collectors.toList());
+		}
+
+		final EvolutionResult<IntegerGene, Integer> last = results.get(19);
+		final EvolutionResult<IntegerGene, Integer> result =
+			Checkpoint.read(file, CODEC).orElseThrow().result();
+
+		Assert.assertEquals(result.generation(), 20);
+		Assert.assertEquals(result.optimize(), last.optimize());
+		Assert.assertEquals(result.population(), last.population());
+		Assert.assertEquals(result.killCount(), last.killCount());
+		Assert.assertEquals(result.invalidCount(), last.invalidCount());
+		Assert.assertEquals(result.alterCount(), last.alterCount());
+		Assert.assertEquals(
+			result.durations().evaluationDuration(),
+			last.durations().evaluationDuration()
+		);
+
+		Assert.assertTrue(Files.exists(_dir.resolve("writeAndRead.ckp.1")));
+		Assert.assertFalse(Files.exists(_dir.resolve("writeAndRead.ckp.2")));
+		Assert.assertFalse(Files.exists(_dir.resolve("writeAndRead.ckp.tmp")));
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Path file = _dir.resolve("resume.ckp");
+
+		try (var checkpoint = Checkpoint.builder(file, CODEC).interval(1).build()) {
+			builder().build().stream()
+				.limit(7)
+				.peek(checkpoint)
+				.forEach(r -> {});
+		}
+
+		final Checkpoint.Snapshot<IntegerGene, Integer> snapshot =
+			Checkpoint.read(file, CODEC).orElseThrow();
+		final EvolutionResult<IntegerGene, Integer> resumed = builder().build()
+			.stream(snapshot.start())
+			.limit(1)
+			.findFirst()
+			.orElseThrow();
+
+		Assert.assertEquals(resumed.generation(), 8);
+		Assert.assertTrue(
+			resumed.bestFitness() >= snapshot.result().bestFitness()
+		);
+	}
+
+	@Test
+	public void fallback() throws IOException {
+		final Path file = _dir.resolve("fallback.ckp");
+
+		try (var checkpoint = Checkpoint.builder(file, CODEC)
+				.interval(5)
+				.keep(2)
+				.build())
+		{
+			builder().interceptor(checkpoint).build().stream()
+				.limit(15)
+				.forEach(r -> {});
+		}
+		Assert.assertTrue(Files.exists(_dir.resolve("fallback.ckp.2")));
+
+		// Corrupt the newest snapshot.
+		final byte[] bytes = Files.readAllBytes(file);
+		bytes[bytes.length/2] ^= 0xFF;
+		Files.write(file, bytes);
+
+		Assert.assertEquals(
+			Checkpoint.read(file, CODEC).orElseThrow().result().generation(),
+			10
+		);
+
+		// Missing newest snapshot.
+		Files.delete(file);
+		Assert.assertEquals(
+			Checkpoint.read(file, CODEC).orElseThrow().result().generation(),
+			10
+		);
+	}
+
+	@Test
+	public void fallbackInvalidPopulationSize() throws IOException {
+		final Path file = _dir.resolve("fallbackInvalidPopulationSize.ckp");
+
+		try (var checkpoint = Checkpoint.builder(file, CODEC)
+				.interval(5)
+				.build())
+		{
+			builder().interceptor(checkpoint).build().stream()
+				.limit(10)
+				.forEach(r -> {});
+		}
+
+		// Snapshot with a valid checksum, but an invalid population size.
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0x4A434B50);
+		writeInt(1, out);
+		for (int i = 0; i < 13; ++i) {
+			writeInt(0, out);
+		}
+		out.writeBoolean(false);
+		writeInt(Integer.MAX_VALUE, out);
+		out.flush();
+
+		final CRC32 crc = new CRC32();
+		crc.update(bytes.toByteArray());
+		out.writeLong(crc.getValue());
+		out.flush();
+		Files.write(file, bytes.toByteArray());
+
+		Assert.assertEquals(
+			Checkpoint.read(file, CODEC).orElseThrow().result().generation(),
+			5
+		);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void writeFailure() throws IOException {
+		final PhenotypeCodec<IntegerGene, Integer> codec =
+			PhenotypeCodec.ofIntegerGenes(
+				(fitness, out) -> {
+					throw new IllegalStateException("Invalid fitness.");
+				},
+				DataInput::readInt
+			);
+
+		final Path file = _dir.resolve("writeFailure.ckp");
+		try (var checkpoint = Checkpoint.builder(file, codec)
+				.interval(1)
+				.build())
+		{
+			builder().interceptor(checkpoint).build().stream()
+				.limit(1)
+				.forEach(r -> {});
+		}
+	}
+
+	@Test
+	public void noSnapshot() throws IOException {
+		Assert.assertEquals(
+			Checkpoint.read(_dir.resolve("noSnapshot.ckp"), CODEC),
+			Optional.empty()
+		);
+	}
+
+	@Test(expectedExceptions = IOException.class)
+	public void invalidSnapshot() throws IOException {
+		final Path file = _dir.resolve("invalidSnapshot.ckp");
+		Files.write(file, new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+		Checkpoint.read(file, CODEC);
+	}
+
+	@Test
+	public void randomState() throws IOException {
+		final Path file = _dir.resolve("randomState.ckp");
+
+		final Random random = RandomRegistry.with(new Random(123), r -> {
+			try (var checkpoint = Checkpoint.builder(file, CODEC).build()) {
+				builder().interceptor(checkpoint).build().stream()
+					.limit(10)
+					.forEach(x -> {});
+			} catch (IOException e) {
+				throw new AssertionError(e);
+			}
+			return r;
+		});
+
+		final Random restored = Checkpoint.read(file, CODEC)
+			.orElseThrow()
+			.random()
+			.orElseThrow();
+		Assert.assertEquals(restored.nextLong(), random.nextLong());
+	}
+
+}
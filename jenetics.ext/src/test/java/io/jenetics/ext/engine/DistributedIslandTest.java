@@ -0,0 +1,400 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DistributedIslandTest {
+
+	private static final PhenotypeCodec<IntegerGene, Integer> CODEC =
+		PhenotypeCodec.ofIntegerGenes(
+			(fitness, out) -> out.writeInt(fitness),
+			DataInput::readInt
+		);
+
+	@Test
+	public void doubleCodec() {
+		final PhenotypeCodec<DoubleGene, Double> codec = PhenotypeCodec.ofDoubleGenes(
+			(fitness, out) -> out.writeDouble(fitness),
+			DataInput::readDouble
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> migrants = ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(
+					DoubleChromosome.of(0, 10, 5),
+					DoubleChromosome.of(-1, 1, 3)
+				),
+				7,
+				Math.random()
+			),
+			10
+		);
+
+		final ISeq<Phenotype<DoubleGene, Double>> decoded =
+			codec.decode(codec.encode(migrants));
+
+		Assert.assertEquals(decoded, migrants);
+		Assert.assertEquals(decoded.get(0).generation(), 7);
+		Assert.assertEquals(decoded.get(0).fitness(), migrants.get(0).fitness());
+	}
+
+	@Test
+	public void integerCodec() {
+		final ISeq<Phenotype<IntegerGene, Integer>> migrants = ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(IntegerChromosome.of(-100, 100, 10)),
+				3,
+				42
+			),
+			5
+		);
+
+		Assert.assertEquals(CODEC.decode(CODEC.encode(migrants)), migrants);
+		Assert.assertEquals(
+			CODEC.decode(CODEC.encode(ISeq.empty())),
+			ISeq.empty()
+		);
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void decodeTruncatedMessage() {
+		final byte[] message = CODEC.encode(ISeq.of(
+			Phenotype.of(Genotype.of(IntegerChromosome.of(0, 10, 10)), 1, 1)
+		));
+
+		CODEC.decode(Arrays.copyOf(message, message.length - 2));
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void decodeInvalidMigrantCount() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeInt(Integer.MAX_VALUE, out);
+		out.flush();
+
+		CODEC.decode(bytes.toByteArray());
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void decodeInvalidGeneCount() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeInt(1, out);
+		writeLong(1, out);
+		writeInt(1, out);
+		writeInt(Integer.MAX_VALUE, out);
+		writeInt(0, out);
+		writeInt(10, out);
+		writeInt(5, out);
+		out.flush();
+
+		CODEC.decode(bytes.toByteArray());
+	}
+
+	@Test(expectedExceptions = UncheckedIOException.class)
+	public void decodeNegativeLength() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeInt(1, out);
+		writeLong(1, out);
+		writeInt(-1, out);
+		out.flush();
+
+		CODEC.decode(bytes.toByteArray());
+	}
+
+	@Test
+	public void memoryTransport() {
+		final List<MigrationTransport> transports = MigrationTransport.ofMemory(3);
+		Assert.assertEquals(transports.get(2).island(), 2);
+		Assert.assertEquals(transports.get(2).islands(), 3);
+
+		transports.get(0).send(2, new byte[]{1});
+		transports.get(1).send(2, new byte[]{2});
+
+		final List<byte[]> messages = transports.get(2).receive();
+		Assert.assertEquals(messages.size(), 2);
+		Assert.assertEquals(messages.get(0), new byte[]{1});
+		Assert.assertEquals(messages.get(1), new byte[]{2});
+		Assert.assertTrue(transports.get(2).receive().isEmpty());
+		Assert.assertTrue(transports.get(0).receive().isEmpty());
+	}
+
+	@Test
+	public void emigrate() {
+		final List<MigrationTransport> transports = MigrationTransport.ofMemory(2);
+
+		final DistributedIsland<IntegerGene, Integer> island = DistributedIsland
+			.builder(engine(), transports.get(0), CODEC)
+			.migrationInterval(5)
+			.migrants(3)
+			.build();
+
+		final EvolutionResult<IntegerGene, Integer> result = island.stream()
+			.limit(5)
+			.peek(r -> {
+				if (r.generation() < 5) {
+					Assert.assertTrue(transports.get(1).receive().isEmpty());
+				}
+			})
+			.reduce((a, b) -> b)
+			.orElseThrow();
+		Assert.assertEquals(result.generation(), 5);
+
+		final List<byte[]> messages = transports.get(1).receive();
+		Assert.assertEquals(messages.size(), 1);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> migrants =
+			CODEC.decode(messages.get(0));
+		Assert.assertEquals(migrants.size(), 3);
+		Assert.assertEquals(migrants.get(0).fitness(), result.bestFitness());
+	}
+
+	@Test
+	public void immigrate() {
+		final List<MigrationTransport> transports = MigrationTransport.ofMemory(2);
+
+		final DistributedIsland<IntegerGene, Integer> island = DistributedIsland
+			.builder(engine(), transports.get(1), CODEC)
+			.build();
+
+		final Phenotype<IntegerGene, Integer> migrant = Phenotype.of(
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(1000, 0, 1000))),
+			1,
+			1000
+		);
+		transports.get(0).send(1, CODEC.encode(ISeq.of(migrant)));
+
+		final EvolutionResult<IntegerGene, Integer> result = island.stream()
+			.limit(1)
+			.findFirst()
+			.orElseThrow();
+
+		Assert.assertEquals(result.population().size(), 20);
+		Assert.assertTrue(result.population().contains(migrant));
+		Assert.assertEquals(result.bestFitness().intValue(), 1000);
+	}
+
+	@Test
+	public void immigrateInvalidMessages() {
+		final List<MigrationTransport> transports = MigrationTransport.ofMemory(2);
+
+		final DistributedIsland<IntegerGene, Integer> island = DistributedIsland
+			.builder(engine(), transports.get(1), CODEC)
+			.build();
+
+		final Phenotype<IntegerGene, Integer> migrant = Phenotype.of(
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(1000, 0, 1000))),
+			1,
+			1000
+		);
+		final byte[] message = CODEC.encode(ISeq.of(migrant));
+		transports.get(0).send(1, new byte[0]);
+		transports.get(0).send(1, Arrays.copyOf(message, message.length - 1));
+		transports.get(0).send(1, message);
+
+		final EvolutionResult<IntegerGene, Integer> result = island.stream()
+			.limit(1)
+			.findFirst()
+			.orElseThrow();
+
+		Assert.assertEquals(island.rejectedMessages(), 2);
+		Assert.assertTrue(result.population().contains(migrant));
+	}
+
+	@Test
+	public void immigrateForgedFitness() {
+		final List<MigrationTransport> transports = MigrationTransport.ofMemory(2);
+
+		final DistributedIsland<IntegerGene, Integer> island = DistributedIsland
+			.builder(engine(), transports.get(1), CODEC)
+			.build();
+
+		final Genotype<IntegerGene> forged =
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(5, 0, 1000)));
+		final Genotype<IntegerGene> invalid =
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(5000, 0, 1000)));
+		transports.get(0).send(1, CODEC.encode(ISeq.of(
+			Phenotype.of(forged, 100, 1_000_000),
+			Phenotype.of(invalid, 100, 1_000_000)
+		)));
+
+		final EvolutionResult<IntegerGene, Integer> result = island.stream()
+			.limit(1)
+			.findFirst()
+			.orElseThrow();
+
+		Assert.assertTrue(result.bestFitness() <= 1000);
+		Assert.assertTrue(result.population().contains(
+			Phenotype.of(forged, result.generation(), 5)
+		));
+		Assert.assertTrue(result.population().stream()
+			.noneMatch(pt -> pt.genotype().equals(invalid)));
+	}
+
+	@Test(timeOut = 10_000)
+	public void socketConnectionLimit() throws Exception {
+		final List<InetSocketAddress> addresses = List.of(address(), address());
+
+		try (MigrationTransport transport = MigrationTransport.ofSocket(0, addresses)) {
+			// One peer allows two incoming connections.
+			final List<Socket> sockets = new ArrayList<>();
+			try {
+				for (int i = 0; i < 3; ++i) {
+					final Socket socket = new Socket();
+					socket.connect(addresses.get(0));
+					socket.setSoTimeout(5_000);
+					sockets.add(socket);
+				}
+
+				Assert.assertEquals(sockets.get(2).getInputStream().read(), -1);
+			} finally {
+				for (Socket socket : sockets) {
+					socket.close();
+				}
+			}
+		}
+	}
+
+	@Test(expectedExceptions = EOFException.class)
+	public void readTruncatedFrame() throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		writeInt(Sockets.MAX_MESSAGE_SIZE, out);
+		out.write(new byte[100]);
+		out.flush();
+
+		Sockets.readFrame(new DataInputStream(
+			new ByteArrayInputStream(bytes.toByteArray())
+		));
+	}
+
+	@Test(timeOut = 10_000)
+	public void socketTransport() throws Exception {
+		final List<InetSocketAddress> addresses = List.of(
+			address(), address(), address()
+		);
+
+		try (MigrationTransport t0 = MigrationTransport.ofSocket(0, addresses);
+			MigrationTransport t1 = MigrationTransport.ofSocket(1, addresses))
+		{
+			Assert.assertEquals(t1.island(), 1);
+			Assert.assertEquals(t1.islands(), 3);
+
+			// Island 2 is not running and must not block the sender.
+			t0.send(2, new byte[]{9});
+
+			final byte[] message = new byte[10_000];
+			message[0] = 1;
+			message[message.length - 1] = 2;
+			t0.send(1, message);
+
+			List<byte[]> messages = t1.receive();
+			while (messages.isEmpty()) {
+				Thread.sleep(10);
+				messages = t1.receive();
+			}
+
+			Assert.assertEquals(messages.size(), 1);
+			Assert.assertEquals(messages.get(0), message);
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void socketIslands() throws Exception {
+		final List<InetSocketAddress> addresses = List.of(address(), address());
+
+		try (MigrationTransport t0 = MigrationTransport.ofSocket(0, addresses);
+			MigrationTransport t1 = MigrationTransport.ofSocket(1, addresses))
+		{
+			final DistributedIsland<IntegerGene, Integer> island0 =
+				DistributedIsland.builder(engine(), t0, CODEC)
+					.migrationInterval(1)
+					.build();
+
+			final EvolutionResult<IntegerGene, Integer> result = island0.stream()
+				.limit(1)
+				.findFirst()
+				.orElseThrow();
+
+			List<byte[]> messages = t1.receive();
+			while (messages.isEmpty()) {
+				Thread.sleep(10);
+				messages = t1.receive();
+			}
+
+			Assert.assertEquals(
+				CODEC.decode(messages.get(0)).get(0).fitness(),
+				result.bestFitness()
+			);
+		}
+	}
+
+	private static Engine<IntegerGene, Integer> engine() {
+		return Engine
+			.builder(gt -> gt.gene().intValue(), IntegerChromosome.of(0, 1000))
+			.populationSize(20)
+			.build();
+	}
+
+	private static InetSocketAddress address() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return new InetSocketAddress(
+				InetAddress.getLoopbackAddress(),
+				socket.getLocalPort()
+			);
+		}
+	}
+
+}
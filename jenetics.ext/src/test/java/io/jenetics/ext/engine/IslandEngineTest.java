@@ -0,0 +1,213 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	@Test
+	public void ringTopology() {
+		final MigrationTopology ring = MigrationTopology.ring();
+		Assert.assertEquals(ring.targets(0, 1), new int[0]);
+		Assert.assertEquals(ring.targets(0, 4), new int[]{1});
+		Assert.assertEquals(ring.targets(3, 4), new int[]{0});
+	}
+
+	@Test
+	public void torusTopology() {
+		final MigrationTopology torus = MigrationTopology.torus(3);
+		Assert.assertEquals(sorted(torus.targets(0, 9)), new int[]{1, 2, 3, 6});
+		Assert.assertEquals(sorted(torus.targets(4, 9)), new int[]{1, 3, 5, 7});
+
+		// Only one row.
+		Assert.assertEquals(sorted(torus.targets(1, 3)), new int[]{0, 2});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void torusTopologyInvalidIslands() {
+		MigrationTopology.torus(3).targets(0, 8);
+	}
+
+	@Test
+	public void fullyConnectedTopology() {
+		final MigrationTopology full = MigrationTopology.fullyConnected();
+		Assert.assertEquals(full.targets(2, 4), new int[]{0, 1, 3});
+		Assert.assertEquals(full.targets(0, 1), new int[0]);
+	}
+
+	@Test
+	public void migrate() {
+		final List<ISeq<Phenotype<IntegerGene, Integer>>> populations = List.of(
+			population(1, 2, 3),
+			population(10, 11, 12)
+		);
+
+		final List<ISeq<Phenotype<IntegerGene, Integer>>> migrated =
+			IslandEngine.migrate(
+				populations,
+				MigrationTopology.ring(),
+				new TruncationSelector<>(),
+				1,
+				Optimize.MAXIMUM
+			);
+
+		Assert.assertEquals(fitness(migrated.get(0)), List.of(2, 3, 12));
+		Assert.assertEquals(fitness(migrated.get(1)), List.of(3, 11, 12));
+	}
+
+	@Test
+	public void migrateMinimizing() {
+		final List<ISeq<Phenotype<IntegerGene, Integer>>> populations = List.of(
+			population(1, 2, 3),
+			population(10, 11, 12),
+			population(20, 21, 22)
+		);
+
+		final List<ISeq<Phenotype<IntegerGene, Integer>>> migrated =
+			IslandEngine.migrate(
+				populations,
+				MigrationTopology.fullyConnected(),
+				new TruncationSelector<>(),
+				1,
+				Optimize.MINIMUM
+			);
+
+		Assert.assertEquals(fitness(migrated.get(0)), List.of(1, 10, 20));
+		Assert.assertEquals(fitness(migrated.get(1)), List.of(1, 10, 20));
+		Assert.assertEquals(fitness(migrated.get(2)), List.of(1, 10, 20));
+	}
+
+	@Test
+	public void stream() {
+		final Problem<Integer, IntegerGene, Integer> problem = Problem.of(
+			Math::abs,
+			Codecs.ofScalar(IntRange.of(-1000, 1000))
+		);
+		final Engine<IntegerGene, Integer> engine = Engine.builder(problem)
+			.populationSize(20)
+			.build();
+
+		final IslandEngine<IntegerGene, Integer> islands = IslandEngine
+			.builder(engine, 4)
+			.topology(MigrationTopology.torus(2))
+			.migrationInterval(3)
+			.migrants(2)
+			.build();
+
+		Assert.assertEquals(islands.islands(), 4);
+		Assert.assertEquals(islands.populationSize(), 80);
+
+		final List<EvolutionResult<IntegerGene, Integer>> results = islands
+			.stream()
+			.limit(20)
+			.collect(Collectors.toList());
+
+		for (int i = 0; i < results.size(); ++i) {
+			Assert.assertEquals(results.get(i).generation(), i + 1);
+			Assert.assertEquals(results.get(i).population().size(), 80);
+		}
+		Assert.assertTrue(
+			results.get(results.size() - 1).bestFitness() > 950,
+			"Best fitness: " + results.get(results.size() - 1).bestFitness()
+		);
+	}
+
+	@Test
+	public void streamWithPopulation() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> gt.gene().intValue(),
+				IntegerChromosome.of(0, 100)
+			)
+			.populationSize(10)
+			.build();
+
+		final ISeq<Genotype<IntegerGene>> genotypes = ISeq.<Genotype<IntegerGene>>of(
+			Genotype.of(IntegerChromosome.of(IntegerGene.of(100, 0, 100)))
+		);
+
+		final EvolutionResult<IntegerGene, Integer> result =
+			IslandEngine.of(engine, engine)
+				.stream(genotypes)
+				.limit(1)
+				.findFirst()
+				.orElseThrow();
+
+		Assert.assertEquals(result.population().size(), 20);
+		Assert.assertEquals(result.bestFitness().intValue(), 100);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentOptimizations() {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(gt -> gt.gene().intValue(), IntegerChromosome.of(0, 100))
+			.build();
+
+		IslandEngine.of(engine, engine.toBuilder().minimizing().build());
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Integer>>
+	population(final int... values) {
+		return Arrays.stream(values)
+			.mapToObj(v -> Phenotype.of(
+				Genotype.of(IntegerChromosome.of(IntegerGene.of(v, 0, 100))),
+				1,
+				v
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	private static List<Integer>
+	fitness(final ISeq<Phenotype<IntegerGene, Integer>> population) {
+		return population.stream()
+			.map(Phenotype::fitness)
+			.sorted()
+			.collect(Collectors.toList());
+	}
+
+	private static int[] sorted(final int[] values) {
+		final int[] result = values.clone();
+		Arrays.sort(result);
+		return result;
+	}
+
+}
@@ -0,0 +1,284 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.IO;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MappedPopulationTest {
+
+	private Path _dir;
+
+	@BeforeClass
+	public void setup() throws IOException {
+		_dir = Files.createTempDirectory("jenetics_population_");
+	}
+
+	@AfterClass
+	public void cleanup() throws IOException {
+		try (Stream<Path> files = Files.walk(_dir)) {
+			for (Path file : files.sorted(Comparator.reverseOrder())
+					.collect(Collectors.toList()))
+			{
+				Files.deleteIfExists(file);
+			}
+		}
+	}
+
+	@Test
+	public void writeAndReadDoubleGenes() throws IOException {
+		final Random random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Double>> population = RandomRegistry.with(
+			random,
+			r -> ISeq.of(
+				() -> {
+					final Genotype<DoubleGene> gt = Genotype.of(
+						DoubleChromosome.of(0, 1, 7),
+						DoubleChromosome.of(-10, 10, 3)
+					);
+					return r.nextBoolean()
+						? Phenotype.of(gt, r.nextInt(100), r.nextDouble())
+						: Phenotype.of(gt, r.nextInt(100));
+				},
+				1000
+			)
+		);
+
+		final Path file = _dir.resolve("double.bin");
+		MappedPopulation.write(population, file);
+
+		final ISeq<Phenotype<DoubleGene, Double>> mapped =
+			MappedPopulation.read(file, DoubleGene.class, Double.class);
+		Assert.assertEquals(mapped, population);
+		Assert.assertEquals(mapped.copy().toISeq(), population);
+	}
+
+	@Test
+	public void writeAndReadIntegerGenes() throws IOException {
+		final ISeq<Phenotype<IntegerGene, Integer>> population = ISeq.of(
+			() -> {
+				final Genotype<IntegerGene> gt = Genotype.of(
+					IntegerChromosome.of(-1000, 1000, 11)
+				);
+				return Phenotype.of(gt, 5, gt.gene().intValue());
+			},
+			100
+		);
+
+		final Path file = _dir.resolve("integer.bin");
+		MappedPopulation.write(population, file);
+
+		Assert.assertEquals(
+			MappedPopulation.read(file, IntegerGene.class, Integer.class),
+			population
+		);
+	}
+
+	@Test
+	public void writeAndReadLongGenes() throws IOException {
+		final ISeq<Phenotype<LongGene, Long>> population = ISeq.of(
+			() -> Phenotype.<LongGene, Long>of(
+				Genotype.of(LongChromosome.of(Long.MIN_VALUE, Long.MAX_VALUE, 4)),
+				1
+			),
+			100
+		);
+
+		final Path file = _dir.resolve("long.bin");
+		MappedPopulation.write(population, file);
+
+		final ISeq<Phenotype<LongGene, Long>> mapped =
+			MappedPopulation.read(file, LongGene.class, Long.class);
+		Assert.assertEquals(mapped, population);
+		Assert.assertTrue(mapped.forAll(pt -> !pt.isEvaluated()));
+	}
+
+	@Test
+	public void readSegments() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			() -> {
+				final Genotype<DoubleGene> gt = Genotype.of(
+					DoubleChromosome.of(0, 1, 5),
+					DoubleChromosome.of(0, 1, 1)
+				);
+				return Phenotype.of(gt, 7, gt.gene().doubleValue());
+			},
+			10_001
+		);
+
+		final Path file = _dir.resolve("segments.bin");
+		MappedPopulation.write(population, file);
+
+		// Every column is mapped in more than one segment.
+		Assert.assertEquals(
+			MappedPopulation.read(file, DoubleGene.class, Double.class, 1000),
+			population
+		);
+	}
+
+	@Test
+	public void emptyPopulation() throws IOException {
+		final Path file = _dir.resolve("empty.bin");
+		MappedPopulation.write(ISeq.<Phenotype<DoubleGene, Double>>empty(), file);
+
+		Assert.assertTrue(
+			MappedPopulation.read(file, LongGene.class, Integer.class).isEmpty()
+		);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			() -> Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 5)), 3, 1.0),
+			10
+		);
+
+		final Path file = _dir.resolve("serialize.bin");
+		MappedPopulation.write(population, file);
+
+		final ISeq<Phenotype<DoubleGene, Double>> mapped =
+			MappedPopulation.read(file, DoubleGene.class, Double.class);
+		final Path serialized = _dir.resolve("serialize.obj");
+		IO.object.write(mapped, serialized);
+		Assert.assertEquals(IO.object.read(serialized), population);
+	}
+
+	@Test
+	public void resume() throws IOException {
+		final Engine<IntegerGene, Integer> engine = Engine
+			.builder(
+				gt -> gt.chromosome().stream().mapToInt(IntegerGene::intValue).sum(),
+				IntegerChromosome.of(0, 1000, 10))
+			.populationSize(30)
+			.build();
+
+		final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		final Path file = _dir.resolve("resume.bin");
+		MappedPopulation.write(result.population(), file);
+
+		final ISeq<Phenotype<IntegerGene, Integer>> population =
+			MappedPopulation.read(file, IntegerGene.class, Integer.class);
+		final EvolutionResult<IntegerGene, Integer> next = engine
+			.stream(population, result.generation() + 1)
+			.limit(1)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(next.generation(), result.generation() + 1);
+		Assert.assertTrue(next.bestFitness() >= result.bestFitness());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void wrongGeneType() throws IOException {
+		final Path file = _dir.resolve("wrong_type.bin");
+		MappedPopulation.write(
+			ISeq.of(Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, 1.0)),
+			file
+		);
+		MappedPopulation.read(file, IntegerGene.class, Double.class);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentShapes() throws IOException {
+		MappedPopulation.write(
+			ISeq.of(
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 2)), 1, 1.0),
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 3)), 1, 1.0)
+			),
+			_dir.resolve("shapes.bin")
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void differentRanges() throws IOException {
+		MappedPopulation.write(
+			ISeq.of(
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 2)), 1, 1.0),
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 2, 2)), 1, 1.0)
+			),
+			_dir.resolve("ranges.bin")
+		);
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void invalidChromosomeCount() throws IOException {
+		final Path file = _dir.resolve("chromosomes.bin");
+		MappedPopulation.write(
+			ISeq.of(Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 5)), 1, 1.0)),
+			file
+		);
+
+		// Announce more chromosome headers than the file contains.
+		final byte[] data = Files.readAllBytes(file);
+		ByteBuffer.wrap(data)
+			.order(ByteOrder.LITTLE_ENDIAN)
+			.putInt(12, 50_000_000);
+		Files.write(file, data);
+
+		MappedPopulation.read(file, DoubleGene.class, Double.class);
+	}
+
+	@Test(expectedExceptions = StreamCorruptedException.class)
+	public void truncatedFile() throws IOException {
+		final Path file = _dir.resolve("truncated.bin");
+		MappedPopulation.write(
+			ISeq.of(Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1, 5)), 1, 1.0)),
+			file
+		);
+		final byte[] data = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(data, data.length - 8));
+
+		MappedPopulation.read(file, DoubleGene.class, Double.class);
+	}
+
+}
@@ -0,0 +1,336 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class RemoteEvaluatorTest {
+
+	private static final PhenotypeCodec<IntegerGene, Integer> CODEC =
+		PhenotypeCodec.ofIntegerGenes(
+			(fitness, out) -> out.writeInt(fitness),
+			DataInput::readInt
+		);
+
+	private static final Function<Genotype<IntegerGene>, Integer> FITNESS =
+		gt -> gt.chromosome().stream().mapToInt(IntegerGene::intValue).sum();
+
+	@Test(timeOut = 20_000)
+	public void eval() throws IOException {
+		try (var w1 = EvaluationWorker.local(FITNESS, CODEC);
+			var w2 = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(List.of(w1.address(), w2.address()), CODEC)
+				.batchSize(7)
+				.inFlight(2)
+				.build())
+		{
+			final ISeq<Phenotype<IntegerGene, Integer>> population =
+				population(100);
+			final ISeq<Phenotype<IntegerGene, Integer>> evaluated =
+				evaluator.eval(population);
+
+			Assert.assertEquals(evaluated.size(), population.size());
+			for (int i = 0; i < population.size(); ++i) {
+				Assert.assertEquals(
+					evaluated.get(i),
+					population.get(i).withFitness(
+						FITNESS.apply(population.get(i).genotype())
+					)
+				);
+			}
+
+			// Evaluate a second time, with the same connections.
+			Assert.assertEquals(
+				evaluator.eval(population(50)).size(),
+				50
+			);
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void evalPartiallyEvaluated() throws IOException {
+		try (var worker = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(List.of(worker.address()), CODEC)
+				.build())
+		{
+			final ISeq<Phenotype<IntegerGene, Integer>> unevaluated =
+				population(10);
+			final ISeq<Phenotype<IntegerGene, Integer>> evaluated =
+				population(5).map(pt -> pt.withFitness(-1));
+
+			final ISeq<Phenotype<IntegerGene, Integer>> result =
+				evaluator.eval(unevaluated.append(evaluated));
+
+			Assert.assertEquals(result.size(), 15);
+			Assert.assertEquals(result.subSeq(0, 5), evaluated);
+			Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+			Assert.assertSame(evaluator.eval(evaluated), evaluated);
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void slowWorker() throws IOException {
+		final ExecutorService executor = Executors.newCachedThreadPool();
+		final Function<Genotype<IntegerGene>, Integer> slow = gt -> {
+			try {
+				Thread.sleep(2_000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return FITNESS.apply(gt);
+		};
+
+		try (var w1 = EvaluationWorker.start(localhost(), slow, CODEC, executor);
+			var w2 = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(List.of(w1.address(), w2.address()), CODEC)
+				.batchSize(5)
+				.timeout(Duration.ofMillis(200))
+				// Timed out batches must not be sent to the slow worker again.
+				.retries(1)
+				.build())
+		{
+			final ISeq<Phenotype<IntegerGene, Integer>> result =
+				evaluator.eval(population(40));
+
+			Assert.assertEquals(result.size(), 40);
+			Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void unavailableWorker() throws IOException {
+		try (var worker = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(List.of(unusedAddress(), worker.address()), CODEC)
+				.batchSize(3)
+				.build())
+		{
+			final ISeq<Phenotype<IntegerGene, Integer>> result =
+				evaluator.eval(population(20));
+
+			Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void unavailableWorkers() throws IOException {
+		// Failed connection attempts don't count as evaluation attempts.
+		try (var worker = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(
+					List.of(unusedAddress(), unusedAddress(), worker.address()),
+					CODEC
+				)
+				.retries(0)
+				.build())
+		{
+			final ISeq<Phenotype<IntegerGene, Integer>> result =
+				evaluator.eval(population(20));
+
+			Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void invalidResponse() throws IOException {
+		// The codec of the evaluator rejects the fitness values of the
+		// corrupt worker.
+		final PhenotypeCodec<IntegerGene, Integer> codec =
+			PhenotypeCodec.ofIntegerGenes(
+				(fitness, out) -> out.writeInt(fitness),
+				in -> {
+					final int fitness = in.readInt();
+					if (fitness == Integer.MIN_VALUE) {
+						throw new IllegalArgumentException("Invalid fitness.");
+					}
+					return fitness;
+				}
+			);
+
+		final Duration timeout = Duration.ofSeconds(10);
+		try (var corrupt = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+			var worker = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(
+					List.of(
+						(InetSocketAddress)corrupt.getLocalSocketAddress(),
+						worker.address()
+					),
+					codec
+				)
+				.batchSize(5)
+				.timeout(timeout)
+				.retries(1)
+				.build())
+		{
+			final Thread thread = new Thread(() -> respondInvalid(corrupt));
+			thread.setDaemon(true);
+			thread.start();
+
+			final long start = System.nanoTime();
+			final ISeq<Phenotype<IntegerGene, Integer>> result =
+				evaluator.eval(population(20));
+			final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+			Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+			Assert.assertTrue(
+				duration.compareTo(timeout) < 0,
+				"Evaluation waited for the timeout: " + duration
+			);
+		}
+	}
+
+	// Answers every request with the fitness value Integer.MIN_VALUE.
+	private static void respondInvalid(final ServerSocket server) {
+		try (Socket socket = server.accept();
+			var in = new DataInputStream(socket.getInputStream());
+			var out = new DataOutputStream(socket.getOutputStream()))
+		{
+			while (true) {
+				final DataInputStream request = new DataInputStream(
+					new ByteArrayInputStream(Sockets.readFrame(in))
+				);
+				final long id = readLong(request);
+				final int count = readInt(request);
+
+				final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				final DataOutputStream response = new DataOutputStream(bytes);
+				writeLong(id, response);
+				response.writeBoolean(true);
+				writeInt(count, response);
+				for (int i = 0; i < count; ++i) {
+					response.writeInt(Integer.MIN_VALUE);
+				}
+				response.flush();
+				Sockets.writeFrame(bytes.toByteArray(), out);
+			}
+		} catch (IOException ignore) {
+			// Connection closed by the evaluator.
+		}
+	}
+
+	@Test(
+		timeOut = 20_000,
+		expectedExceptions = IllegalStateException.class
+	)
+	public void failingWorker() throws IOException {
+		final Function<Genotype<IntegerGene>, Integer> failing = gt -> {
+			throw new IllegalArgumentException("Invalid genotype.");
+		};
+
+		try (var worker = EvaluationWorker.local(failing, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(List.of(worker.address()), CODEC)
+				.retries(2)
+				.build())
+		{
+			evaluator.eval(population(10));
+		}
+	}
+
+	@Test(timeOut = 20_000)
+	public void engine() throws IOException {
+		try (var worker = EvaluationWorker.local(FITNESS, CODEC);
+			var evaluator = RemoteEvaluator
+				.builder(List.of(worker.address()), CODEC)
+				.build())
+		{
+			final Engine<IntegerGene, Integer> engine = new Engine.Builder<>(
+				evaluator,
+				Genotype.of(IntegerChromosome.of(0, 100, 5))
+			)
+				.populationSize(30)
+				.build();
+
+			final EvolutionResult<IntegerGene, Integer> result = engine.stream()
+				.limit(10)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			Assert.assertEquals(result.totalGenerations(), 10);
+			Assert.assertEquals(
+				result.bestFitness(),
+				FITNESS.apply(result.bestPhenotype().genotype())
+			);
+		}
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Integer>>
+	population(final int size) {
+		return ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(IntegerChromosome.of(-1000, 1000, 10)),
+				1
+			),
+			size
+		);
+	}
+
+	private static InetSocketAddress localhost() {
+		return new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+	}
+
+	private static InetSocketAddress unusedAddress() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return new InetSocketAddress(
+				InetAddress.getLoopbackAddress(),
+				socket.getLocalPort()
+			);
+		}
+	}
+
+}
@@ -0,0 +1,241 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class GridArchiveTest {
+
+	@Test
+	public void addUnbounded() {
+		final Random random = new Random(123);
+
+		final List<Vec<double[]>> elements = new ArrayList<>();
+		final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(1000, 8);
+
+		for (int i = 0; i < 500; ++i) {
+			final Vec<double[]> point = circle(random);
+			elements.add(point);
+			archive.add(point);
+
+			Assert.assertEquals(
+				new HashSet<>(archive),
+				new HashSet<>(Pareto.front(ISeq.of(elements)).asList())
+			);
+		}
+	}
+
+	@Test
+	public void addBounded() {
+		final Random random = new Random(456);
+		final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(20, 8);
+
+		for (int i = 0; i < 10_000; ++i) {
+			archive.add(circle(random));
+			Assert.assertTrue(archive.size() <= 20);
+		}
+		Assert.assertEquals(archive.size(), 20);
+
+		// The archive elements must not dominate each other.
+		final ISeq<Vec<double[]>> elements = archive.toISeq();
+		Assert.assertEquals(Pareto.front(elements).size(), elements.size());
+	}
+
+	@Test
+	public void spread() {
+		final Random random = new Random(789);
+		final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(20, 8);
+
+		// Points of the first quadrant of the unit circle, most of them close
+		// to the x-axis.
+		for (int i = 0; i < 10_000; ++i) {
+			final double phi = Math.pow(random.nextDouble(), 4)*PI/2;
+			archive.add(Vec.of(cos(phi), sin(phi)));
+		}
+
+		final double maxY = archive.stream()
+			.mapToDouble(v -> v.data()[1])
+			.max()
+			.orElseThrow();
+		Assert.assertTrue(maxY > 0.9, "Expected max y > 0.9: " + maxY);
+	}
+
+	@Test
+	public void rejectDominatedAndEqual() {
+		final GridArchive<Vec<int[]>> archive = GridArchive.ofVec(10, 4);
+
+		Assert.assertTrue(archive.add(Vec.of(2, 2)));
+		Assert.assertFalse(archive.add(Vec.of(1, 1)));
+		Assert.assertFalse(archive.add(Vec.of(2, 2)));
+		Assert.assertTrue(archive.add(Vec.of(3, 1)));
+		Assert.assertTrue(archive.add(Vec.of(3, 3)));
+		Assert.assertEquals(archive.size(), 1);
+		Assert.assertEquals(archive.iterator().next(), Vec.of(3, 3));
+	}
+
+	@Test
+	public void rejectEqualInCell() {
+		final AtomicInteger comparisons = new AtomicInteger();
+		final GridArchive<Vec<double[]>> archive = new GridArchive<>(
+			1000,
+			8,
+			(a, b) -> {
+				comparisons.incrementAndGet();
+				return a.dominance(b);
+			},
+			Vec::distance,
+			Vec::length
+		);
+
+		final List<Vec<double[]>> elements = new ArrayList<>();
+		for (int i = 0; i < 200; ++i) {
+			final double phi = i*PI/2/200;
+			elements.add(Vec.of(cos(phi), sin(phi)));
+		}
+		archive.addAll(elements);
+		Assert.assertEquals(archive.size(), elements.size());
+
+		// The element is rejected by the members of its own grid box.
+		comparisons.set(0);
+		Assert.assertFalse(archive.add(elements.get(100)));
+		Assert.assertTrue(
+			comparisons.get() < elements.size()/2,
+			"Expected less than 100 comparisons: " + comparisons.get()
+		);
+	}
+
+	@Test
+	public void acceptExtension() {
+		final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(3, 4);
+		archive.add(Vec.of(0.0, 3.0));
+		archive.add(Vec.of(1.0, 2.0));
+		archive.add(Vec.of(2.0, 1.0));
+
+		// Elements outside of the grid bounds extend the full archive.
+		Assert.assertTrue(archive.add(Vec.of(100.0, -100.0)));
+		Assert.assertEquals(archive.size(), 3);
+		Assert.assertTrue(archive.contains(Vec.of(100.0, -100.0)));
+		Assert.assertEquals(
+			Pareto.front(archive.toISeq()).size(),
+			archive.size()
+		);
+	}
+
+	@Test
+	public void remove() {
+		final Random random = new Random(654);
+		final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(20, 8);
+		for (int i = 0; i < 1_000; ++i) {
+			archive.add(circle(random));
+		}
+
+		final ISeq<Vec<double[]>> elements = archive.toISeq();
+		Assert.assertTrue(archive.remove(elements.get(0)));
+		Assert.assertFalse(archive.remove(elements.get(0)));
+		Assert.assertTrue(archive.removeIf(v -> v.data()[0] > 0));
+		Assert.assertEquals(
+			new HashSet<>(archive),
+			new HashSet<>(
+				elements.stream()
+					.skip(1)
+					.filter(v -> v.data()[0] <= 0)
+					.collect(ISeq.toISeq())
+					.asList()
+			)
+		);
+
+		for (int i = 0; i < 1_000; ++i) {
+			archive.add(circle(random));
+			Assert.assertTrue(archive.size() <= 20);
+		}
+		Assert.assertEquals(
+			Pareto.front(archive.toISeq()).size(),
+			archive.size()
+		);
+	}
+
+	@Test
+	public void clear() {
+		final GridArchive<Vec<int[]>> archive = GridArchive.ofVec(10, 4);
+		archive.add(Vec.of(1, 3));
+		archive.add(Vec.of(3, 1));
+
+		archive.clear();
+		Assert.assertTrue(archive.isEmpty());
+		Assert.assertTrue(archive.add(Vec.of(1, 1)));
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(1, 1)));
+	}
+
+	@Test
+	public void shrinkBounds() {
+		final GridArchive<Vec<double[]>> archive = GridArchive.ofVec(3, 4);
+		archive.add(Vec.of(1000.0, 0.0));
+		archive.add(Vec.of(0.0, 1000.0));
+		archive.removeIf(v -> true);
+
+		// After removing the outliers, the grid resolution must fit the
+		// new elements, which all lie in different cells.
+		archive.add(Vec.of(0.0, 3.0));
+		archive.add(Vec.of(1.0, 2.0));
+		archive.add(Vec.of(2.0, 1.0));
+		Assert.assertTrue(archive.add(Vec.of(3.0, 0.0)));
+		Assert.assertEquals(archive.size(), 3);
+	}
+
+	@Test
+	public void collector() {
+		final Random random = new Random(321);
+		final GridArchive<Vec<double[]>> archive =
+			Stream.generate(() -> circle(random))
+				.limit(5_000)
+				.parallel()
+				.collect(GridArchive.toGridArchive(30, 8));
+
+		Assert.assertTrue(archive.size() <= 30);
+		Assert.assertEquals(
+			Pareto.front(archive.toISeq()).size(),
+			archive.size()
+		);
+	}
+
+	private static Vec<double[]> circle(final Random random) {
+		final double r = random.nextDouble();
+		final double phi = random.nextDouble()*2*PI;
+		return Vec.of(r*cos(phi), r*sin(phi));
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeSelectorTest {
+
+	@Test
+	public void reduce() {
+		// Points on the line x + y = -1. The point close to its neighbour
+		// has the smallest contribution.
+		final double[][] points = {
+			{-1.0, 0.0},
+			{-0.6, -0.4},
+			{-0.5, -0.5},
+			{0.0, -1.0}
+		};
+
+		Assert.assertEquals(
+			HypervolumeSelector.reduce(points, 3),
+			new int[]{0, 2, 3}
+		);
+		Assert.assertEquals(
+			HypervolumeSelector.reduce(points, 2),
+			new int[]{0, 3}
+		);
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void selectFronts(final Optimize opt) {
+		final Random random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1, 3)),
+				1L,
+				Vec.of(random.doubles(3).map(v -> (int)(v*10)/10.0).toArray())
+			),
+			200
+		);
+
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			HypervolumeSelector.ofVec();
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 50, opt);
+
+		Assert.assertEquals(selected.size(), 50);
+		Assert.assertEquals(
+			selected.stream().distinct().count(),
+			selected.size()
+		);
+
+		// No individual with a better rank must be left out.
+		final int[] rank = ObjectiveMatrix
+			.of(population, Phenotype::fitness, opt)
+			.rank();
+		final int worst = selected.stream()
+			.mapToInt(pt -> rank[population.indexOf(pt)])
+			.max()
+			.orElseThrow();
+
+		for (int i = 0; i < population.size(); ++i) {
+			if (rank[i] < worst) {
+				Assert.assertTrue(selected.contains(population.get(i)));
+			}
+		}
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void keepExtremes(final Optimize opt) {
+		final int sign = opt == Optimize.MAXIMUM ? 1 : -1;
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(sign*1.0, 0.0),
+			phenotype(sign*0.6, sign*0.4),
+			phenotype(sign*0.5, sign*0.5),
+			phenotype(sign*0.45, sign*0.55),
+			phenotype(0.0, sign*1.0)
+		);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			HypervolumeSelector.<DoubleGene, double[], Vec<double[]>>ofVec()
+				.select(population, 3, opt);
+
+		Assert.assertTrue(selected.contains(population.get(0)));
+		Assert.assertTrue(selected.contains(population.get(4)));
+	}
+
+	@DataProvider(name = "optimizations")
+	public Object[][] optimizations() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			phenotype(1.0, 0.0),
+			phenotype(0.0, 1.0),
+			phenotype(0.5, 0.5)
+		);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			HypervolumeSelector.<DoubleGene, double[], Vec<double[]>>ofVec()
+				.select(population, 7, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 7);
+		Assert.assertTrue(population.asList().containsAll(selected.asList()));
+		Assert.assertTrue(
+			HypervolumeSelector.<DoubleGene, double[], Vec<double[]>>ofVec()
+				.select(ISeq.empty(), 10, Optimize.MAXIMUM)
+				.isEmpty()
+		);
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final double x, final double y) {
+		return Phenotype.of(
+			Genotype.of(DoubleChromosome.of(0, 1)),
+			1L,
+			Vec.of(x, y)
+		);
+	}
+
+}
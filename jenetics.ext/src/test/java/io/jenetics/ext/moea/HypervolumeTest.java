@@ -0,0 +1,363 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeTest {
+
+	@Test
+	public void compute2D() {
+		final double[][] points = {{1, 3}, {2, 2}, {3, 1}, {3, 3}};
+		final double[] reference = {4, 4};
+
+		Assert.assertEquals(Hypervolume.compute(points, reference), 6.0, 1e-12);
+	}
+
+	@Test
+	public void compute3D() {
+		final double[][] points = {{1, 2, 2}, {2, 1, 2}, {2, 2, 1}};
+		final double[] reference = {3, 3, 3};
+
+		// Three 2x1x1 boxes and the shared 1x1x1 cube.
+		Assert.assertEquals(Hypervolume.compute(points, reference), 4.0, 1e-12);
+	}
+
+	@Test
+	public void pointsOutsideReference() {
+		final double[][] points = {{1, 5}, {4, 1}, {2, 2}};
+		final double[] reference = {4, 4};
+
+		Assert.assertEquals(Hypervolume.compute(points, reference), 4.0, 1e-12);
+		Assert.assertEquals(Hypervolume.compute(new double[0][], reference), 0.0);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void exactVsInclusionExclusion(final Integer dimension) {
+		final Random random = new Random(dimension);
+		final double[][] points = points(random, 10, dimension);
+		final double[] reference = new double[dimension];
+		Arrays.fill(reference, 1.0);
+
+		Assert.assertEquals(
+			Hypervolume.exact(points, reference),
+			inclusionExclusion(points, reference),
+			1e-10
+		);
+	}
+
+	@DataProvider(name = "dimensions")
+	public Object[][] dimensions() {
+		return new Object[][] {{1}, {2}, {3}, {4}, {5}};
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void reduce(final Integer dimension) {
+		final Random random = new Random(dimension);
+		final double[][] points = points(random, 25, dimension);
+		final double[] reference = new double[dimension];
+		Arrays.fill(reference, 1.0);
+
+		Assert.assertEquals(
+			Hypervolume.reduce(points, reference, 8),
+			reduceFully(points, reference, 8)
+		);
+	}
+
+	@Test
+	public void reduceFront2D() {
+		final Random random = new Random(123);
+		final double[][] points = new double[40][];
+		for (int i = 0; i < points.length; i += 2) {
+			final double phi = random.nextDouble()*Math.PI/2;
+			points[i] = new double[]{-Math.cos(phi), -Math.sin(phi)};
+			// Duplicate points.
+			points[i + 1] = points[i].clone();
+		}
+		final double[] reference = {1, 1};
+
+		for (int count = 1; count <= points.length; ++count) {
+			Assert.assertEquals(
+				Hypervolume.reduce(points, reference, count),
+				reduceFully(points, reference, count)
+			);
+		}
+	}
+
+	@Test
+	public void estimate() {
+		final Random random = new Random(123);
+		final double[][] points = points(random, 20, 4);
+		final double[] reference = {1, 1, 1, 1};
+
+		Assert.assertEquals(
+			Hypervolume.estimate(points, reference, 200_000, random),
+			Hypervolume.exact(points, reference),
+			0.01
+		);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void contributions(final Integer dimension) {
+		final Random random = new Random(dimension);
+		final double[][] points = points(random, 15, dimension);
+		final double[] reference = new double[dimension];
+		Arrays.fill(reference, 1.0);
+
+		final double volume = Hypervolume.exact(points, reference);
+		final double[] contributions = Hypervolume.contributions(points, reference);
+		for (int i = 0; i < points.length; ++i) {
+			final double[][] others = remove(points, i);
+
+			Assert.assertEquals(
+				contributions[i],
+				volume - Hypervolume.exact(others, reference),
+				1e-10
+			);
+			Assert.assertEquals(
+				Hypervolume.contribution(others, points[i], reference),
+				contributions[i],
+				1e-10
+			);
+		}
+	}
+
+	@Test
+	public void estimateContributions() {
+		final Random random = new Random(456);
+		final double[][] points = points(random, 5, 3);
+		final double[] reference = {1, 1, 1};
+
+		final double[] exact = Hypervolume.exactContributions(points, reference);
+		final double[] estimated = Hypervolume
+			.estimateContributions(points, reference, 200_000, random);
+
+		for (int i = 0; i < points.length; ++i) {
+			Assert.assertEquals(estimated[i], exact[i], 0.01);
+		}
+	}
+
+	@Test
+	public void duplicateContributions() {
+		final double[][] points = {{1, 2}, {1, 2}, {2, 1}};
+		final double[] contributions =
+			Hypervolume.contributions(points, new double[]{3, 3});
+
+		Assert.assertEquals(contributions[0], 0.0);
+		Assert.assertEquals(contributions[1], 0.0);
+		Assert.assertEquals(contributions[2], 1.0, 1e-12);
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void vecCompute(final Optimize opt) {
+		final int sign = opt == Optimize.MAXIMUM ? 1 : -1;
+		final ISeq<Vec<double[]>> front = ISeq.of(
+			Vec.of(sign*1.0, sign*3.0),
+			Vec.of(sign*2.0, sign*2.0),
+			Vec.of(sign*3.0, sign*1.0)
+		);
+
+		Assert.assertEquals(
+			Hypervolume.compute(front, Vec.of(0.0, 0.0), opt),
+			6.0,
+			1e-12
+		);
+	}
+
+	@Test
+	public void paretoFrontContribution() {
+		final ParetoFront<Vec<int[]>> front = new ParetoFront<>(Vec::dominance);
+		front.add(Vec.of(1, 3));
+		front.add(Vec.of(3, 1));
+
+		final Vec<int[]> reference = Vec.of(0, 0);
+		Assert.assertEquals(
+			Hypervolume.contribution(front, Vec.of(2, 2), reference, Optimize.MAXIMUM),
+			1.0,
+			1e-12
+		);
+		Assert.assertEquals(
+			Hypervolume.contribution(front, Vec.of(1, 1), reference, Optimize.MAXIMUM),
+			0.0
+		);
+	}
+
+	@DataProvider(name = "optimizations")
+	public Object[][] optimizations() {
+		return new Object[][] {
+			{Optimize.MINIMUM},
+			{Optimize.MAXIMUM}
+		};
+	}
+
+	@Test
+	public void hypervolumeLimit() {
+		final Predicate<EvolutionResult<?, Vec<double[]>>> limit =
+			MOEA.byHypervolume(Vec.of(0.0, 0.0), 2, 0.01);
+
+		Assert.assertTrue(limit.test(result(1.0)));
+		Assert.assertTrue(limit.test(result(2.0)));
+		Assert.assertTrue(limit.test(result(2.5)));
+		Assert.assertTrue(limit.test(result(3.0)));
+		Assert.assertTrue(limit.test(result(3.01)));
+		Assert.assertFalse(limit.test(result(3.02)));
+		Assert.assertFalse(limit.test(result(5.0)));
+	}
+
+	@Test
+	public void hypervolumeLimitZeroVolume() {
+		final Predicate<EvolutionResult<?, Vec<double[]>>> limit =
+			MOEA.byHypervolume(Vec.of(0.0, 0.0), 2, 0.01);
+
+		Assert.assertTrue(limit.test(result(0.0)));
+		Assert.assertTrue(limit.test(result(0.0)));
+		Assert.assertTrue(limit.test(result(1.0)));
+		Assert.assertTrue(limit.test(result(2.0)));
+		Assert.assertTrue(limit.test(result(2.0)));
+		Assert.assertFalse(limit.test(result(2.0)));
+	}
+
+	@Test
+	public void hypervolumeLimitDegeneratedFront() {
+		final Predicate<EvolutionResult<?, Vec<double[]>>> limit =
+			MOEA.byHypervolume(Vec.of(0.0, 0.0), 2, 0.01);
+
+		Assert.assertTrue(limit.test(result(0.0)));
+		Assert.assertTrue(limit.test(result(0.0)));
+		Assert.assertFalse(limit.test(result(0.0)));
+	}
+
+	private static EvolutionResult<DoubleGene, Vec<double[]>>
+	result(final double value) {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				1,
+				Vec.of(value, 1.0)
+			)
+		);
+
+		return EvolutionResult.of(
+			Optimize.MAXIMUM, population,
+			1, 1, EvolutionDurations.ZERO, 0, 0, 0
+		);
+	}
+
+	private static double[][] points(
+		final Random random,
+		final int count,
+		final int dimension
+	) {
+		final double[][] points = new double[count][];
+		for (int i = 0; i < count; ++i) {
+			points[i] = random.doubles(dimension).toArray();
+		}
+		return points;
+	}
+
+	// Re-calculates all contributions after every removal.
+	private static int[] reduceFully(
+		final double[][] points,
+		final double[] reference,
+		final int count
+	) {
+		final List<Integer> remaining = new ArrayList<>();
+		for (int i = 0; i < points.length; ++i) {
+			remaining.add(i);
+		}
+
+		while (remaining.size() > count) {
+			final double[][] front = remaining.stream()
+				.map(i -> points[i])
+				.toArray(double[][]::new);
+			final double[] contributions =
+				Hypervolume.contributions(front, reference);
+
+			int worst = 0;
+			for (int i = 1; i < contributions.length; ++i) {
+				if (contributions[i] < contributions[worst]) {
+					worst = i;
+				}
+			}
+			remaining.remove(worst);
+		}
+
+		return remaining.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static double[][] remove(final double[][] points, final int index) {
+		final double[][] result = new double[points.length - 1][];
+		for (int i = 0, j = 0; i < points.length; ++i) {
+			if (i != index) {
+				result[j++] = points[i];
+			}
+		}
+		return result;
+	}
+
+	// Brute force hypervolume calculation, with the inclusion-exclusion
+	// principle.
+	private static double inclusionExclusion(
+		final double[][] points,
+		final double[] reference
+	) {
+		double volume = 0;
+		for (int mask = 1; mask < 1 << points.length; ++mask) {
+			final double[] corner = new double[reference.length];
+			Arrays.fill(corner, Double.NEGATIVE_INFINITY);
+			for (int i = 0; i < points.length; ++i) {
+				if ((mask & (1 << i)) != 0) {
+					for (int m = 0; m < corner.length; ++m) {
+						corner[m] = Math.max(corner[m], points[i][m]);
+					}
+				}
+			}
+
+			double box = 1;
+			for (int m = 0; m < corner.length; ++m) {
+				box *= Math.max(reference[m] - corner[m], 0);
+			}
+			volume += Integer.bitCount(mask)%2 == 1 ? box : -box;
+		}
+
+		return volume;
+	}
+
+}
@@ -94,4 +94,32 @@ public class MOEATest {
 		Assert.assertTrue(missing.size() < 10, "Expected < 10, got " + missing.size());
 	}
 
+	@Test
+	public void collectArchive() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.alterers(
+				new Mutator<>(0.1),
+				new MeanAlterer<>())
+			.offspringSelector(new TournamentSelector<>(2))
+			.survivorsSelector(UFTournamentSelector.ofVec())
+			.build();
+
+		final ISeq<Vec<double[]>> result = engine.stream()
+			.limit(100)
+			.collect(MOEA.toParetoArchive(25))
+			.map(Phenotype::fitness);
+
+		Assert.assertTrue(result.size() >= 10, "Expected >= 10, got " + result.size());
+		Assert.assertTrue(result.size() <= 25, "Expected <= 25, got " + result.size());
+		Assert.assertEquals(Pareto.front(result).size(), result.size());
+	}
+
 }
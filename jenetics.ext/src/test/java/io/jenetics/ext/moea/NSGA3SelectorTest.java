@@ -0,0 +1,255 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class NSGA3SelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(new double[]{v[0]*cos(v[1]), v[0]*sin(v[1])}),
+			Codecs.ofVector(
+				DoubleRange.of(0, 1),
+				DoubleRange.of(0, 2*PI)
+			)
+		);
+
+	@Test(dataProvider = "referencePointCounts")
+	public void referencePoints(
+		final Integer dimension,
+		final Integer outer,
+		final Integer inner,
+		final Integer count
+	) {
+		final double[][] points =
+			NSGA3Selector.referencePoints(dimension, outer, inner);
+
+		Assert.assertEquals(points.length, count.intValue());
+		for (double[] point : points) {
+			Assert.assertEquals(point.length, dimension.intValue());
+			Assert.assertEquals(Arrays.stream(point).sum(), 1.0, 1e-12);
+			Assert.assertTrue(Arrays.stream(point).allMatch(v -> v >= 0));
+		}
+	}
+
+	@DataProvider(name = "referencePointCounts")
+	public Object[][] referencePointCounts() {
+		return new Object[][] {
+			{1, 4, 0, 1},
+			{2, 4, 0, 5},
+			{3, 12, 0, 91},
+			{5, 6, 0, 210},
+			{8, 3, 2, 156},
+			{10, 3, 2, 275}
+		};
+	}
+
+	@Test
+	public void cachedReferencePoints() {
+		final NSGA3Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(3, 2);
+
+		final double[][] points = selector.references(8);
+		Assert.assertEquals(points.length, 156);
+		Assert.assertSame(selector.references(8), points);
+		Assert.assertEquals(selector.references(10).length, 275);
+		Assert.assertSame(selector.references(8), points);
+	}
+
+	@Test
+	public void intercepts() {
+		final double[][] f = {
+			{2, 0, 0},
+			{0, 3, 0},
+			{0, 0, 4},
+			{0.5, 0.5, 0.5}
+		};
+
+		final double[] intercepts = NSGA3Selector.intercepts(f);
+		Assert.assertEquals(intercepts[0], 2.0, 1e-9);
+		Assert.assertEquals(intercepts[1], 3.0, 1e-9);
+		Assert.assertEquals(intercepts[2], 4.0, 1e-9);
+	}
+
+	@Test
+	public void degeneratedIntercepts() {
+		final double[][] f = {
+			{1, 1},
+			{1, 1},
+			{3, 2}
+		};
+
+		final double[] intercepts = NSGA3Selector.intercepts(f);
+		Assert.assertEquals(intercepts[0], 3.0);
+		Assert.assertEquals(intercepts[1], 2.0);
+	}
+
+	@Test
+	public void associate() {
+		final double[][] references = NSGA3Selector.referencePoints(2, 2, 0);
+		final double[][] objectives = {{0.9, 0.1}, {0.5, 0.6}, {0.1, 2.0}};
+		final int[] association = new int[objectives.length];
+		final double[] distance = new double[objectives.length];
+
+		NSGA3Selector.associate(objectives, references, association, distance);
+
+		Assert.assertEquals(
+			Arrays.stream(association)
+				.mapToObj(i -> Arrays.toString(references[i]))
+				.toArray(),
+			new Object[]{"[1.0, 0.0]", "[0.5, 0.5]", "[0.0, 1.0]"}
+		);
+		Assert.assertEquals(distance[0], 0.1, 1e-12);
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void selectFronts(final Optimize opt) {
+		final Random random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = ISeq.of(
+			() -> Phenotype.of(
+				Genotype.of(DoubleChromosome.of(0, 1, 3)),
+				1L,
+				Vec.of(random.doubles(5).map(v -> (int)(v*10)/10.0).toArray())
+			),
+			500
+		);
+
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(4);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 150, opt);
+
+		Assert.assertEquals(selected.size(), 150);
+		Assert.assertEquals(
+			selected.stream().distinct().count(),
+			selected.size()
+		);
+
+		// No individual with a better rank must be left out.
+		final int[] rank = ObjectiveMatrix
+			.of(population, Phenotype::fitness, opt)
+			.rank();
+		final int worst = selected.stream()
+			.mapToInt(pt -> rank[population.indexOf(pt)])
+			.max()
+			.orElseThrow();
+
+		for (int i = 0; i < population.size(); ++i) {
+			if (rank[i] < worst) {
+				Assert.assertTrue(selected.contains(population.get(i)));
+			}
+		}
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void selectCircle(final Optimize opt) {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			NSGA3Selector.ofVec(12);
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(2000)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 100, opt);
+
+		final double mean = selected.stream()
+			.map(Phenotype::fitness)
+			.mapToDouble(NSGA2SelectorTest::dist)
+			.sum()/selected.size();
+
+		if (opt == Optimize.MAXIMUM) {
+			Assert.assertTrue(mean > 0.8, format("Expect mean > 0.8: %s", mean));
+		} else {
+			Assert.assertTrue(mean < -0.8, format("Expect mean < -0.8: %s", mean));
+		}
+
+		Assert.assertEquals(
+			selected.stream()
+				.map(Phenotype::fitness)
+				.collect(Collectors.toSet())
+				.size(),
+			selected.size()
+		);
+	}
+
+	@DataProvider(name = "optimizations")
+	public Object[][] optimizations() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(10)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			NSGA3Selector.<DoubleGene, double[], Vec<double[]>>ofVec(4)
+				.select(population, 25, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 25);
+		Assert.assertTrue(population.asList().containsAll(selected.asList()));
+		Assert.assertTrue(
+			NSGA3Selector.<DoubleGene, double[], Vec<double[]>>ofVec(4)
+				.select(ISeq.empty(), 10, Optimize.MAXIMUM)
+				.isEmpty()
+		);
+	}
+
+	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(
+			gt,
+			1L,
+			PROBLEM.fitness().apply(PROBLEM.codec().decode(gt))
+		);
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Integer.signum;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Optimize;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ObjectiveMatrixTest {
+
+	@Test(dataProvider = "points")
+	public void dominance(final ISeq<Vec<Object>> points, final Optimize opt) {
+		final ObjectiveMatrix matrix =
+			ObjectiveMatrix.of(points, Function.identity(), opt);
+
+		for (int i = 0; i < points.size(); ++i) {
+			for (int j = 0; j < points.size(); ++j) {
+				final int expected = opt == Optimize.MAXIMUM
+					? points.get(i).dominance(points.get(j))
+					: points.get(j).dominance(points.get(i));
+
+				Assert.assertEquals(signum(matrix.dominance(i, j)), expected);
+			}
+		}
+	}
+
+	@Test(dataProvider = "points")
+	public void rank(final ISeq<Vec<Object>> points, final Optimize opt) {
+		final ObjectiveMatrix matrix =
+			ObjectiveMatrix.of(points, Function.identity(), opt);
+
+		final Comparator<Vec<Object>> dominance = Vec::dominance;
+		final int[] expected = Pareto.rank(
+			points,
+			opt == Optimize.MAXIMUM ? dominance : dominance.reversed()
+		);
+
+		Assert.assertEquals(matrix.rank(), expected);
+	}
+
+	@Test(dataProvider = "points")
+	public void crowdingDistance(final ISeq<Vec<Object>> points, final Optimize opt) {
+		final ObjectiveMatrix matrix =
+			ObjectiveMatrix.of(points, Function.identity(), opt);
+
+		final ElementComparator<Vec<Object>> comparator = Vec::compare;
+		final double[] expected = Pareto.crowdingDistance(
+			points,
+			opt == Optimize.MAXIMUM ? comparator : comparator.reversed(),
+			Vec::distance,
+			Vec::length
+		);
+
+		final double[] distances = matrix.crowdingDistance();
+		Assert.assertEquals(distances.length, expected.length);
+		for (int i = 0; i < expected.length; ++i) {
+			Assert.assertEquals(distances[i], expected[i], 1e-12);
+		}
+	}
+
+	@DataProvider(name = "points")
+	public Object[][] points() {
+		final Random random = new Random(123);
+
+		return new Object[][] {
+			{doubles(random, 100, 2, 10), Optimize.MAXIMUM},
+			{doubles(random, 100, 2, 10), Optimize.MINIMUM},
+			{doubles(random, 500, 3, 1000), Optimize.MAXIMUM},
+			{doubles(random, 500, 5, 1000), Optimize.MINIMUM},
+			{ints(random, 300, 3), Optimize.MAXIMUM},
+			{ints(random, 300, 3), Optimize.MINIMUM},
+			{longs(random, 300, 4), Optimize.MAXIMUM},
+			{longs(random, 300, 4), Optimize.MINIMUM},
+			{doubles(random, 2, 2, 10), Optimize.MAXIMUM},
+			{specials(), Optimize.MAXIMUM},
+			{specials(), Optimize.MINIMUM}
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ISeq<Vec<Object>> doubles(
+		final Random random,
+		final int size,
+		final int dimension,
+		final int values
+	) {
+		return ISeq.of(
+			() -> (Vec<Object>)(Object)Vec.of(
+				random.doubles(dimension)
+					.map(v -> Math.floor(v*values)/values - 0.5)
+					.toArray()
+			),
+			size
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ISeq<Vec<Object>> ints(
+		final Random random,
+		final int size,
+		final int dimension
+	) {
+		return ISeq.of(
+			() -> (Vec<Object>)(Object)Vec.of(
+				random.ints(dimension, -20, 20).toArray()
+			),
+			size
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ISeq<Vec<Object>> longs(
+		final Random random,
+		final int size,
+		final int dimension
+	) {
+		return ISeq.of(
+			() -> (Vec<Object>)(Object)Vec.of(
+				random.longs(dimension, -20, 20).toArray()
+			),
+			size
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static ISeq<Vec<Object>> specials() {
+		final double[] values = {
+			Double.NaN, Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.0, -1.0,
+			Double.POSITIVE_INFINITY
+		};
+
+		final Random random = new Random(456);
+		return ISeq.of(
+			() -> (Vec<Object>)(Object)Vec.of(
+				values[random.nextInt(values.length)],
+				values[random.nextInt(values.length)]
+			),
+			50
+		);
+	}
+
+	@Test
+	public void unsupportedVec() {
+		final ISeq<Vec<Integer[]>> points = ISeq.of(
+			Vec.of(new Integer[]{1, 2}),
+			Vec.of(new Integer[]{2, 1})
+		);
+		Assert.assertNull(
+			ObjectiveMatrix.of(points, Function.identity(), Optimize.MAXIMUM)
+		);
+		Assert.assertNull(
+			ObjectiveMatrix.of(ISeq.<Vec<double[]>>empty(), Function.identity(), Optimize.MAXIMUM)
+		);
+		Assert.assertNull(
+			ObjectiveMatrix.of(
+				ISeq.<Vec<?>>of(Vec.of(1.0, 2.0), Vec.of(1, 2)),
+				Function.identity(),
+				Optimize.MAXIMUM
+			)
+		);
+	}
+
+}
@@ -26,10 +26,12 @@ import static java.lang.Math.sin;
 
 import java.util.HashSet;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -79,6 +81,54 @@ public class ParetoTest {
 		Assert.assertEquals(front, rank0);
 	}
 
+	@Test(dataProvider = "sizes")
+	public void parallelFront(final Integer size) {
+		final Random random = new Random(size);
+		final ISeq<Vec<double[]>> points = ISeq.of(
+			() -> Vec.of(random.doubles(3).map(v -> (int)(v*20)/20.0).toArray()),
+			size
+		);
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			final ISeq<Vec<double[]>> front = Pareto.front(points, Vec::dominance);
+			final ISeq<Vec<double[]>> parallel =
+				Pareto.front(points, Vec::dominance, pool);
+
+			Assert.assertEquals(parallel.size(), front.size());
+			Assert.assertEquals(
+				new HashSet<>(parallel.asList()),
+				new HashSet<>(front.asList())
+			);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void parallelRank(final Integer size) {
+		final Random random = new Random(size);
+		final ISeq<Vec<double[]>> points = ISeq.of(
+			() -> Vec.of(random.doubles(3).map(v -> (int)(v*20)/20.0).toArray()),
+			size
+		);
+
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			Assert.assertEquals(
+				Pareto.rank(points, Vec::dominance, pool),
+				Pareto.rank(points, Vec::dominance)
+			);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {{0}, {1}, {100}, {1000}, {5000}};
+	}
+
 	@Test
 	public void rankMax() {
 		final Random random = new Random(123123);
@@ -246,6 +296,59 @@ public class ParetoTest {
 		);
 	}
 
+	@Test
+	public void epsilonDominance() {
+		final double[] eps = {0.1, 0.1};
+
+		// Box dominance.
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.35, 0.35), d(0.25, 0.35), eps), 1);
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.25, 0.35), d(0.35, 0.35), eps), -1);
+
+		// Pareto incomparable vectors, where the box of the first one dominates.
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.305, 0.305), d(0.29, 0.39), eps), 1);
+
+		// Incomparable boxes.
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.35, 0.15), d(0.15, 0.35), eps), 0);
+
+		// Same box, the vector closer to the best box corner wins.
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.39, 0.38), d(0.31, 0.39), eps), 1);
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.31, 0.39), d(0.39, 0.38), eps), -1);
+		Assert.assertEquals(Pareto.epsilonDominance(d(0.32, 0.32), d(0.32, 0.32), eps), 0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void epsilonDominanceInvalidEpsilon() {
+		Pareto.epsilonDominance(d(1, 1), d(1, 1), d(0.1, 0.0));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void epsilonDominanceInvalidLength() {
+		Pareto.epsilonDominance(d(1, 1), d(1, 1), d(0.1));
+	}
+
+	@Test
+	public void epsilonFrontSize() {
+		final Random random = new Random(123);
+		final VecFactory<double[]> factory =
+			VecFactory.ofDoubleVec(new double[]{0.1, 0.1});
+
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+		for (int i = 0; i < 10_000; ++i) {
+			front.add(factory.newVec(frontMax(1, 1, random).get(0).data()));
+		}
+
+		// At most one element per (non-dominated) box.
+		Assert.assertTrue(front.size() <= 20, "Front size: " + front.size());
+		final HashSet<String> boxes = front.stream()
+			.map(v -> (int)Math.floor(v.data()[0]/0.1) + ":" +
+				(int)Math.floor(v.data()[1]/0.1))
+			.collect(Collectors.toCollection(HashSet::new));
+		Assert.assertEquals(boxes.size(), front.size());
+	}
+
+	private static double[] d(final double... values) {
+		return values;
+	}
 
 	static ISeq<Vec<double[]>> frontMax(
 		final double r,
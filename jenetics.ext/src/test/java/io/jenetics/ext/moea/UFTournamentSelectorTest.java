@@ -127,6 +127,39 @@ public class UFTournamentSelectorTest {
 		);
 	}
 
+	@Test
+	public void selectEqualFitness() {
+		final Selector<DoubleGene, Vec<double[]>> selector =
+			UFTournamentSelector.ofVec();
+
+		final ISeq<Vec<double[]>> fitness = ISeq.of(
+			() -> Vec.of(Math.random(), Math.random()),
+			5
+		);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(() -> Phenotype.of(
+					PROBLEM.codec().encoding().newInstance(),
+					1L,
+					fitness.get((int)(Math.random()*fitness.size()))
+				))
+				.limit(500)
+				.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 1000, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 1000);
+		Assert.assertTrue(population.asList().containsAll(selected.asList()));
+
+		// Individuals with equal fitness are picked randomly.
+		Assert.assertTrue(
+			selected.stream()
+				.map(Phenotype::genotype)
+				.collect(Collectors.toSet())
+				.size() > fitness.size()
+		);
+	}
+
 	private Phenotype<DoubleGene, Vec<double[]>> phenotype() {
 		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
 		return Phenotype.of(
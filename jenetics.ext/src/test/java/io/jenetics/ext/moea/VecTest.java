@@ -83,11 +83,40 @@ public class VecTest {
 		Assert.assertEquals(v1.dominance(v2), Pareto.dominance(d1, d2));
 	}
 
+	@Test
+	public void epsilonDominance() {
+		final VecFactory<double[]> factory = VecFactory.ofDoubleVec(
+			new double[]{0.1, 0.1},
+			Optimize.MAXIMUM,
+			Optimize.MINIMUM
+		);
+
+		final Vec<double[]> v1 = factory.newVec(new double[]{0.35, 0.15});
+		final Vec<double[]> v2 = factory.newVec(new double[]{0.25, 0.35});
+		final Vec<double[]> v3 = factory.newVec(new double[]{0.39, 0.11});
+
+		Assert.assertEquals(v1.dominance(v2), 1);
+		Assert.assertEquals(v2.dominance(v1), -1);
+
+		// Same box, 'v3' is closer to the best box corner.
+		Assert.assertEquals(v3.dominance(v1), 1);
+		Assert.assertEquals(v1.dominance(v3), -1);
+
+		Assert.assertEquals(v1.compare(v2, 1), 1);
+		Assert.assertEquals(v1.distance(v2, 1), 0.2, 1e-12);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void epsilonLengthMismatch() {
+		VecFactory.ofDoubleVec(new double[]{0.1}, Optimize.MAXIMUM, Optimize.MINIMUM);
+	}
+
 	@DataProvider
 	public Object[][] vecFactories1D() {
 		return new Object[][]{
 			{VecFactory.ofDoubleVec(Optimize.MAXIMUM)},
-			{VecFactory.ofDoubleVec()}
+			{VecFactory.ofDoubleVec()},
+			{VecFactory.ofDoubleVec(new double[]{0.1})}
 		};
 	}
 
@@ -0,0 +1,258 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.tool.jfr;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import io.jenetics.stat.LongHistogram;
+
+/**
+ * Summarises the Jenetics events of a JFR recording. The durations of the
+ * recorded events are grouped by evolution phase (and event type) and
+ * reported together with the time the application was paused by the garbage
+ * collector, while the phases were executed.
+ *
+ * <pre>
+ * java -XX:StartFlightRecording=filename=evolution.jfr ...
+ * java io.jenetics.tool.jfr.PhaseReport evolution.jfr
+ * </pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class PhaseReport {
+
+	private static final String EVENT_PREFIX = "io.jenetics.";
+	private static final String PHASE_EVENT = "io.jenetics.Phase";
+	private static final String GC_PAUSE_EVENT = "jdk.GCPhasePause";
+
+	/**
+	 * The summary of one row of the report.
+	 */
+	public static final class Row {
+		private final String _name;
+		private final LongHistogram _durations = new LongHistogram();
+		private long _gcPause = 0;
+
+		private Row(final String name) {
+			_name = requireNonNull(name);
+		}
+
+		/**
+		 * Return the name of the row, which is the event type or the
+		 * evolution phase.
+		 *
+		 * @return the name of the row
+		 */
+		public String name() {
+			return _name;
+		}
+
+		/**
+		 * Return the histogram of the event durations, in nanoseconds.
+		 *
+		 * @return the histogram of the event durations
+		 */
+		public LongHistogram durations() {
+			return _durations;
+		}
+
+		/**
+		 * Return the garbage collection pause time, in nanoseconds, which
+		 * overlaps with the events of this row.
+		 *
+		 * @return the overlapping garbage collection pause time
+		 */
+		public long gcPause() {
+			return _gcPause;
+		}
+
+		@Override
+		public String toString() {
+			return format(
+				"%-28s %8d %12.3f %12.3f %12.3f %12.3f %12.3f %12.3f",
+				_name,
+				_durations.count(),
+				_durations.sum()/1e6,
+				_durations.mean()/1e3,
+				_durations.quantile(0.5)/1e3,
+				_durations.quantile(0.99)/1e3,
+				_durations.max()/1e3,
+				_gcPause/1e6
+			);
+		}
+	}
+
+	private final Map<String, Row> _rows;
+	private final long _gcPause;
+
+	private PhaseReport(final Map<String, Row> rows, final long gcPause) {
+		_rows = Collections.unmodifiableMap(rows);
+		_gcPause = gcPause;
+	}
+
+	/**
+	 * Return the report rows, ordered by the row name.
+	 *
+	 * @return the report rows
+	 */
+	public Map<String, Row> rows() {
+		return _rows;
+	}
+
+	/**
+	 * Return the total garbage collection pause time, in nanoseconds, of the
+	 * recording.
+	 *
+	 * @return the total garbage collection pause time of the recording
+	 */
+	public long gcPause() {
+		return _gcPause;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder out = new StringBuilder();
+		out.append(format(
+			"%-28s %8s %12s %12s %12s %12s %12s %12s%n",
+			"Event", "Count", "Total [ms]", "Mean [us]",
+			"p50 [us]", "p99 [us]", "Max [us]", "GC [ms]"
+		));
+		_rows.values().forEach(row -> out.append(row).append(format("%n")));
+		out.append(format("Total GC pause: %.3f ms%n", _gcPause/1e6));
+		return out.toString();
+	}
+
+	/**
+	 * Reads the JFR recording from the given {@code path} and creates the
+	 * phase report.
+	 *
+	 * @param path the path of the JFR recording file
+	 * @return the phase report of the given recording
+	 * @throws IOException if the recording can't be read
+	 * @throws NullPointerException if the given {@code path} is {@code null}
+	 */
+	public static PhaseReport of(final Path path) throws IOException {
+		final List<RecordedEvent> events = RecordingFile.readAllEvents(path);
+
+		final long[][] pauses = pauses(events);
+		long gcPause = 0;
+		for (long[] pause : pauses) {
+			gcPause += pause[1] - pause[0];
+		}
+
+		final Map<String, Row> rows = new TreeMap<>();
+		for (RecordedEvent event : events) {
+			final String type = event.getEventType().getName();
+			if (type.startsWith(EVENT_PREFIX)) {
+				final String name = PHASE_EVENT.equals(type)
+					? event.getString("phase")
+					: event.getEventType().getLabel();
+
+				final Row row = rows.computeIfAbsent(name, Row::new);
+				row._durations.accept(Math.max(event.getDuration().toNanos(), 0));
+				row._gcPause += overlap(
+					pauses,
+					nanos(event.getStartTime()),
+					nanos(event.getEndTime())
+				);
+			}
+		}
+
+		return new PhaseReport(new LinkedHashMap<>(rows), gcPause);
+	}
+
+	// Return the sorted GC pause intervals, [start, end] in epoch nanos.
+	private static long[][] pauses(final List<RecordedEvent> events) {
+		final List<long[]> pauses = new ArrayList<>();
+		for (RecordedEvent event : events) {
+			if (GC_PAUSE_EVENT.equals(event.getEventType().getName())) {
+				pauses.add(new long[] {
+					nanos(event.getStartTime()),
+					nanos(event.getEndTime())
+				});
+			}
+		}
+
+		final long[][] result = pauses.toArray(long[][]::new);
+		Arrays.sort(result, Comparator.comparingLong(p -> p[0]));
+		return result;
+	}
+
+	// Return the overlap of the given interval with the GC pauses. The pauses
+	// are disjoint and sorted, which lets us stop at the first pause which
+	// ends before the interval starts.
+	static long overlap(final long[][] pauses, final long start, final long end) {
+		long overlap = 0;
+		for (int i = lastBefore(pauses, end); i >= 0 && pauses[i][1] > start; --i) {
+			overlap += Math.min(end, pauses[i][1]) - Math.max(start, pauses[i][0]);
+		}
+
+		return overlap;
+	}
+
+	// Return the index of the last pause, which starts before the given time.
+	private static int lastBefore(final long[][] pauses, final long time) {
+		int low = 0;
+		int high = pauses.length;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (pauses[mid][0] < time) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		return low - 1;
+	}
+
+	private static long nanos(final Instant instant) {
+		return instant.getEpochSecond()*1_000_000_000L + instant.getNano();
+	}
+
+	public static void main(final String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("Usage: PhaseReport <recording.jfr>");
+			System.exit(1);
+		}
+
+		System.out.print(PhaseReport.of(Paths.get(args[0])));
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.tool.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import jdk.jfr.Recording;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionMetrics.Phase;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.moea.Pareto;
+import io.jenetics.ext.moea.Vec;
+import io.jenetics.ext.rewriting.TRS;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public class PhaseReportTest {
+
+	@Test
+	public void report() throws IOException {
+		final Path path = Files.createTempFile("jenetics_", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("io.jenetics.Generation");
+			recording.enable("io.jenetics.Phase");
+			recording.enable("io.jenetics.Evaluation");
+			recording.enable("io.jenetics.ext.ParetoRank");
+			recording.enable("io.jenetics.ext.RewritePass");
+			recording.enable("jdk.GCPhasePause");
+			recording.start();
+
+			final Problem<Double, DoubleGene, Double> problem = Problem.of(
+				Math::sin,
+				Codecs.ofScalar(DoubleRange.of(0, 10))
+			);
+			Engine.builder(problem).build().stream()
+				.limit(10)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+			final Random random = new Random(123);
+			Pareto.rank(ISeq.of(() -> Vec.of(random.nextDouble(), random.nextDouble()), 50));
+
+			final TRS<String> trs = TRS.parse("add(0,$x) -> $x");
+			trs.rewrite(TreeNode.parse("add(0,add(0,1))"));
+
+			System.gc();
+			recording.stop();
+			recording.dump(path);
+
+			final PhaseReport report = PhaseReport.of(path);
+			for (Phase phase : Phase.values()) {
+				if (phase != Phase.EVOLVE) {
+					Assert.assertTrue(
+						report.rows().containsKey(phase.name()),
+						phase.name()
+					);
+				}
+			}
+			Assert.assertEquals(report.rows().get("Generation").durations().count(), 10);
+			Assert.assertEquals(report.rows().get("Pareto Rank").durations().count(), 1);
+			Assert.assertEquals(report.rows().get("Rewrite Pass").durations().count(), 2);
+			Assert.assertTrue(report.rows().get("Evaluation").durations().count() >= 10);
+			Assert.assertTrue(report.toString().contains("OFFSPRING_ALTER"));
+		} finally {
+			Files.deleteIfExists(path);
+		}
+	}
+
+	@Test
+	public void overlap() {
+		final long[][] pauses = {{10, 20}, {30, 40}, {50, 60}};
+
+		Assert.assertEquals(PhaseReport.overlap(pauses, 0, 5), 0);
+		Assert.assertEquals(PhaseReport.overlap(pauses, 0, 15), 5);
+		Assert.assertEquals(PhaseReport.overlap(pauses, 15, 35), 10);
+		Assert.assertEquals(PhaseReport.overlap(pauses, 0, 100), 30);
+		Assert.assertEquals(PhaseReport.overlap(pauses, 41, 49), 0);
+		Assert.assertEquals(PhaseReport.overlap(pauses, 55, 70), 5);
+	}
+
+}
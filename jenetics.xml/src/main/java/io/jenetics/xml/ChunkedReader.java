@@ -0,0 +1,234 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.xml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.xml.stream.XMLStreamException;
+
+import io.jenetics.xml.stream.Reader;
+import io.jenetics.xml.stream.XML;
+
+/**
+ * Reads the child elements of a (large) XML list document in parallel. The
+ * document is split at the boundaries of the list elements and the resulting
+ * chunks are wrapped into an empty root element and parsed concurrently, with
+ * the reader of the whole document. The document is read sequentially, if it
+ * contains comments, {@code CDATA} sections or document type declarations,
+ * which prevents a safe splitting at the byte level.
+ *
+ * @param <T> the list element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ChunkedReader<T> {
+
+	/**
+	 * The default minimal chunk size in bytes.
+	 */
+	static final int CHUNK_SIZE = 256*1024;
+
+	private final Reader<List<T>> _reader;
+	private final byte[] _open;
+	private final byte[] _close;
+	private final byte[] _element;
+	private final int _chunkSize;
+
+	/**
+	 * Create a new chunked reader.
+	 *
+	 * @param reader the reader of the list document
+	 * @param root the name of the document root element
+	 * @param element the name of the list elements
+	 * @param chunkSize the minimal number of bytes of a chunk
+	 */
+	ChunkedReader(
+		final Reader<List<T>> reader,
+		final String root,
+		final String element,
+		final int chunkSize
+	) {
+		_reader = requireNonNull(reader);
+		_open = ("<" + root + ">").getBytes(UTF_8);
+		_close = ("</" + root + ">").getBytes(UTF_8);
+		_element = element.getBytes(UTF_8);
+		_chunkSize = chunkSize;
+	}
+
+	/**
+	 * Reads the list elements of the given (UTF-8 encoded) document.
+	 *
+	 * @param data the XML document
+	 * @param executor the executor used for parsing the document chunks
+	 * @return the elements of the document
+	 * @throws XMLStreamException if reading the document fails
+	 */
+	List<T> read(final byte[] data, final Executor executor)
+		throws XMLStreamException
+	{
+		final int[] bounds = bounds(data);
+		if (bounds == null) {
+			return read(new ByteArrayInputStream(data));
+		}
+
+		// Reading the document without the list elements validates the root.
+		final List<T> empty = read(new SequenceInputStream(
+			new ByteArrayInputStream(data, 0, bounds[0]),
+			new ByteArrayInputStream(
+				data,
+				bounds[bounds.length - 1],
+				data.length - bounds[bounds.length - 1]
+			)
+		));
+		if (!empty.isEmpty()) {
+			throw new XMLStreamException("Unexpected document structure.");
+		}
+
+		final List<CompletableFuture<List<T>>> chunks = new ArrayList<>();
+		int start = 0;
+		for (int i = 1; i < bounds.length; i += 2) {
+			if (bounds[i] - bounds[start] >= _chunkSize ||
+				i == bounds.length - 1)
+			{
+				final int from = bounds[start];
+				final int until = bounds[i];
+				chunks.add(CompletableFuture.supplyAsync(
+					() -> readChunk(data, from, until),
+					executor
+				));
+				start = i + 1;
+			}
+		}
+
+		final List<T> result = new ArrayList<>();
+		for (CompletableFuture<List<T>> chunk : chunks) {
+			try {
+				result.addAll(chunk.join());
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof XMLStreamException) {
+					throw (XMLStreamException)e.getCause();
+				}
+				throw new XMLStreamException(e.getCause());
+			}
+		}
+
+		return result;
+	}
+
+	private List<T> readChunk(final byte[] data, final int from, final int until) {
+		final InputStream in = new SequenceInputStream(Collections.enumeration(
+			List.of(
+				new ByteArrayInputStream(_open),
+				new ByteArrayInputStream(data, from, until - from),
+				new ByteArrayInputStream(_close)
+			)
+		));
+
+		try {
+			return read(in);
+		} catch (XMLStreamException e) {
+			throw new CompletionException(e);
+		}
+	}
+
+	private List<T> read(final InputStream in) throws XMLStreamException {
+		try (var xml = XML.reader(in)) {
+			xml.next();
+			return _reader.read(xml);
+		}
+	}
+
+	/**
+	 * Return the start and end indexes of the list elements, or {@code null}
+	 * if the document can't be split safely.
+	 */
+	int[] bounds(final byte[] data) {
+		final List<Integer> bounds = new ArrayList<>();
+
+		int start = -1;
+		for (int i = 0; i < data.length; ++i) {
+			if (data[i] != '<') {
+				continue;
+			}
+
+			if (i + 1 < data.length && data[i + 1] == '!') {
+				return null;
+			}
+			if (start == -1 && isTag(data, i + 1)) {
+				start = i;
+			} else if (start != -1) {
+				if (isTag(data, i + 1)) {
+					return null;
+				}
+				if (i + 1 < data.length && data[i + 1] == '/' &&
+					isTag(data, i + 2))
+				{
+					int end = i + 2 + _element.length;
+					while (end < data.length && data[end] != '>') {
+						++end;
+					}
+					if (end == data.length) {
+						return null;
+					}
+
+					bounds.add(start);
+					bounds.add(end + 1);
+					start = -1;
+					i = end;
+				}
+			}
+		}
+
+		return start == -1 && !bounds.isEmpty()
+			? bounds.stream().mapToInt(Integer::intValue).toArray()
+			: null;
+	}
+
+	// Tests whether the element name starts at the given index.
+	private boolean isTag(final byte[] data, final int index) {
+		final int end = index + _element.length;
+		if (end >= data.length) {
+			return false;
+		}
+		for (int i = 0; i < _element.length; ++i) {
+			if (data[index + i] != _element[i]) {
+				return false;
+			}
+		}
+
+		final byte next = data[end];
+		return next == '>' || next == '/' ||
+			next == ' ' || next == '\t' || next == '\n' || next == '\r';
+	}
+
+}
@@ -21,28 +21,37 @@ package io.jenetics.xml;
 
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
 import static io.jenetics.xml.stream.Reader.attr;
 import static io.jenetics.xml.stream.Reader.elem;
 import static io.jenetics.xml.stream.Reader.elems;
 import static io.jenetics.xml.stream.Reader.text;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.xml.stream.XMLStreamException;
 
 import io.jenetics.BoundedGene;
 import io.jenetics.Chromosome;
-import io.jenetics.DoubleGene;
 import io.jenetics.EnumGene;
 import io.jenetics.Gene;
-import io.jenetics.IntegerGene;
-import io.jenetics.LongGene;
 import io.jenetics.util.CharSeq;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.IntSeq;
+import io.jenetics.util.LongRange;
+import io.jenetics.util.LongSeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.xml.stream.AutoCloseableXMLStreamReader;
 import io.jenetics.xml.stream.Reader;
@@ -64,7 +73,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public final class Readers {
@@ -253,6 +262,205 @@ public final class Readers {
 
 	}
 
+	/**
+	 * Fast path for reading the numeric chromosomes. The allele texts are
+	 * parsed directly into primitive arrays, without the creation of
+	 * intermediate reader results and boxed allele values. The XML format is
+	 * the same as for the {@link BoundedChromosome} readers.
+	 */
+	private static final class NumericChromosome {
+		private NumericChromosome() {}
+
+		// Collects the values of one chromosome element. The alleles are
+		// collected in a buffer, which grows with the alleles actually read,
+		// since the length attribute is not verified in advance.
+		interface Values<C> {
+			void min(final String value);
+			void max(final String value);
+			void allele(final String value);
+			C chromosome();
+		}
+
+		// Initial size of the allele buffers.
+		static final int CAPACITY = 16;
+
+		static <C> Reader<C> reader(
+			final String name,
+			final Supplier<? extends Values<? extends C>> values
+		) {
+			return Reader.of(name, xml -> {
+				final int length = Integer.parseInt(xml.getAttributeValue(
+					null, Writers.BoundedChromosome.LENGTH_NAME
+				));
+				final Values<? extends C> result = values.get();
+
+				int alleles = 0;
+				boolean min = false;
+				boolean max = false;
+				while (xml.hasNext()) {
+					switch (xml.next()) {
+						case START_ELEMENT:
+							switch (xml.getLocalName()) {
+								case Writers.BoundedChromosome.MIN_NAME:
+									result.min(xml.getElementText());
+									min = true;
+									break;
+								case Writers.BoundedChromosome.MAX_NAME:
+									result.max(xml.getElementText());
+									max = true;
+									break;
+								case Writers.BoundedChromosome.ALLELES_NAME:
+									break;
+								case Writers.BoundedChromosome.ALLELE_NAME:
+									if (alleles >= length) {
+										throw new IllegalArgumentException(format(
+											"Expected %d alleles, but got more.",
+											length
+										));
+									}
+									result.allele(xml.getElementText());
+									++alleles;
+									break;
+								default:
+									throw new XMLStreamException(format(
+										"Unexpected element '%s' in '%s'.",
+										xml.getLocalName(), name
+									));
+							}
+							break;
+						case END_ELEMENT:
+							if (name.equals(xml.getLocalName())) {
+								if (!min || !max) {
+									throw new IllegalArgumentException(format(
+										"Missing '%s' or '%s' element.",
+										Writers.BoundedChromosome.MIN_NAME,
+										Writers.BoundedChromosome.MAX_NAME
+									));
+								}
+								if (alleles != length) {
+									throw new IllegalArgumentException(format(
+										"Expected %d alleles, but got %d,",
+										length, alleles
+									));
+								}
+								return result.chromosome();
+							}
+							break;
+					}
+				}
+
+				throw new XMLStreamException(format(
+					"Premature end of file while reading '%s'.", name
+				));
+			});
+		}
+	}
+
+	private static final class IntegerValues
+		implements NumericChromosome.Values<io.jenetics.IntegerChromosome>
+	{
+		private int[] _alleles = new int[NumericChromosome.CAPACITY];
+		private int _size = 0;
+		private int _min;
+		private int _max;
+
+		@Override
+		public void min(final String value) {
+			_min = Integer.parseInt(value);
+		}
+
+		@Override
+		public void max(final String value) {
+			_max = Integer.parseInt(value);
+		}
+
+		@Override
+		public void allele(final String value) {
+			if (_size == _alleles.length) {
+				_alleles = Arrays.copyOf(_alleles, 2*_size);
+			}
+			_alleles[_size++] = Integer.parseInt(value);
+		}
+
+		@Override
+		public io.jenetics.IntegerChromosome chromosome() {
+			return io.jenetics.IntegerChromosome.of(
+				IntSeq.of(_alleles).subSeq(0, _size),
+				IntRange.of(_min, _max)
+			);
+		}
+	}
+
+	private static final class LongValues
+		implements NumericChromosome.Values<io.jenetics.LongChromosome>
+	{
+		private long[] _alleles = new long[NumericChromosome.CAPACITY];
+		private int _size = 0;
+		private long _min;
+		private long _max;
+
+		@Override
+		public void min(final String value) {
+			_min = Long.parseLong(value);
+		}
+
+		@Override
+		public void max(final String value) {
+			_max = Long.parseLong(value);
+		}
+
+		@Override
+		public void allele(final String value) {
+			if (_size == _alleles.length) {
+				_alleles = Arrays.copyOf(_alleles, 2*_size);
+			}
+			_alleles[_size++] = Long.parseLong(value);
+		}
+
+		@Override
+		public io.jenetics.LongChromosome chromosome() {
+			return io.jenetics.LongChromosome.of(
+				LongSeq.of(_alleles).subSeq(0, _size),
+				LongRange.of(_min, _max)
+			);
+		}
+	}
+
+	private static final class DoubleValues
+		implements NumericChromosome.Values<io.jenetics.DoubleChromosome>
+	{
+		private double[] _alleles = new double[NumericChromosome.CAPACITY];
+		private int _size = 0;
+		private double _min;
+		private double _max;
+
+		@Override
+		public void min(final String value) {
+			_min = Double.parseDouble(value);
+		}
+
+		@Override
+		public void max(final String value) {
+			_max = Double.parseDouble(value);
+		}
+
+		@Override
+		public void allele(final String value) {
+			if (_size == _alleles.length) {
+				_alleles = Arrays.copyOf(_alleles, 2*_size);
+			}
+			_alleles[_size++] = Double.parseDouble(value);
+		}
+
+		@Override
+		public io.jenetics.DoubleChromosome chromosome() {
+			return io.jenetics.DoubleChromosome.of(
+				DoubleSeq.of(_alleles).subSeq(0, _size),
+				DoubleRange.of(_min, _max)
+			);
+		}
+	}
+
 	/**
 	 * Reader methods for {@link io.jenetics.IntegerChromosome} objects.
 	 * <p>
@@ -287,12 +495,9 @@ public final class Readers {
 		 * @return a integer chromosome reader
 		 */
 		public static Reader<io.jenetics.IntegerChromosome> reader() {
-			return BoundedChromosome.reader(
+			return NumericChromosome.reader(
 				Writers.IntegerChromosome.ROOT_NAME,
-				IntegerGene::of,
-				IntegerGene[]::new,
-				io.jenetics.IntegerChromosome::of,
-				alleleReader()
+				IntegerValues::new
 			);
 		}
 
@@ -350,12 +555,9 @@ public final class Readers {
 		 * @return a long chromosome reader
 		 */
 		public static Reader<io.jenetics.LongChromosome> reader() {
-			return BoundedChromosome.reader(
+			return NumericChromosome.reader(
 				Writers.LongChromosome.ROOT_NAME,
-				LongGene::of,
-				LongGene[]::new,
-				io.jenetics.LongChromosome::of,
-				alleleReader()
+				LongValues::new
 			);
 		}
 
@@ -413,12 +615,9 @@ public final class Readers {
 		 * @return a double chromosome reader
 		 */
 		public static Reader<io.jenetics.DoubleChromosome> reader() {
-			return BoundedChromosome.reader(
+			return NumericChromosome.reader(
 				Writers.DoubleChromosome.ROOT_NAME,
-				DoubleGene::of,
-				DoubleGene[]::new,
-				io.jenetics.DoubleChromosome::of,
-				alleleReader()
+				DoubleValues::new
 			);
 		}
 
@@ -726,6 +925,84 @@ public final class Readers {
 			}
 		}
 
+
+		/**
+		 * Reads the genotypes by using the given chromosome reader. The
+		 * genotype elements are parsed in parallel chunks, using the given
+		 * {@code executor}. This method reads the whole input stream into
+		 * memory, before parsing it. The result is the same as the result of
+		 * the {@link #read(InputStream, Reader)} method, which is used if the
+		 * document contains comments or {@code CDATA} sections.
+		 *
+		 * <pre>{@code
+		 * final List<Genotype<DoubleGene>> genotypes = Readers.Genotypes.read(
+		 *     in,
+		 *     Readers.DoubleChromosome.reader(),
+		 *     ForkJoinPool.commonPool()
+		 * );
+		 * }</pre>
+		 *
+		 * @since 6.1
+		 *
+		 * @param <A> the allele type
+		 * @param <G> the gene type
+		 * @param <C> the chromosome type
+		 * @param in the input stream to read the genotype from
+		 * @param chromosomeReader the used chromosome reader
+		 * @param executor the executor used for parsing the genotype chunks
+		 * @return a genotype by using the given chromosome reader
+		 * @throws XMLStreamException if reading the genotype fails
+		 * @throws NullPointerException if one of the arguments is {@code null}
+		 */
+		public static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		List<io.jenetics.Genotype<G>>
+		read(
+			final InputStream in,
+			final Reader<? extends C> chromosomeReader,
+			final Executor executor
+		)
+			throws XMLStreamException
+		{
+			return read(in, chromosomeReader, executor, ChunkedReader.CHUNK_SIZE);
+		}
+
+		static <
+			A,
+			G extends Gene<A, G>,
+			C extends Chromosome<G>
+		>
+		List<io.jenetics.Genotype<G>>
+		read(
+			final InputStream in,
+			final Reader<? extends C> chromosomeReader,
+			final Executor executor,
+			final int chunkSize
+		)
+			throws XMLStreamException
+		{
+			requireNonNull(in);
+			requireNonNull(chromosomeReader);
+			requireNonNull(executor);
+
+			final byte[] data;
+			try {
+				data = in.readAllBytes();
+			} catch (IOException e) {
+				throw new XMLStreamException(e);
+			}
+
+			return new ChunkedReader<>(
+				reader(chromosomeReader),
+				Writers.Genotypes.ROOT_NAME,
+				Writers.Genotype.ROOT_NAME,
+				chunkSize
+			).read(data, executor);
+		}
+
 	}
 
 	/**
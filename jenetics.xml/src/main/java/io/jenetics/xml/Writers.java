@@ -27,6 +27,7 @@ import static io.jenetics.xml.stream.Writer.text;
 
 import java.io.OutputStream;
 import java.util.Collection;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.xml.stream.XMLStreamException;
@@ -37,6 +38,8 @@ import io.jenetics.DoubleGene;
 import io.jenetics.Gene;
 import io.jenetics.IntegerGene;
 import io.jenetics.LongGene;
+import io.jenetics.NumericChromosome;
+import io.jenetics.NumericGene;
 import io.jenetics.util.ISeq;
 import io.jenetics.xml.stream.Writer;
 import io.jenetics.xml.stream.XML;
@@ -66,7 +69,7 @@ import io.jenetics.xml.stream.XML;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public final class Writers {
@@ -294,6 +297,43 @@ public final class Writers {
 				)
 			);
 		}
+
+		/**
+		 * Fast path for writing numeric chromosomes. The alleles are written
+		 * directly, without creating the intermediate allele sequence. The
+		 * written XML is the same as for the {@link #writer(String, Writer)}
+		 * with the {@code text()} allele writer.
+		 */
+		static <
+			N extends Number & Comparable<? super N>,
+			G extends NumericGene<N, G>,
+			C extends NumericChromosome<N, G>
+		>
+		Writer<C> numeric(
+			final String rootName,
+			final Function<? super G, String> allele
+		) {
+			return (xml, data) -> {
+				if (data != null) {
+					xml.writeStartElement(rootName);
+					xml.writeAttribute(LENGTH_NAME, Integer.toString(data.length()));
+					xml.writeStartElement(MIN_NAME);
+					xml.writeCharacters(data.min().toString());
+					xml.writeEndElement();
+					xml.writeStartElement(MAX_NAME);
+					xml.writeCharacters(data.max().toString());
+					xml.writeEndElement();
+					xml.writeStartElement(ALLELES_NAME);
+					for (int i = 0, n = data.length(); i < n; ++i) {
+						xml.writeStartElement(ALLELE_NAME);
+						xml.writeCharacters(allele.apply(data.get(i)));
+						xml.writeEndElement();
+					}
+					xml.writeEndElement();
+					xml.writeEndElement();
+				}
+			};
+		}
 	}
 
 	/**
@@ -366,7 +406,11 @@ public final class Writers {
 		 * @return a chromosome writer
 		 */
 		public static Writer<io.jenetics.IntegerChromosome> writer() {
-			return writer(alleleWriter());
+			return BoundedChromosome.<
+				Integer,
+				IntegerGene,
+				io.jenetics.IntegerChromosome
+			>numeric(ROOT_NAME, g -> Integer.toString(g.intValue()));
 		}
 
 		/**
@@ -485,7 +529,11 @@ public final class Writers {
 		 * @return a chromosome writer
 		 */
 		public static Writer<io.jenetics.LongChromosome> writer() {
-			return writer(alleleWriter());
+			return BoundedChromosome.<
+				Long,
+				LongGene,
+				io.jenetics.LongChromosome
+			>numeric(ROOT_NAME, g -> Long.toString(g.longValue()));
 		}
 
 		/**
@@ -605,7 +653,11 @@ public final class Writers {
 		 * @return a chromosome writer
 		 */
 		public static Writer<io.jenetics.DoubleChromosome> writer() {
-			return writer(alleleWriter());
+			return BoundedChromosome.<
+				Double,
+				DoubleGene,
+				io.jenetics.DoubleChromosome
+			>numeric(ROOT_NAME, g -> Double.toString(g.doubleValue()));
 		}
 
 		public Class<io.jenetics.DoubleChromosome> type() {
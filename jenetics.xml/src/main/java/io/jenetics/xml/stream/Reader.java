@@ -86,11 +86,37 @@ import io.jenetics.xml.stream.Reader.Type;
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 6.1
  * @since 3.9
  */
 public abstract class Reader<T> {
 
+	/**
+	 * Function which reads an object directly from the XML stream.
+	 *
+	 * @see Reader#of(String, Parser)
+	 *
+	 * @param <T> the parsed object type
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 6.1
+	 * @since 6.1
+	 */
+	@FunctionalInterface
+	public interface Parser<T> {
+
+		/**
+		 * Read the object from the given XML stream. The stream is positioned
+		 * at the start of the element and must be left at its end.
+		 *
+		 * @param xml the underlying XML stream {@code reader}
+		 * @return the object read from the XML stream
+		 * @throws XMLStreamException if an error occurs while reading the
+		 *         value
+		 */
+		T parse(final XMLStreamReader xml) throws XMLStreamException;
+	}
+
 	/**
 	 * Represents the XML element type.
 	 */
@@ -375,6 +401,41 @@ public abstract class Reader<T> {
 	public static <T> Reader<List<T>> elems(final Reader<? extends T> reader) {
 		return new ListReader<>(reader);
 	}
+
+	/**
+	 * Return a {@code Reader} for the element with the given {@code name},
+	 * which reads the element with the given {@code parser} directly from the
+	 * XML stream. This allows to read elements with many children, without
+	 * the creation of intermediate reader results.
+	 * <p>
+	 * <b>XML</b>
+	 * <pre> {@code <values><value>1</value><value>2</value></values>}</pre>
+	 *
+	 * <b>Reader definition</b>
+	 * <pre>{@code
+	 * final Reader<int[]> reader = Reader.of("values", xml -> {
+	 *     final IntStream.Builder values = IntStream.builder();
+	 *     while (xml.nextTag() == START_ELEMENT) {
+	 *         values.add(Integer.parseInt(xml.getElementText()));
+	 *     }
+	 *     return values.build().toArray();
+	 * });
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @param name the element name
+	 * @param parser the element parser
+	 * @param <T> the result type
+	 * @return a node reader
+	 * @throws NullPointerException if one of the given arguments is {@code null}
+	 */
+	public static <T> Reader<T> of(
+		final String name,
+		final Parser<? extends T> parser
+	) {
+		return new ParserReader<>(name, parser);
+	}
 }
 
 
@@ -455,6 +516,42 @@ final class ListReader<T> extends Reader<List<T>> {
 	}
 }
 
+/**
+ * Reader implementation, which delegates the reading of an element to a
+ * {@link Reader.Parser} function.
+ *
+ * @param <T> the reader data type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ParserReader<T> extends Reader<T> {
+
+	private final Parser<? extends T> _parser;
+
+	ParserReader(final String name, final Parser<? extends T> parser) {
+		super(name, Type.ELEM);
+		_parser = requireNonNull(parser);
+	}
+
+	@Override
+	public T read(final XMLStreamReader xml) throws XMLStreamException {
+		xml.require(START_ELEMENT, null, name());
+
+		final T value;
+		try {
+			value = _parser.parse(xml);
+		} catch (RuntimeException e) {
+			throw new XMLStreamException(e);
+		}
+
+		xml.require(END_ELEMENT, null, name());
+		return value;
+	}
+
+}
+
 /**
  * The main XML element reader implementation.
  *
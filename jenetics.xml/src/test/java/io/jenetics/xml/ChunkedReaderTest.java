@@ -0,0 +1,273 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.xml;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Chromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.LongChromosome;
+import io.jenetics.LongGene;
+import io.jenetics.xml.stream.Reader;
+import io.jenetics.xml.stream.Writer;
+import io.jenetics.xml.stream.XML;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ChunkedReaderTest {
+
+	private ExecutorService _executor;
+
+	@BeforeClass
+	public void setup() {
+		_executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterClass
+	public void cleanup() {
+		_executor.shutdown();
+	}
+
+	@Test(dataProvider = "genotypes")
+	public <A, G extends Gene<A, G>, C extends Chromosome<G>> void parallelRead(
+		final List<Genotype<G>> genotypes,
+		final Writer<? super C> writer,
+		final Reader<C> reader,
+		final String indent
+	)
+		throws XMLStreamException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.Genotypes.write(out, genotypes, indent, writer);
+		final byte[] data = out.toByteArray();
+
+		for (int chunkSize : new int[]{1, 500, ChunkedReader.CHUNK_SIZE}) {
+			Assert.assertEquals(
+				Readers.Genotypes.read(
+					new ByteArrayInputStream(data),
+					reader,
+					_executor,
+					chunkSize
+				),
+				genotypes
+			);
+		}
+	}
+
+	@DataProvider
+	public Object[][] genotypes() {
+		return new Object[][] {
+			{
+				Genotype.of(DoubleChromosome.of(0, 1, 10), 3)
+					.instances()
+					.limit(100)
+					.collect(Collectors.toList()),
+				Writers.DoubleChromosome.writer(),
+				Readers.DoubleChromosome.reader(),
+				null
+			},
+			{
+				Genotype.of(IntegerChromosome.of(-100, 100, 5), 2)
+					.instances()
+					.limit(100)
+					.collect(Collectors.toList()),
+				Writers.IntegerChromosome.writer(),
+				Readers.IntegerChromosome.reader(),
+				"    "
+			},
+			{
+				Genotype.of(LongChromosome.of(0, Long.MAX_VALUE, 7))
+					.instances()
+					.limit(1)
+					.collect(Collectors.toList()),
+				Writers.LongChromosome.writer(),
+				Readers.LongChromosome.reader(),
+				"\t"
+			},
+			{
+				Collections.emptyList(),
+				Writers.DoubleChromosome.writer(),
+				Readers.DoubleChromosome.reader(),
+				null
+			}
+		};
+	}
+
+	@Test
+	public void sequentialFallback() throws XMLStreamException {
+		final List<Genotype<DoubleGene>> genotypes =
+			Genotype.of(DoubleChromosome.of(0, 1, 4))
+				.instances()
+				.limit(10)
+				.collect(Collectors.toList());
+
+		final String xml = write(genotypes)
+			.replaceFirst("<allele>([^<]*)</allele>", "<allele><![CDATA[$1]]></allele>");
+
+		final ChunkedReader<Genotype<DoubleGene>> reader = chunkedReader();
+		Assert.assertNull(reader.bounds(xml.getBytes(UTF_8)));
+		Assert.assertEquals(
+			reader.read(xml.getBytes(UTF_8), _executor),
+			genotypes
+		);
+	}
+
+	@Test
+	public void bounds() {
+		final String xml = write(
+			Genotype.of(DoubleChromosome.of(0, 1, 4))
+				.instances()
+				.limit(3)
+				.collect(Collectors.toList())
+		);
+
+		final int[] bounds = chunkedReader().bounds(xml.getBytes(UTF_8));
+		Assert.assertNotNull(bounds);
+		Assert.assertEquals(bounds.length, 6);
+		for (int i = 0; i < bounds.length; i += 2) {
+			final String element = xml.substring(bounds[i], bounds[i + 1]);
+			Assert.assertTrue(element.startsWith("<genotype "), element);
+			Assert.assertTrue(element.endsWith("</genotype>"), element);
+		}
+	}
+
+	@Test(expectedExceptions = XMLStreamException.class)
+	public void invalidRoot() throws XMLStreamException {
+		final String xml = write(
+			Genotype.of(DoubleChromosome.of(0, 1, 4))
+				.instances()
+				.limit(3)
+				.collect(Collectors.toList())
+		).replace("genotypes", "chromosomes");
+
+		chunkedReader().read(xml.getBytes(UTF_8), _executor);
+	}
+
+	@Test(expectedExceptions = XMLStreamException.class)
+	public void invalidAlleleCount() throws XMLStreamException {
+		final String xml = write(
+			Genotype.of(DoubleChromosome.of(0, 1, 4))
+				.instances()
+				.limit(3)
+				.collect(Collectors.toList())
+		).replaceFirst("length=\"4\"", "length=\"5\"");
+
+		chunkedReader().read(xml.getBytes(UTF_8), _executor);
+	}
+
+	@Test
+	public void numericWriter() throws XMLStreamException {
+		final DoubleChromosome chromosome = DoubleChromosome.of(-5, 5, 20);
+
+		final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		Writers.write(
+			expected,
+			List.of(Genotype.of(chromosome)),
+			Writers.BoundedChromosome.<Double, DoubleGene, DoubleChromosome>writer(
+				"double-chromosome",
+				Writers.DoubleChromosome.alleleWriter()
+			)
+		);
+
+		final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		Writers.write(
+			actual,
+			List.of(Genotype.of(chromosome)),
+			Writers.DoubleChromosome.writer()
+		);
+
+		Assert.assertEquals(actual.toString(UTF_8), expected.toString(UTF_8));
+	}
+
+	@Test
+	public void numericReader() throws XMLStreamException {
+		final IntegerChromosome chromosome = IntegerChromosome.of(-5, 5, 20);
+
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		Writers.IntegerChromosome.write(out, chromosome, "  ");
+
+		final Reader<IntegerChromosome> reader = Readers.BoundedChromosome.reader(
+			"int-chromosome",
+			IntegerGene::of,
+			IntegerGene[]::new,
+			IntegerChromosome::of,
+			Readers.IntegerChromosome.alleleReader()
+		);
+
+		final IntegerChromosome expected;
+		try (var xml = XML.reader(new ByteArrayInputStream(out.toByteArray()))) {
+			xml.next();
+			expected = reader.read(xml);
+		}
+
+		Assert.assertEquals(
+			Readers.IntegerChromosome.read(new ByteArrayInputStream(out.toByteArray())),
+			expected
+		);
+		Assert.assertEquals(expected, chromosome);
+	}
+
+	private static ChunkedReader<Genotype<DoubleGene>> chunkedReader() {
+		return new ChunkedReader<>(
+			Readers.Genotypes.reader(Readers.DoubleChromosome.reader()),
+			"genotypes",
+			"genotype",
+			1
+		);
+	}
+
+	private static String write(final List<Genotype<DoubleGene>> genotypes) {
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			Writers.Genotypes.write(
+				out,
+				genotypes,
+				"  ",
+				Writers.DoubleChromosome.writer()
+			);
+		} catch (XMLStreamException e) {
+			throw new AssertionError(e);
+		}
+		return out.toString(UTF_8);
+	}
+
+}
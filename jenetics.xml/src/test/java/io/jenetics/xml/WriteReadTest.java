@@ -25,9 +25,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
+import javax.xml.stream.XMLStreamException;
+
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -71,6 +74,33 @@ public class WriteReadTest {
 		Assert.assertEquals(reader.read(in), data);
 	}
 
+	@Test(
+		dataProvider = "oversizedLengths",
+		expectedExceptions = XMLStreamException.class
+	)
+	public void readOversizedLength(final String name, final Read<?> reader)
+		throws Exception
+	{
+		final String xml = String.format(
+			"<%1$s length=\"2000000000\">" +
+				"<min>0</min><max>10</max>" +
+				"<alleles><allele>1</allele><allele>2</allele></alleles>" +
+			"</%1$s>",
+			name
+		);
+
+		reader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@DataProvider
+	public Object[][] oversizedLengths() {
+		return new Object[][] {
+			{"int-chromosome", (Read<?>)Readers.IntegerChromosome::read},
+			{"long-chromosome", (Read<?>)Readers.LongChromosome::read},
+			{"double-chromosome", (Read<?>)Readers.DoubleChromosome::read}
+		};
+	}
+
 	@DataProvider
 	public Object[][] marshallings() {
 		return new Object[][] {
@@ -27,7 +27,9 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -73,7 +75,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
  * ProxySorterPerf.tim_sort_100000         avgt    7  12965362.037 ± 229966.522  ns/op
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 6.1
  * @since 5.1
  */
 @State(Scope.Benchmark)
@@ -202,6 +204,63 @@ public class ProxySorterPerf {
 		return a;
 	}
 
+	/* *************************************************************************
+	 * Large arrays: serial vs. parallel sort
+	 * ************************************************************************/
+
+	@State(Scope.Benchmark)
+	public static class LargeArray {
+		@Param({"100000", "1000000", "10000000"})
+		int size;
+
+		double[] doubles;
+
+		@Setup
+		public void setup() {
+			doubles = new Random().doubles(size).toArray();
+		}
+	}
+
+	@Benchmark
+	public int[] large_comparator_sort(final LargeArray array) {
+		return ProxySorter.sort(
+			array.doubles, array.size,
+			(a, i, j) -> Double.compare(a[i], a[j])
+		);
+	}
+
+	@Benchmark
+	public int[] large_parallel_comparator_sort(final LargeArray array) {
+		return ProxySorter.parallelSort(
+			array.doubles, array.size,
+			(a, i, j) -> Double.compare(a[i], a[j])
+		);
+	}
+
+	@Benchmark
+	public int[] large_double_sort(final LargeArray array) {
+		return ProxySorter.sort(array.doubles);
+	}
+
+	@Benchmark
+	public int[] large_parallel_double_sort(final LargeArray array) {
+		return ProxySorter.parallelSort(array.doubles);
+	}
+
+	@Benchmark
+	public double[] large_java_sort(final LargeArray array) {
+		final double[] a = array.doubles.clone();
+		Arrays.sort(a);
+		return a;
+	}
+
+	@Benchmark
+	public double[] large_java_parallel_sort(final LargeArray array) {
+		final double[] a = array.doubles.clone();
+		Arrays.parallelSort(a);
+		return a;
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + ProxySorterPerf.class.getSimpleName() + ".*")
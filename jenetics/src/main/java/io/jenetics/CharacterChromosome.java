@@ -49,7 +49,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.2
+ * @version 6.1
  */
 public class CharacterChromosome
 	extends VariableChromosome<CharacterGene>
@@ -256,13 +256,35 @@ public class CharacterChromosome
 	public static CharacterChromosome of(
 		final String alleles,
 		final CharSeq validChars
+	) {
+		return of(alleles, validChars, IntRange.of(alleles.length()));
+	}
+
+	/**
+	 * Create a new chromosome from the given genes (given as string), with
+	 * the given allowed length range.
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the character genes.
+	 * @param validChars the valid characters.
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new {@code CharacterChromosome} with the given parameter
+	 * @throws IllegalArgumentException if the genes string is empty or its
+	 *         length doesn't match with the allowed length range
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static CharacterChromosome of(
+		final String alleles,
+		final CharSeq validChars,
+		final IntRange lengthRange
 	) {
 		final MSeq<CharacterGene> genes = MSeq.ofLength(alleles.length());
 		for (int i = 0; i < alleles.length(); ++i) {
 			genes.set(i, CharacterGene.of(alleles.charAt(i), validChars));
 		}
 
-		return new CharacterChromosome(genes.toISeq(), IntRange.of(alleles.length()));
+		return new CharacterChromosome(genes.toISeq(), lengthRange);
 	}
 
 	/**
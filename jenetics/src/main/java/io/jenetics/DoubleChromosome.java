@@ -32,7 +32,9 @@ import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import io.jenetics.util.DoubleMSeq;
 import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.MSeq;
@@ -47,7 +49,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 5.2
+ * @version 6.1
  */
 public class DoubleChromosome
 	extends AbstractBoundedChromosome<Double, DoubleGene>
@@ -138,6 +140,22 @@ public class DoubleChromosome
 		return toArray(new double[length()]);
 	}
 
+	/**
+	 * Returns a primitive {@code double} sequence containing all alleles of
+	 * this chromosome in proper sequence. The alleles are not boxed.
+	 *
+	 * @since 6.1
+	 *
+	 * @return a sequence containing the alleles of this chromosome
+	 */
+	public DoubleSeq toDoubleSeq() {
+		final DoubleMSeq values = DoubleMSeq.ofLength(length());
+		for (int i = length(); --i >= 0;) {
+			values.set(i, doubleValue(i));
+		}
+		return values.toDoubleSeq();
+	}
+
 
 	/* *************************************************************************
 	 * Static factory methods.
@@ -175,6 +193,55 @@ public class DoubleChromosome
 		return new DoubleChromosome(values, IntRange.of(values.length()));
 	}
 
+	/**
+	 * Create a new {@code DoubleChromosome} from the given primitive {@code alleles}.
+	 * All genes of the created chromosome share the given allele
+	 * {@code range}. No boxed allele values are created.
+	 *
+	 * <pre>{@code
+	 * final DoubleSeq alleles = ...;
+	 * final DoubleChromosome chromosome = DoubleChromosome.of(alleles, range, IntRange.of(1, 10));
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the alleles of the chromosome
+	 * @param range the allele range of the genes
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alleles} are empty or
+	 *         their length doesn't match with the allowed length range
+	 */
+	public static DoubleChromosome of(
+		final DoubleSeq alleles,
+		final DoubleRange range,
+		final IntRange lengthRange
+	) {
+		final MSeq<DoubleGene> genes = MSeq.ofLength(alleles.length());
+		for (int i = 0, n = alleles.length(); i < n; ++i) {
+			genes.set(i, DoubleGene.of(alleles.get(i), range));
+		}
+		return new DoubleChromosome(genes.toISeq(), lengthRange);
+	}
+
+	/**
+	 * Create a new {@code DoubleChromosome} from the given primitive {@code alleles}.
+	 * All genes of the created chromosome share the given allele
+	 * {@code range}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the alleles of the chromosome
+	 * @param range the allele range of the genes
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alleles} are empty
+	 */
+	public static DoubleChromosome of(final DoubleSeq alleles, final DoubleRange range) {
+		return of(alleles, range, IntRange.of(alleles.length()));
+	}
+
 	/**
 	 * Create a new random chromosome.
 	 *
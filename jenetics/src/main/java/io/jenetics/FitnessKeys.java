@@ -0,0 +1,130 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+
+import io.jenetics.util.Seq;
+
+/**
+ * Primitive view of the fitness values of a population. If the fitness values
+ * are boxed primitive numbers, they are extracted once into a contiguous
+ * {@code double[]} array. The selectors can then compare the individuals by
+ * its population index, without {@code Comparable} dispatch and without
+ * dereferencing the boxed fitness values.
+ * <p>
+ * Only fitness types, which can be converted to {@code double} without
+ * changing the ordering, are supported: {@link Double}, {@link Float},
+ * {@link Integer}, {@link Short} and {@link Byte}. The comparison of the keys
+ * is done with {@link Double#compare(double, double)}, which gives the same
+ * result as the {@code compareTo} method of the boxed values.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class FitnessKeys {
+
+	private final double[] _keys;
+	private final int _sign;
+
+	private FitnessKeys(final double[] keys, final Optimize opt) {
+		_keys = keys;
+		_sign = opt == Optimize.MAXIMUM ? 1 : -1;
+	}
+
+	/**
+	 * Return the number of fitness keys.
+	 *
+	 * @return the number of fitness keys
+	 */
+	int length() {
+		return _keys.length;
+	}
+
+	/**
+	 * Return the fitness key of the individual with the given index.
+	 *
+	 * @param index the population index
+	 * @return the fitness key of the individual with the given index
+	 */
+	double get(final int index) {
+		return _keys[index];
+	}
+
+	/**
+	 * Compares the fitness of the individuals with the given indexes,
+	 * according to the optimization strategy. Returns a positive value if the
+	 * individual {@code i} is better than individual {@code j}.
+	 *
+	 * @param i the index of the first individual
+	 * @param j the index of the second individual
+	 * @return a negative integer, zero, or a positive integer as the first
+	 *         individual is worse than, equal to, or better than the second
+	 */
+	int compare(final int i, final int j) {
+		return _sign*Double.compare(_keys[i], _keys[j]);
+	}
+
+	/**
+	 * Extracts the fitness keys of the given {@code population}. If the
+	 * fitness values are not of one of the supported types, {@code null} is
+	 * returned and the caller must fall back to the {@code Comparable}
+	 * based implementation.
+	 *
+	 * @param population the population
+	 * @param opt the optimization strategy
+	 * @return the fitness keys of the population, or {@code null} if the
+	 *         fitness type is not supported, the population contains not
+	 *         evaluated individuals or is empty
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	static FitnessKeys of(
+		final Seq<? extends Phenotype<?, ?>> population,
+		final Optimize opt
+	) {
+		requireNonNull(opt);
+		if (population.isEmpty() || !population.get(0).isEvaluated()) {
+			return null;
+		}
+
+		final Class<?> type = population.get(0).fitness().getClass();
+		if (type != Double.class &&
+			type != Float.class &&
+			type != Integer.class &&
+			type != Short.class &&
+			type != Byte.class)
+		{
+			return null;
+		}
+
+		final double[] keys = new double[population.size()];
+		for (int i = 0; i < keys.length; ++i) {
+			final Phenotype<?, ?> pt = population.get(i);
+			if (!pt.isEvaluated() || pt.fitness().getClass() != type) {
+				return null;
+			}
+			keys[i] = ((Number)pt.fitness()).doubleValue();
+		}
+
+		return new FitnessKeys(keys, opt);
+	}
+
+}
@@ -69,7 +69,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public final class Genotype<G extends Gene<?, G>>
 	implements
@@ -85,6 +85,10 @@ public final class Genotype<G extends Gene<?, G>>
 	//Caching isValid value.
 	private byte _valid = -1;
 
+	//Caching the hash code value.
+	private int _hash;
+	private boolean _hashIsZero;
+
 	/**
 	 * Create a new Genotype from a given sequence of {@code Chromosomes}.
 	 *
@@ -203,7 +207,17 @@ public final class Genotype<G extends Gene<?, G>>
 
 	@Override
 	public int hashCode() {
-		return hash(_chromosomes);
+		int hash = _hash;
+		if (hash == 0 && !_hashIsZero) {
+			hash = hash(_chromosomes);
+			if (hash == 0) {
+				_hashIsZero = true;
+			} else {
+				_hash = hash;
+			}
+		}
+
+		return hash;
 	}
 
 	@Override
@@ -32,7 +32,9 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
+import io.jenetics.util.IntMSeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.IntSeq;
 import io.jenetics.util.MSeq;
 
 /**
@@ -45,7 +47,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz  Wilhelmstötter</a>
  * @since 2.0
- * @version 5.2
+ * @version 6.1
  */
 public class IntegerChromosome
 	extends AbstractBoundedChromosome<Integer, IntegerGene>
@@ -133,6 +135,22 @@ public class IntegerChromosome
 		return toArray(new int[length()]);
 	}
 
+	/**
+	 * Returns a primitive {@code int} sequence containing all alleles of
+	 * this chromosome in proper sequence. The alleles are not boxed.
+	 *
+	 * @since 6.1
+	 *
+	 * @return a sequence containing the alleles of this chromosome
+	 */
+	public IntSeq toIntSeq() {
+		final IntMSeq values = IntMSeq.ofLength(length());
+		for (int i = length(); --i >= 0;) {
+			values.set(i, intValue(i));
+		}
+		return values.toIntSeq();
+	}
+
 
 	/* *************************************************************************
 	 * Static factory methods.
@@ -168,6 +186,55 @@ public class IntegerChromosome
 		return new IntegerChromosome(values, IntRange.of(values.length()));
 	}
 
+	/**
+	 * Create a new {@code IntegerChromosome} from the given primitive {@code alleles}.
+	 * All genes of the created chromosome share the given allele
+	 * {@code range}. No boxed allele values are created.
+	 *
+	 * <pre>{@code
+	 * final IntSeq alleles = ...;
+	 * final IntegerChromosome chromosome = IntegerChromosome.of(alleles, range, IntRange.of(1, 10));
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the alleles of the chromosome
+	 * @param range the allele range of the genes
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alleles} are empty or
+	 *         their length doesn't match with the allowed length range
+	 */
+	public static IntegerChromosome of(
+		final IntSeq alleles,
+		final IntRange range,
+		final IntRange lengthRange
+	) {
+		final MSeq<IntegerGene> genes = MSeq.ofLength(alleles.length());
+		for (int i = 0, n = alleles.length(); i < n; ++i) {
+			genes.set(i, IntegerGene.of(alleles.get(i), range));
+		}
+		return new IntegerChromosome(genes.toISeq(), lengthRange);
+	}
+
+	/**
+	 * Create a new {@code IntegerChromosome} from the given primitive {@code alleles}.
+	 * All genes of the created chromosome share the given allele
+	 * {@code range}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the alleles of the chromosome
+	 * @param range the allele range of the genes
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alleles} are empty
+	 */
+	public static IntegerChromosome of(final IntSeq alleles, final IntRange range) {
+		return of(alleles, range, IntRange.of(alleles.length()));
+	}
+
 	/**
 	 * Create a new random chromosome.
 	 *
@@ -36,7 +36,9 @@ import java.util.stream.Stream;
 
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.LongMSeq;
 import io.jenetics.util.LongRange;
+import io.jenetics.util.LongSeq;
 import io.jenetics.util.MSeq;
 
 /**
@@ -49,7 +51,7 @@ import io.jenetics.util.MSeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.6
- * @version 5.2
+ * @version 6.1
  */
 public class LongChromosome
 	extends AbstractBoundedChromosome<Long, LongGene>
@@ -137,6 +139,22 @@ public class LongChromosome
 		return toArray(new long[length()]);
 	}
 
+	/**
+	 * Returns a primitive {@code long} sequence containing all alleles of
+	 * this chromosome in proper sequence. The alleles are not boxed.
+	 *
+	 * @since 6.1
+	 *
+	 * @return a sequence containing the alleles of this chromosome
+	 */
+	public LongSeq toLongSeq() {
+		final LongMSeq values = LongMSeq.ofLength(length());
+		for (int i = length(); --i >= 0;) {
+			values.set(i, longValue(i));
+		}
+		return values.toLongSeq();
+	}
+
 
 	/* *************************************************************************
 	 * Static factory methods.
@@ -173,6 +191,55 @@ public class LongChromosome
 		return new LongChromosome(values, IntRange.of(values.length()));
 	}
 
+	/**
+	 * Create a new {@code LongChromosome} from the given primitive {@code alleles}.
+	 * All genes of the created chromosome share the given allele
+	 * {@code range}. No boxed allele values are created.
+	 *
+	 * <pre>{@code
+	 * final LongSeq alleles = ...;
+	 * final LongChromosome chromosome = LongChromosome.of(alleles, range, IntRange.of(1, 10));
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the alleles of the chromosome
+	 * @param range the allele range of the genes
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alleles} are empty or
+	 *         their length doesn't match with the allowed length range
+	 */
+	public static LongChromosome of(
+		final LongSeq alleles,
+		final LongRange range,
+		final IntRange lengthRange
+	) {
+		final MSeq<LongGene> genes = MSeq.ofLength(alleles.length());
+		for (int i = 0, n = alleles.length(); i < n; ++i) {
+			genes.set(i, LongGene.of(alleles.get(i), range));
+		}
+		return new LongChromosome(genes.toISeq(), lengthRange);
+	}
+
+	/**
+	 * Create a new {@code LongChromosome} from the given primitive {@code alleles}.
+	 * All genes of the created chromosome share the given allele
+	 * {@code range}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param alleles the alleles of the chromosome
+	 * @param range the allele range of the genes
+	 * @return a new chromosome with the given alleles
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code alleles} are empty
+	 */
+	public static LongChromosome of(final LongSeq alleles, final LongRange range) {
+		return of(alleles, range, IntRange.of(alleles.length()));
+	}
+
 	/**
 	 * Create a new random chromosome.
 	 *
@@ -0,0 +1,273 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.RecursiveTask;
+
+import io.jenetics.util.Seq;
+
+/**
+ * Top-k selection of the best individuals of a population, without sorting the
+ * whole population. The {@code k} best individuals are determined with a
+ * bounded heap in <em>O(n log k)</em> time. If the fitness values are boxed
+ * primitive numbers, they are compared via the extracted {@link FitnessKeys},
+ * without {@code Comparable} dispatch. Large populations are split
+ * into chunks, whose top-k candidates are determined in parallel and merged
+ * afterwards.
+ * <p>
+ * The returned indexes are ordered from the best to the worst individual.
+ * Individuals with equal fitness are ordered by their population index, which
+ * gives the same order as a <em>stable</em>, descending sort of the population.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class PartialSort {
+
+	/**
+	 * The population size, where the top-k selection is done in parallel. The
+	 * default value can be changed with the
+	 * {@code io.jenetics.PartialSort.parallelThreshold} system property.
+	 */
+	static final int THRESHOLD = max(
+		doPrivileged(
+			(PrivilegedAction<Integer>)() -> Integer.getInteger(
+				"io.jenetics.PartialSort.parallelThreshold",
+				1 << 15
+			)),
+		64
+	);
+
+	private PartialSort() {
+	}
+
+	/**
+	 * Return the indexes of the {@code k} best individuals of the given
+	 * {@code population}, ordered from the best to the worst one.
+	 *
+	 * @param population the population
+	 * @param k the number of best individuals to determine
+	 * @param opt the optimization strategy
+	 * @param <C> the fitness type
+	 * @return the indexes of the {@code min(k, population.size())} best
+	 *         individuals
+	 */
+	static <C extends Comparable<? super C>> int[] best(
+		final Seq<? extends Phenotype<?, C>> population,
+		final int k,
+		final Optimize opt
+	) {
+		return best(population, k, opt, THRESHOLD);
+	}
+
+	static <C extends Comparable<? super C>> int[] best(
+		final Seq<? extends Phenotype<?, C>> population,
+		final int k,
+		final Optimize opt,
+		final int threshold
+	) {
+		final int size = population.size();
+		final int length = min(max(k, 0), size);
+		if (length == 0) {
+			return new int[0];
+		}
+
+		final FitnessKeys keys = FitnessKeys.of(population, opt);
+		final Candidates candidates = keys != null
+			? new KeyCandidates(keys)
+			: new FitnessCandidates<>(population, opt);
+
+		return size < threshold
+			? candidates.best(0, size, length)
+			: new Selector(candidates, 0, size, length, threshold).invoke();
+	}
+
+	/* *************************************************************************
+	 * Top-k selection.
+	 * ************************************************************************/
+
+	/**
+	 * Defines the total order of the population indexes, where individuals with
+	 * equal fitness are ordered by their index.
+	 */
+	private static abstract class Candidates {
+
+		// Return true, if the individual with index i is better than the
+		// individual with index j.
+		abstract boolean better(final int i, final int j);
+
+		// Return the indexes of the k best individuals of the given range. The
+		// root of the heap is the worst of the current candidates.
+		final int[] best(final int from, final int until, final int k) {
+			final int[] heap = new int[min(k, until - from)];
+			int size = 0;
+			for (int i = from; i < until; ++i) {
+				if (size < heap.length) {
+					heap[size] = i;
+					up(heap, size++);
+				} else if (better(i, heap[0])) {
+					heap[0] = i;
+					down(heap, size);
+				}
+			}
+
+			final int[] result = new int[size];
+			while (size > 0) {
+				result[--size] = heap[0];
+				heap[0] = heap[size];
+				down(heap, size);
+			}
+			return result;
+		}
+
+		private void up(final int[] heap, final int index) {
+			int child = index;
+			while (child > 0) {
+				final int parent = (child - 1) >>> 1;
+				if (!better(heap[parent], heap[child])) {
+					break;
+				}
+				swap(heap, parent, child);
+				child = parent;
+			}
+		}
+
+		private void down(final int[] heap, final int size) {
+			int parent = 0;
+			int child;
+			while ((child = 2*parent + 1) < size) {
+				if (child + 1 < size && better(heap[child], heap[child + 1])) {
+					++child;
+				}
+				if (!better(heap[parent], heap[child])) {
+					break;
+				}
+				swap(heap, parent, child);
+				parent = child;
+			}
+		}
+
+		// Merges the two sorted candidate arrays, keeping the k best.
+		final int[] merge(final int[] a, final int[] b, final int k) {
+			final int[] result = new int[min(a.length + b.length, k)];
+			int i = 0;
+			int j = 0;
+			for (int n = 0; n < result.length; ++n) {
+				result[n] = j >= b.length || (i < a.length && better(a[i], b[j]))
+					? a[i++]
+					: b[j++];
+			}
+			return result;
+		}
+	}
+
+	private static final class KeyCandidates extends Candidates {
+		private final FitnessKeys _keys;
+
+		KeyCandidates(final FitnessKeys keys) {
+			_keys = keys;
+		}
+
+		@Override
+		boolean better(final int i, final int j) {
+			final int cmp = _keys.compare(i, j);
+			return cmp > 0 || (cmp == 0 && i < j);
+		}
+	}
+
+	private static final class FitnessCandidates<C extends Comparable<? super C>>
+		extends Candidates
+	{
+		private final Seq<? extends Phenotype<?, C>> _population;
+		private final Optimize _opt;
+
+		FitnessCandidates(
+			final Seq<? extends Phenotype<?, C>> population,
+			final Optimize opt
+		) {
+			_population = population;
+			_opt = opt;
+		}
+
+		@Override
+		boolean better(final int i, final int j) {
+			final int cmp = _opt.compare(
+				_population.get(i).fitness(),
+				_population.get(j).fitness()
+			);
+			return cmp > 0 || (cmp == 0 && i < j);
+		}
+	}
+
+	private static void swap(final int[] array, final int i, final int j) {
+		final int temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+
+	private static final class Selector extends RecursiveTask<int[]> {
+		private static final long serialVersionUID = 1L;
+
+		private final Candidates _candidates;
+		private final int _from;
+		private final int _until;
+		private final int _k;
+		private final int _threshold;
+
+		Selector(
+			final Candidates candidates,
+			final int from,
+			final int until,
+			final int k,
+			final int threshold
+		) {
+			_candidates = candidates;
+			_from = from;
+			_until = until;
+			_k = k;
+			_threshold = threshold;
+		}
+
+		@Override
+		protected int[] compute() {
+			if (_until - _from <= _threshold) {
+				return _candidates.best(_from, _until, _k);
+			}
+
+			final int mid = (_from + _until) >>> 1;
+			final Selector left = new Selector(
+				_candidates, _from, mid, _k, _threshold
+			);
+			final Selector right = new Selector(
+				_candidates, mid, _until, _k, _threshold
+			);
+			right.fork();
+			final int[] best = left.compute();
+			return _candidates.merge(best, right.join(), _k);
+		}
+	}
+
+}
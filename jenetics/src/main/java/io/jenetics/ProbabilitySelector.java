@@ -52,7 +52,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 6.1
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -113,7 +113,7 @@ public abstract class ProbabilitySelector<
 
 		if (count > 0 && !population.isEmpty()) {
 			final Seq<Phenotype<G, C>> pop = _sorted
-				? population.asISeq().copy().sort(POPULATION_COMPARATOR)
+				? sort(population)
 				: population;
 
 
@@ -133,6 +133,27 @@ public abstract class ProbabilitySelector<
 		return selection.toISeq();
 	}
 
+	// Stable sort of the population in descending order. Numeric fitness
+	// values are sorted via the extracted fitness keys.
+	private Seq<Phenotype<G, C>> sort(final Seq<Phenotype<G, C>> population) {
+		final FitnessKeys keys = FitnessKeys.of(population, Optimize.MAXIMUM);
+		if (keys == null) {
+			return population.asISeq().copy().sort(POPULATION_COMPARATOR);
+		}
+
+		final int[] indexes = ProxySorter.parallelSort(
+			keys,
+			keys.length(),
+			(k, i, j) -> k.compare(j, i)
+		);
+
+		final MSeq<Phenotype<G, C>> sorted = MSeq.ofLength(indexes.length);
+		for (int i = 0; i < indexes.length; ++i) {
+			sorted.set(i, population.get(indexes[i]));
+		}
+		return sorted;
+	}
+
 	/**
 	 * This method takes the probabilities from the
 	 * {@link #probabilities(Seq, int)} method and inverts it if needed.
@@ -157,7 +178,7 @@ public abstract class ProbabilitySelector<
 
 	// Package private for testing.
 	static double[] sortAndRevert(final double[] array) {
-		final int[] indexes = ProxySorter.sort(array);
+		final int[] indexes = ProxySorter.parallelSort(array);
 
 		// Copy the elements in reversed order.
 		final double[] result = new double[array.length];
@@ -45,7 +45,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -57,6 +57,24 @@ public class TournamentSelector<
 	private final Comparator<? super Phenotype<G, C>> _comparator;
 	private final int _sampleSize;
 
+	// Indicates that the individuals are compared by its fitness values.
+	private final boolean _natural;
+
+	private TournamentSelector(
+		final Comparator<? super Phenotype<G, C>> comparator,
+		final int sampleSize,
+		final boolean natural
+	) {
+		_comparator = requireNonNull(comparator);
+		if (sampleSize < 2) {
+			throw new IllegalArgumentException(
+				"Sample size must be greater than one, but was " + sampleSize
+			);
+		}
+		_sampleSize = sampleSize;
+		_natural = natural;
+	}
+
 	/**
 	 * Create a tournament selector with the give {@code comparator} and
 	 * sample size. The sample size must be greater than one.
@@ -74,13 +92,7 @@ public class TournamentSelector<
 		final Comparator<? super Phenotype<G, C>> comparator,
 		final int sampleSize
 	) {
-		_comparator = requireNonNull(comparator);
-		if (sampleSize < 2) {
-			throw new IllegalArgumentException(
-				"Sample size must be greater than one, but was " + sampleSize
-			);
-		}
-		_sampleSize = sampleSize;
+		this(comparator, sampleSize, false);
 	}
 
 	/**
@@ -91,14 +103,14 @@ public class TournamentSelector<
 	 * @throws IllegalArgumentException if the sample size is smaller than two.
 	 */
 	public TournamentSelector(final int sampleSize) {
-		this(Phenotype::compareTo, sampleSize);
+		this(Phenotype::compareTo, sampleSize, true);
 	}
 
 	/**
 	 * Create a tournament selector with sample size two.
 	 */
 	public TournamentSelector() {
-		this(Phenotype::compareTo,2);
+		this(2);
 	}
 
 	/**
@@ -127,14 +139,41 @@ public class TournamentSelector<
 			));
 		}
 
+		if (population.isEmpty()) {
+			return ISeq.empty();
+		}
+
 		final Random random = RandomRegistry.random();
-		return population.isEmpty()
-			? ISeq.empty()
+		final FitnessKeys keys = _natural && count > 0
+			? FitnessKeys.of(population, opt)
+			: null;
+
+		return keys != null
+			? MSeq.<Phenotype<G, C>>ofLength(count)
+				.fill(() -> population.get(select(keys, random)))
+				.toISeq()
 			: MSeq.<Phenotype<G, C>>ofLength(count)
 				.fill(() -> select(population, opt, random))
 				.toISeq();
 	}
 
+	// Tournament on the extracted fitness keys. The random indexes are drawn
+	// in the same order as for the comparator based tournament and the first
+	// of equally fit individuals wins, which leads to the same result.
+	private int select(final FitnessKeys keys, final Random random) {
+		final int N = keys.length();
+
+		int winner = random.nextInt(N);
+		for (int i = 1; i < _sampleSize; ++i) {
+			final int index = random.nextInt(N);
+			if (keys.compare(index, winner) > 0) {
+				winner = index;
+			}
+		}
+
+		return winner;
+	}
+
 	private Phenotype<G, C> select(
 		final Seq<Phenotype<G, C>> population,
 		final Optimize opt,
@@ -39,7 +39,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 6.1
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -80,11 +80,16 @@ public final class TruncationSelector<
 	}
 
 	/**
-	 * This method sorts the population in descending order while calculating
-	 * the selection probabilities. If the selection size is greater the the
+	 * This method selects the best {@code min(count, n)} individuals of the
+	 * population in descending order. If the selection size is greater the the
 	 * population size, the whole population is duplicated until the desired
 	 * sample size is reached.
 	 *
+	 * @implNote
+	 * Only the selected individuals are sorted, which is done in
+	 * <em>O(n log k)</em> time, where {@code k = min(count, n)}. Large
+	 * populations are processed in parallel.
+	 *
 	 * @throws NullPointerException if the {@code population} or {@code opt} is
 	 *         {@code null}.
 	 */
@@ -107,19 +112,15 @@ public final class TruncationSelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.fitness(), b.fitness()));
-
-			int size = count;
-			do {
-				final int length = min(min(copy.size(), size), _n);
-				for (int i = 0; i < length; ++i) {
-					selection.set((count - size) + i, copy.get(i));
-				}
+			final int[] best = PartialSort.best(
+				population,
+				min(count, _n),
+				opt
+			);
 
-				size -= length;
-			} while (size > 0);
+			for (int i = 0; i < count; ++i) {
+				selection.set(i, population.get(best[i%best.length]));
+			}
 		}
 
 		return selection.toISeq();
@@ -36,7 +36,7 @@ import io.jenetics.util.Seq;
  * for the fitness evaluation.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 4.2
  */
 final class ConcurrentEvaluator<
@@ -48,24 +48,38 @@ final class ConcurrentEvaluator<
 
 	private final Function<? super Genotype<G>, ? extends C> _function;
 	private final Executor _executor;
+	private final EvolutionMetrics _metrics;
 
 	ConcurrentEvaluator(
 		final Function<? super Genotype<G>, ? extends C> function,
-		final Executor executor
+		final Executor executor,
+		final EvolutionMetrics metrics
 	) {
 		_function = requireNonNull(function);
 		_executor = requireNonNull(executor);
+		_metrics = requireNonNull(metrics);
+	}
+
+	ConcurrentEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final Executor executor
+	) {
+		this(function, executor, EvolutionMetrics.noop());
 	}
 
 	ConcurrentEvaluator<G, C> with(final Executor executor) {
-		return new ConcurrentEvaluator<>(_function, executor);
+		return new ConcurrentEvaluator<>(_function, executor, _metrics);
+	}
+
+	ConcurrentEvaluator<G, C> with(final EvolutionMetrics metrics) {
+		return new ConcurrentEvaluator<>(_function, _executor, metrics);
 	}
 
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
 		final ISeq<PhenotypeFitness<G, C>> evaluate = population.stream()
 			.filter(Phenotype::nonEvaluated)
-			.map(pt -> new PhenotypeFitness<>(pt, _function))
+			.map(pt -> new PhenotypeFitness<>(pt, _function, _metrics))
 			.collect(ISeq.toISeq());
 
 		final ISeq<Phenotype<G, C>> result;
@@ -96,19 +110,28 @@ final class ConcurrentEvaluator<
 	{
 		final Phenotype<G, C> _phenotype;
 		final Function<? super Genotype<G>, ? extends C> _function;
+		final EvolutionMetrics _metrics;
 		C _fitness;
 
 		PhenotypeFitness(
 			final Phenotype<G, C> phenotype,
-			final Function<? super Genotype<G>, ? extends C> function
+			final Function<? super Genotype<G>, ? extends C> function,
+			final EvolutionMetrics metrics
 		) {
 			_phenotype = phenotype;
 			_function = function;
+			_metrics = metrics;
 		}
 
 		@Override
 		public void run() {
-			_fitness = _function.apply(_phenotype.genotype());
+			if (_metrics == EvolutionMetrics.noop()) {
+				_fitness = _function.apply(_phenotype.genotype());
+			} else {
+				final long start = System.nanoTime();
+				_fitness = _function.apply(_phenotype.genotype());
+				_metrics.evaluation(System.nanoTime() - start);
+			}
 		}
 
 		Phenotype<G, C> phenotype() {
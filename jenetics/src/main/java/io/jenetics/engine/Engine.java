@@ -23,10 +23,19 @@ import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
+import static io.jenetics.engine.EvolutionMetrics.Phase.EVALUATION;
+import static io.jenetics.engine.EvolutionMetrics.Phase.EVOLVE;
+import static io.jenetics.engine.EvolutionMetrics.Phase.OFFSPRING_ALTER;
+import static io.jenetics.engine.EvolutionMetrics.Phase.OFFSPRING_FILTER;
+import static io.jenetics.engine.EvolutionMetrics.Phase.OFFSPRING_SELECTION;
+import static io.jenetics.engine.EvolutionMetrics.Phase.SURVIVORS_FILTER;
+import static io.jenetics.engine.EvolutionMetrics.Phase.SURVIVORS_SELECTION;
 
 import java.time.Clock;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -108,7 +117,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -134,6 +143,10 @@ public final class Engine<
 	private final Clock _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
 
+	// Metrics of the evolution steps.
+	private final EvolutionMetrics _metrics;
+	private final ISeq<Alterer<G, C>> _alterers;
+	private final Alterer<G, C> _alterer;
 
 	/**
 	 * Create a new GA engine with the given parameters.
@@ -150,6 +163,10 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
+	 * @param metrics the metrics object, which receives the fine-grained
+	 *        execution metrics of the evolution steps
+	 * @param alterers the single alterers, the alterer of the evolution
+	 *        parameters consists of. They are measured separately.
 	 * @throws NullPointerException if one of the arguments is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
@@ -162,7 +179,9 @@ public final class Engine<
 		final EvolutionParams<G, C> evolutionParams,
 		final Executor executor,
 		final Clock clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final EvolutionMetrics metrics,
+		final ISeq<Alterer<G, C>> alterers
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -172,13 +191,32 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_metrics = requireNonNull(metrics);
+		_alterers = requireNonNull(alterers);
+		_alterer = metered()
+			? new MeteredAlterer<>(alterers, metrics, Timing.nanoClock(clock))
+			: evolutionParams.alterer();
+	}
+
+	private boolean metered() {
+		return _metrics != EvolutionMetrics.noop();
 	}
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		final GenerationEvent event = new GenerationEvent();
+		event.begin();
+
 		final EvolutionTiming timing = new EvolutionTiming(_clock);
 		timing.evolve.start();
 
+		if (metered()) {
+			final int depth = queueDepth(_executor);
+			if (depth >= 0) {
+				_metrics.executorQueue(depth);
+			}
+		}
+
 		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
 
 		// Create initial population if `start` is empty.
@@ -213,7 +251,7 @@ public final class Engine<
 		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
 			offspring.thenApplyAsync(off ->
 				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
+					_alterer.alter(off, es.generation())
 				),
 				_executor
 			);
@@ -280,11 +318,54 @@ public final class Engine<
 
 		timing.evolve.stop();
 
+		if (metered()) {
+			metrics(
+				timing,
+				filteredSurvivors.join(),
+				filteredOffspring.join()
+			);
+		}
+		event.commit(er);
+
 		return er
 			.withDurations(timing.toDurations())
 			.clean();
 	}
 
+	// Reports the measured values of one evolution step.
+	private void metrics(
+		final EvolutionTiming timing,
+		final FilterResult<G, C> survivors,
+		final FilterResult<G, C> offspring
+	) {
+		_metrics.phase(OFFSPRING_SELECTION, timing.offspringSelection.nanos());
+		_metrics.phase(SURVIVORS_SELECTION, timing.survivorsSelection.nanos());
+		_metrics.phase(OFFSPRING_ALTER, timing.offspringAlter.nanos());
+		_metrics.phase(OFFSPRING_FILTER, timing.offspringFilter.nanos());
+		_metrics.phase(SURVIVORS_FILTER, timing.survivorFilter.nanos());
+		_metrics.phase(EVALUATION, timing.evaluation.nanos());
+		_metrics.phase(EVOLVE, timing.evolve.nanos());
+
+		_metrics.filter(_constraint, survivors.invalidCount, survivors.killCount);
+		_metrics.filter(_constraint, offspring.invalidCount, offspring.killCount);
+	}
+
+	// Return the number of queued tasks of the given executor, or -1 if
+	// not available.
+	private static int queueDepth(final Executor executor) {
+		if (executor instanceof ForkJoinPool) {
+			final ForkJoinPool pool = (ForkJoinPool)executor;
+			return (int)Math.min(
+				pool.getQueuedSubmissionCount() + pool.getQueuedTaskCount(),
+				Integer.MAX_VALUE
+			);
+		} else if (executor instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor)executor).getQueue().size();
+		} else {
+			return -1;
+		}
+	}
+
 	// Selects the survivors population. A new population object is returned.
 	private ISeq<Phenotype<G, C>>
 	selectSurvivors(final ISeq<Phenotype<G, C>> population) {
@@ -353,7 +434,10 @@ public final class Engine<
 	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final EvaluationEvent event = new EvaluationEvent();
+		event.begin();
 		final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(population);
+		event.commit(population);
 
 		if (population.size() != evaluated.size()) {
 			throw new IllegalStateException(format(
@@ -551,6 +635,18 @@ public final class Engine<
 		return _interceptor;
 	}
 
+	/**
+	 * Return the metrics object, which receives the fine-grained execution
+	 * metrics of the evolution steps.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the evolution metrics object
+	 */
+	public EvolutionMetrics metrics() {
+		return _metrics;
+	}
+
 	/**
 	 * Create a new evolution {@code Engine.Builder} initialized with the values
 	 * of the current evolution {@code Engine}. With this method, the evolution
@@ -559,13 +655,16 @@ public final class Engine<
 	 * @return a new engine builder
 	 */
 	public Builder<G, C> toBuilder() {
-		return new Builder<>(_evaluator, _genotypeFactory)
+		final Builder<G, C> builder = new Builder<>(_evaluator, _genotypeFactory)
 			.clock(_clock)
 			.executor(_executor)
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.metrics(_metrics);
+		builder._alterers = _alterers;
+		return builder;
 	}
 
 
@@ -672,7 +771,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 6.0
+	 * @version 6.1
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -699,6 +798,11 @@ public final class Engine<
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
 
+		private EvolutionMetrics _metrics = EvolutionMetrics.noop();
+
+		// The single alterers, if set via the 'alterers' method.
+		private ISeq<Alterer<G, C>> _alterers = null;
+
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
 		 * evaluator and genotype factory. This is the most general way for
@@ -748,6 +852,7 @@ public final class Engine<
 		 */
 		public Builder<G, C> evolutionParams(final EvolutionParams<G, C> params) {
 			_evolutionParams.evolutionParams(params);
+			_alterers = null;
 			return this;
 		}
 
@@ -812,6 +917,7 @@ public final class Engine<
 			final Alterer<G, C>... rest
 		) {
 			_evolutionParams.alterers(first, rest);
+			_alterers = ISeq.of(first).append(rest);
 			return this;
 		}
 
@@ -1017,27 +1123,52 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * The metrics object, which receives the fine-grained execution
+		 * metrics of the evolution steps, like the duration of every single
+		 * fitness function evaluation. <i>Default value is set to
+		 * {@code EvolutionMetrics.noop()}.</i>
+		 *
+		 * @since 6.1
+		 * @see MetricsRecorder
+		 *
+		 * @param metrics the evolution metrics object
+		 * @return {@code this} builder, for command chaining
+		 * @throws NullPointerException if the given {@code metrics} object is
+		 *         {@code null}
+		 */
+		public Builder<G, C> metrics(final EvolutionMetrics metrics) {
+			_metrics = requireNonNull(metrics);
+			return this;
+		}
+
 		/**
 		 * Builds an new {@code Engine} instance from the set properties.
 		 *
 		 * @return an new {@code Engine} instance from the set properties
 		 */
 		public Engine<G, C> build() {
+			final EvolutionParams<G, C> params = _evolutionParams.build();
+
 			return new Engine<>(
 				__evaluator(),
 				_genotypeFactory,
 				__constraint(),
 				_optimize,
-				_evolutionParams.build(),
+				params,
 				_executor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_metrics,
+				_alterers != null ? _alterers : ISeq.of(params.alterer())
 			);
 		}
 
 		private Evaluator<G, C> __evaluator() {
 			return _evaluator instanceof ConcurrentEvaluator
-				? ((ConcurrentEvaluator<G, C>)_evaluator).with(_executor)
+				? ((ConcurrentEvaluator<G, C>)_evaluator)
+					.with(_executor)
+					.with(_metrics)
 				: _evaluator;
 		}
 
@@ -1194,6 +1325,17 @@ public final class Engine<
 			return _interceptor;
 		}
 
+		/**
+		 * Return the evolution metrics object.
+		 *
+		 * @since 6.1
+		 *
+		 * @return the evolution metrics object
+		 */
+		public EvolutionMetrics metrics() {
+			return _metrics;
+		}
+
 		/**
 		 * Create a new builder, with the current configuration.
 		 *
@@ -1203,13 +1345,16 @@ public final class Engine<
 		 */
 		@Override
 		public Builder<G, C> copy() {
-			return new Builder<>(_evaluator, _genotypeFactory)
+			final Builder<G, C> builder = new Builder<>(_evaluator, _genotypeFactory)
 				.clock(_clock)
 				.executor(_executor)
 				.constraint(_constraint)
 				.optimize(_optimize)
 				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.metrics(_metrics);
+			builder._alterers = _alterers;
+			return builder;
 		}
 
 	}
@@ -0,0 +1,66 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * JFR event, which is emitted for every population (batch), evaluated by the
+ * {@link Evaluator} of the {@link Engine}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@Name(EvaluationEvent.NAME)
+@Label("Evaluation")
+@Category({"Jenetics", "Engine"})
+@Description("Fitness evaluation of a population")
+@StackTrace(false)
+final class EvaluationEvent extends jdk.jfr.Event {
+
+	static final String NAME = "io.jenetics.Evaluation";
+
+	@Label("Population Size")
+	int populationSize;
+
+	@Label("Evaluations")
+	@Description("Number of evaluated, previously unevaluated individuals")
+	int evaluations;
+
+	void commit(final Seq<? extends Phenotype<?, ?>> population) {
+		end();
+		if (shouldCommit()) {
+			populationSize = population.size();
+			evaluations = (int)population.stream()
+				.filter(Phenotype::nonEvaluated)
+				.count();
+			commit();
+		}
+	}
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import io.jenetics.Alterer;
+
+/**
+ * Callback interface for receiving fine-grained execution metrics of the
+ * evolution {@link Engine}. Other than the {@link EvolutionDurations}, which
+ * contains one duration per evolution phase and generation, this interface is
+ * notified about the <em>individual</em> measurements, e.g. the duration of
+ * every single fitness function evaluation. This allows to create latency
+ * distributions and to export them to an external monitoring system.
+ *
+ * <pre>{@code
+ * final MetricsRecorder metrics = new MetricsRecorder();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .metrics(metrics)
+ *     .build();
+ * ...
+ * final double p99 = metrics.evaluations().quantile(0.99);
+ * }</pre>
+ *
+ * The methods of this interface are called concurrently by the threads of the
+ * engine's executor and must therefore be thread-safe. They are called on the
+ * hot path of the evolution process and should return quickly. All methods
+ * have an empty default implementation, which allows to implement only the
+ * needed ones.
+ *
+ * @apiNote
+ * The durations are measured with the {@link java.time.Clock} of the engine,
+ * except the fitness function evaluations, which are measured with
+ * {@link System#nanoTime()}. The per individual measurements are only
+ * available for engines which are created with a fitness function, and not
+ * with a custom {@link Evaluator}.
+ *
+ * @see MetricsRecorder
+ * @see Engine.Builder#metrics(EvolutionMetrics)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public interface EvolutionMetrics {
+
+	/**
+	 * The measured phases of one evolution step. The phases correspond to the
+	 * durations of the {@link EvolutionDurations} class.
+	 */
+	enum Phase {
+
+		/**
+		 * The selection of the offspring population.
+		 */
+		OFFSPRING_SELECTION,
+
+		/**
+		 * The selection of the survivors population.
+		 */
+		SURVIVORS_SELECTION,
+
+		/**
+		 * The altering of the offspring population.
+		 */
+		OFFSPRING_ALTER,
+
+		/**
+		 * The filtering (and replacing) of invalid and old offspring
+		 * individuals.
+		 */
+		OFFSPRING_FILTER,
+
+		/**
+		 * The filtering (and replacing) of invalid and old survivor
+		 * individuals.
+		 */
+		SURVIVORS_FILTER,
+
+		/**
+		 * The fitness evaluation of the whole population.
+		 */
+		EVALUATION,
+
+		/**
+		 * The whole evolution step.
+		 */
+		EVOLVE
+
+	}
+
+	/**
+	 * Called once per generation and evolution phase.
+	 *
+	 * @param phase the evolution phase
+	 * @param nanos the duration of the phase in nanoseconds
+	 */
+	default void phase(final Phase phase, final long nanos) {
+	}
+
+	/**
+	 * Called for every fitness function evaluation of an individual.
+	 *
+	 * @param nanos the duration of the fitness function evaluation in
+	 *        nanoseconds
+	 */
+	default void evaluation(final long nanos) {
+	}
+
+	/**
+	 * Called once per generation for every alterer of the engine. If the
+	 * engine's alterers are set with the
+	 * {@link Engine.Builder#alterers(Alterer, Alterer[])} method, this method
+	 * is called for every given alterer separately. Otherwise, it is called for
+	 * the (composite) alterer of the evolution parameters.
+	 *
+	 * @param alterer the measured alterer
+	 * @param nanos the duration of the alter operation in nanoseconds
+	 * @param alterations the number of alterations performed by the alterer
+	 */
+	default void alter(
+		final Alterer<?, ?> alterer,
+		final long nanos,
+		final int alterations
+	) {
+	}
+
+	/**
+	 * Called once per generation for the survivors and the offspring
+	 * population, after invalid and old individuals has been replaced.
+	 *
+	 * @param constraint the constraint used for detecting and repairing
+	 *        invalid individuals
+	 * @param invalidCount the number of invalid individuals
+	 * @param killCount the number of individuals, which exceeded the maximal
+	 *        phenotype age
+	 */
+	default void filter(
+		final Constraint<?, ?> constraint,
+		final int invalidCount,
+		final int killCount
+	) {
+	}
+
+	/**
+	 * Called once per generation with the number of tasks waiting in the queue
+	 * of the engine's executor. This method is only called if the executor
+	 * is a {@link java.util.concurrent.ForkJoinPool} or a
+	 * {@link java.util.concurrent.ThreadPoolExecutor}.
+	 *
+	 * @param depth the number of queued tasks of the executor
+	 */
+	default void executorQueue(final int depth) {
+	}
+
+	/**
+	 * Return a metrics object which ignores all measurements. Engines which
+	 * are configured with this object don't perform any additional time
+	 * measurements.
+	 *
+	 * @return a metrics object which does nothing
+	 */
+	static EvolutionMetrics noop() {
+		return NoopMetrics.INSTANCE;
+	}
+
+}
+
+/**
+ * The no-op metrics singleton.
+ */
+enum NoopMetrics implements EvolutionMetrics {
+	INSTANCE
+}
@@ -20,8 +20,7 @@
 package io.jenetics.engine;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toMap;
-import static io.jenetics.engine.EvolutionInterceptor.ofAfter;
+import static io.jenetics.internal.util.Concurrency.SERIAL_EXECUTOR;
 import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.readLong;
@@ -34,11 +33,10 @@ import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutput;
 import java.io.Serializable;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collector;
-import java.util.stream.Stream;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
@@ -48,7 +46,6 @@ import io.jenetics.internal.util.Lazy;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.Seq;
 
 /**
  * Represents a state of the GA after an evolution step. It also represents the
@@ -74,7 +71,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -589,43 +586,99 @@ public final class EvolutionResult<
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
 	EvolutionInterceptor<G, C>
 	toUniquePopulation(final Factory<Genotype<G>> factory, final int maxRetries) {
+		return toUniquePopulation(factory, maxRetries, SERIAL_EXECUTOR);
+	}
+
+	/**
+	 * Return a mapping function, which removes duplicate individuals from the
+	 * population and replaces it with newly created one by the given genotype
+	 * {@code factory}. The replacement individuals are created concurrently,
+	 * using the given {@code executor}. All concurrent tasks share the same
+	 * retry budget of {@code maxRetries}.
+	 *
+	 * <pre>{@code
+	 * final Problem<Double, DoubleGene, Integer> problem = ...;
+	 * final Engine<DoubleGene, Integer> engine = Engine.builder(problem)
+	 *     .interceptor(toUniquePopulation(
+	 *         problem.codec().encoding(), 100, ForkJoinPool.commonPool()))
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 * @see Engine.Builder#interceptor(EvolutionInterceptor)
+	 *
+	 * @param factory the genotype factory which create new individuals
+	 * @param maxRetries the maximal number of genotype creation tries
+	 * @param executor the executor used for creating the new individuals
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @return  a mapping function, which removes duplicate individuals from the
+	 *          population
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code maxRetries} is smaller than
+	 *         zero
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionInterceptor<G, C> toUniquePopulation(
+		final Factory<Genotype<G>> factory,
+		final int maxRetries,
+		final Executor executor
+	) {
 		requireNonNull(factory);
-		return ofAfter(result -> uniquePopulation(factory, maxRetries, result));
+		return new UniquePopulation<>(r -> factory, maxRetries, 0, executor);
 	}
 
-	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
-	EvolutionResult<G, C> uniquePopulation(
+	/**
+	 * Return a mapping function, which removes duplicate individuals from the
+	 * population and replaces it with newly created one by the given genotype
+	 * {@code factory}. Additionally, the returned interceptor remembers the
+	 * fingerprints of the last {@code historySize} newly created individuals.
+	 * Newly created individuals, which have already been seen in one of the
+	 * previous generations, are also replaced (tabu search). The replacement
+	 * individuals are created concurrently, using the given {@code executor}.
+	 *
+	 * <pre>{@code
+	 * final Problem<Double, DoubleGene, Integer> problem = ...;
+	 * final Engine<DoubleGene, Integer> engine = Engine.builder(problem)
+	 *     .interceptor(toNovelPopulation(
+	 *         problem.codec().encoding(), 100, 100_000, ForkJoinPool.commonPool()))
+	 *     .build();
+	 * }</pre>
+	 *
+	 * @apiNote
+	 * The returned interceptor is stateful. Every engine (evolution stream)
+	 * should use its own interceptor instance.
+	 *
+	 * @since 6.1
+	 * @see Engine.Builder#interceptor(EvolutionInterceptor)
+	 *
+	 * @param factory the genotype factory which create new individuals
+	 * @param maxRetries the maximal number of genotype creation tries
+	 * @param historySize the maximal number of remembered fingerprints
+	 * @param executor the executor used for creating the new individuals
+	 * @param <G> the gene type
+	 * @param <C> the fitness function result type
+	 * @return  a mapping function, which removes duplicate and already seen
+	 *          individuals from the population
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code maxRetries} or
+	 *         {@code historySize} is smaller than zero, or if the
+	 *         {@code historySize} is greater than {@code 2^24}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionInterceptor<G, C> toNovelPopulation(
 		final Factory<Genotype<G>> factory,
 		final int maxRetries,
-		final EvolutionResult<G, C> result
+		final int historySize,
+		final Executor executor
 	) {
-		final Seq<Phenotype<G, C>> population = result.population();
-		final Map<Genotype<G>, Phenotype<G, C>> elements =
-			population.stream()
-				.collect(toMap(
-					Phenotype::genotype,
-					Function.identity(),
-					(a, b) -> a));
-
-		EvolutionResult<G, C> uniques = result;
-		if (elements.size() < population.size()) {
-			int retries = 0;
-			while (elements.size() < population.size() && retries < maxRetries) {
-				final Genotype<G> gt = factory.newInstance();
-				final Phenotype<G, C> pt = elements
-					.put(gt, Phenotype.of(gt, result.generation()));
-				if (pt != null) {
-					++retries;
-				}
-			}
-			uniques = result.withPopulation(
-				Stream.concat(elements.values().stream(), population.stream())
-					.limit(population.size())
-					.collect(ISeq.toISeq())
-			);
-		}
-
-		return uniques;
+		requireNonNull(factory);
+		return new UniquePopulation<>(
+			r -> factory,
+			maxRetries,
+			historySize,
+			executor
+		);
 	}
 
 
@@ -694,11 +747,12 @@ public final class EvolutionResult<
 	 */
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
 	EvolutionInterceptor<G, C> toUniquePopulation(final int maxRetries) {
-		return ofAfter(result -> uniquePopulation(
-			result.population().get(0).genotype(),
+		return new UniquePopulation<>(
+			result -> result.population().get(0).genotype(),
 			maxRetries,
-			result
-		));
+			0,
+			SERIAL_EXECUTOR
+		);
 	}
 
 	/**
@@ -728,11 +782,7 @@ public final class EvolutionResult<
 	 */
 	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
 	EvolutionInterceptor<G, C> toUniquePopulation() {
-		return ofAfter(result -> uniquePopulation(
-			result.population().get(0).genotype(),
-			100,
-			result
-		));
+		return toUniquePopulation(100);
 	}
 
 	/**
@@ -31,6 +31,7 @@ import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.IntMomentStatistics;
 import io.jenetics.stat.LongMomentStatistics;
 import io.jenetics.stat.MinMax;
+import io.jenetics.stat.QuantileSketch;
 
 /**
  * This class can be used to gather additional statistic information of an
@@ -53,6 +54,16 @@ import io.jenetics.stat.MinMax;
  * System.println(statistics);
  * }</pre>
  *
+ * The statistics can also be gathered from a stream of population-free
+ * {@link EvolutionSummary} objects, via the
+ * {@link #accept(EvolutionSummary)} method.
+ * <pre>{@code
+ * engine.stream()
+ *     .limit(100)
+ *     .map(EvolutionSummary::of)
+ *     .forEach(statistics::accept);
+ * }</pre>
+ *
  * <b>Example output</b>
  *
  * <pre>{@code
@@ -85,7 +96,7 @@ import io.jenetics.stat.MinMax;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 6.1
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -104,6 +115,12 @@ public abstract class EvolutionStatistics<
 	private final DoubleMomentStatistics
 		_evolveDuration = new DoubleMomentStatistics();
 
+	// The duration quantiles.
+	private final QuantileSketch
+		_evaluationQuantiles = new QuantileSketch();
+	private final QuantileSketch
+		_evolveQuantiles = new QuantileSketch();
+
 	// The evolution statistics values.
 	private final IntMomentStatistics _killed = new IntMomentStatistics();
 	private final IntMomentStatistics _invalids = new IntMomentStatistics();
@@ -111,6 +128,7 @@ public abstract class EvolutionStatistics<
 
 	// The population statistics values.
 	final LongMomentStatistics _age = new LongMomentStatistics();
+	final QuantileSketch _fitnessQuantiles = new QuantileSketch();
 	FitnessStatistics _fitness = null;
 
 	EvolutionStatistics() {
@@ -132,6 +150,30 @@ public abstract class EvolutionStatistics<
 		_age.accept(pt.age(generation));
 	}
 
+	/**
+	 * Updates the statistics with the values of the given evolution
+	 * {@code summary}. The population statistics are combined from the
+	 * moments of the summary, without the need of the population itself.
+	 * For non-numeric fitness types, the fitness {@link MinMax} is updated
+	 * with the best and worst fitness of the summary.
+	 *
+	 * @since 6.1
+	 *
+	 * @param summary the evolution summary
+	 * @throws NullPointerException if the given {@code summary} is {@code null}
+	 */
+	public void accept(final EvolutionSummary<?, C> summary) {
+		accept(summary.durations());
+
+		_killed.accept(summary.killCount());
+		_invalids.accept(summary.invalidCount());
+		_altered.accept(summary.alterCount());
+
+		if (summary.ageStatistics().count() > 0) {
+			_age.combine(summary.ageStatistics());
+		}
+	}
+
 	// Calculate duration statistics
 	private void accept(final EvolutionDurations durations) {
 		final double selection =
@@ -141,12 +183,16 @@ public abstract class EvolutionStatistics<
 			toSeconds(durations.offspringAlterDuration()) +
 				toSeconds(durations.offspringFilterDuration());
 
+		final double evaluation = toSeconds(durations.evaluationDuration());
+		final double evolve = toSeconds(durations.evolveDuration());
+
 		_selectionDuration.accept(selection);
 		_alterDuration.accept(alter);
-		_evaluationDuration
-			.accept(toSeconds(durations.evaluationDuration()));
-		_evolveDuration
-			.accept(toSeconds(durations.evolveDuration()));
+		_evaluationDuration.accept(evaluation);
+		_evolveDuration.accept(evolve);
+
+		_evaluationQuantiles.accept(evaluation);
+		_evolveQuantiles.accept(evolve);
 	}
 
 	private static double toSeconds(final Duration duration) {
@@ -198,6 +244,34 @@ public abstract class EvolutionStatistics<
 		return _evolveDuration;
 	}
 
+	/**
+	 * Return the quantile sketch of the durations needed for evaluating the
+	 * fitness function of the new individuals, in seconds.
+	 *
+	 * <pre>{@code
+	 * final double p99 = statistics.evaluationDurationQuantiles().quantile(0.99);
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @return the quantile sketch of the fitness evaluation durations
+	 */
+	public QuantileSketch evaluationDurationQuantiles() {
+		return _evaluationQuantiles;
+	}
+
+	/**
+	 * Return the quantile sketch of the durations needed for the whole evolve
+	 * step, in seconds.
+	 *
+	 * @since 6.1
+	 *
+	 * @return the quantile sketch of the evolve step durations
+	 */
+	public QuantileSketch evolveDurationQuantiles() {
+		return _evolveQuantiles;
+	}
+
 
 	/* *************************************************************************
 	 * Evolution statistics
@@ -251,6 +325,27 @@ public abstract class EvolutionStatistics<
 		return _fitness;
 	}
 
+	/**
+	 * Return the quantile sketch of the fitness values of all evaluated
+	 * populations. The sketch is only updated for numeric fitness types,
+	 * created with {@link #ofNumber()}, and from evolution results. Evolution
+	 * summaries don't contain the fitness values of the population, and don't
+	 * update the sketch. {@code NaN} and infinite fitness values are not
+	 * recorded.
+	 *
+	 * <pre>{@code
+	 * final double[] percentiles = statistics.fitnessQuantiles()
+	 *     .quantiles(0.5, 0.9, 0.99);
+	 * }</pre>
+	 *
+	 * @since 6.1
+	 *
+	 * @return the quantile sketch of the fitness values
+	 */
+	public QuantileSketch fitnessQuantiles() {
+		return _fitnessQuantiles;
+	}
+
 	final String cpattern = "| %22s %-51s|\n";
 	final String spattern = "| %27s %-46s|\n";
 
@@ -331,6 +426,19 @@ public abstract class EvolutionStatistics<
 			super.accept(result);
 		}
 
+		@Override
+		public void accept(final EvolutionSummary<?, C> summary) {
+			if (_fitness.max() == null) {
+				_fitness = MinMax.of(summary.optimize().ascending());
+			}
+
+			super.accept(summary);
+			if (summary.bestPhenotype() != null) {
+				_fitness.accept(summary.bestFitness());
+				_fitness.accept(summary.worstFitness());
+			}
+		}
+
 		@Override
 		void accept(final Phenotype<?, C> pt, final long generation) {
 			super.accept(pt, generation);
@@ -358,10 +466,24 @@ public abstract class EvolutionStatistics<
 			_fitness = new DoubleMomentStatistics();
 		}
 
+		@Override
+		public void accept(final EvolutionSummary<?, N> summary) {
+			super.accept(summary);
+			final DoubleMomentStatistics fitness = summary.fitnessStatistics();
+			if (fitness != null && fitness.count() > 0) {
+				_fitness.combine(fitness);
+			}
+		}
+
 		@Override
 		void accept(final Phenotype<?, N> pt, final long generation) {
 			super.accept(pt, generation);
-			_fitness.accept(pt.fitness().doubleValue());
+
+			final double fitness = pt.fitness().doubleValue();
+			_fitness.accept(fitness);
+			if (Double.isFinite(fitness)) {
+				_fitnessQuantiles.accept(fitness);
+			}
 		}
 
 		@Override
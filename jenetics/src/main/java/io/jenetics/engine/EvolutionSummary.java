@@ -0,0 +1,438 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Hashes.hash;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collector;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.stat.MinMax;
+
+/**
+ * Compact, population-free summary of an {@link EvolutionResult}. It contains
+ * the best and worst phenotype, the moments of the phenotype age and the
+ * fitness, and the durations and counts of the evolution step. All values are
+ * calculated in a single pass over the population of the result.
+ * <p>
+ * An evolution result holds the whole population of its generation. If an
+ * evolution stream is only used for logging the progress of the evolution, it
+ * can be mapped to its summaries. The population of every generation can then
+ * be released directly after the summary has been created, while the live
+ * population is kept internally by the evolution stream.
+ *
+ * <pre>{@code
+ * final EvolutionStatistics<Double, ?> statistics =
+ *     EvolutionStatistics.ofNumber();
+ *
+ * final EvolutionSummary<DoubleGene, Double> best = engine.stream()
+ *     .limit(Limits.bySteadyFitness(20))
+ *     .map(EvolutionSummary::of)
+ *     .peek(statistics::accept)
+ *     .peek(s -> log.info(s.generation() + ": " + s.bestFitness()))
+ *     .collect(EvolutionSummary.toBestEvolutionSummary());
+ * }</pre>
+ *
+ * @see EvolutionResult
+ * @see EvolutionStatistics#accept(EvolutionSummary)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class EvolutionSummary<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Comparable<EvolutionSummary<G, C>>
+{
+
+	private final Optimize _optimize;
+	private final long _generation;
+	private final long _totalGenerations;
+
+	private final EvolutionDurations _durations;
+	private final int _killCount;
+	private final int _invalidCount;
+	private final int _alterCount;
+
+	private final Phenotype<G, C> _best;
+	private final Phenotype<G, C> _worst;
+
+	// The statistics objects are not changed after the summary creation.
+	private final LongMomentStatistics _ages;
+	private final DoubleMomentStatistics _fitness;
+
+	private EvolutionSummary(
+		final Optimize optimize,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final Phenotype<G, C> best,
+		final Phenotype<G, C> worst,
+		final LongMomentStatistics ages,
+		final DoubleMomentStatistics fitness
+	) {
+		_optimize = requireNonNull(optimize);
+		_generation = generation;
+		_totalGenerations = totalGenerations;
+		_durations = requireNonNull(durations);
+		_killCount = killCount;
+		_invalidCount = invalidCount;
+		_alterCount = alterCount;
+		_best = best;
+		_worst = worst;
+		_ages = requireNonNull(ages);
+		_fitness = fitness;
+	}
+
+	/**
+	 * Return the optimization strategy used.
+	 *
+	 * @return the optimization strategy used
+	 */
+	public Optimize optimize() {
+		return _optimize;
+	}
+
+	/**
+	 * The current generation.
+	 *
+	 * @return the current generation
+	 */
+	public long generation() {
+		return _generation;
+	}
+
+	/**
+	 * Returns the generation count this summary's result consists of.
+	 *
+	 * @return the generation count this summary's result consists of
+	 */
+	public long totalGenerations() {
+		return _totalGenerations;
+	}
+
+	/**
+	 * Return the timing (meta) information of the evolution step.
+	 *
+	 * @return the timing information of the evolution step
+	 */
+	public EvolutionDurations durations() {
+		return _durations;
+	}
+
+	/**
+	 * Return the number of killed individuals.
+	 *
+	 * @return the number of killed individuals
+	 */
+	public int killCount() {
+		return _killCount;
+	}
+
+	/**
+	 * Return the number of invalid individuals.
+	 *
+	 * @return the number of invalid individuals
+	 */
+	public int invalidCount() {
+		return _invalidCount;
+	}
+
+	/**
+	 * The number of altered individuals.
+	 *
+	 * @return the number of altered individuals
+	 */
+	public int alterCount() {
+		return _alterCount;
+	}
+
+	/**
+	 * Return the size of the summarized population.
+	 *
+	 * @return the size of the summarized population
+	 */
+	public int populationSize() {
+		return (int)_ages.count();
+	}
+
+	/**
+	 * Return the best {@code Phenotype} of the summarized population.
+	 *
+	 * @return the best {@code Phenotype} of the summarized population, or
+	 *         {@code null} if the population was empty
+	 */
+	public Phenotype<G, C> bestPhenotype() {
+		return _best;
+	}
+
+	/**
+	 * Return the worst {@code Phenotype} of the summarized population.
+	 *
+	 * @return the worst {@code Phenotype} of the summarized population, or
+	 *         {@code null} if the population was empty
+	 */
+	public Phenotype<G, C> worstPhenotype() {
+		return _worst;
+	}
+
+	/**
+	 * Return the best population fitness.
+	 *
+	 * @return The best population fitness.
+	 */
+	public C bestFitness() {
+		return _best != null ? _best.fitness() : null;
+	}
+
+	/**
+	 * Return the worst population fitness.
+	 *
+	 * @return The worst population fitness.
+	 */
+	public C worstFitness() {
+		return _worst != null ? _worst.fitness() : null;
+	}
+
+	/**
+	 * Return the statistical moments of the phenotype age of the summarized
+	 * population.
+	 *
+	 * @return the phenotype age moments
+	 */
+	public LongMoments phenotypeAge() {
+		return _ages.toLongMoments();
+	}
+
+	/**
+	 * Return the statistical moments of the population fitness. The moments
+	 * are only available for numeric fitness types, which are instances of
+	 * {@link Number}.
+	 *
+	 * @return the fitness moments, or an empty {@code Optional} if the fitness
+	 *         type is not numeric
+	 */
+	public Optional<DoubleMoments> fitnessMoments() {
+		return Optional.ofNullable(_fitness)
+			.map(DoubleMomentStatistics::toDoubleMoments);
+	}
+
+	// The age statistics are combined by the evolution statistics.
+	LongMomentStatistics ageStatistics() {
+		return _ages;
+	}
+
+	// The fitness statistics are null for non-numeric fitness types.
+	DoubleMomentStatistics fitnessStatistics() {
+		return _fitness;
+	}
+
+	/**
+	 * Compare {@code this} evolution summary with another one, according the
+	 * populations best individual. A summary of an empty population is less
+	 * than any summary of a non-empty population.
+	 *
+	 * @param other the other evolution summary to compare
+	 * @return  a negative integer, zero, or a positive integer as this summary
+	 *          is less than, equal to, or greater than the specified summary.
+	 */
+	@Override
+	public int compareTo(final EvolutionSummary<G, C> other) {
+		if (_best == null || other._best == null) {
+			return Boolean.compare(_best != null, other._best != null);
+		}
+		return _optimize.compare(_best, other._best);
+	}
+
+	private EvolutionSummary<G, C> withTotalGenerations(final long total) {
+		return new EvolutionSummary<>(
+			_optimize,
+			_generation,
+			total,
+			_durations,
+			_killCount,
+			_invalidCount,
+			_alterCount,
+			_best,
+			_worst,
+			_ages,
+			_fitness
+		);
+	}
+
+	@Override
+	public int hashCode() {
+		return
+			hash(_optimize,
+			hash(_generation,
+			hash(_totalGenerations,
+			hash(_durations,
+			hash(_killCount,
+			hash(_invalidCount,
+			hash(_alterCount,
+			hash(_best,
+			hash(_worst)))))))));
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj == this ||
+			obj instanceof EvolutionSummary &&
+			_optimize == ((EvolutionSummary)obj)._optimize &&
+			_generation == ((EvolutionSummary)obj)._generation &&
+			_totalGenerations == ((EvolutionSummary)obj)._totalGenerations &&
+			_durations.equals(((EvolutionSummary)obj)._durations) &&
+			_killCount == ((EvolutionSummary)obj)._killCount &&
+			_invalidCount == ((EvolutionSummary)obj)._invalidCount &&
+			_alterCount == ((EvolutionSummary)obj)._alterCount &&
+			Objects.equals(_best, ((EvolutionSummary)obj)._best) &&
+			Objects.equals(_worst, ((EvolutionSummary)obj)._worst) &&
+			phenotypeAge().equals(((EvolutionSummary)obj).phenotypeAge()) &&
+			fitnessMoments().equals(((EvolutionSummary)obj).fitnessMoments());
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"EvolutionSummary[generation=%d, best=%s, worst=%s]",
+			_generation, bestFitness(), worstFitness()
+		);
+	}
+
+
+	/* *************************************************************************
+	 *  Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new summary of the given evolution {@code result}. The
+	 * population of the result is not referenced by the created summary.
+	 *
+	 * @param result the evolution result to summarize
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return the summary of the given evolution result
+	 * @throws NullPointerException if the given {@code result} is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	EvolutionSummary<G, C> of(final EvolutionResult<G, C> result) {
+		final Comparator<Phenotype<G, C>> comparator =
+			result.optimize().ascending();
+
+		final LongMomentStatistics ages = new LongMomentStatistics();
+		DoubleMomentStatistics fitness = new DoubleMomentStatistics();
+		Phenotype<G, C> best = null;
+		Phenotype<G, C> worst = null;
+
+		for (Phenotype<G, C> pt : result.population()) {
+			if (best == null) {
+				best = pt;
+				worst = pt;
+			} else if (comparator.compare(pt, best) > 0) {
+				best = pt;
+			} else if (comparator.compare(pt, worst) < 0) {
+				worst = pt;
+			}
+
+			ages.accept(pt.age(result.generation()));
+			if (fitness != null) {
+				final C value = pt.fitness();
+				if (value instanceof Number) {
+					fitness.accept(((Number)value).doubleValue());
+				} else {
+					fitness = null;
+				}
+			}
+		}
+
+		return new EvolutionSummary<>(
+			result.optimize(),
+			result.generation(),
+			result.totalGenerations(),
+			result.durations(),
+			result.killCount(),
+			result.invalidCount(),
+			result.alterCount(),
+			best,
+			worst,
+			ages,
+			fitness
+		);
+	}
+
+	/**
+	 * Return a collector which collects the best summary of a stream of
+	 * evolution summaries. The total generations of the collected summary are
+	 * set to the number of collected summaries.
+	 *
+	 * <pre>{@code
+	 * final EvolutionSummary<DoubleGene, Double> best = engine.stream()
+	 *     .limit(100)
+	 *     .map(EvolutionSummary::of)
+	 *     .collect(EvolutionSummary.toBestEvolutionSummary());
+	 * }</pre>
+	 *
+	 * If the collected stream is empty, the collector returns
+	 * <b>{@code null}</b>, like the {@link EvolutionResult#toBestEvolutionResult()}
+	 * collector. Summaries of empty populations are only returned, if the
+	 * stream contains no other summaries.
+	 *
+	 * @see EvolutionResult#toBestEvolutionResult()
+	 *
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a collector which collects the best summary of a stream, or
+	 *         {@code null} if the stream is empty
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Collector<EvolutionSummary<G, C>, ?, EvolutionSummary<G, C>>
+	toBestEvolutionSummary() {
+		return Collector.of(
+			MinMax::<EvolutionSummary<G, C>>of,
+			MinMax::accept,
+			MinMax::combine,
+			mm -> mm.max() != null
+				? mm.max().withTotalGenerations(mm.count())
+				: null
+		);
+	}
+
+}
@@ -19,11 +19,18 @@
  */
 package io.jenetics.engine;
 
+import static io.jenetics.engine.EvolutionMetrics.Phase.EVALUATION;
+import static io.jenetics.engine.EvolutionMetrics.Phase.OFFSPRING_ALTER;
+import static io.jenetics.engine.EvolutionMetrics.Phase.OFFSPRING_FILTER;
+import static io.jenetics.engine.EvolutionMetrics.Phase.OFFSPRING_SELECTION;
+import static io.jenetics.engine.EvolutionMetrics.Phase.SURVIVORS_FILTER;
+import static io.jenetics.engine.EvolutionMetrics.Phase.SURVIVORS_SELECTION;
+
 import java.time.Clock;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 6.1
  * @since 5.0
  */
 final class EvolutionTiming {
@@ -37,12 +44,12 @@ final class EvolutionTiming {
 	final Timing evolve;
 
 	EvolutionTiming(final Clock clock) {
-		offspringSelection = Timing.of(clock);
-		survivorsSelection = Timing.of(clock);
-		offspringAlter = Timing.of(clock);
-		offspringFilter = Timing.of(clock);
-		survivorFilter = Timing.of(clock);
-		evaluation = Timing.of(clock);
+		offspringSelection = Timing.of(clock, OFFSPRING_SELECTION);
+		survivorsSelection = Timing.of(clock, SURVIVORS_SELECTION);
+		offspringAlter = Timing.of(clock, OFFSPRING_ALTER);
+		offspringFilter = Timing.of(clock, OFFSPRING_FILTER);
+		survivorFilter = Timing.of(clock, SURVIVORS_FILTER);
+		evaluation = Timing.of(clock, EVALUATION);
 		evolve = Timing.of(clock);
 	}
 
@@ -0,0 +1,71 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event, which is emitted for every evolution step of the {@link Engine}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@Name(GenerationEvent.NAME)
+@Label("Generation")
+@Category({"Jenetics", "Engine"})
+@Description("Execution of one evolution step")
+@StackTrace(false)
+final class GenerationEvent extends jdk.jfr.Event {
+
+	static final String NAME = "io.jenetics.Generation";
+
+	@Label("Generation")
+	long generation;
+
+	@Label("Population Size")
+	int populationSize;
+
+	@Label("Kill Count")
+	int killCount;
+
+	@Label("Invalid Count")
+	int invalidCount;
+
+	@Label("Alter Count")
+	int alterCount;
+
+	void commit(final EvolutionResult<?, ?> result) {
+		end();
+		if (shouldCommit()) {
+			generation = result.generation();
+			populationSize = result.population().size();
+			killCount = result.killCount();
+			invalidCount = result.invalidCount();
+			alterCount = result.alterCount();
+			commit();
+		}
+	}
+
+}
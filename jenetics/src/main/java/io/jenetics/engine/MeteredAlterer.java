@@ -0,0 +1,95 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.LongSupplier;
+
+import io.jenetics.Alterer;
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Alterer which applies the given alterers one after another and reports the
+ * duration and the number of alterations of every single alterer to the
+ * {@link EvolutionMetrics}.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class MeteredAlterer<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Alterer<G, C>
+{
+
+	private final ISeq<Alterer<G, C>> _alterers;
+	private final EvolutionMetrics _metrics;
+	private final LongSupplier _nanoClock;
+
+	MeteredAlterer(
+		final ISeq<Alterer<G, C>> alterers,
+		final EvolutionMetrics metrics,
+		final LongSupplier nanoClock
+	) {
+		_alterers = requireNonNull(alterers);
+		_metrics = requireNonNull(metrics);
+		_nanoClock = requireNonNull(nanoClock);
+	}
+
+	ISeq<Alterer<G, C>> alterers() {
+		return _alterers;
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		ISeq<Phenotype<G, C>> pop = population.asISeq();
+		int alterations = 0;
+		for (var alterer : _alterers) {
+			final long start = _nanoClock.getAsLong();
+			final AltererResult<G, C> result = alterer.alter(pop, generation);
+			_metrics.alter(
+				alterer,
+				_nanoClock.getAsLong() - start,
+				result.alterations()
+			);
+
+			pop = result.population();
+			alterations += result.alterations();
+		}
+
+		return AltererResult.of(pop, alterations);
+	}
+
+	@Override
+	public String toString() {
+		return "MeteredAlterer" + _alterers;
+	}
+
+}
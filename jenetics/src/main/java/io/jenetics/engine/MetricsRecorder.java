@@ -0,0 +1,211 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.jenetics.Alterer;
+import io.jenetics.stat.LongHistogram;
+
+/**
+ * Default implementation of the {@link EvolutionMetrics} interface, which
+ * records the measured durations into {@link LongHistogram}s. The recorder is
+ * thread-safe and can be read while the evolution is running, e.g. by a
+ * metrics exporter.
+ *
+ * <pre>{@code
+ * final MetricsRecorder metrics = new MetricsRecorder();
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .metrics(metrics)
+ *     .build();
+ *
+ * engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ *
+ * System.out.println("p99: " + metrics.evaluations().quantile(0.99));
+ * metrics.alterations().forEach((alterer, count) ->
+ *     System.out.println(alterer + ": " + count));
+ * }</pre>
+ *
+ * @see EvolutionMetrics
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class MetricsRecorder implements EvolutionMetrics {
+
+	private final Map<Phase, LongHistogram> _phases = new EnumMap<>(Phase.class);
+	private final LongHistogram _evaluations = new LongHistogram();
+	private final LongHistogram _executorQueue = new LongHistogram();
+
+	private final Map<Alterer<?, ?>, LongHistogram> _alterDurations =
+		new ConcurrentHashMap<>();
+	private final Map<Alterer<?, ?>, LongAdder> _alterations =
+		new ConcurrentHashMap<>();
+	private final Map<Constraint<?, ?>, LongAdder> _invalidCounts =
+		new ConcurrentHashMap<>();
+	private final LongAdder _killCount = new LongAdder();
+
+	/**
+	 * Create a new, empty metrics recorder.
+	 */
+	public MetricsRecorder() {
+		for (Phase phase : Phase.values()) {
+			_phases.put(phase, new LongHistogram());
+		}
+	}
+
+	@Override
+	public void phase(final Phase phase, final long nanos) {
+		_phases.get(phase).accept(nanos);
+	}
+
+	@Override
+	public void evaluation(final long nanos) {
+		_evaluations.accept(nanos);
+	}
+
+	@Override
+	public void alter(
+		final Alterer<?, ?> alterer,
+		final long nanos,
+		final int alterations
+	) {
+		_alterDurations
+			.computeIfAbsent(alterer, a -> new LongHistogram())
+			.accept(nanos);
+		_alterations
+			.computeIfAbsent(alterer, a -> new LongAdder())
+			.add(alterations);
+	}
+
+	@Override
+	public void filter(
+		final Constraint<?, ?> constraint,
+		final int invalidCount,
+		final int killCount
+	) {
+		_invalidCounts
+			.computeIfAbsent(constraint, c -> new LongAdder())
+			.add(invalidCount);
+		_killCount.add(killCount);
+	}
+
+	@Override
+	public void executorQueue(final int depth) {
+		_executorQueue.accept(depth);
+	}
+
+	/**
+	 * Return the histogram of the durations, in nanoseconds, of the given
+	 * evolution {@code phase}.
+	 *
+	 * @param phase the evolution phase
+	 * @return the duration histogram of the given evolution phase
+	 * @throws NullPointerException if the given {@code phase} is {@code null}
+	 */
+	public LongHistogram durations(final Phase phase) {
+		return _phases.get(requireNonNull(phase));
+	}
+
+	/**
+	 * Return the histogram of the fitness function evaluation durations, in
+	 * nanoseconds, of the single individuals.
+	 *
+	 * @return the histogram of the fitness function evaluation durations
+	 */
+	public LongHistogram evaluations() {
+		return _evaluations;
+	}
+
+	/**
+	 * Return the histogram of the sampled executor queue depths.
+	 *
+	 * @return the histogram of the sampled executor queue depths
+	 */
+	public LongHistogram executorQueue() {
+		return _executorQueue;
+	}
+
+	/**
+	 * Return the duration histograms, in nanoseconds, of the measured
+	 * alterers.
+	 *
+	 * @return the duration histograms of the alterers
+	 */
+	public Map<Alterer<?, ?>, LongHistogram> alterDurations() {
+		return Collections.unmodifiableMap(_alterDurations);
+	}
+
+	/**
+	 * Return the number of alterations performed by the measured alterers.
+	 *
+	 * @return the number of alterations of the alterers
+	 */
+	public Map<Alterer<?, ?>, Long> alterations() {
+		return counts(_alterations);
+	}
+
+	/**
+	 * Return the number of invalid individuals, detected by the given
+	 * constraints.
+	 *
+	 * @return the number of invalid individuals per constraint
+	 */
+	public Map<Constraint<?, ?>, Long> invalidCounts() {
+		return counts(_invalidCounts);
+	}
+
+	/**
+	 * Return the number of individuals, which have been replaced because they
+	 * exceeded the maximal phenotype age.
+	 *
+	 * @return the number of killed individuals
+	 */
+	public long killCount() {
+		return _killCount.sum();
+	}
+
+	private static <K> Map<K, Long> counts(final Map<K, LongAdder> adders) {
+		final Map<K, Long> counts = new ConcurrentHashMap<>();
+		adders.forEach((key, adder) -> counts.put(key, adder.sum()));
+		return Collections.unmodifiableMap(counts);
+	}
+
+	@Override
+	public String toString() {
+		return "MetricsRecorder[" +
+			"evaluations=" + _evaluations + ", " +
+			"evolve=" + _phases.get(Phase.EVOLVE) + ", " +
+			"alterations=" + alterations() + ", " +
+			"invalids=" + invalidCounts() + ", " +
+			"kills=" + killCount() +
+			"]";
+	}
+
+}
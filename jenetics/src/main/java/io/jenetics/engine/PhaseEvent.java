@@ -0,0 +1,57 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.jenetics.engine.EvolutionMetrics.Phase;
+
+/**
+ * JFR event, which is emitted for every executed phase of an evolution step.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+@Name(PhaseEvent.NAME)
+@Label("Evolution Phase")
+@Category({"Jenetics", "Engine"})
+@Description("Execution of one phase of an evolution step")
+@StackTrace(false)
+final class PhaseEvent extends jdk.jfr.Event {
+
+	static final String NAME = "io.jenetics.Phase";
+
+	@Label("Phase")
+	String phase;
+
+	void commit(final Phase phase) {
+		end();
+		if (shouldCommit()) {
+			this.phase = phase.name();
+			commit();
+		}
+	}
+
+}
@@ -26,14 +26,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.function.LongSupplier;
 
+import io.jenetics.engine.EvolutionMetrics.Phase;
 import io.jenetics.util.NanoClock;
 
 /**
- * Timer implementation for measuring execution durations.
+ * Timer implementation for measuring execution durations. If the timer is
+ * created for an evolution {@link Phase}, the {@link #timing(Task)} method
+ * additionally emits a JFR {@link PhaseEvent}.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 5.0
+ * @version 6.1
  */
 final class Timing {
 
@@ -43,21 +46,35 @@ final class Timing {
 	}
 
 	private final LongSupplier _nanoClock;
+	private final Phase _phase;
 
 	private long _start = Long.MIN_VALUE;
 	private long _stop = Long.MIN_VALUE;
 	private long _nanos = 0;
 
-	private Timing(final LongSupplier nanoClock) {
+	private Timing(final LongSupplier nanoClock, final Phase phase) {
 		_nanoClock = requireNonNull(nanoClock);
+		_phase = phase;
 	}
 
 	<T, E extends Exception> T timing(final Timing.Task<T, E> task) throws E {
-		start();
-		try {
-			return task.execute();
-		} finally {
-			stop();
+		if (_phase == null) {
+			start();
+			try {
+				return task.execute();
+			} finally {
+				stop();
+			}
+		} else {
+			final PhaseEvent event = new PhaseEvent();
+			event.begin();
+			start();
+			try {
+				return task.execute();
+			} finally {
+				stop();
+				event.commit(_phase);
+			}
 		}
 	}
 
@@ -84,6 +101,18 @@ final class Timing {
 		return this;
 	}
 
+	/**
+	 * Return the accumulated duration, in nanoseconds, of the consecutive
+	 * {@link #start()} and {@link #stop()} calls.
+	 *
+	 * @return the accumulated duration in nanoseconds
+	 */
+	synchronized long nanos() {
+		return isStarted()
+			? _nanos + _nanoClock.getAsLong() - _start
+			: _nanos;
+	}
+
 	private boolean isStarted() {
 		return _start != Long.MIN_VALUE;
 	}
@@ -99,9 +128,7 @@ final class Timing {
 	 * @return the duration between two {@code start} and {@code stop} calls
 	 */
 	synchronized Duration duration() {
-		return isStarted()
-			? Duration.ofNanos(_nanos + _nanoClock.getAsLong() - _start)
-			: Duration.ofNanos(_nanos);
+		return Duration.ofNanos(nanos());
 	}
 
 	/**
@@ -112,10 +139,36 @@ final class Timing {
 	 * @return a new timer
 	 */
 	static Timing of(final Clock clock) {
+		return new Timing(nanoClock(clock), null);
+	}
+
+	/**
+	 * Return an new timer object for the given evolution {@code phase}, which
+	 * uses the given clock for measuring the execution time.
+	 *
+	 * @since 6.1
+	 *
+	 * @param clock the clock used for measuring the execution time
+	 * @param phase the measured evolution phase
+	 * @return a new timer
+	 */
+	static Timing of(final Clock clock, final Phase phase) {
+		return new Timing(nanoClock(clock), requireNonNull(phase));
+	}
+
+	/**
+	 * Return the nano-second time source of the given {@code clock}.
+	 *
+	 * @since 6.1
+	 *
+	 * @param clock the clock used for measuring the execution time
+	 * @return the nano-second time source of the given clock
+	 */
+	static LongSupplier nanoClock(final Clock clock) {
 		requireNonNull(clock);
 		return clock instanceof NanoClock
-			? new Timing(System::nanoTime)
-			: new Timing(() -> nanos(clock));
+			? System::nanoTime
+			: () -> nanos(clock);
 	}
 
 	private static long nanos(final Clock clock) {
@@ -129,7 +182,7 @@ final class Timing {
 	 * @return a new timer
 	 */
 	static Timing of() {
-		return new Timing(System::nanoTime);
+		return new Timing(System::nanoTime, null);
 	}
 
 }
@@ -0,0 +1,390 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Concurrency;
+import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Evolution interceptor which replaces duplicate individuals of the population
+ * with newly created ones. The duplicate detection uses the (cached) genotype
+ * hash codes. Optionally, the interceptor remembers the <em>fingerprints</em>
+ * (64-bit hashes) of the individuals created in the previous generations and
+ * also replaces newly created individuals which have been <em>seen</em>
+ * before (tabu list). The replacement individuals are created concurrently
+ * with the given executor, sharing one common retry budget.
+ *
+ * @implNote
+ * The fingerprint history is bounded by the given history size. If the
+ * capacity is exceeded, the oldest fingerprints are evicted first. The
+ * fingerprint of an individual is calculated only once, in the generation it
+ * has been created. Two different genotypes may share the same fingerprint,
+ * which only leads to an unnecessary replacement. For genotypes with
+ * different gene hash codes, the probability that a new genotype collides
+ * with one of {@code n} remembered fingerprints is about
+ * <code>n&middot;2<sup>-64</sup></code>; this is below
+ * <code>10<sup>-12</sup></code> for the maximal history size.
+ *
+ * @see EvolutionResult#toUniquePopulation(Factory, int, Executor)
+ * @see EvolutionResult#toNovelPopulation(Factory, int, int, Executor)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 6.1
+ * @version 6.1
+ */
+final class UniquePopulation<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionInterceptor<G, C>
+{
+
+	/**
+	 * The maximal number of fingerprints the history can remember.
+	 */
+	static final int MAX_HISTORY_SIZE = 1 << 24;
+
+	private final Function<? super EvolutionResult<G, C>, Factory<Genotype<G>>> _factory;
+	private final int _maxRetries;
+	private final Executor _executor;
+	private final FingerprintHistory _history;
+
+	UniquePopulation(
+		final Function<? super EvolutionResult<G, C>, Factory<Genotype<G>>> factory,
+		final int maxRetries,
+		final int historySize,
+		final Executor executor
+	) {
+		if (maxRetries < 0) {
+			throw new IllegalArgumentException(
+				"Max retries must not be negative: " + maxRetries
+			);
+		}
+		if (historySize < 0 || historySize > MAX_HISTORY_SIZE) {
+			throw new IllegalArgumentException(format(
+				"History size must be within [0, %d]: %d",
+				MAX_HISTORY_SIZE, historySize
+			));
+		}
+
+		_factory = requireNonNull(factory);
+		_maxRetries = maxRetries;
+		_executor = requireNonNull(executor);
+		_history = historySize > 0
+			? new FingerprintHistory(historySize)
+			: null;
+	}
+
+	@Override
+	public EvolutionResult<G, C> after(final EvolutionResult<G, C> result) {
+		final ISeq<Phenotype<G, C>> population = result.population();
+		if (population.isEmpty()) {
+			return result;
+		}
+
+		final long generation = result.generation();
+		final long[] fingerprints = _history != null
+			? fingerprints(population, generation)
+			: null;
+
+		// Separating the individuals which must be replaced.
+		final Set<Genotype<G>> genotypes = new HashSet<>(population.size());
+		final MSeq<Phenotype<G, C>> pop = MSeq.ofLength(population.size());
+		final int[] replace = new int[population.size()];
+		int uniques = 0;
+		int count = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			final boolean unique = genotypes.add(pt.genotype());
+			final boolean novel = _history == null ||
+				!isKnown(pt, fingerprints[i], generation);
+
+			if (unique && novel) {
+				pop.set(uniques++, pt);
+			} else {
+				replace[count++] = i;
+			}
+		}
+
+		if (_history != null) {
+			record(population, fingerprints, generation);
+		}
+		if (count == 0) {
+			return result;
+		}
+
+		final long[] createdFingerprints = new long[count];
+		final MSeq<Genotype<G>> created = create(
+			_factory.apply(result),
+			genotypes,
+			createdFingerprints
+		);
+
+		// The new population consists of the unique individuals, followed by
+		// the newly created ones and the not replaceable duplicates.
+		for (int i = 0; i < count; ++i) {
+			final Genotype<G> gt = created.get(i);
+			if (gt != null) {
+				pop.set(uniques + i, Phenotype.of(gt, generation));
+				if (_history != null) {
+					_history.add(createdFingerprints[i]);
+				}
+			} else {
+				pop.set(uniques + i, population.get(replace[i]));
+			}
+		}
+
+		return result.withPopulation(pop.toISeq());
+	}
+
+	// Only individuals created in the current generation are fingerprinted.
+	// The fingerprints of surviving individuals have already been recorded.
+	private static long[] fingerprints(
+		final ISeq<? extends Phenotype<?, ?>> population,
+		final long generation
+	) {
+		final long[] fingerprints = new long[population.size()];
+		for (int i = 0; i < population.size(); ++i) {
+			final Phenotype<?, ?> pt = population.get(i);
+			if (pt.generation() == generation) {
+				fingerprints[i] = fingerprint(pt.genotype());
+			}
+		}
+		return fingerprints;
+	}
+
+	// Only individuals created in the current generation are checked against
+	// the fingerprint history. Surviving individuals are always known.
+	private boolean isKnown(
+		final Phenotype<G, C> pt,
+		final long fingerprint,
+		final long generation
+	) {
+		return pt.generation() == generation && _history.contains(fingerprint);
+	}
+
+	private void record(
+		final ISeq<Phenotype<G, C>> population,
+		final long[] fingerprints,
+		final long generation
+	) {
+		for (int i = 0; i < population.size(); ++i) {
+			if (population.get(i).generation() == generation) {
+				_history.add(fingerprints[i]);
+			}
+		}
+	}
+
+	// Creates the replacement genotypes in parallel. All tasks share the same
+	// retry budget, which is decremented for every rejected genotype. The
+	// fingerprints of the created genotypes are stored in the given array.
+	private MSeq<Genotype<G>> create(
+		final Factory<Genotype<G>> factory,
+		final Set<Genotype<G>> existing,
+		final long[] fingerprints
+	) {
+		final int count = fingerprints.length;
+		final Set<Genotype<G>> genotypes = ConcurrentHashMap.newKeySet();
+		genotypes.addAll(existing);
+
+		final MSeq<Genotype<G>> created = MSeq.ofLength(count);
+		final AtomicInteger index = new AtomicInteger();
+		final AtomicInteger retries = new AtomicInteger(_maxRetries);
+
+		final Runnable task = () -> {
+			while (index.get() < count && retries.get() > 0) {
+				final Genotype<G> gt = factory.newInstance();
+				final long fingerprint = _history != null ? fingerprint(gt) : 0;
+				final boolean novel = _history == null ||
+					!_history.contains(fingerprint);
+
+				if (novel && genotypes.add(gt)) {
+					final int i = index.getAndIncrement();
+					if (i < count) {
+						created.set(i, gt);
+						fingerprints[i] = fingerprint;
+					}
+				} else {
+					retries.decrementAndGet();
+				}
+			}
+		};
+
+		final int tasks = min(count, Concurrency.CORES);
+		try (var c = Concurrency.with(_executor)) {
+			c.execute(ISeq.of(() -> task, tasks));
+		}
+
+		return created;
+	}
+
+	/**
+	 * Calculates the 64-bit fingerprint of the given genotype. The fingerprint
+	 * is derived from the hash codes of the genes and the lengths of the
+	 * chromosomes.
+	 *
+	 * @param genotype the genotype to fingerprint
+	 * @return the 64-bit fingerprint of the given {@code genotype}
+	 */
+	static long fingerprint(final Genotype<?> genotype) {
+		long hash = 0xCBF29CE484222325L;
+		for (Chromosome<?> chromosome : genotype) {
+			hash = mix(hash ^ chromosome.length());
+			for (Gene<?, ?> gene : chromosome) {
+				hash = mix(hash ^ gene.hashCode());
+			}
+		}
+		return hash;
+	}
+
+	// The 'Stafford variant 13' of the SplitMix64 finalizer.
+	private static long mix(final long value) {
+		long z = value*0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+
+	/**
+	 * Bounded set of fingerprints, which evicts the oldest fingerprint if the
+	 * capacity is exceeded. It uses an open addressing hash table with linear
+	 * probing, which avoids boxing of the fingerprint values.
+	 */
+	static final class FingerprintHistory {
+		private static final long FREE = 0L;
+		private static final long ZERO = 0x5DEECE66DL;
+
+		private final long[] _ring;
+		private final long[] _table;
+		private final int _mask;
+
+		private int _head = 0;
+		private int _size = 0;
+
+		FingerprintHistory(final int capacity) {
+			if (capacity < 1 || capacity > MAX_HISTORY_SIZE) {
+				throw new IllegalArgumentException(format(
+					"History capacity must be within [1, %d]: %d",
+					MAX_HISTORY_SIZE, capacity
+				));
+			}
+
+			// The table size is at most 4*MAX_HISTORY_SIZE and can't overflow.
+			_ring = new long[capacity];
+			_table = new long[Integer.highestOneBit(capacity)*4];
+			_mask = _table.length - 1;
+		}
+
+		synchronized int size() {
+			return _size;
+		}
+
+		synchronized boolean contains(final long fingerprint) {
+			final long key = key(fingerprint);
+			for (int i = slot(key); _table[i] != FREE; i = (i + 1) & _mask) {
+				if (_table[i] == key) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		synchronized void add(final long fingerprint) {
+			final long key = key(fingerprint);
+
+			int i = slot(key);
+			while (_table[i] != FREE) {
+				if (_table[i] == key) {
+					return;
+				}
+				i = (i + 1) & _mask;
+			}
+
+			if (_size == _ring.length) {
+				remove(_ring[_head]);
+			} else {
+				++_size;
+			}
+
+			// The slot might have been changed by the removal.
+			i = slot(key);
+			while (_table[i] != FREE) {
+				i = (i + 1) & _mask;
+			}
+			_table[i] = key;
+			_ring[_head] = key;
+			_head = (_head + 1)%_ring.length;
+		}
+
+		// Removes the key with backward shift deletion.
+		private void remove(final long key) {
+			int i = slot(key);
+			while (_table[i] != key) {
+				i = (i + 1) & _mask;
+			}
+
+			int j = i;
+			while (true) {
+				j = (j + 1) & _mask;
+				if (_table[j] == FREE) {
+					break;
+				}
+
+				final int k = slot(_table[j]);
+				if (i <= j ? (i < k && k <= j) : (i < k || k <= j)) {
+					continue;
+				}
+				_table[i] = _table[j];
+				i = j;
+			}
+			_table[i] = FREE;
+		}
+
+		private int slot(final long key) {
+			return (int)(key ^ (key >>> 32)) & _mask;
+		}
+
+		private static long key(final long fingerprint) {
+			return fingerprint == FREE ? ZERO : fingerprint;
+		}
+	}
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+/**
+ * Concurrent histogram of non-negative {@code long} values, e.g. latencies in
+ * nanoseconds. The values are recorded into a fixed set of
+ * <em>log-linear</em> buckets, similar to the
+ * <a href="http://hdrhistogram.org/">HdrHistogram</a>. Every power-of-two
+ * interval is split into {@value #SUB_BUCKETS} linear sub-buckets, which
+ * bounds the relative error of the estimated quantiles to less than one
+ * percent, independent of the value range.
+ * <p>
+ * Recording a value is lock-free and doesn't allocate any objects. This makes
+ * the histogram usable on <em>hot</em> code paths, where it is updated
+ * concurrently by several threads.
+ *
+ * <pre>{@code
+ * final LongHistogram histogram = new LongHistogram();
+ * final long start = System.nanoTime();
+ * ...
+ * histogram.accept(System.nanoTime() - start);
+ * ...
+ * final double p99 = histogram.quantile(0.99);
+ * }</pre>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class LongHistogram implements LongConsumer {
+
+	// Number of bits used for the linear sub-buckets.
+	private static final int PRECISION = 7;
+
+	/**
+	 * The number of linear sub-buckets for the first power-of-two interval.
+	 * All following intervals are split into {@code SUB_BUCKETS/2} buckets.
+	 */
+	public static final int SUB_BUCKETS = 1 << PRECISION;
+
+	private static final int HALF = SUB_BUCKETS >>> 1;
+	private static final int BUCKETS =
+		SUB_BUCKETS + (Long.SIZE - 1 - PRECISION)*HALF;
+
+	private final AtomicLongArray _counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder _count = new LongAdder();
+	private final LongAdder _sum = new LongAdder();
+	private final LongAccumulator _min =
+		new LongAccumulator(Math::min, Long.MAX_VALUE);
+	private final LongAccumulator _max =
+		new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+	/**
+	 * Create a new, empty histogram.
+	 */
+	public LongHistogram() {
+	}
+
+	/**
+	 * Records the given {@code value}.
+	 *
+	 * @param value the value to record
+	 * @throws IllegalArgumentException if the given {@code value} is negative
+	 */
+	@Override
+	public void accept(final long value) {
+		if (value < 0) {
+			throw new IllegalArgumentException(format(
+				"Value must be non-negative: %d", value
+			));
+		}
+
+		_counts.incrementAndGet(index(value));
+		_count.increment();
+		_sum.add(value);
+		_min.accumulate(value);
+		_max.accumulate(value);
+	}
+
+	/**
+	 * Adds the recorded values of the {@code other} histogram to {@code this}
+	 * one.
+	 *
+	 * @param other the other histogram
+	 * @return {@code this} histogram
+	 * @throws NullPointerException if the {@code other} histogram is
+	 *         {@code null}
+	 */
+	public LongHistogram combine(final LongHistogram other) {
+		requireNonNull(other);
+
+		for (int i = 0; i < BUCKETS; ++i) {
+			final long count = other._counts.get(i);
+			if (count != 0) {
+				_counts.addAndGet(i, count);
+			}
+		}
+		_count.add(other._count.sum());
+		_sum.add(other._sum.sum());
+		_min.accumulate(other._min.get());
+		_max.accumulate(other._max.get());
+
+		return this;
+	}
+
+	/**
+	 * Return the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 */
+	public long count() {
+		return _count.sum();
+	}
+
+	/**
+	 * Return the sum of the recorded values.
+	 *
+	 * @return the sum of the recorded values
+	 */
+	public long sum() {
+		return _sum.sum();
+	}
+
+	/**
+	 * Return the minimal recorded value, or {@code Long.MAX_VALUE} if no value
+	 * has been recorded.
+	 *
+	 * @return the minimal recorded value
+	 */
+	public long min() {
+		return _min.get();
+	}
+
+	/**
+	 * Return the maximal recorded value, or {@code Long.MIN_VALUE} if no value
+	 * has been recorded.
+	 *
+	 * @return the maximal recorded value
+	 */
+	public long max() {
+		return _max.get();
+	}
+
+	/**
+	 * Return the arithmetic mean of the recorded values, or {@code Double.NaN}
+	 * if no value has been recorded.
+	 *
+	 * @return the arithmetic mean of the recorded values
+	 */
+	public double mean() {
+		final long count = count();
+		return count == 0 ? Double.NaN : (double)sum()/count;
+	}
+
+	/**
+	 * Return the estimated value of the given {@code quantile}. The relative
+	 * error of the returned value is less than one percent.
+	 *
+	 * @param quantile the requested quantile, e.g. {@code 0.99} for the
+	 *        99th percentile
+	 * @return the estimated value of the given {@code quantile}, or
+	 *         {@code Double.NaN} if no value has been recorded
+	 * @throws IllegalArgumentException if the given {@code quantile} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public double quantile(final double quantile) {
+		if (quantile < 0.0 || quantile > 1.0 || Double.isNaN(quantile)) {
+			throw new IllegalArgumentException(format(
+				"Quantile (%s) not in the valid range of [0, 1]", quantile
+			));
+		}
+
+		final long total = count();
+		if (total == 0) {
+			return Double.NaN;
+		}
+
+		final long rank = Math.max(1, (long)Math.ceil(quantile*total));
+		long count = 0;
+		for (int i = 0; i < BUCKETS; ++i) {
+			count += _counts.get(i);
+			if (count >= rank) {
+				return Math.min(Math.max(value(i), min()), max());
+			}
+		}
+
+		return max();
+	}
+
+	/**
+	 * Removes all recorded values. This method must not be called
+	 * concurrently with the recording methods.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; ++i) {
+			_counts.set(i, 0);
+		}
+		_count.reset();
+		_sum.reset();
+		_min.reset();
+		_max.reset();
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"LongHistogram[N=%d, min=%d, max=%d, mean=%f, p50=%f, p99=%f]",
+			count(), min(), max(), mean(), quantile(0.5), quantile(0.99)
+		);
+	}
+
+	// Return the bucket index of the given (non-negative) value.
+	static int index(final long value) {
+		if (value < SUB_BUCKETS) {
+			return (int)value;
+		}
+
+		final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - PRECISION;
+		final int offset = (int)(value >>> shift);
+		return SUB_BUCKETS + (shift - 1)*HALF + offset - HALF;
+	}
+
+	// Return the mid value of the bucket with the given index.
+	static double value(final int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+
+		final int shift = (index - SUB_BUCKETS)/HALF + 1;
+		final long offset = (index - SUB_BUCKETS)%HALF + HALF;
+		final long low = offset << shift;
+		return low + ((1L << shift) - 1)/2.0;
+	}
+
+}
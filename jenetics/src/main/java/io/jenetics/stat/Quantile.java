@@ -64,10 +64,11 @@ import java.util.stream.Collector;
  * large streams ({@code size >> 1000}).
  *
  * @see <a href="http://en.wikipedia.org/wiki/Quantile">Wikipedia: Quantile</a>
+ * @see QuantileSketch
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 6.1
  */
 public class Quantile implements DoubleConsumer {
 
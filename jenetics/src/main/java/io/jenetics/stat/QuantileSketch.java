@@ -0,0 +1,505 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.asin;
+import static java.lang.Math.sin;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable, bounded-memory sketch for estimating arbitrary quantiles of a
+ * stream of {@code double} values. In contrast to the {@link Quantile} class,
+ * which estimates a single quantile, one sketch answers every quantile query,
+ * e.g. the p50, p90 and p99 values, and two sketches can be combined. The
+ * accuracy of a combined sketch stays within the bound given by its
+ * compression, but it is not necessarily the same as the accuracy of a
+ * sketch which recorded all values itself.
+ * <p>
+ * The implementation follows the <em>merging t-digest</em>. The recorded
+ * values are clustered into weighted centroids. The size of the centroids is
+ * limited by a scale function, which allows only small centroids at both ends
+ * of the distribution. This makes the estimation of the extreme quantiles very
+ * accurate. The number of centroids, and therefore the used memory, is bounded
+ * by the {@link #compression()} parameter and independent of the number of
+ * recorded values.
+ * <p>
+ * This class is designed to work with (though does not require) streams. For
+ * example, you can compute the quantiles of a stream of doubles with:
+ * <pre>{@code
+ * final DoubleStream stream = ...
+ * final QuantileSketch sketch = stream.collect(
+ *         QuantileSketch::new,
+ *         QuantileSketch::accept,
+ *         QuantileSketch::combine
+ *     );
+ *
+ * final double[] percentiles = sketch.quantiles(0.5, 0.9, 0.99);
+ * }</pre>
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      T. Dunning and O. Ertl. 2019. Computing Extremely Accurate Quantiles
+ *      Using t-Digests. arXiv:1902.04023.</em>
+ *
+ * @see Quantile
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use on a
+ * parallel stream, because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()} provides the
+ * necessary partitioning, isolation, and merging of results for safe and
+ * efficient parallel execution.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class QuantileSketch implements DoubleConsumer {
+
+	/**
+	 * The default compression of the sketch. It results in at most about one
+	 * hundred centroids and a relative rank error of less than one percent
+	 * for the central quantiles.
+	 */
+	public static final double DEFAULT_COMPRESSION = 100;
+
+	private final double _compression;
+
+	// The (sorted) centroids. The number of centroids is bounded by
+	// 'compression + 2', which is guaranteed by the scale function.
+	private final double[] _means;
+	private final double[] _weights;
+	private int _centroids = 0;
+
+	// The not yet merged values, with unit weight.
+	private final double[] _buffer;
+	private int _buffered = 0;
+
+	// Working arrays for merging the buffered values into the centroids.
+	private final double[] _mergeMeans;
+	private final double[] _mergeWeights;
+
+	private long _count = 0;
+	private double _min = Double.POSITIVE_INFINITY;
+	private double _max = Double.NEGATIVE_INFINITY;
+
+	/**
+	 * Create a new, empty sketch with the given {@code compression}. Bigger
+	 * values lead to more accurate estimations, but also to a higher memory
+	 * usage.
+	 *
+	 * @param compression the compression of the sketch
+	 * @throws IllegalArgumentException if the given {@code compression} is
+	 *         smaller than ten or not finite
+	 */
+	public QuantileSketch(final double compression) {
+		_compression = checkCompression(compression);
+
+		final int capacity = 2*(int)Math.ceil(compression) + 10;
+		_means = new double[capacity];
+		_weights = new double[capacity];
+		_buffer = new double[4*capacity];
+		_mergeMeans = new double[capacity + _buffer.length];
+		_mergeWeights = new double[capacity + _buffer.length];
+	}
+
+	/**
+	 * Create a new, empty sketch with the {@link #DEFAULT_COMPRESSION}.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_COMPRESSION);
+	}
+
+	private static double checkCompression(final double compression) {
+		if (!(compression >= 10) || Double.isInfinite(compression)) {
+			throw new IllegalArgumentException(format(
+				"Compression must be a finite value >= 10, but was %s",
+				compression
+			));
+		}
+		return compression;
+	}
+
+	/**
+	 * Records a new value into the sketch. Only finite values can be
+	 * recorded, since infinite values can't be interpolated.
+	 *
+	 * @param value the input value
+	 * @throws IllegalArgumentException if the given {@code value} is
+	 *         {@code NaN} or infinite
+	 */
+	@Override
+	public void accept(final double value) {
+		if (!Double.isFinite(value)) {
+			throw new IllegalArgumentException(format(
+				"Can't record non-finite values: %s.", value
+			));
+		}
+
+		if (_buffered == _buffer.length) {
+			compress();
+		}
+		_buffer[_buffered++] = value;
+
+		++_count;
+		_min = Math.min(_min, value);
+		_max = Math.max(_max, value);
+	}
+
+	/**
+	 * Combine the values of the {@code other} sketch into {@code this} one.
+	 * The {@code other} sketch is not changed. The centroids of both sketches
+	 * are merged and compressed again, which keeps the accuracy of the
+	 * combined sketch within the bound given by its compression.
+	 *
+	 * @param other the other {@code QuantileSketch} to combine with
+	 *        {@code this} one
+	 * @return {@code this} sketch
+	 * @throws NullPointerException if the {@code other} sketch is {@code null}
+	 */
+	public QuantileSketch combine(final QuantileSketch other) {
+		requireNonNull(other);
+		if (other._count == 0) {
+			return this;
+		}
+
+		final double[] values = Arrays.copyOf(other._buffer, other._buffered);
+		Arrays.sort(values);
+		final double[] means = new double[other._centroids + values.length];
+		final double[] weights = new double[means.length];
+		final int length = merge(
+			other._means, other._weights, other._centroids,
+			values, null, values.length,
+			means, weights
+		);
+
+		compress();
+		merge(means, weights, length);
+
+		_count += other._count;
+		_min = Math.min(_min, other._min);
+		_max = Math.max(_max, other._max);
+
+		return this;
+	}
+
+	/**
+	 * Return the compression of this sketch.
+	 *
+	 * @return the compression of this sketch
+	 */
+	public double compression() {
+		return _compression;
+	}
+
+	/**
+	 * Return the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the minimum recorded value, or {@code Double.POSITIVE_INFINITY}
+	 * if no values have been recorded.
+	 *
+	 * @return the minimum value, or {@code Double.POSITIVE_INFINITY} if none
+	 */
+	public double min() {
+		return _min;
+	}
+
+	/**
+	 * Return the maximum recorded value, or {@code Double.NEGATIVE_INFINITY}
+	 * if no values have been recorded.
+	 *
+	 * @return the maximum value, or {@code Double.NEGATIVE_INFINITY} if none
+	 */
+	public double max() {
+		return _max;
+	}
+
+	/**
+	 * Return the estimated value of the given {@code quantile}.
+	 *
+	 * @param quantile the requested quantile, e.g. {@code 0.99} for the
+	 *        99th percentile
+	 * @return the estimated value of the given {@code quantile}, or
+	 *         {@code Double.NaN} if no value has been recorded
+	 * @throws IllegalArgumentException if the given {@code quantile} is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public double quantile(final double quantile) {
+		check(quantile);
+
+		if (_count == 0) {
+			return Double.NaN;
+		}
+		if (quantile == 0.0 || _min == _max) {
+			return _min;
+		}
+		if (quantile == 1.0) {
+			return _max;
+		}
+
+		compress();
+		return estimate(quantile*_count);
+	}
+
+	/**
+	 * Return the estimated values of the given {@code quantiles}.
+	 *
+	 * <pre>{@code
+	 * final double[] percentiles = sketch.quantiles(0.5, 0.9, 0.99);
+	 * }</pre>
+	 *
+	 * @param quantiles the requested quantiles
+	 * @return the estimated values of the given {@code quantiles}
+	 * @throws IllegalArgumentException if one of the given {@code quantiles}
+	 *         is not within the range {@code [0, 1]}
+	 */
+	public double[] quantiles(final double... quantiles) {
+		final double[] values = new double[quantiles.length];
+		for (int i = 0; i < quantiles.length; ++i) {
+			values[i] = quantile(quantiles[i]);
+		}
+		return values;
+	}
+
+	private static void check(final double quantile) {
+		if (!(quantile >= 0.0 && quantile <= 1.0)) {
+			throw new IllegalArgumentException(format(
+				"Quantile (%s) not in the valid range of [0, 1]", quantile
+			));
+		}
+	}
+
+	// Interpolates the value at the given (weighted) rank.
+	private double estimate(final double rank) {
+		final double[] means = _means;
+		final double[] weights = _weights;
+		final int n = _centroids;
+
+		// Left tail, between the minimum and the first centroid.
+		if (rank < weights[0]/2.0) {
+			return weights[0] > 1
+				? _min + rank/(weights[0]/2.0)*(means[0] - _min)
+				: _min;
+		}
+
+		double weight = weights[0]/2.0;
+		for (int i = 0; i < n - 1; ++i) {
+			final double dw = (weights[i] + weights[i + 1])/2.0;
+			if (weight + dw > rank) {
+				final double t = (rank - weight)/dw;
+				return means[i] + t*(means[i + 1] - means[i]);
+			}
+			weight += dw;
+		}
+
+		// Right tail, between the last centroid and the maximum.
+		final double last = weights[n - 1]/2.0;
+		if (last > 0.5) {
+			final double t = Math.min(1.0, (rank - weight)/last);
+			return means[n - 1] + t*(_max - means[n - 1]);
+		} else {
+			return _max;
+		}
+	}
+
+	// Return the current number of centroids.
+	int centroids() {
+		compress();
+		return _centroids;
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		_centroids = 0;
+		_buffered = 0;
+		_count = 0;
+		_min = Double.POSITIVE_INFINITY;
+		_max = Double.NEGATIVE_INFINITY;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"QuantileSketch[N=%d, min=%s, max=%s, p50=%s, p90=%s, p99=%s]",
+			count(), min(), max(),
+			quantile(0.5), quantile(0.9), quantile(0.99)
+		);
+	}
+
+	/* *************************************************************************
+	 * Centroid merging.
+	 * ************************************************************************/
+
+	// Merges the buffered values into the centroids.
+	private void compress() {
+		if (_buffered > 0) {
+			Arrays.sort(_buffer, 0, _buffered);
+			final int length = _buffered;
+			_buffered = 0;
+
+			merge(_buffer, null, length);
+		}
+	}
+
+	// Merges the given sorted, weighted values into the centroids. A
+	// 'null' weights array stands for unit weights.
+	private void merge(
+		final double[] values,
+		final double[] weights,
+		final int length
+	) {
+		final boolean fits = _centroids + length <= _mergeMeans.length;
+		final double[] means = fits
+			? _mergeMeans
+			: new double[_centroids + length];
+		final double[] counts = fits
+			? _mergeWeights
+			: new double[_centroids + length];
+		final int size = merge(
+			_means, _weights, _centroids,
+			values, weights, length,
+			means, counts
+		);
+
+		double total = 0;
+		for (int i = 0; i < size; ++i) {
+			total += counts[i];
+		}
+
+		// Greedy merging of the sorted centroids, limited by the scale
+		// function k(q) = compression/(2*PI)*asin(2*q - 1).
+		final double step = 2*PI/_compression;
+		double sofar = 0;
+		double limit = total*limit(0, step);
+
+		int n = 0;
+		_means[0] = means[0];
+		_weights[0] = counts[0];
+		for (int i = 1; i < size; ++i) {
+			if (sofar + _weights[n] + counts[i] <= limit) {
+				_weights[n] += counts[i];
+				_means[n] += counts[i]*(means[i] - _means[n])/_weights[n];
+			} else {
+				sofar += _weights[n];
+				limit = total*limit(sofar/total, step);
+
+				++n;
+				_means[n] = means[i];
+				_weights[n] = counts[i];
+			}
+		}
+		_centroids = n + 1;
+	}
+
+	// Return the quantile limit of the centroid, which starts at quantile q.
+	private static double limit(final double q, final double step) {
+		return (sin(Math.min(asin(2*q - 1) + step, PI/2)) + 1)/2;
+	}
+
+	// Merges two sorted lists of weighted values into the given target
+	// arrays. A 'null' weights array stands for unit weights.
+	private static int merge(
+		final double[] m1, final double[] w1, final int n1,
+		final double[] m2, final double[] w2, final int n2,
+		final double[] means, final double[] weights
+	) {
+		int i = 0, j = 0, k = 0;
+		while (i < n1 || j < n2) {
+			if (j == n2 || (i < n1 && m1[i] <= m2[j])) {
+				means[k] = m1[i];
+				weights[k] = w1 != null ? w1[i] : 1.0;
+				++i;
+			} else {
+				means[k] = m2[j];
+				weights[k] = w2 != null ? w2[j] : 1.0;
+				++j;
+			}
+			++k;
+		}
+		return k;
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns a quantile sketch of the
+	 * resulting values.
+	 *
+	 * <pre>{@code
+	 * final Stream<SomeObject> stream = ...
+	 * final QuantileSketch sketch = stream
+	 *     .collect(toQuantileSketch(v -> v.doubleValue()));
+	 * }</pre>
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch>
+	toQuantileSketch(final ToDoubleFunction<? super T> mapper) {
+		return toQuantileSketch(DEFAULT_COMPRESSION, mapper);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns a quantile sketch, with the
+	 * given {@code compression}, of the resulting values.
+	 *
+	 * @param compression the compression of the created sketch
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the given {@code compression} is
+	 *         smaller than ten or not finite
+	 */
+	public static <T> Collector<T, ?, QuantileSketch> toQuantileSketch(
+		final double compression,
+		final ToDoubleFunction<? super T> mapper
+	) {
+		requireNonNull(mapper);
+		checkCompression(compression);
+
+		return Collector.of(
+			() -> new QuantileSketch(compression),
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine
+		);
+	}
+
+}
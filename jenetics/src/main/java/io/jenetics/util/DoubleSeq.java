@@ -0,0 +1,349 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.SerialIO.readDoubleArray;
+import static io.jenetics.internal.util.SerialIO.writeDoubleArray;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+
+import io.jenetics.internal.collection.Array;
+
+/**
+ * Immutable, ordered, fixed sized sequence of primitive {@code double} values.
+ * In contrast to {@code ISeq<Double>}, the values are stored in a primitive
+ * {@code double[]} array, which avoids the boxing of the elements.
+ *
+ * <pre>{@code
+ * final DoubleSeq values = DoubleSeq.of(1.0, 2.0, 3.0);
+ * final DoubleSeq squares = values.map(v -> v*v);
+ * final int[] order = squares.sortedIndexes();
+ * }</pre>
+ *
+ * @implNote
+ * This class is immutable and thread-safe. Sub-sequences and copies, created
+ * with {@link #copy()}, share the underlying array. The array is copied only
+ * if a copy is modified (<em>copy-on-write</em>).
+ *
+ * @see DoubleMSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class DoubleSeq implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final DoubleSeq EMPTY = new DoubleSeq(new double[0], 0, 0);
+
+	final double[] _array;
+	final int _start;
+	final int _length;
+
+	DoubleSeq(final double[] array, final int start, final int length) {
+		_array = array;
+		_start = start;
+		_length = length;
+	}
+
+	/**
+	 * Return the value at the given {@code index}.
+	 *
+	 * @param index index of the value to return
+	 * @return the value at the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}
+	 */
+	public double get(final int index) {
+		if (index < 0 || index >= _length) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d is out of bounds [0, %d)", index, _length
+			));
+		}
+		return _array[_start + index];
+	}
+
+	/**
+	 * Return the length of this sequence.
+	 *
+	 * @return the length of this sequence
+	 */
+	public int length() {
+		return _length;
+	}
+
+	/**
+	 * Return {@code true} if this sequence contains no values.
+	 *
+	 * @return {@code true} if this sequence contains no values
+	 */
+	public boolean isEmpty() {
+		return _length == 0;
+	}
+
+	/**
+	 * Return a sequential stream of the values of this sequence.
+	 *
+	 * @return a stream of the values of this sequence
+	 */
+	public DoubleStream stream() {
+		return Arrays.stream(_array, _start, _start + _length);
+	}
+
+	/**
+	 * Return the values of this sequence as new {@code double[]} array.
+	 *
+	 * @return a new array with the values of this sequence
+	 */
+	public double[] toArray() {
+		return Arrays.copyOfRange(_array, _start, _start + _length);
+	}
+
+	/**
+	 * Copies the values of this sequence into the given {@code array}. If the
+	 * given array is too small, a new array is created.
+	 *
+	 * @param array the array into which the values are written
+	 * @return the given {@code array}, if it is big enough, or a new array
+	 * @throws NullPointerException if the given {@code array} is {@code null}
+	 */
+	public double[] toArray(final double[] array) {
+		final double[] a = array.length >= _length ? array : new double[_length];
+		System.arraycopy(_array, _start, a, 0, _length);
+		return a;
+	}
+
+	/**
+	 * Return a view of this sequence, starting with the given {@code from}
+	 * index. No values are copied.
+	 *
+	 * @param from the start index, inclusively
+	 * @return a sub-sequence view of this sequence
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 */
+	public DoubleSeq subSeq(final int from) {
+		return subSeq(from, _length);
+	}
+
+	/**
+	 * Return a view of this sequence between the given {@code from},
+	 * inclusively, and {@code until} exclusively. No values are copied.
+	 *
+	 * @param from the start index, inclusively
+	 * @param until the end index, exclusively
+	 * @return a sub-sequence view of this sequence
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 * @throws IllegalArgumentException if {@code from > until}
+	 */
+	public DoubleSeq subSeq(final int from, final int until) {
+		Array.checkIndex(from, until, _length);
+		return new DoubleSeq(_array, _start + from, until - from);
+	}
+
+	/**
+	 * Return a new sequence with the values mapped by the given
+	 * {@code mapper}.
+	 *
+	 * @param mapper the value mapper
+	 * @return a new, mapped sequence
+	 * @throws NullPointerException if the {@code mapper} is {@code null}
+	 */
+	public DoubleSeq map(final DoubleUnaryOperator mapper) {
+		requireNonNull(mapper);
+
+		final double[] array = new double[_length];
+		for (int i = 0; i < _length; ++i) {
+			array[i] = mapper.applyAsDouble(_array[_start + i]);
+		}
+		return new DoubleSeq(array, 0, _length);
+	}
+
+	/**
+	 * Return a new sequence with the values of this sequence sorted in
+	 * ascending order.
+	 *
+	 * @return a new sorted sequence
+	 */
+	public DoubleSeq sorted() {
+		final double[] array = toArray();
+		Arrays.sort(array);
+		return new DoubleSeq(array, 0, array.length);
+	}
+
+	/**
+	 * Return the indexes of the values in ascending order. This sequence is
+	 * not changed.
+	 *
+	 * @see ProxySorter#sort(double[])
+	 *
+	 * @return the indexes of the values in ascending order
+	 */
+	public int[] sortedIndexes() {
+		return _start == 0 && _length == _array.length
+			? ProxySorter.sort(_array)
+			: ProxySorter.sort(toArray());
+	}
+
+	/**
+	 * Return a mutable copy of this sequence. The values are copied lazily,
+	 * when the returned sequence is modified the first time.
+	 *
+	 * @return a mutable copy of this sequence
+	 */
+	public DoubleMSeq copy() {
+		return _start == 0 && _length == _array.length
+			? new DoubleMSeq(_array, true)
+			: new DoubleMSeq(toArray(), false);
+	}
+
+	/**
+	 * Return the values of this sequence as boxed object sequence.
+	 *
+	 * @return the boxed values of this sequence
+	 */
+	public ISeq<Double> boxed() {
+		final MSeq<Double> seq = MSeq.ofLength(_length);
+		for (int i = 0; i < _length; ++i) {
+			seq.set(i, _array[_start + i]);
+		}
+		return seq.toISeq();
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = _start, n = _start + _length; i < n; ++i) {
+			hash = 31*hash + Double.hashCode(_array[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof DoubleSeq)) {
+			return false;
+		}
+
+		final DoubleSeq other = (DoubleSeq)obj;
+		return Arrays.equals(
+			_array, _start, _start + _length,
+			other._array, other._start, other._start + other._length
+		);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+
+	/**
+	 * Return the empty sequence.
+	 *
+	 * @return the empty sequence
+	 */
+	public static DoubleSeq empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new sequence from the given values. The given array is copied.
+	 *
+	 * @param values the sequence values
+	 * @return a new sequence with the given values
+	 * @throws NullPointerException if the {@code values} array is {@code null}
+	 */
+	public static DoubleSeq of(final double... values) {
+		return values.length == 0
+			? EMPTY
+			: new DoubleSeq(values.clone(), 0, values.length);
+	}
+
+	/**
+	 * Create a new sequence with the given {@code length}, which is filled by
+	 * the given {@code supplier}.
+	 *
+	 * @param supplier the value supplier
+	 * @param length the length of the created sequence
+	 * @return a new sequence with the given values
+	 * @throws NullPointerException if the {@code supplier} is {@code null}
+	 * @throws NegativeArraySizeException if the {@code length} is negative
+	 */
+	public static DoubleSeq of(final DoubleSupplier supplier, final int length) {
+		requireNonNull(supplier);
+
+		final double[] array = new double[length];
+		for (int i = 0; i < length; ++i) {
+			array[i] = supplier.getAsDouble();
+		}
+		return new DoubleSeq(array, 0, length);
+	}
+
+	/**
+	 * Create a new sequence from the values of the given {@code stream}.
+	 *
+	 * @param stream the value stream
+	 * @return a new sequence with the given values
+	 * @throws NullPointerException if the {@code stream} is {@code null}
+	 */
+	public static DoubleSeq of(final DoubleStream stream) {
+		final double[] array = stream.toArray();
+		return new DoubleSeq(array, 0, array.length);
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	private Object writeReplace() {
+		return new Serial(Serial.DOUBLE_SEQ, this);
+	}
+
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	void write(final DataOutput out) throws IOException {
+		writeDoubleArray(toArray(), out);
+	}
+
+	static DoubleSeq read(final DataInput in) throws IOException {
+		final double[] array = readDoubleArray(in);
+		return new DoubleSeq(array, 0, array.length);
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+import io.jenetics.internal.collection.Array;
+
+/**
+ * Mutable, ordered, fixed sized sequence of primitive {@code int} values.
+ * The immutable counterpart is created with {@link #toIntSeq()}.
+ *
+ * <pre>{@code
+ * final IntMSeq values = IntMSeq.ofLength(100);
+ * values.fill(random::nextInt);
+ * values.sort();
+ * final IntSeq result = values.toIntSeq();
+ * }</pre>
+ *
+ * @implNote
+ * This class is not thread-safe. The {@link #toIntSeq()} method doesn't copy
+ * the underlying array. It is <em>sealed</em> instead and copied only if
+ * this sequence is modified afterwards (<em>copy-on-write</em>).
+ *
+ * @see IntSeq
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class IntMSeq {
+
+	private int[] _array;
+	private boolean _sealed;
+
+	IntMSeq(final int[] array, final boolean sealed) {
+		_array = array;
+		_sealed = sealed;
+	}
+
+	private void copyIfSealed() {
+		if (_sealed) {
+			_array = _array.clone();
+			_sealed = false;
+		}
+	}
+
+	/**
+	 * Return the value at the given {@code index}.
+	 *
+	 * @param index index of the value to return
+	 * @return the value at the given {@code index}
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}
+	 */
+	public int get(final int index) {
+		return _array[index];
+	}
+
+	/**
+	 * Set the {@code value} at the given {@code index}.
+	 *
+	 * @param index the index of the new value
+	 * @param value the new value
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 *         {@code (index < 0 || index >= length())}
+	 */
+	public void set(final int index, final int value) {
+		if (index < 0 || index >= _array.length) {
+			throw new IndexOutOfBoundsException(format(
+				"Index %d is out of bounds [0, %d)", index, _array.length
+			));
+		}
+		copyIfSealed();
+		_array[index] = value;
+	}
+
+	/**
+	 * Swap the values at the two positions.
+	 *
+	 * @param i the index of the first value
+	 * @param j the index of the second value
+	 * @throws IndexOutOfBoundsException if {@code i} or {@code j} is out of
+	 *         range
+	 */
+	public void swap(final int i, final int j) {
+		final int temp = _array[i];
+		set(i, _array[j]);
+		_array[j] = temp;
+	}
+
+	/**
+	 * Return the length of this sequence.
+	 *
+	 * @return the length of this sequence
+	 */
+	public int length() {
+		return _array.length;
+	}
+
+	/**
+	 * Fill the sequence with values generated by the given {@code supplier}.
+	 *
+	 * @param supplier the value supplier
+	 * @return {@code this} sequence
+	 * @throws NullPointerException if the {@code supplier} is {@code null}
+	 */
+	public IntMSeq fill(final IntSupplier supplier) {
+		requireNonNull(supplier);
+
+		copyIfSealed();
+		for (int i = 0; i < _array.length; ++i) {
+			_array[i] = supplier.getAsInt();
+		}
+		return this;
+	}
+
+	/**
+	 * Replaces every value of this sequence by the result of applying the
+	 * given {@code operator}.
+	 *
+	 * @param operator the value operator
+	 * @return {@code this} sequence
+	 * @throws NullPointerException if the {@code operator} is {@code null}
+	 */
+	public IntMSeq apply(final IntUnaryOperator operator) {
+		requireNonNull(operator);
+
+		copyIfSealed();
+		for (int i = 0; i < _array.length; ++i) {
+			_array[i] = operator.applyAsInt(_array[i]);
+		}
+		return this;
+	}
+
+	/**
+	 * Sort the values of this sequence in ascending order.
+	 *
+	 * @return {@code this} sequence
+	 */
+	public IntMSeq sort() {
+		return sort(0, _array.length);
+	}
+
+	/**
+	 * Sort the values of this sequence, between {@code from}, inclusively,
+	 * and {@code until}, exclusively, in ascending order.
+	 *
+	 * @param from the start index, inclusively
+	 * @param until the end index, exclusively
+	 * @return {@code this} sequence
+	 * @throws IndexOutOfBoundsException for an illegal end point index value
+	 * @throws IllegalArgumentException if {@code from > until}
+	 */
+	public IntMSeq sort(final int from, final int until) {
+		Array.checkIndex(from, until, _array.length);
+
+		copyIfSealed();
+		Arrays.sort(_array, from, until);
+		return this;
+	}
+
+	/**
+	 * Return a sequential stream of the values of this sequence.
+	 *
+	 * @return a stream of the values of this sequence
+	 */
+	public IntStream stream() {
+		return Arrays.stream(_array);
+	}
+
+	/**
+	 * Return the values of this sequence as new {@code int[]} array.
+	 *
+	 * @return a new array with the values of this sequence
+	 */
+	public int[] toArray() {
+		return _array.clone();
+	}
+
+	/**
+	 * Return a copy of this sequence. The values are copied lazily, when one
+	 * of the two sequences is modified the first time.
+	 *
+	 * @return a copy of this sequence
+	 */
+	public IntMSeq copy() {
+		_sealed = true;
+		return new IntMSeq(_array, true);
+	}
+
+	/**
+	 * Return an immutable sequence with the values of this sequence. The
+	 * values are not copied, unless this sequence is modified afterwards.
+	 *
+	 * @return an immutable sequence with the values of this sequence
+	 */
+	public IntSeq toIntSeq() {
+		_sealed = true;
+		return new IntSeq(_array, 0, _array.length);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(_array);
+	}
+
+	/**
+	 * Create a new sequence with the given {@code length}, initialized with
+	 * zero values.
+	 *
+	 * @param length the length of the created sequence
+	 * @return a new sequence with the given {@code length}
+	 * @throws NegativeArraySizeException if the {@code length} is negative
+	 */
+	public static IntMSeq ofLength(final int length) {
+		return new IntMSeq(new int[length], false);
+	}
+
+	/**
+	 * Create a new sequence from the given values. The given array is copied.
+	 *
+	 * @param values the sequence values
+	 * @return a new sequence with the given values
+	 * @throws NullPointerException if the {@code values} array is {@code null}
+	 */
+	public static IntMSeq of(final int... values) {
+		return new IntMSeq(values.clone(), false);
+	}
+
+}
@@ -0,0 +1,323 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.security.AccessController.doPrivileged;
+
+import java.security.PrivilegedAction;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Parallel (stable) merge sort implementation of the proxy sorter. The
+ * sub-ranges, smaller than the threshold, are sorted sequentially and merged
+ * in the {@link java.util.concurrent.ForkJoinPool} of the calling thread, or
+ * the common pool, if called outside of a fork-join pool. The sorter contains
+ * a special implementation for {@code double[]} arrays, which sorts the keys
+ * together with the indexes and compares them without comparator dispatch.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+final class ParallelProxySorter {
+
+	/**
+	 * The array length, where the sorting is done in parallel. The default
+	 * value can be changed with the {@code io.jenetics.util.ProxySorter.parallelThreshold}
+	 * system property.
+	 */
+	static final int THRESHOLD = max(
+		doPrivileged(
+			(PrivilegedAction<Integer>)() -> Integer.getInteger(
+				"io.jenetics.util.ProxySorter.parallelThreshold",
+				1 << 13
+			)),
+		64
+	);
+
+	private static final int RUN = 32;
+
+	private ParallelProxySorter() {
+	}
+
+
+	/* *************************************************************************
+	 * Generic proxy sort.
+	 * ************************************************************************/
+
+	static <T> int[] sort(
+		final T array,
+		final int length,
+		final ProxySorter.Comparator<? super T> comparator,
+		final int threshold
+	) {
+		if (length < threshold) {
+			return TimProxySorter.sort(array, length, comparator);
+		}
+
+		final int[] proxy = ProxySorter.indexes(length);
+		new Sorter<>(
+			array, proxy, new int[length],
+			0, length,
+			comparator, threshold
+		).invoke();
+
+		return proxy;
+	}
+
+	private static final class Sorter<T> extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final T _array;
+		private final int[] _proxy;
+		private final int[] _buffer;
+		private final int _from;
+		private final int _until;
+		private final ProxySorter.Comparator<? super T> _comparator;
+		private final int _threshold;
+
+		Sorter(
+			final T array,
+			final int[] proxy,
+			final int[] buffer,
+			final int from,
+			final int until,
+			final ProxySorter.Comparator<? super T> comparator,
+			final int threshold
+		) {
+			_array = array;
+			_proxy = proxy;
+			_buffer = buffer;
+			_from = from;
+			_until = until;
+			_comparator = comparator;
+			_threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (_until - _from <= _threshold) {
+				TimProxySorter.sort(_array, _proxy, _from, _until, _comparator);
+			} else {
+				final int mid = (_from + _until) >>> 1;
+				invokeAll(
+					new Sorter<>(
+						_array, _proxy, _buffer,
+						_from, mid,
+						_comparator, _threshold
+					),
+					new Sorter<>(
+						_array, _proxy, _buffer,
+						mid, _until,
+						_comparator, _threshold
+					)
+				);
+				merge(mid);
+			}
+		}
+
+		private void merge(final int mid) {
+			if (_comparator.compare(_array, _proxy[mid - 1], _proxy[mid]) <= 0) {
+				return;
+			}
+
+			System.arraycopy(_proxy, _from, _buffer, _from, mid - _from);
+
+			int i = _from;
+			int j = mid;
+			int k = _from;
+			while (i < mid && j < _until) {
+				_proxy[k++] = _comparator.compare(_array, _buffer[i], _proxy[j]) <= 0
+					? _buffer[i++]
+					: _proxy[j++];
+			}
+			while (i < mid) {
+				_proxy[k++] = _buffer[i++];
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Sorting of double keys.
+	 * ************************************************************************/
+
+	static int[] sort(final double[] array, final int threshold) {
+		final int length = array.length;
+		final int[] proxy = ProxySorter.indexes(length);
+		if (length < 2) {
+			return proxy;
+		}
+
+		final double[] keys = array.clone();
+		final double[] keyBuffer = new double[length];
+		final int[] proxyBuffer = new int[length];
+
+		if (length < threshold) {
+			sort(keys, proxy, keyBuffer, proxyBuffer, 0, length);
+		} else {
+			new DoubleSorter(
+				keys, proxy,
+				keyBuffer, proxyBuffer,
+				0, length,
+				threshold
+			).invoke();
+		}
+
+		return proxy;
+	}
+
+	private static final class DoubleSorter extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final double[] _keys;
+		private final int[] _proxy;
+		private final double[] _keyBuffer;
+		private final int[] _proxyBuffer;
+		private final int _from;
+		private final int _until;
+		private final int _threshold;
+
+		DoubleSorter(
+			final double[] keys,
+			final int[] proxy,
+			final double[] keyBuffer,
+			final int[] proxyBuffer,
+			final int from,
+			final int until,
+			final int threshold
+		) {
+			_keys = keys;
+			_proxy = proxy;
+			_keyBuffer = keyBuffer;
+			_proxyBuffer = proxyBuffer;
+			_from = from;
+			_until = until;
+			_threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (_until - _from <= _threshold) {
+				sort(_keys, _proxy, _keyBuffer, _proxyBuffer, _from, _until);
+			} else {
+				final int mid = (_from + _until) >>> 1;
+				invokeAll(
+					new DoubleSorter(
+						_keys, _proxy, _keyBuffer, _proxyBuffer,
+						_from, mid,
+						_threshold
+					),
+					new DoubleSorter(
+						_keys, _proxy, _keyBuffer, _proxyBuffer,
+						mid, _until,
+						_threshold
+					)
+				);
+				merge(_keys, _proxy, _keyBuffer, _proxyBuffer, _from, mid, _until);
+			}
+		}
+	}
+
+	// Sequential, stable merge sort of the given key range.
+	static void sort(
+		final double[] keys,
+		final int[] proxy,
+		final double[] keyBuffer,
+		final int[] proxyBuffer,
+		final int from,
+		final int until
+	) {
+		for (int i = from; i < until; i += RUN) {
+			insertionSort(keys, proxy, i, min(i + RUN, until));
+		}
+
+		for (int size = RUN; size < until - from; size = 2*size) {
+			for (int left = from; left < until - size; left += 2*size) {
+				merge(
+					keys, proxy,
+					keyBuffer, proxyBuffer,
+					left,
+					left + size,
+					min(left + 2*size, until)
+				);
+			}
+		}
+	}
+
+	private static void insertionSort(
+		final double[] keys,
+		final int[] proxy,
+		final int from,
+		final int until
+	) {
+		for (int i = from + 1; i < until; ++i) {
+			final double key = keys[i];
+			final int index = proxy[i];
+
+			int j = i - 1;
+			while (j >= from && Double.compare(keys[j], key) > 0) {
+				keys[j + 1] = keys[j];
+				proxy[j + 1] = proxy[j];
+				--j;
+			}
+			keys[j + 1] = key;
+			proxy[j + 1] = index;
+		}
+	}
+
+	// Merges the sorted ranges [from, mid) and [mid, until).
+	private static void merge(
+		final double[] keys,
+		final int[] proxy,
+		final double[] keyBuffer,
+		final int[] proxyBuffer,
+		final int from,
+		final int mid,
+		final int until
+	) {
+		if (Double.compare(keys[mid - 1], keys[mid]) <= 0) {
+			return;
+		}
+
+		System.arraycopy(keys, from, keyBuffer, from, mid - from);
+		System.arraycopy(proxy, from, proxyBuffer, from, mid - from);
+
+		int i = from;
+		int j = mid;
+		int k = from;
+		while (i < mid && j < until) {
+			if (Double.compare(keyBuffer[i], keys[j]) <= 0) {
+				keys[k] = keyBuffer[i];
+				proxy[k++] = proxyBuffer[i++];
+			} else {
+				keys[k] = keys[j];
+				proxy[k++] = proxy[j++];
+			}
+		}
+		while (i < mid) {
+			keys[k] = keyBuffer[i];
+			proxy[k++] = proxyBuffer[i++];
+		}
+	}
+
+}
@@ -58,7 +58,7 @@ import java.util.List;
  * @see Comparator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 6.1
  * @since 5.1
  */
 public final class ProxySorter {
@@ -199,11 +199,7 @@ public final class ProxySorter {
 	 * @throws NullPointerException if the array is {@code null}
 	 */
 	public static int[] sort(final double[] array) {
-		return sort(array, array.length, ProxySorter::compare);
-	}
-
-	private static int compare(final double[] a, final int i, final int j) {
-		return Double.compare(a[i], a[j]);
+		return ParallelProxySorter.sort(array, Integer.MAX_VALUE);
 	}
 
 	/**
@@ -322,6 +318,87 @@ public final class ProxySorter {
 		);
 	}
 
+	/* *************************************************************************
+	 * Parallel sorting methods.
+	 * ************************************************************************/
+
+	/**
+	 * Sorting the given array by creating an index lookup array. If the
+	 * {@code length} of the array exceeds the parallel threshold, the array is
+	 * sorted in parallel, using the {@link java.util.concurrent.ForkJoinPool}
+	 * of the calling thread or the common pool. Smaller arrays are sorted with
+	 * {@link #sort(Object, int, Comparator)}. The parallel threshold can be
+	 * changed with the {@code io.jenetics.util.ProxySorter.parallelThreshold}
+	 * system property and has a default value of 8,192.
+	 *
+	 * @apiNote
+	 * The given {@code comparator} might be called concurrently from different
+	 * threads and must therefore be thread-safe.
+	 *
+	 * @see #sort(Object, int, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param array the array which is sorted
+	 * @param length the array length
+	 * @param comparator the array element comparator
+	 * @param <T> the array type
+	 * @return the sorted index array
+	 * @throws NullPointerException if one of the array is {@code null}
+	 */
+	public static <T> int[] parallelSort(
+		final T array,
+		final int length,
+		final Comparator<? super T> comparator
+	) {
+		return ParallelProxySorter.sort(
+			array,
+			length,
+			comparator,
+			ParallelProxySorter.THRESHOLD
+		);
+	}
+
+	/**
+	 * Sorting the given array by creating an index lookup array. The array
+	 * is sorted in parallel if its length exceeds the parallel threshold.
+	 *
+	 * @see #parallelSort(Object, int, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param array the array to sort
+	 * @return the <em>sorted</em> index lookup array
+	 * @throws NullPointerException if the array is {@code null}
+	 */
+	public static int[] parallelSort(final double[] array) {
+		return ParallelProxySorter.sort(array, ParallelProxySorter.THRESHOLD);
+	}
+
+	/**
+	 * Sorting the given array by creating an index lookup array. The array
+	 * is sorted in parallel if its length exceeds the parallel threshold.
+	 *
+	 * @see #parallelSort(Object, int, Comparator)
+	 *
+	 * @since 6.1
+	 *
+	 * @param <T> the array element type
+	 * @param array the array to sort
+	 * @param comparator the array element comparator
+	 * @return the <em>sorted</em> index lookup array
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> int[] parallelSort(
+		final BaseSeq<? extends T> array,
+		final java.util.Comparator<? super T> comparator
+	) {
+		return parallelSort(
+			array, array.length(),
+			(a, i, j) -> comparator.compare(a.get(i), a.get(j))
+		);
+	}
+
 	/* *************************************************************************
 	 * Some helper methods.
 	 * ************************************************************************/
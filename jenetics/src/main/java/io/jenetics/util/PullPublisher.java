@@ -0,0 +1,342 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reactive {@link Flow.Publisher}, which pulls the published elements from a
+ * Java {@link Stream}, only if they are requested by the subscriber. In
+ * contrast to the {@link StreamPublisher}, no elements are buffered. An
+ * evolution stream, published by this class, is only evolved when the
+ * subscriber requests the next result, and at most one result is held in
+ * memory for every subscriber.
+ * <p>
+ * The publisher is <em>cold</em>: every subscriber gets its own stream,
+ * created by the given stream supplier. For big populations, it is
+ * recommended to publish a light-weight projection of the evolution result
+ * instead of the whole result. The projection is applied directly after the
+ * evolution step, which allows to release the population before the element
+ * is delivered.
+ *
+ * <pre>{@code
+ * final EvolutionStatistics<Double, ?> statistics =
+ *     EvolutionStatistics.ofNumber();
+ *
+ * final PullPublisher<Phenotype<DoubleGene, Double>> publisher =
+ *     PullPublisher.of(
+ *         () -> engine.stream()
+ *             .limit(Limits.bySteadyFitness(20))
+ *             .peek(statistics),
+ *         EvolutionResult::bestPhenotype
+ *     );
+ *
+ * publisher.subscribe(new Subscriber<>() {
+ *     private Subscription subscription;
+ *     \@Override
+ *     public void onSubscribe(final Subscription subscription) {
+ *         this.subscription = subscription;
+ *         this.subscription.request(1);
+ *     }
+ *     \@Override
+ *     public void onNext(final Phenotype<DoubleGene, Double> best) {
+ *         System.out.println("Best phenotype: " + best);
+ *         // The next generation is evolved after this request.
+ *         subscription.request(1);
+ *     }
+ *     \@Override
+ *     public void onError(final Throwable throwable) {
+ *     }
+ *     \@Override
+ *     public void onComplete() {
+ *         System.out.println(statistics);
+ *     }
+ * });
+ * }</pre>
+ *
+ * @see StreamPublisher
+ *
+ * @param <T> the element type of the publisher
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 6.1
+ * @since 6.1
+ */
+public final class PullPublisher<T> implements Flow.Publisher<T> {
+
+	private final Supplier<? extends Stream<? extends T>> _streams;
+	private final Executor _executor;
+
+	private PullPublisher(
+		final Supplier<? extends Stream<? extends T>> streams,
+		final Executor executor
+	) {
+		_streams = requireNonNull(streams);
+		_executor = requireNonNull(executor);
+	}
+
+	/**
+	 * Adds the given subscriber and creates a new stream for it. The stream
+	 * is created and consumed by the executor of this publisher, after the
+	 * first elements have been requested.
+	 *
+	 * @param subscriber the subscriber
+	 * @throws NullPointerException if the given {@code subscriber} is
+	 *         {@code null}
+	 */
+	@Override
+	public void subscribe(final Subscriber<? super T> subscriber) {
+		final var subscription = new PullSubscription<T>(
+			requireNonNull(subscriber),
+			_streams,
+			_executor
+		);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new publisher, which pulls its elements from the streams created
+	 * by the given {@code streams} supplier. The streams are consumed by the
+	 * {@link ForkJoinPool#commonPool()}. Use
+	 * {@link #of(Supplier, Function, Executor)}, with the identity function
+	 * as projection, for consuming the streams with a different executor.
+	 *
+	 * @param streams the supplier of the published streams, called once for
+	 *        every subscriber
+	 * @param <T> the element type of the publisher
+	 * @return a new publisher
+	 * @throws NullPointerException if the given {@code streams} supplier is
+	 *         {@code null}
+	 */
+	public static <T> PullPublisher<T>
+	of(final Supplier<? extends Stream<? extends T>> streams) {
+		return new PullPublisher<>(streams, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Create a new publisher, which publishes the given {@code projection} of
+	 * the elements pulled from the streams created by the given
+	 * {@code streams} supplier. The projection is applied directly after the
+	 * element has been pulled from the stream.
+	 *
+	 * <pre>{@code
+	 * final PullPublisher<Phenotype<DoubleGene, Double>> publisher =
+	 *     PullPublisher.of(engine::stream, EvolutionResult::bestPhenotype);
+	 * }</pre>
+	 *
+	 * @param streams the supplier of the published streams, called once for
+	 *        every subscriber
+	 * @param projection the projection of the stream elements
+	 * @param executor the executor used for pulling and delivering the
+	 *        elements
+	 * @param <R> the element type of the streams
+	 * @param <T> the element type of the publisher
+	 * @return a new publisher
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <R, T> PullPublisher<T> of(
+		final Supplier<? extends Stream<? extends R>> streams,
+		final Function<? super R, ? extends T> projection,
+		final Executor executor
+	) {
+		requireNonNull(streams);
+		requireNonNull(projection);
+
+		return new PullPublisher<>(() -> streams.get().map(projection), executor);
+	}
+
+	/**
+	 * Create a new publisher, which publishes the given {@code projection} of
+	 * the elements pulled from the streams created by the given
+	 * {@code streams} supplier. The streams are consumed by the
+	 * {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param streams the supplier of the published streams, called once for
+	 *        every subscriber
+	 * @param projection the projection of the stream elements
+	 * @param <R> the element type of the streams
+	 * @param <T> the element type of the publisher
+	 * @return a new publisher
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <R, T> PullPublisher<T> of(
+		final Supplier<? extends Stream<? extends R>> streams,
+		final Function<? super R, ? extends T> projection
+	) {
+		return of(streams, projection, ForkJoinPool.commonPool());
+	}
+
+	/* *************************************************************************
+	 * Subscription implementation.
+	 * ************************************************************************/
+
+	/**
+	 * The subscription keeps track of the outstanding demand. The stream is
+	 * only consumed by one <em>drain</em> task at a time. A new drain task is
+	 * scheduled if the demand changes from zero to a positive value, and the
+	 * running task stops after it has reduced the demand to zero again.
+	 */
+	private static final class PullSubscription<T> implements Subscription {
+		private final Subscriber<? super T> _subscriber;
+		private final Supplier<? extends Stream<? extends T>> _streams;
+		private final Executor _executor;
+
+		private final AtomicLong _demand = new AtomicLong();
+		private volatile boolean _cancelled = false;
+		private volatile Throwable _error = null;
+
+		// Only accessed by the drain task.
+		private Stream<? extends T> _stream;
+		private Iterator<? extends T> _iterator;
+		private boolean _done = false;
+
+		PullSubscription(
+			final Subscriber<? super T> subscriber,
+			final Supplier<? extends Stream<? extends T>> streams,
+			final Executor executor
+		) {
+			_subscriber = subscriber;
+			_streams = streams;
+			_executor = executor;
+		}
+
+		@Override
+		public void request(final long n) {
+			if (n <= 0) {
+				_error = new IllegalArgumentException(
+					"Requested element count must be positive: " + n
+				);
+				_cancelled = true;
+			}
+
+			final long previous = _demand.getAndUpdate(d -> {
+				final long sum = d + Math.max(n, 1);
+				return sum < 0 ? Long.MAX_VALUE : sum;
+			});
+			if (previous == 0) {
+				execute();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			_cancelled = true;
+
+			// Let the drain task release the stream.
+			if (_demand.getAndIncrement() == 0) {
+				execute();
+			}
+		}
+
+		private void execute() {
+			try {
+				_executor.execute(this::drain);
+			} catch (Throwable e) {
+				_cancelled = true;
+				_subscriber.onError(e);
+			}
+		}
+
+		private void drain() {
+			long demand = _demand.get();
+			do {
+				long emitted = 0;
+				while (!_done && emitted < demand) {
+					if (_cancelled) {
+						terminate(_error);
+					} else {
+						pull();
+						++emitted;
+					}
+				}
+				if (_done) {
+					return;
+				}
+
+				demand = demand == Long.MAX_VALUE
+					? Long.MAX_VALUE
+					: _demand.addAndGet(-emitted);
+			} while (demand > 0);
+		}
+
+		private void pull() {
+			final T element;
+			try {
+				if (_iterator == null) {
+					_stream = _streams.get();
+					_iterator = _stream.iterator();
+				}
+				if (!_iterator.hasNext()) {
+					close();
+					_subscriber.onComplete();
+					return;
+				}
+				element = _iterator.next();
+			} catch (Throwable e) {
+				if (!_done) {
+					close();
+					_subscriber.onError(e);
+				}
+				return;
+			}
+
+			try {
+				_subscriber.onNext(element);
+			} catch (Throwable e) {
+				// A failing subscriber cancels its subscription.
+				_cancelled = true;
+				close();
+			}
+		}
+
+		private void terminate(final Throwable error) {
+			close();
+			if (error != null) {
+				_subscriber.onError(error);
+			}
+		}
+
+		private void close() {
+			_done = true;
+			_iterator = null;
+			if (_stream != null) {
+				final Stream<? extends T> stream = _stream;
+				_stream = null;
+				stream.close();
+			}
+		}
+	}
+
+}
@@ -27,7 +27,7 @@ import java.io.StreamCorruptedException;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 6.0
  */
 final class Serial implements Externalizable {
@@ -37,6 +37,9 @@ final class Serial implements Externalizable {
 	static final byte DOUBLE_RANGE = 1;
 	static final byte INT_RANGE = 2;
 	static final byte LONG_RANGE = 3;
+	static final byte DOUBLE_SEQ = 4;
+	static final byte INT_SEQ = 5;
+	static final byte LONG_SEQ = 6;
 
 	/**
 	 * The type being serialized.
@@ -72,6 +75,9 @@ final class Serial implements Externalizable {
 			case DOUBLE_RANGE: ((DoubleRange)_object).write(out); break;
 			case INT_RANGE: ((IntRange)_object).write(out); break;
 			case LONG_RANGE: ((LongRange)_object).write(out); break;
+			case DOUBLE_SEQ: ((DoubleSeq)_object).write(out); break;
+			case INT_SEQ: ((IntSeq)_object).write(out); break;
+			case LONG_SEQ: ((LongSeq)_object).write(out); break;
 			default:
 				throw new StreamCorruptedException("Unknown serialized type.");
 		}
@@ -86,6 +92,9 @@ final class Serial implements Externalizable {
 			case DOUBLE_RANGE: _object = DoubleRange.read(in); break;
 			case INT_RANGE: _object = IntRange.read(in); break;
 			case LONG_RANGE: _object = LongRange.read(in); break;
+			case DOUBLE_SEQ: _object = DoubleSeq.read(in); break;
+			case INT_SEQ: _object = IntSeq.read(in); break;
+			case LONG_SEQ: _object = LongSeq.read(in); break;
 			default:
 				throw new StreamCorruptedException("Unknown serialized type.");
 		}
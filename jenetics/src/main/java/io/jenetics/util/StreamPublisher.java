@@ -68,10 +68,17 @@ import java.util.stream.Stream;
  * }
  * }</pre>
  *
+ * <p>
+ * The stream is consumed independently of the subscriber's demand, and up to
+ * {@code maxBufferCapacity} elements are buffered for every subscriber. Use
+ * the {@link PullPublisher} if the stream should only be consumed on demand.
+ *
+ * @see PullPublisher
+ *
  * @param <T> the element type of the publisher
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 6.1
  * @since 6.0
  */
 public class StreamPublisher<T> extends SubmissionPublisher<T> {
@@ -25,7 +25,7 @@ import static java.lang.Math.min;
  * Implementing the Tim sort algorithm.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 6.1
  * @since 5.1
  */
 final class TimProxySorter {
@@ -46,27 +46,37 @@ final class TimProxySorter {
 			return proxy;
 		}
 
+		sort(array, proxy, 0, length, comparator);
+		return proxy;
+	}
+
+	// Sorts the given range of the proxy array.
+	static <T> void sort(
+		final T array,
+		final int[] proxy,
+		final int from,
+		final int until,
+		final ProxySorter.Comparator<? super T> comparator
+	) {
 		// Sorting the sub-arrays with binary insertion sort.
-		for (int i = 0; i < length; i += RUN) {
+		for (int i = from; i < until; i += RUN) {
 			BinaryInsertionSort.sort(
 				array, i,
-				min(i + RUN, length),
+				min(i + RUN, until),
 				proxy,
 				comparator
 			);
 		}
 
 		// Merging sub-arrays.
-		for (int size = RUN; size < length; size = 2*size) {
-			for (int left = 0; left < length; left += 2*size) {
-				final int mid = min(left + size - 1, length - 1);
-				final int right = min(left + 2*size - 1, length - 1);
+		for (int size = RUN; size < until - from; size = 2*size) {
+			for (int left = from; left < until; left += 2*size) {
+				final int mid = min(left + size - 1, until - 1);
+				final int right = min(left + 2*size - 1, until - 1);
 
 				merge(array, proxy, left, mid, right, comparator);
 			}
 		}
-
-		return proxy;
 	}
 
 	// Merges the sorted runs.
@@ -32,6 +32,7 @@ import io.jenetics.stat.Histogram;
 import io.jenetics.stat.dist;
 import io.jenetics.util.CharSeq;
 import io.jenetics.util.Factory;
+import io.jenetics.util.IntRange;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -67,6 +68,22 @@ public class CharacterChromosomeTest extends ChromosomeTester<CharacterGene> {
 		Assert.assertEquals(new String(new StringBuilder(chromosome)), genes);
 	}
 
+	@Test
+	public void newCharacterChromosomeWithLengthRange() {
+		final CharSeq characters = new CharSeq("0123456789");
+		final CharacterChromosome chromosome =
+			CharacterChromosome.of("0123", characters, IntRange.of(2, 10));
+
+		Assert.assertEquals(chromosome.toString(), "0123");
+		Assert.assertEquals(chromosome.lengthRange(), IntRange.of(2, 10));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void newCharacterChromosomeWithInvalidLength() {
+		final CharSeq characters = new CharSeq("0123456789");
+		CharacterChromosome.of("0123", characters, IntRange.of(5, 10));
+	}
+
 	@Test(dataProvider = "genes")
 	public void newIllegalCharacterChromosome(final String genes) {
 		final CharSeq characters = new CharSeq("012356789");
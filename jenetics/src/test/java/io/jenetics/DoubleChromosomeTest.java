@@ -32,6 +32,7 @@ import org.testng.annotations.Test;
 import io.jenetics.stat.Histogram;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.DoubleRange;
+import io.jenetics.util.DoubleSeq;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 
@@ -111,6 +112,34 @@ public class DoubleChromosomeTest
 		}
 	}
 
+	@Test
+	public void toDoubleSeq() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 1000);
+		final DoubleSeq values = chromosome.toDoubleSeq();
+
+		Assert.assertEquals(values.length(), chromosome.length());
+		for (int i = 0; i < values.length(); ++i) {
+			Assert.assertEquals(values.get(i), chromosome.doubleValue(i));
+		}
+	}
+
+	@Test
+	public void ofDoubleSeq() {
+		final DoubleChromosome chromosome = DoubleChromosome.of(0, 1, 1000);
+		final DoubleChromosome copy = DoubleChromosome.of(
+			chromosome.toDoubleSeq(),
+			DoubleRange.of(0, 1)
+		);
+
+		Assert.assertEquals(copy, chromosome);
+		Assert.assertEquals(copy.lengthRange(), IntRange.of(1000));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofDoubleSeqEmpty() {
+		DoubleChromosome.of(DoubleSeq.empty(), DoubleRange.of(0, 1));
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void ofAmbiguousGenes1() {
 		DoubleChromosome.of(
@@ -0,0 +1,106 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.Integer.signum;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FitnessKeysTest {
+
+	private static final Genotype<DoubleGene> GT =
+		Genotype.of(DoubleChromosome.of(0, 1));
+
+	@SafeVarargs
+	private static <C extends Comparable<? super C>>
+	ISeq<Phenotype<DoubleGene, C>> population(final C... fitness) {
+		return ISeq.of(fitness).map(f -> Phenotype.of(GT, 1, f));
+	}
+
+	@Test
+	public void doubleKeys() {
+		final var population = population(
+			1.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY,
+			Double.POSITIVE_INFINITY, 0.0, -1.0
+		);
+
+		for (Optimize opt : Optimize.values()) {
+			final FitnessKeys keys = FitnessKeys.of(population, opt);
+			Assert.assertNotNull(keys);
+			Assert.assertEquals(keys.length(), population.size());
+
+			for (int i = 0; i < population.size(); ++i) {
+				Assert.assertEquals((Double)keys.get(i), population.get(i).fitness());
+				for (int j = 0; j < population.size(); ++j) {
+					Assert.assertEquals(
+						signum(keys.compare(i, j)),
+						signum(opt.compare(
+							population.get(i).fitness(),
+							population.get(j).fitness()
+						))
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void integerKeys() {
+		final Random random = new Random(123);
+		final var population = ISeq.of(
+			() -> Phenotype.of(GT, 1, random.nextInt()),
+			100
+		);
+
+		for (Optimize opt : Optimize.values()) {
+			final FitnessKeys keys = FitnessKeys.of(population, opt);
+			Assert.assertNotNull(keys);
+			for (int i = 1; i < population.size(); ++i) {
+				Assert.assertEquals(
+					signum(keys.compare(i - 1, i)),
+					signum(opt.compare(
+						population.get(i - 1).fitness(),
+						population.get(i).fitness()
+					))
+				);
+			}
+		}
+	}
+
+	@Test
+	public void unsupportedFitness() {
+		Assert.assertNull(FitnessKeys.of(population(1L, 2L), Optimize.MAXIMUM));
+		Assert.assertNull(FitnessKeys.of(population("a", "b"), Optimize.MAXIMUM));
+		Assert.assertNull(FitnessKeys.of(ISeq.empty(), Optimize.MAXIMUM));
+		Assert.assertNull(FitnessKeys.of(
+			ISeq.of(Phenotype.of(GT, 1)),
+			Optimize.MAXIMUM
+		));
+	}
+
+}
@@ -33,6 +33,7 @@ import io.jenetics.stat.Histogram;
 import io.jenetics.stat.MinMax;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
+import io.jenetics.util.IntSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -110,6 +111,34 @@ public class IntegerChromosomeTest
 		}
 	}
 
+	@Test
+	public void toIntSeq() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 10_000, 1000);
+		final IntSeq values = chromosome.toIntSeq();
+
+		Assert.assertEquals(values.length(), chromosome.length());
+		for (int i = 0; i < values.length(); ++i) {
+			Assert.assertEquals(values.get(i), chromosome.intValue(i));
+		}
+	}
+
+	@Test
+	public void ofIntSeq() {
+		final IntegerChromosome chromosome = IntegerChromosome.of(0, 10_000, 1000);
+		final IntegerChromosome copy = IntegerChromosome.of(
+			chromosome.toIntSeq(),
+			IntRange.of(0, 10_000)
+		);
+
+		Assert.assertEquals(copy, chromosome);
+		Assert.assertEquals(copy.lengthRange(), IntRange.of(1000));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofIntSeqEmpty() {
+		IntegerChromosome.of(IntSeq.empty(), IntRange.of(0, 10_000));
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void ofAmbiguousGenes1() {
 		IntegerChromosome.of(
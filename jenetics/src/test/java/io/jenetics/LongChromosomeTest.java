@@ -34,6 +34,7 @@ import io.jenetics.stat.MinMax;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.IntRange;
 import io.jenetics.util.LongRange;
+import io.jenetics.util.LongSeq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -110,6 +111,34 @@ public class LongChromosomeTest
 		}
 	}
 
+	@Test
+	public void toLongSeq() {
+		final LongChromosome chromosome = LongChromosome.of(0, 10_000, 1000);
+		final LongSeq values = chromosome.toLongSeq();
+
+		Assert.assertEquals(values.length(), chromosome.length());
+		for (int i = 0; i < values.length(); ++i) {
+			Assert.assertEquals(values.get(i), chromosome.longValue(i));
+		}
+	}
+
+	@Test
+	public void ofLongSeq() {
+		final LongChromosome chromosome = LongChromosome.of(0, 10_000, 1000);
+		final LongChromosome copy = LongChromosome.of(
+			chromosome.toLongSeq(),
+			LongRange.of(0, 10_000)
+		);
+
+		Assert.assertEquals(copy, chromosome);
+		Assert.assertEquals(copy.lengthRange(), IntRange.of(1000));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void ofLongSeqEmpty() {
+		LongChromosome.of(LongSeq.empty(), LongRange.of(0, 10_000));
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void ofAmbiguousGenes1() {
 		LongChromosome.of(
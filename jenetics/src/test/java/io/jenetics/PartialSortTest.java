@@ -0,0 +1,152 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PartialSortTest {
+
+	private static <C extends Comparable<? super C>>
+	ISeq<Phenotype<DoubleGene, C>> population(
+		final int size,
+		final Function<Random, C> fitness
+	) {
+		final Random random = new Random(size);
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		return ISeq.of(() -> Phenotype.of(gt, 1, fitness.apply(random)), size);
+	}
+
+	// The expected result: stable, descending sort of the whole population.
+	private static <C extends Comparable<? super C>> int[] expected(
+		final ISeq<Phenotype<DoubleGene, C>> population,
+		final int k,
+		final Optimize opt
+	) {
+		final MSeq<Integer> indexes = MSeq.ofLength(population.size());
+		for (int i = 0; i < indexes.length(); ++i) {
+			indexes.set(i, i);
+		}
+		indexes.sort((a, b) -> opt.<C>descending()
+			.compare(population.get(a).fitness(), population.get(b).fitness()));
+
+		return indexes.stream()
+			.limit(k)
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+
+	@Test(dataProvider = "sizes")
+	public void doubleFitness(final Integer size, final Integer k) {
+		final var population = population(size, r -> (double)r.nextInt(size/2 + 1));
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				PartialSort.best(population, k, opt, 64),
+				expected(population, k, opt)
+			);
+			Assert.assertEquals(
+				PartialSort.best(population, k, opt),
+				expected(population, k, opt)
+			);
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void integerFitness(final Integer size, final Integer k) {
+		final var population = population(size, r -> r.nextInt(size/3 + 1) - size/6);
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				PartialSort.best(population, k, opt, 64),
+				expected(population, k, opt)
+			);
+		}
+	}
+
+	@Test(dataProvider = "sizes")
+	public void comparableFitness(final Integer size, final Integer k) {
+		final var population = population(size, r -> Long.toString(r.nextInt(size)));
+		for (Optimize opt : Optimize.values()) {
+			Assert.assertEquals(
+				PartialSort.best(population, k, opt, 64),
+				expected(population, k, opt)
+			);
+			Assert.assertEquals(
+				PartialSort.best(population, k, opt),
+				expected(population, k, opt)
+			);
+		}
+	}
+
+	@Test
+	public void specialDoubleValues() {
+		final double[] values = {
+			1.0, Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY,
+			Double.POSITIVE_INFINITY, 0.0, Double.NaN, -1.0
+		};
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final MSeq<Phenotype<DoubleGene, Double>> pop = MSeq.ofLength(values.length);
+		for (int i = 0; i < values.length; ++i) {
+			pop.set(i, Phenotype.of(gt, 1, values[i]));
+		}
+
+		for (Optimize opt : Optimize.values()) {
+			for (int k = 0; k <= values.length + 1; ++k) {
+				Assert.assertEquals(
+					PartialSort.best(pop, k, opt),
+					expected(pop.toISeq(), k, opt)
+				);
+			}
+		}
+	}
+
+	@Test
+	public void emptyPopulation() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.empty();
+		Assert.assertEquals(PartialSort.best(population, 5, Optimize.MAXIMUM).length, 0);
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1, 1},
+			{10, 0},
+			{10, 3},
+			{10, 10},
+			{10, 20},
+			{100, 1},
+			{1_000, 10},
+			{1_000, 500},
+			{10_000, 10},
+			{10_000, 100},
+			{100_000, 25}
+		};
+	}
+
+}
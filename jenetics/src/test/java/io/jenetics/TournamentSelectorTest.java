@@ -22,18 +22,21 @@ package io.jenetics;
 import static java.lang.String.format;
 import static io.jenetics.stat.StatisticsAssert.assertDistribution;
 import static io.jenetics.util.RandomRegistry.using;
+import static io.jenetics.util.RandomRegistry.with;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.IntStream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.internal.util.Named;
 import io.jenetics.stat.Histogram;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.TestData;
 
 /**
@@ -48,6 +51,29 @@ public class TournamentSelectorTest
 		return () -> new TournamentSelector<>(3);
 	}
 
+	@Test
+	public void fitnessKeySelection() {
+		final Random random = new Random(123);
+		final Genotype<DoubleGene> gt = Genotype.of(DoubleChromosome.of(0, 1));
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			() -> Phenotype.of(gt, 1, (double)random.nextInt(50)),
+			500
+		);
+
+		for (Optimize opt : Optimize.values()) {
+			final var expected = with(new Random(456), r ->
+				new TournamentSelector<DoubleGene, Double>(Phenotype::compareTo, 3)
+					.select(population, 300, opt)
+			);
+			final var selected = with(new Random(456), r ->
+				new TournamentSelector<DoubleGene, Double>(3)
+					.select(population, 300, opt)
+			);
+
+			Assert.assertEquals(selected, expected);
+		}
+	}
+
 	@Test(dataProvider = "expectedDistribution", groups = {"statistics"})
 	public void selectDistribution(
 		final Integer tournamentSize,
@@ -0,0 +1,108 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.MinMax;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionStatisticsTest {
+
+	private final Engine<DoubleGene, Double> _engine = Engine
+		.builder(a -> a.gene().allele(), DoubleChromosome.of(0, 1))
+		.populationSize(100)
+		.build();
+
+	@Test
+	public void numberQuantiles() {
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber();
+
+		_engine.stream()
+			.limit(20)
+			.forEach(statistics);
+
+		Assert.assertEquals(statistics.fitnessQuantiles().count(), 2_000);
+		Assert.assertEquals(
+			statistics.fitnessQuantiles().min(),
+			statistics.fitness().min()
+		);
+		Assert.assertEquals(
+			statistics.fitnessQuantiles().max(),
+			statistics.fitness().max()
+		);
+
+		final double[] percentiles = statistics.fitnessQuantiles()
+			.quantiles(0.5, 0.9, 0.99);
+		Assert.assertTrue(percentiles[0] <= percentiles[1]);
+		Assert.assertTrue(percentiles[1] <= percentiles[2]);
+
+		Assert.assertEquals(statistics.evaluationDurationQuantiles().count(), 20);
+		Assert.assertEquals(statistics.evolveDurationQuantiles().count(), 20);
+		Assert.assertEquals(
+			statistics.evolveDurationQuantiles().max(),
+			statistics.evolveDuration().max()
+		);
+	}
+
+	@Test
+	public void nonFiniteFitnessQuantiles() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				a -> a.gene().allele() < 0.5
+					? Double.NEGATIVE_INFINITY
+					: a.gene().allele(),
+				DoubleChromosome.of(0, 1))
+			.populationSize(100)
+			.build();
+
+		final EvolutionStatistics<Double, DoubleMomentStatistics> statistics =
+			EvolutionStatistics.ofNumber();
+		engine.stream()
+			.limit(5)
+			.forEach(statistics);
+
+		Assert.assertTrue(statistics.fitnessQuantiles().count() < 500);
+		Assert.assertTrue(statistics.fitnessQuantiles().min() >= 0.5);
+		Assert.assertFalse(Double.isNaN(statistics.fitnessQuantiles().quantile(0.5)));
+	}
+
+	@Test
+	public void comparableQuantiles() {
+		final EvolutionStatistics<Double, MinMax<Double>> statistics =
+			EvolutionStatistics.ofComparable();
+
+		_engine.stream()
+			.limit(10)
+			.map(EvolutionSummary::of)
+			.forEach(statistics::accept);
+
+		Assert.assertEquals(statistics.fitnessQuantiles().count(), 0);
+		Assert.assertEquals(statistics.evolveDurationQuantiles().count(), 10);
+	}
+
+}
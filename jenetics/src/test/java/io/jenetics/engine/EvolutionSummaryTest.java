@@ -0,0 +1,236 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.stat.MinMax;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionSummaryTest {
+
+	private static EvolutionResult<DoubleGene, Double>
+	result(final Optimize optimize, final Random random) {
+		final Genotype<DoubleGene> gtf = Genotype.of(DoubleChromosome.of(0, 1));
+
+		return EvolutionResult.of(
+			optimize,
+			IntStream.range(0, 100)
+				.mapToObj(i -> {
+					final Genotype<DoubleGene> gt = gtf.newInstance();
+					return Phenotype.of(
+						gt,
+						random.nextInt(10),
+						gt.gene().doubleValue()
+					);
+				})
+				.collect(ISeq.toISeq()),
+			10,
+			EvolutionDurations.of(
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000)),
+				Duration.ofMillis(random.nextInt(1_000_000))
+			),
+			random.nextInt(100),
+			random.nextInt(100),
+			random.nextInt(100)
+		);
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void of(final Optimize optimize) {
+		final EvolutionResult<DoubleGene, Double> result =
+			result(optimize, new Random(123));
+		final EvolutionSummary<DoubleGene, Double> summary =
+			EvolutionSummary.of(result);
+
+		Assert.assertEquals(summary.optimize(), result.optimize());
+		Assert.assertEquals(summary.generation(), result.generation());
+		Assert.assertEquals(summary.totalGenerations(), result.totalGenerations());
+		Assert.assertEquals(summary.durations(), result.durations());
+		Assert.assertEquals(summary.killCount(), result.killCount());
+		Assert.assertEquals(summary.invalidCount(), result.invalidCount());
+		Assert.assertEquals(summary.alterCount(), result.alterCount());
+		Assert.assertEquals(summary.populationSize(), result.population().size());
+		Assert.assertSame(summary.bestPhenotype(), result.bestPhenotype());
+		Assert.assertSame(summary.worstPhenotype(), result.worstPhenotype());
+		Assert.assertEquals(summary.bestFitness(), result.bestFitness());
+		Assert.assertEquals(summary.worstFitness(), result.worstFitness());
+
+		final LongMoments ages = result.population().stream()
+			.collect(LongMoments.toLongMoments(pt -> pt.age(result.generation())));
+		Assert.assertEquals(summary.phenotypeAge(), ages);
+
+		final DoubleMoments fitness = result.population().stream()
+			.collect(DoubleMoments.toDoubleMoments(Phenotype::fitness));
+		Assert.assertEquals(summary.fitnessMoments().orElseThrow(), fitness);
+	}
+
+	@DataProvider(name = "optimizations")
+	public Object[][] optimizations() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
+	@Test
+	public void nonNumericFitness() {
+		final EvolutionResult<DoubleGene, String> result = EvolutionResult.of(
+			Optimize.MAXIMUM,
+			ISeq.of(
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, "b"),
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, "c"),
+				Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, "a")
+			),
+			2,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		);
+		final EvolutionSummary<DoubleGene, String> summary =
+			EvolutionSummary.of(result);
+
+		Assert.assertEquals(summary.bestFitness(), "c");
+		Assert.assertEquals(summary.worstFitness(), "a");
+		Assert.assertEquals(summary.populationSize(), 3);
+		Assert.assertTrue(summary.fitnessMoments().isEmpty());
+	}
+
+	@Test
+	public void toBestEvolutionSummary() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(a -> a.gene().allele(), DoubleChromosome.of(0, 1))
+			.build();
+
+		final EvolutionSummary<DoubleGene, Double> summary = engine.stream()
+			.limit(50)
+			.map(EvolutionSummary::of)
+			.collect(EvolutionSummary.toBestEvolutionSummary());
+
+		Assert.assertNotNull(summary);
+		Assert.assertEquals(summary.totalGenerations(), 50);
+		Assert.assertTrue(summary.bestFitness() > 0.9);
+
+		Assert.assertNull(
+			engine.stream()
+				.limit(0)
+				.map(EvolutionSummary::of)
+				.collect(EvolutionSummary.toBestEvolutionSummary())
+		);
+	}
+
+	@Test(dataProvider = "optimizations")
+	public void emptyPopulation(final Optimize optimize) {
+		final EvolutionSummary<DoubleGene, Double> empty = EvolutionSummary.of(
+			EvolutionResult.of(
+				optimize,
+				ISeq.<Phenotype<DoubleGene, Double>>empty(),
+				1,
+				EvolutionDurations.ZERO,
+				0, 0, 0
+			)
+		);
+		final EvolutionSummary<DoubleGene, Double> summary =
+			EvolutionSummary.of(result(optimize, new Random(123)));
+
+		Assert.assertNull(empty.bestPhenotype());
+		Assert.assertEquals(empty.populationSize(), 0);
+		Assert.assertEquals(empty.compareTo(empty), 0);
+		Assert.assertTrue(empty.compareTo(summary) < 0);
+		Assert.assertTrue(summary.compareTo(empty) > 0);
+
+		final EvolutionSummary<DoubleGene, Double> best = Stream
+			.of(empty, summary, empty)
+			.collect(EvolutionSummary.toBestEvolutionSummary());
+		Assert.assertSame(best.bestPhenotype(), summary.bestPhenotype());
+		Assert.assertEquals(best.totalGenerations(), 3);
+	}
+
+	@Test
+	public void numberStatistics() {
+		final Random random = new Random(456);
+		final EvolutionStatistics<Double, DoubleMomentStatistics> expected =
+			EvolutionStatistics.ofNumber();
+		final EvolutionStatistics<Double, DoubleMomentStatistics> actual =
+			EvolutionStatistics.ofNumber();
+
+		for (int i = 0; i < 20; ++i) {
+			final EvolutionResult<DoubleGene, Double> result =
+				result(Optimize.MAXIMUM, random);
+			expected.accept(result);
+			actual.accept(EvolutionSummary.of(result));
+		}
+
+		Assert.assertEquals(actual.altered().sum(), expected.altered().sum());
+		Assert.assertEquals(actual.evolveDuration().sum(), expected.evolveDuration().sum());
+		Assert.assertEquals(actual.phenotypeAge().count(), expected.phenotypeAge().count());
+		Assert.assertEquals(actual.phenotypeAge().max(), expected.phenotypeAge().max());
+		Assert.assertEquals(actual.phenotypeAge().mean(), expected.phenotypeAge().mean(), 1e-10);
+		Assert.assertEquals(actual.phenotypeAge().variance(), expected.phenotypeAge().variance(), 1e-10);
+
+		final DoubleMomentStatistics a = actual.fitness();
+		final DoubleMomentStatistics e = expected.fitness();
+		Assert.assertEquals(a.count(), e.count());
+		Assert.assertEquals(a.min(), e.min());
+		Assert.assertEquals(a.max(), e.max());
+		Assert.assertEquals(a.mean(), e.mean(), 1e-10);
+		Assert.assertEquals(a.variance(), e.variance(), 1e-10);
+	}
+
+	@Test
+	public void comparableStatistics() {
+		final Random random = new Random(789);
+		final EvolutionStatistics<Double, MinMax<Double>> expected =
+			EvolutionStatistics.ofComparable();
+		final EvolutionStatistics<Double, MinMax<Double>> actual =
+			EvolutionStatistics.ofComparable();
+
+		for (int i = 0; i < 20; ++i) {
+			final EvolutionResult<DoubleGene, Double> result =
+				result(Optimize.MINIMUM, random);
+			expected.accept(result);
+			actual.accept(EvolutionSummary.of(result));
+		}
+
+		Assert.assertEquals(actual.fitness().min(), expected.fitness().min());
+		Assert.assertEquals(actual.fitness().max(), expected.fitness().max());
+		Assert.assertEquals(actual.phenotypeAge().sum(), expected.phenotypeAge().sum());
+	}
+
+}
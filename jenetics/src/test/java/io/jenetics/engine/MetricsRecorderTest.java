@@ -0,0 +1,147 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Alterer;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Mutator;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.engine.EvolutionMetrics.Phase;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MetricsRecorderTest {
+
+	private static final Problem<Double, DoubleGene, Double> PROBLEM = Problem.of(
+		x -> Math.sin(x)*x,
+		Codecs.ofScalar(DoubleRange.of(0, 10))
+	);
+
+	@Test
+	public void engineMetrics() {
+		final Alterer<DoubleGene, Double> mutator = new Mutator<>(0.2);
+		final Alterer<DoubleGene, Double> crossover = new SinglePointCrossover<>(0.3);
+
+		final MetricsRecorder metrics = new MetricsRecorder();
+		final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+			.populationSize(20)
+			.alterers(mutator, crossover)
+			.maximalPhenotypeAge(3)
+			.metrics(metrics)
+			.build();
+
+		engine.stream()
+			.limit(10)
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		for (Phase phase : Phase.values()) {
+			Assert.assertEquals(metrics.durations(phase).count(), 10, phase.name());
+		}
+		Assert.assertTrue(metrics.evaluations().count() >= 20);
+		Assert.assertTrue(metrics.executorQueue().count() == 10);
+
+		Assert.assertEquals(metrics.alterDurations().keySet().size(), 2);
+		Assert.assertEquals(metrics.alterDurations().get(mutator).count(), 10);
+		Assert.assertEquals(metrics.alterDurations().get(crossover).count(), 10);
+		Assert.assertTrue(metrics.alterations().get(mutator) > 0);
+		Assert.assertTrue(metrics.alterations().get(crossover) > 0);
+
+		Assert.assertTrue(metrics.invalidCounts().containsKey(engine.constraint()));
+		Assert.assertTrue(metrics.killCount() > 0);
+	}
+
+	@Test
+	public void alterationCount() {
+		final MetricsRecorder metrics = new MetricsRecorder();
+		final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+			.alterers(new Mutator<>(0.2), new SinglePointCrossover<>(0.3))
+			.metrics(metrics)
+			.build();
+
+		final long alterations = engine.stream()
+			.limit(10)
+			.mapToLong(EvolutionResult::alterCount)
+			.sum();
+
+		Assert.assertEquals(
+			metrics.alterations().values().stream()
+				.mapToLong(Long::longValue)
+				.sum(),
+			alterations
+		);
+	}
+
+	@Test
+	public void toBuilder() {
+		final Alterer<DoubleGene, Double> mutator = new Mutator<>(0.2);
+		final Alterer<DoubleGene, Double> crossover = new SinglePointCrossover<>(0.3);
+
+		final MetricsRecorder metrics = new MetricsRecorder();
+		final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+			.alterers(mutator, crossover)
+			.build()
+			.toBuilder()
+			.metrics(metrics)
+			.build();
+
+		Assert.assertSame(engine.metrics(), metrics);
+		engine.stream().limit(3).forEach(r -> {});
+		Assert.assertEquals(
+			metrics.alterDurations().keySet(),
+			Set.of(mutator, crossover)
+		);
+	}
+
+	@Test
+	public void threadPoolExecutorQueue() {
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final MetricsRecorder metrics = new MetricsRecorder();
+			final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM)
+				.executor(executor)
+				.metrics(metrics)
+				.build();
+
+			engine.stream().limit(5).forEach(r -> {});
+			Assert.assertEquals(metrics.executorQueue().count(), 5);
+			Assert.assertEquals(metrics.alterDurations().size(), 1);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void noopMetrics() {
+		final Engine<DoubleGene, Double> engine = Engine.builder(PROBLEM).build();
+		Assert.assertSame(engine.metrics(), EvolutionMetrics.noop());
+		Assert.assertSame(engine.toBuilder().metrics(), EvolutionMetrics.noop());
+	}
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.AnyChromosome;
+import io.jenetics.AnyGene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.UniquePopulation.FingerprintHistory;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class UniquePopulationTest {
+
+	private static EvolutionResult<IntegerGene, Integer>
+	result(final ISeq<Genotype<IntegerGene>> genotypes, final long generation) {
+		return EvolutionResult.of(
+			Optimize.MAXIMUM,
+			genotypes.map(gt -> Phenotype.of(gt, generation)),
+			generation,
+			EvolutionDurations.ZERO,
+			0,
+			0,
+			0
+		);
+	}
+
+	@Test
+	public void concurrentReplacement() {
+		final ISeq<Genotype<IntegerGene>> genotypes =
+			Genotype.of(IntegerChromosome.of(0, 10)).instances()
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		final EvolutionInterceptor<IntegerGene, Integer> unifier =
+			EvolutionResult.toUniquePopulation(
+				Genotype.of(IntegerChromosome.of(0, Integer.MAX_VALUE)),
+				100,
+				ForkJoinPool.commonPool()
+			);
+
+		final var result = result(genotypes, 1);
+		final var unified = unifier.after(result);
+
+		Assert.assertEquals(
+			unified.genotypes().stream().collect(Collectors.toSet()).size(),
+			result.population().size()
+		);
+		Assert.assertEquals(
+			unified.population().size(),
+			result.population().size()
+		);
+	}
+
+	@Test
+	public void uniquesFirst() {
+		final ISeq<Genotype<IntegerGene>> genotypes =
+			Genotype.of(IntegerChromosome.of(0, 10)).instances()
+				.limit(100)
+				.collect(ISeq.toISeq());
+
+		final var result = result(genotypes, 1);
+		final var unified = EvolutionResult.<IntegerGene, Integer>toUniquePopulation(
+			Genotype.of(IntegerChromosome.of(0, Integer.MAX_VALUE))
+		).after(result);
+
+		final var seen = new HashSet<Genotype<IntegerGene>>();
+		int index = 0;
+		for (var pt : result.population()) {
+			if (seen.add(pt.genotype())) {
+				Assert.assertSame(unified.population().get(index++), pt);
+			}
+		}
+	}
+
+	@Test
+	public void exhaustedRetryBudget() {
+		final ISeq<Genotype<IntegerGene>> genotypes =
+			Genotype.of(IntegerChromosome.of(0, 10)).instances()
+				.limit(100)
+				.collect(ISeq.toISeq());
+
+		final var result = result(genotypes, 1);
+		final var unified = EvolutionResult.<IntegerGene, Integer>toUniquePopulation(
+			Genotype.of(IntegerChromosome.of(0, 10)),
+			10,
+			ForkJoinPool.commonPool()
+		).after(result);
+
+		Assert.assertEquals(
+			unified.population().size(),
+			result.population().size()
+		);
+		Assert.assertTrue(
+			unified.genotypes().stream().collect(Collectors.toSet()).size() <= 11
+		);
+	}
+
+	@Test
+	public void novelPopulation() {
+		final var factory = Genotype.of(IntegerChromosome.of(0, 1_000_000));
+		final EvolutionInterceptor<IntegerGene, Integer> novelty =
+			EvolutionResult.toNovelPopulation(
+				factory,
+				1000,
+				10_000,
+				ForkJoinPool.commonPool()
+			);
+
+		final ISeq<Genotype<IntegerGene>> genotypes = factory.instances()
+			.limit(100)
+			.collect(ISeq.toISeq());
+
+		// The first generation is recorded by the interceptor.
+		final var first = result(genotypes, 1);
+		Assert.assertSame(novelty.after(first), first);
+
+		// Surviving individuals are not replaced.
+		final var survivors = EvolutionResult.<IntegerGene, Integer>of(
+			Optimize.MAXIMUM,
+			first.population(),
+			2,
+			EvolutionDurations.ZERO,
+			0,
+			0,
+			0
+		);
+		Assert.assertSame(novelty.after(survivors), survivors);
+
+		// Newly created, but already seen individuals are replaced.
+		final var second = novelty.after(result(genotypes, 2));
+		Assert.assertEquals(second.population().size(), genotypes.size());
+		for (var gt : second.genotypes()) {
+			Assert.assertFalse(genotypes.contains(gt));
+		}
+	}
+
+	@Test
+	public void fingerprintOncePerGenotype() {
+		final AtomicInteger counter = new AtomicInteger();
+		final AtomicInteger value = new AtomicInteger();
+		final var factory = Genotype.of(AnyChromosome.of(
+			() -> new Counted(value.incrementAndGet(), counter)
+		));
+		final EvolutionInterceptor<AnyGene<Counted>, Integer> novelty =
+			EvolutionResult.toNovelPopulation(
+				factory,
+				1000,
+				10_000,
+				ForkJoinPool.commonPool()
+			);
+
+		final var result = EvolutionResult.<AnyGene<Counted>, Integer>of(
+			Optimize.MAXIMUM,
+			factory.instances()
+				.limit(50)
+				.map(gt -> Phenotype.<AnyGene<Counted>, Integer>of(gt, 1))
+				.collect(ISeq.toISeq()),
+			1,
+			EvolutionDurations.ZERO,
+			0,
+			0,
+			0
+		);
+		counter.set(0);
+		Assert.assertSame(novelty.after(result), result);
+
+		// One gene hash for the genotype hash code and one for the fingerprint.
+		Assert.assertEquals(counter.get(), 2*50);
+	}
+
+	private static final class Counted {
+		private final int _value;
+		private final AtomicInteger _counter;
+
+		Counted(final int value, final AtomicInteger counter) {
+			_value = value;
+			_counter = counter;
+		}
+
+		@Override
+		public int hashCode() {
+			_counter.incrementAndGet();
+			return _value;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Counted && ((Counted)obj)._value == _value;
+		}
+	}
+
+	@Test
+	public void fingerprint() {
+		final var gt1 = Genotype.of(IntegerChromosome.of(0, 1000, 10));
+		final var gt2 = Genotype.of(gt1.chromosome());
+
+		Assert.assertEquals(
+			UniquePopulation.fingerprint(gt1),
+			UniquePopulation.fingerprint(gt2)
+		);
+		Assert.assertNotEquals(
+			UniquePopulation.fingerprint(gt1),
+			UniquePopulation.fingerprint(gt1.newInstance())
+		);
+	}
+
+	@Test
+	public void historyEviction() {
+		final var history = new FingerprintHistory(100);
+		for (long i = 0; i < 1000; ++i) {
+			history.add(i);
+			Assert.assertTrue(history.contains(i));
+		}
+
+		Assert.assertEquals(history.size(), 100);
+		for (long i = 0; i < 900; ++i) {
+			Assert.assertFalse(history.contains(i), "Contains " + i);
+		}
+		for (long i = 900; i < 1000; ++i) {
+			Assert.assertTrue(history.contains(i), "Missing " + i);
+		}
+	}
+
+	@Test
+	public void historyDuplicates() {
+		final var history = new FingerprintHistory(10);
+		for (int i = 0; i < 100; ++i) {
+			history.add(42);
+		}
+		Assert.assertEquals(history.size(), 1);
+		Assert.assertTrue(history.contains(42));
+		Assert.assertFalse(history.contains(43));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void historySizeTooBig() {
+		EvolutionResult.<IntegerGene, Integer>toNovelPopulation(
+			Genotype.of(IntegerChromosome.of(0, 10)),
+			10,
+			UniquePopulation.MAX_HISTORY_SIZE + 1,
+			Runnable::run
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void historyCapacityOverflow() {
+		new FingerprintHistory(Integer.MAX_VALUE);
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LongHistogramTest {
+
+	@Test
+	public void index() {
+		int previous = -1;
+		for (long value = 0; value < 100_000; ++value) {
+			final int index = LongHistogram.index(value);
+			Assert.assertTrue(index == previous || index == previous + 1);
+			previous = index;
+		}
+
+		Assert.assertEquals(LongHistogram.index(Long.MAX_VALUE), 3711);
+	}
+
+	@Test
+	public void value() {
+		final Random random = new Random(123);
+		for (int i = 0; i < 10_000; ++i) {
+			final long value = random.nextLong() >>> (1 + random.nextInt(63));
+			final double estimate = LongHistogram.value(LongHistogram.index(value));
+			Assert.assertEquals(estimate, value, value*0.01 + 1);
+		}
+	}
+
+	@Test(dataProvider = "quantiles")
+	public void quantile(final Double quantile) {
+		final Random random = new Random(456);
+		final long[] values = random.longs(10_000, 0, 10_000_000).toArray();
+
+		final LongHistogram histogram = new LongHistogram();
+		Arrays.stream(values).forEach(histogram);
+
+		Arrays.sort(values);
+		final long expected = values[
+			(int)Math.max(0, Math.ceil(quantile*values.length) - 1)
+		];
+		Assert.assertEquals(histogram.quantile(quantile), expected, expected*0.01);
+	}
+
+	@DataProvider(name = "quantiles")
+	public Object[][] quantiles() {
+		return new Object[][] {
+			{0.0}, {0.01}, {0.25}, {0.5}, {0.75}, {0.99}, {0.999}, {1.0}
+		};
+	}
+
+	@Test
+	public void summary() {
+		final LongHistogram histogram = new LongHistogram();
+		Assert.assertEquals(histogram.count(), 0);
+		Assert.assertEquals(histogram.quantile(0.5), Double.NaN);
+		Assert.assertEquals(histogram.mean(), Double.NaN);
+
+		IntStream.rangeClosed(1, 100).forEach(histogram::accept);
+		Assert.assertEquals(histogram.count(), 100);
+		Assert.assertEquals(histogram.sum(), 5050);
+		Assert.assertEquals(histogram.min(), 1);
+		Assert.assertEquals(histogram.max(), 100);
+		Assert.assertEquals(histogram.mean(), 50.5);
+		Assert.assertEquals(histogram.quantile(0.5), 50.0);
+
+		histogram.reset();
+		Assert.assertEquals(histogram.count(), 0);
+		Assert.assertEquals(histogram.max(), Long.MIN_VALUE);
+	}
+
+	@Test
+	public void parallelAccept() {
+		final LongHistogram histogram = new LongHistogram();
+		IntStream.range(0, 100_000).parallel().forEach(histogram::accept);
+
+		Assert.assertEquals(histogram.count(), 100_000);
+		Assert.assertEquals(histogram.sum(), 99_999L*100_000/2);
+		Assert.assertEquals(histogram.quantile(0.5), 50_000, 500);
+	}
+
+	@Test
+	public void combine() {
+		final LongHistogram a = new LongHistogram();
+		final LongHistogram b = new LongHistogram();
+		final LongHistogram c = new LongHistogram();
+		IntStream.range(0, 1000).forEach(i -> {
+			(i%2 == 0 ? a : b).accept(i*i);
+			c.accept(i*i);
+		});
+
+		a.combine(b);
+		Assert.assertEquals(a.count(), c.count());
+		Assert.assertEquals(a.sum(), c.sum());
+		Assert.assertEquals(a.min(), c.min());
+		Assert.assertEquals(a.max(), c.max());
+		for (double q = 0; q <= 1.0; q += 0.05) {
+			Assert.assertEquals(a.quantile(q), c.quantile(q));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeValue() {
+		new LongHistogram().accept(-1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new LongHistogram().quantile(1.1);
+	}
+
+}
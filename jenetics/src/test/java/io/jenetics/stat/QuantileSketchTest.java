@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static io.jenetics.stat.QuantileSketch.toQuantileSketch;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class QuantileSketchTest {
+
+	// Return the rank error of the estimated quantile value.
+	private static double rankError(
+		final double[] sorted,
+		final double quantile,
+		final double estimate
+	) {
+		int index = Arrays.binarySearch(sorted, estimate);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return Math.abs((double)index/sorted.length - quantile);
+	}
+
+	@Test(dataProvider = "quantiles")
+	public void quantile(final Double quantile) {
+		final Random random = new Random(123);
+		final double[] values = random.doubles(100_000).toArray();
+
+		final QuantileSketch sketch = new QuantileSketch();
+		Arrays.stream(values).forEach(sketch);
+
+		Arrays.sort(values);
+		Assert.assertEquals(sketch.count(), values.length);
+		Assert.assertTrue(
+			rankError(values, quantile, sketch.quantile(quantile)) < 0.005
+		);
+	}
+
+	@Test(dataProvider = "quantiles")
+	public void gaussianQuantile(final Double quantile) {
+		final Random random = new Random(456);
+		final double[] values = IntStream.range(0, 100_000)
+			.mapToDouble(i -> random.nextGaussian())
+			.toArray();
+
+		final QuantileSketch sketch = Arrays.stream(values)
+			.parallel()
+			.collect(
+				QuantileSketch::new,
+				QuantileSketch::accept,
+				QuantileSketch::combine
+			);
+
+		Arrays.sort(values);
+		Assert.assertEquals(sketch.count(), values.length);
+		Assert.assertTrue(
+			rankError(values, quantile, sketch.quantile(quantile)) < 0.005
+		);
+	}
+
+	@DataProvider(name = "quantiles")
+	public Object[][] quantiles() {
+		return new Object[][] {
+			{0.0}, {0.001}, {0.01}, {0.25}, {0.5}, {0.75}, {0.9}, {0.99},
+			{0.999}, {1.0}
+		};
+	}
+
+	@Test
+	public void boundedCentroids() {
+		final Random random = new Random(789);
+		final QuantileSketch sketch = new QuantileSketch(50);
+		for (int i = 0; i < 1_000_000; ++i) {
+			sketch.accept(random.nextDouble()*1000);
+		}
+
+		Assert.assertTrue(sketch.centroids() <= 52, "" + sketch.centroids());
+		Assert.assertEquals(sketch.min(), 0.0, 0.01);
+		Assert.assertEquals(sketch.max(), 1000.0, 0.01);
+		Assert.assertEquals(sketch.quantile(0.5), 500.0, 5.0);
+	}
+
+	@Test
+	public void combine() {
+		final Random random = new Random(321);
+		final QuantileSketch a = new QuantileSketch();
+		final QuantileSketch b = new QuantileSketch();
+		final QuantileSketch c = new QuantileSketch();
+		for (int i = 0; i < 50_000; ++i) {
+			final double value = random.nextDouble();
+			(i%3 == 0 ? a : b).accept(value*value);
+			c.accept(value*value);
+		}
+
+		final long count = b.count();
+		a.combine(b);
+		Assert.assertEquals(b.count(), count);
+		Assert.assertEquals(a.count(), c.count());
+		Assert.assertEquals(a.min(), c.min());
+		Assert.assertEquals(a.max(), c.max());
+		for (double q = 0; q <= 1.0; q += 0.05) {
+			Assert.assertEquals(a.quantile(q), c.quantile(q), 0.01);
+		}
+	}
+
+	@Test
+	public void collector() {
+		final QuantileSketch sketch = IntStream.rangeClosed(1, 10_000)
+			.boxed()
+			.parallel()
+			.collect(toQuantileSketch(Integer::doubleValue));
+
+		Assert.assertEquals(sketch.count(), 10_000);
+		Assert.assertEquals(sketch.quantile(0.5), 5_000, 50);
+		Assert.assertEquals(
+			sketch.quantiles(0.1, 0.9, 0.99),
+			new double[]{1_000, 9_000, 9_900},
+			50
+		);
+	}
+
+	@Test
+	public void summary() {
+		final QuantileSketch sketch = new QuantileSketch();
+		Assert.assertEquals(sketch.count(), 0);
+		Assert.assertEquals(sketch.quantile(0.5), Double.NaN);
+
+		sketch.accept(3);
+		Assert.assertEquals(sketch.quantile(0.5), 3.0);
+
+		DoubleStream.of(1, 2, 4, 5).forEach(sketch);
+		Assert.assertEquals(sketch.count(), 5);
+		Assert.assertEquals(sketch.min(), 1.0);
+		Assert.assertEquals(sketch.max(), 5.0);
+		Assert.assertEquals(sketch.quantile(0.0), 1.0);
+		Assert.assertEquals(sketch.quantile(0.5), 3.0);
+		Assert.assertEquals(sketch.quantile(1.0), 5.0);
+
+		sketch.reset();
+		Assert.assertEquals(sketch.count(), 0);
+		Assert.assertEquals(sketch.max(), Double.NEGATIVE_INFINITY);
+		Assert.assertEquals(sketch.quantile(0.5), Double.NaN);
+	}
+
+	@Test(
+		dataProvider = "nonFiniteValues",
+		expectedExceptions = IllegalArgumentException.class
+	)
+	public void nonFiniteValue(final Double value) {
+		new QuantileSketch().accept(value);
+	}
+
+	@DataProvider(name = "nonFiniteValues")
+	public Object[][] nonFiniteValues() {
+		return new Object[][] {
+			{Double.NaN},
+			{Double.POSITIVE_INFINITY},
+			{Double.NEGATIVE_INFINITY}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		new QuantileSketch().quantile(1.1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidCompression() {
+		new QuantileSketch(5);
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleSeqTest extends ObjectTester<DoubleSeq> {
+
+	@Override
+	protected Factory<DoubleSeq> factory() {
+		return () -> {
+			final Random random = RandomRegistry.random();
+			return DoubleSeq.of(random::nextDouble, 20);
+		};
+	}
+
+	@Test
+	public void ofArray() {
+		final double[] values = {1.0, 2.0, 3.0};
+		final DoubleSeq seq = DoubleSeq.of(values);
+		values[0] = 9.0;
+
+		Assert.assertEquals(seq.length(), 3);
+		Assert.assertEquals(seq.get(0), 1.0);
+		Assert.assertEquals(seq.toArray(), new double[]{1.0, 2.0, 3.0});
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		DoubleSeq.of(1.0, 2.0, 3.0).subSeq(1).get(2);
+	}
+
+	@Test
+	public void subSeq() {
+		final DoubleSeq seq = DoubleSeq.of(1.0, 2.0, 3.0, 4.0);
+		final DoubleSeq sub = seq.subSeq(1, 3);
+
+		Assert.assertEquals(sub.length(), 2);
+		Assert.assertEquals(sub.toArray(), new double[]{2.0, 3.0});
+		Assert.assertEquals(sub, DoubleSeq.of(2.0, 3.0));
+		Assert.assertEquals(sub.hashCode(), DoubleSeq.of(2.0, 3.0).hashCode());
+		Assert.assertEquals(sub.stream().toArray(), new double[]{2.0, 3.0});
+		Assert.assertEquals(sub.boxed(), ISeq.of(2.0, 3.0));
+	}
+
+	@Test
+	public void sorted() {
+		final Random random = RandomRegistry.random();
+		final DoubleSeq seq = DoubleSeq.of(random::nextDouble, 1000);
+		final double[] expected = seq.toArray();
+		Arrays.sort(expected);
+
+		Assert.assertEquals(seq.sorted().toArray(), expected);
+
+		final int[] indexes = seq.sortedIndexes();
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertEquals(seq.get(indexes[i]), expected[i]);
+		}
+	}
+
+	@Test
+	public void map() {
+		final DoubleSeq seq = DoubleSeq.of(1.0, 2.0, 3.0).map(v -> v*2);
+		Assert.assertEquals(seq, DoubleSeq.of(2.0, 4.0, 6.0));
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final DoubleMSeq mseq = DoubleMSeq.of(1.0, 2.0, 3.0);
+		final DoubleSeq seq = mseq.toDoubleSeq();
+
+		mseq.set(0, 9.0);
+		Assert.assertEquals(mseq.get(0), 9.0);
+		Assert.assertEquals(seq.get(0), 1.0);
+
+		final DoubleMSeq copy = seq.copy();
+		copy.sort();
+		copy.set(2, 9.0);
+		Assert.assertEquals(seq, DoubleSeq.of(1.0, 2.0, 3.0));
+		Assert.assertEquals(copy.toDoubleSeq(), DoubleSeq.of(1.0, 2.0, 9.0));
+
+		final DoubleMSeq copy2 = mseq.copy();
+		copy2.apply(v -> v + 1);
+		Assert.assertEquals(mseq.get(0), 9.0);
+		Assert.assertEquals(copy2.get(0), 9.0 + 1);
+	}
+
+	@Test
+	public void emptySeq() {
+		Assert.assertTrue(DoubleSeq.empty().isEmpty());
+		Assert.assertSame(DoubleSeq.of(), DoubleSeq.empty());
+		Assert.assertEquals(DoubleSeq.of(1.0, 2.0, 3.0).subSeq(3), DoubleSeq.empty());
+	}
+
+}
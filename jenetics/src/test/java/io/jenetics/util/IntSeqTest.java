@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IntSeqTest extends ObjectTester<IntSeq> {
+
+	@Override
+	protected Factory<IntSeq> factory() {
+		return () -> {
+			final Random random = RandomRegistry.random();
+			return IntSeq.of(random::nextInt, 20);
+		};
+	}
+
+	@Test
+	public void ofArray() {
+		final int[] values = {1, 2, 3};
+		final IntSeq seq = IntSeq.of(values);
+		values[0] = 9;
+
+		Assert.assertEquals(seq.length(), 3);
+		Assert.assertEquals(seq.get(0), 1);
+		Assert.assertEquals(seq.toArray(), new int[]{1, 2, 3});
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		IntSeq.of(1, 2, 3).subSeq(1).get(2);
+	}
+
+	@Test
+	public void subSeq() {
+		final IntSeq seq = IntSeq.of(1, 2, 3, 4);
+		final IntSeq sub = seq.subSeq(1, 3);
+
+		Assert.assertEquals(sub.length(), 2);
+		Assert.assertEquals(sub.toArray(), new int[]{2, 3});
+		Assert.assertEquals(sub, IntSeq.of(2, 3));
+		Assert.assertEquals(sub.hashCode(), IntSeq.of(2, 3).hashCode());
+		Assert.assertEquals(sub.stream().toArray(), new int[]{2, 3});
+		Assert.assertEquals(sub.boxed(), ISeq.of(2, 3));
+	}
+
+	@Test
+	public void sorted() {
+		final Random random = RandomRegistry.random();
+		final IntSeq seq = IntSeq.of(random::nextInt, 1000);
+		final int[] expected = seq.toArray();
+		Arrays.sort(expected);
+
+		Assert.assertEquals(seq.sorted().toArray(), expected);
+
+		final int[] indexes = seq.sortedIndexes();
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertEquals(seq.get(indexes[i]), expected[i]);
+		}
+	}
+
+	@Test
+	public void map() {
+		final IntSeq seq = IntSeq.of(1, 2, 3).map(v -> v*2);
+		Assert.assertEquals(seq, IntSeq.of(2, 4, 6));
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final IntMSeq mseq = IntMSeq.of(1, 2, 3);
+		final IntSeq seq = mseq.toIntSeq();
+
+		mseq.set(0, 9);
+		Assert.assertEquals(mseq.get(0), 9);
+		Assert.assertEquals(seq.get(0), 1);
+
+		final IntMSeq copy = seq.copy();
+		copy.sort();
+		copy.set(2, 9);
+		Assert.assertEquals(seq, IntSeq.of(1, 2, 3));
+		Assert.assertEquals(copy.toIntSeq(), IntSeq.of(1, 2, 9));
+
+		final IntMSeq copy2 = mseq.copy();
+		copy2.apply(v -> v + 1);
+		Assert.assertEquals(mseq.get(0), 9);
+		Assert.assertEquals(copy2.get(0), 9 + 1);
+	}
+
+	@Test
+	public void emptySeq() {
+		Assert.assertTrue(IntSeq.empty().isEmpty());
+		Assert.assertSame(IntSeq.of(), IntSeq.empty());
+		Assert.assertEquals(IntSeq.of(1, 2, 3).subSeq(3), IntSeq.empty());
+	}
+
+}
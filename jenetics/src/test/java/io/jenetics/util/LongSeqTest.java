@@ -0,0 +1,119 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class LongSeqTest extends ObjectTester<LongSeq> {
+
+	@Override
+	protected Factory<LongSeq> factory() {
+		return () -> {
+			final Random random = RandomRegistry.random();
+			return LongSeq.of(random::nextLong, 20);
+		};
+	}
+
+	@Test
+	public void ofArray() {
+		final long[] values = {1L, 2L, 3L};
+		final LongSeq seq = LongSeq.of(values);
+		values[0] = 9L;
+
+		Assert.assertEquals(seq.length(), 3);
+		Assert.assertEquals(seq.get(0), 1L);
+		Assert.assertEquals(seq.toArray(), new long[]{1L, 2L, 3L});
+	}
+
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void getOutOfBounds() {
+		LongSeq.of(1L, 2L, 3L).subSeq(1).get(2);
+	}
+
+	@Test
+	public void subSeq() {
+		final LongSeq seq = LongSeq.of(1L, 2L, 3L, 4L);
+		final LongSeq sub = seq.subSeq(1, 3);
+
+		Assert.assertEquals(sub.length(), 2);
+		Assert.assertEquals(sub.toArray(), new long[]{2L, 3L});
+		Assert.assertEquals(sub, LongSeq.of(2L, 3L));
+		Assert.assertEquals(sub.hashCode(), LongSeq.of(2L, 3L).hashCode());
+		Assert.assertEquals(sub.stream().toArray(), new long[]{2L, 3L});
+		Assert.assertEquals(sub.boxed(), ISeq.of(2L, 3L));
+	}
+
+	@Test
+	public void sorted() {
+		final Random random = RandomRegistry.random();
+		final LongSeq seq = LongSeq.of(random::nextLong, 1000);
+		final long[] expected = seq.toArray();
+		Arrays.sort(expected);
+
+		Assert.assertEquals(seq.sorted().toArray(), expected);
+
+		final int[] indexes = seq.sortedIndexes();
+		for (int i = 0; i < indexes.length; ++i) {
+			Assert.assertEquals(seq.get(indexes[i]), expected[i]);
+		}
+	}
+
+	@Test
+	public void map() {
+		final LongSeq seq = LongSeq.of(1L, 2L, 3L).map(v -> v*2);
+		Assert.assertEquals(seq, LongSeq.of(2L, 4L, 6L));
+	}
+
+	@Test
+	public void copyOnWrite() {
+		final LongMSeq mseq = LongMSeq.of(1L, 2L, 3L);
+		final LongSeq seq = mseq.toLongSeq();
+
+		mseq.set(0, 9L);
+		Assert.assertEquals(mseq.get(0), 9L);
+		Assert.assertEquals(seq.get(0), 1L);
+
+		final LongMSeq copy = seq.copy();
+		copy.sort();
+		copy.set(2, 9L);
+		Assert.assertEquals(seq, LongSeq.of(1L, 2L, 3L));
+		Assert.assertEquals(copy.toLongSeq(), LongSeq.of(1L, 2L, 9L));
+
+		final LongMSeq copy2 = mseq.copy();
+		copy2.apply(v -> v + 1);
+		Assert.assertEquals(mseq.get(0), 9L);
+		Assert.assertEquals(copy2.get(0), 9L + 1);
+	}
+
+	@Test
+	public void emptySeq() {
+		Assert.assertTrue(LongSeq.empty().isEmpty());
+		Assert.assertSame(LongSeq.of(), LongSeq.empty());
+		Assert.assertEquals(LongSeq.of(1L, 2L, 3L).subSeq(3), LongSeq.empty());
+	}
+
+}
@@ -74,6 +74,87 @@ public class ProxySorterTest {
 		Assert.assertEquals(sorted(array, indexes), expected(array));
 	}
 
+	/* *************************************************************************
+	 * Test parallel sort.
+	 * ************************************************************************/
+
+	@Test(dataProvider = "parallelArrayLengths")
+	public void parallelSortArraySize(final int size, final int threshold) {
+		final int[] array = new Random().ints(size, 0, size/4 + 1).toArray();
+
+		final int[] indexes = ParallelProxySorter.sort(
+			array, array.length,
+			(a, i, j) -> Integer.compare(a[i], a[j]),
+			threshold
+		);
+		Assert.assertEquals(sorted(array, indexes), expected(array));
+		assertStable(indexes, i -> array[i]);
+	}
+
+	@Test(dataProvider = "parallelArrayLengths")
+	public void parallelDoubleSortArraySize(final int size, final int threshold) {
+		final double[] array = new Random().ints(size, 0, size/4 + 1)
+			.asDoubleStream()
+			.toArray();
+		if (size > 3) {
+			array[0] = Double.NaN;
+			array[1] = -0.0;
+			array[2] = 0.0;
+			array[3] = Double.NEGATIVE_INFINITY;
+		}
+
+		final int[] indexes = ParallelProxySorter.sort(array, threshold);
+
+		final double[] expected = array.clone();
+		Arrays.sort(expected);
+		final double[] sorted = new double[array.length];
+		for (int i = 0; i < array.length; ++i) {
+			sorted[i] = array[indexes[i]];
+		}
+		Assert.assertEquals(sorted, expected);
+		assertStable(indexes, i -> array[i]);
+	}
+
+	@Test
+	public void parallelSortSeq() {
+		final ISeq<Integer> seq = new Random().ints(50_000)
+			.boxed()
+			.collect(ISeq.toISeq());
+
+		final int[] indexes = ProxySorter.parallelSort(seq, Integer::compare);
+		for (int i = 1; i < indexes.length; ++i) {
+			Assert.assertTrue(seq.get(indexes[i - 1]) <= seq.get(indexes[i]));
+		}
+	}
+
+	private static void assertStable(
+		final int[] indexes,
+		final java.util.function.IntToDoubleFunction key
+	) {
+		for (int i = 1; i < indexes.length; ++i) {
+			if (Double.compare(key.applyAsDouble(indexes[i - 1]),
+					key.applyAsDouble(indexes[i])) == 0)
+			{
+				Assert.assertTrue(indexes[i - 1] < indexes[i]);
+			}
+		}
+	}
+
+	@DataProvider(name = "parallelArrayLengths")
+	public Object[][] parallelArrayLengths() {
+		return new Object[][] {
+			{0, 2},
+			{1, 2},
+			{2, 2},
+			{3, 2},
+			{33, 5},
+			{1_000, 64},
+			{1_000, 2_000},
+			{10_000, 100},
+			{100_000, 1_000}
+		};
+	}
+
 
 	@DataProvider(name = "arrays")
 	public Object[][] arrays() {
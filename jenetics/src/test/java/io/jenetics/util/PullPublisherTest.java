@@ -0,0 +1,253 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.engine.Codec;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.Problem;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PullPublisherTest {
+
+	private final Problem<Integer, IntegerGene, Integer> _problem = Problem.of(
+		a -> a,
+		Codec.of(
+			Genotype.of(IntegerChromosome.of(0, 1000)),
+			g -> g.gene().allele()
+		)
+	);
+
+	private final Engine<IntegerGene, Integer> _engine = Engine
+		.builder(_problem)
+		.build();
+
+	/**
+	 * Subscriber which requests a given number of elements, one at a time.
+	 */
+	private static final class Collector<T> implements Subscriber<T> {
+		final List<T> elements = new CopyOnWriteArrayList<>();
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		final AtomicBoolean completed = new AtomicBoolean();
+		final CountDownLatch finished = new CountDownLatch(1);
+		final CountDownLatch received;
+		final int count;
+
+		Subscription subscription;
+
+		Collector(final int count) {
+			this.count = count;
+			received = new CountDownLatch(count);
+		}
+
+		@Override
+		public void onSubscribe(final Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(1);
+		}
+
+		@Override
+		public void onNext(final T element) {
+			elements.add(element);
+			received.countDown();
+			if (elements.size() < count) {
+				subscription.request(1);
+			}
+		}
+
+		@Override
+		public void onError(final Throwable throwable) {
+			error.set(throwable);
+			finished.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed.set(true);
+			finished.countDown();
+		}
+
+		void await(final CountDownLatch latch) throws InterruptedException {
+			Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void publishLimitedStream() throws InterruptedException {
+		final var publisher = PullPublisher.of(
+			() -> _engine.stream().limit(20),
+			EvolutionResult::generation
+		);
+
+		final var subscriber = new Collector<Long>(Integer.MAX_VALUE);
+		publisher.subscribe(subscriber);
+		subscriber.await(subscriber.finished);
+
+		Assert.assertTrue(subscriber.completed.get());
+		Assert.assertNull(subscriber.error.get());
+		Assert.assertEquals(
+			subscriber.elements,
+			LongStream.rangeClosed(1, 20).boxed().collect(ISeq.toISeq()).asList()
+		);
+	}
+
+	@Test
+	public void evolveOnDemand() throws InterruptedException {
+		final var evolved = new AtomicInteger();
+		final var closed = new AtomicBoolean();
+		final var publisher = PullPublisher.of(
+			() -> _engine.stream()
+				.peek(r -> evolved.incrementAndGet())
+				.onClose(() -> closed.set(true)),
+			EvolutionResult::bestPhenotype
+		);
+
+		final var subscriber = new Collector<Object>(5);
+		publisher.subscribe(subscriber);
+		subscriber.await(subscriber.received);
+
+		// No generations are evolved in advance.
+		Thread.sleep(100);
+		Assert.assertEquals(evolved.get(), 5);
+		Assert.assertEquals(subscriber.elements.size(), 5);
+		Assert.assertFalse(closed.get());
+
+		subscriber.subscription.cancel();
+		final long end = System.currentTimeMillis() + 10_000;
+		while (!closed.get() && System.currentTimeMillis() < end) {
+			Thread.sleep(10);
+		}
+		Assert.assertTrue(closed.get());
+		Assert.assertEquals(evolved.get(), 5);
+		Assert.assertFalse(subscriber.completed.get());
+	}
+
+	@Test
+	public void unboundedDemand() throws InterruptedException {
+		final var publisher = PullPublisher.of(() -> Stream.of(1, 2, 3, 4, 5));
+
+		final var elements = new CopyOnWriteArrayList<Integer>();
+		final var finished = new CountDownLatch(1);
+		publisher.subscribe(new Subscriber<>() {
+			@Override
+			public void onSubscribe(final Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+				subscription.request(Long.MAX_VALUE);
+			}
+			@Override
+			public void onNext(final Integer element) {
+				elements.add(element);
+			}
+			@Override
+			public void onError(final Throwable throwable) {
+			}
+			@Override
+			public void onComplete() {
+				finished.countDown();
+			}
+		});
+
+		Assert.assertTrue(finished.await(10, TimeUnit.SECONDS));
+		Assert.assertEquals(elements, List.of(1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void independentSubscribers() throws InterruptedException {
+		final var publisher = PullPublisher.of(
+			() -> _engine.stream().limit(10),
+			EvolutionResult::generation
+		);
+
+		final var subscriber1 = new Collector<Long>(Integer.MAX_VALUE);
+		final var subscriber2 = new Collector<Long>(3);
+		publisher.subscribe(subscriber1);
+		publisher.subscribe(subscriber2);
+
+		subscriber1.await(subscriber1.finished);
+		subscriber2.await(subscriber2.received);
+
+		Assert.assertEquals(subscriber1.elements.size(), 10);
+		Assert.assertEquals(subscriber2.elements, List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	public void nonPositiveRequest() throws InterruptedException {
+		final var publisher = PullPublisher.of(() -> Stream.of(1, 2, 3));
+
+		final var error = new AtomicReference<Throwable>();
+		final var finished = new CountDownLatch(1);
+		publisher.subscribe(new Subscriber<>() {
+			@Override
+			public void onSubscribe(final Subscription subscription) {
+				subscription.request(0);
+			}
+			@Override
+			public void onNext(final Integer element) {
+			}
+			@Override
+			public void onError(final Throwable throwable) {
+				error.set(throwable);
+				finished.countDown();
+			}
+			@Override
+			public void onComplete() {
+			}
+		});
+
+		Assert.assertTrue(finished.await(10, TimeUnit.SECONDS));
+		Assert.assertTrue(error.get() instanceof IllegalArgumentException);
+	}
+
+	@Test
+	public void streamError() throws InterruptedException {
+		final var publisher = PullPublisher.<Integer>of(() ->
+			Stream.of(1, 2, 0, 4).map(i -> 4/i)
+		);
+
+		final var subscriber = new Collector<Integer>(Integer.MAX_VALUE);
+		publisher.subscribe(subscriber);
+		subscriber.await(subscriber.finished);
+
+		Assert.assertEquals(subscriber.elements, List.of(4, 2));
+		Assert.assertTrue(subscriber.error.get() instanceof ArithmeticException);
+		Assert.assertFalse(subscriber.completed.get());
+	}
+
+}